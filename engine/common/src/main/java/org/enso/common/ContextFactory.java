@@ -33,6 +33,8 @@ import org.slf4j.event.Level;
  * @param warningsLimit maximal number of warnings reported to the user
  * @param checkForWarnings name of method to check for warnings
  * @param enableDebugServer enable debug (e.g. REPL) server
+ * @param samplingProfilerOutput file to write the profile of Enso methods to
+ * @param samplingProfilerDuration seconds after which the sampling of Enso methods stops
  */
 public final class ContextFactory {
   private String projectRoot;
@@ -55,6 +57,8 @@ public final class ContextFactory {
   private java.util.Map<String, String> options = new HashMap<>();
   private String runtimerServerKey;
   private boolean enableDebugServer;
+  private String samplingProfilerOutput;
+  private int samplingProfilerDuration;
 
   private ContextFactory() {}
 
@@ -162,6 +166,12 @@ public final class ContextFactory {
     return this;
   }
 
+  public ContextFactory samplingProfiler(String output, int durationSeconds) {
+    this.samplingProfilerOutput = output;
+    this.samplingProfilerDuration = durationSeconds;
+    return this;
+  }
+
   public Context build() {
     if (executionEnvironment != null) {
       options.put("enso.ExecutionEnvironment", executionEnvironment);
@@ -178,6 +188,18 @@ public final class ContextFactory {
         engineOptions.put(runtimerServerKey, "true");
       }
     }
+    if (samplingProfilerOutput != null) {
+      // instrument options must be set on the engine when it is created explicitly
+      if (inAOTMode && engineOptions == null) {
+        engineOptions = new java.util.HashMap<>();
+      }
+      var profilerOptions = inAOTMode ? engineOptions : options;
+      profilerOptions.put(SamplingProfilerService.OUTPUT_OPTION, samplingProfilerOutput);
+      if (samplingProfilerDuration > 0) {
+        profilerOptions.put(
+            SamplingProfilerService.DURATION_OPTION, Integer.toString(samplingProfilerDuration));
+      }
+    }
     var builder =
         Context.newBuilder()
             .allowExperimentalOptions(true)
@@ -142,6 +142,22 @@ public final class RuntimeOptions {
   private static final OptionDescriptor WARNINGS_LIMIT_DESCRIPTOR =
       OptionDescriptor.newBuilder(WARNINGS_LIMIT_KEY, WARNINGS_LIMIT).build();
 
+  public static final String PARALLEL_COMPILATION = optionName("parallelCompilation");
+
+  /* Compiles independent modules in parallel. */
+  public static final OptionKey<Boolean> PARALLEL_COMPILATION_KEY = new OptionKey<>(false);
+
+  private static final OptionDescriptor PARALLEL_COMPILATION_DESCRIPTOR =
+      OptionDescriptor.newBuilder(PARALLEL_COMPILATION_KEY, PARALLEL_COMPILATION).build();
+
+  public static final String RUNTIME_CACHE_BUDGET = optionName("runtimeCacheBudget");
+
+  /* Size in bytes of computed values that the runtime cache holds strongly, 0 to disable. */
+  public static final OptionKey<Long> RUNTIME_CACHE_BUDGET_KEY = new OptionKey<>(0L);
+
+  private static final OptionDescriptor RUNTIME_CACHE_BUDGET_DESCRIPTOR =
+      OptionDescriptor.newBuilder(RUNTIME_CACHE_BUDGET_KEY, RUNTIME_CACHE_BUDGET).build();
+
   public static final OptionDescriptors OPTION_DESCRIPTORS =
       OptionDescriptors.create(
           Arrays.asList(
@@ -166,7 +182,9 @@ public final class RuntimeOptions {
               WAIT_FOR_PENDING_SERIALIZATION_JOBS_DESCRIPTOR,
               USE_GLOBAL_IR_CACHE_LOCATION_DESCRIPTOR,
               ENABLE_EXECUTION_TIMER_DESCRIPTOR,
-              WARNINGS_LIMIT_DESCRIPTOR));
+              WARNINGS_LIMIT_DESCRIPTOR,
+              PARALLEL_COMPILATION_DESCRIPTOR,
+              RUNTIME_CACHE_BUDGET_DESCRIPTOR));
 
   /**
    * Canonicalizes the option name by prefixing it with the language name.
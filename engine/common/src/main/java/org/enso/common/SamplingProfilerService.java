@@ -0,0 +1,84 @@
+package org.enso.common;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * A sampling profiler of Enso code.
+ *
+ * <p>Unlike a JVM sampler, which records the frames of the interpreter itself, the samples consist
+ * of the Enso methods being executed. The service is provided by the {@link #INSTRUMENT_NAME}
+ * instrument and can be obtained from a polyglot engine via {@code
+ * engine.getInstruments().get(INSTRUMENT_NAME).lookup(SamplingProfilerService.class)}.
+ *
+ * <p>Alternatively, setting the {@link #OUTPUT_OPTION} starts the profiler together with the
+ * engine and writes the profile to the given file when the engine is closed.
+ */
+public interface SamplingProfilerService {
+  String INSTRUMENT_NAME = "enso-sampling-profiler";
+
+  /** The path of the file to write the profile to; the format is chosen by its extension. */
+  String OUTPUT_OPTION = INSTRUMENT_NAME + ".output";
+
+  /** The sampling interval in milliseconds. */
+  String INTERVAL_OPTION = INSTRUMENT_NAME + ".interval";
+
+  /** The duration in seconds after which the sampling stops, {@code 0} for no limit. */
+  String DURATION_OPTION = INSTRUMENT_NAME + ".duration";
+
+  /** Starts collecting samples. Does nothing if the profiler is already running. */
+  void start();
+
+  /**
+   * @return {@code true} if the profiler is collecting samples
+   */
+  boolean isRunning();
+
+  /**
+   * Stops collecting samples and writes the collected profile. The samples are discarded
+   * afterwards.
+   *
+   * @param out the stream to write the profile to
+   * @param format the format of the profile
+   * @throws IOException if the profile cannot be written
+   */
+  void stop(OutputStream out, Format format) throws IOException;
+
+  /** The output format of the profile. */
+  enum Format {
+    /** One line per unique stack, as consumed by {@code flamegraph.pl} and similar tools. */
+    COLLAPSED(".folded"),
+    /** The JSON format of <a href="https://www.speedscope.app">speedscope</a>. */
+    SPEEDSCOPE(".speedscope.json");
+
+    private final String extension;
+
+    Format(String extension) {
+      this.extension = extension;
+    }
+
+    /**
+     * @return the preferred file extension of the format
+     */
+    public String getExtension() {
+      return extension;
+    }
+
+    /**
+     * Determines the format from the name of the output file.
+     *
+     * @param fileName the file name
+     * @return the format, or {@code null} if the extension isn't recognized
+     */
+    public static Format forFileName(String fileName) {
+      var name = fileName.toLowerCase();
+      if (name.endsWith(".json")) {
+        return SPEEDSCOPE;
+      } else if (name.endsWith(".folded") || name.endsWith(".collapsed")) {
+        return COLLAPSED;
+      } else {
+        return null;
+      }
+    }
+  }
+}
@@ -4,13 +4,16 @@ package org.enso.languageserver.boot
   * to be closed safely.
   */
 class ComponentSupervisor extends AutoCloseable {
-  private var component: AutoCloseable = null
+  @volatile private var component: AutoCloseable = null
 
   def registerService(component: AutoCloseable): Unit = {
     assert(this.component == null, "can't register component twice")
     this.component = component
   }
 
+  /** @return the registered component, if any */
+  def getComponent: Option[AutoCloseable] = Option(component)
+
   override def close(): Unit = {
     if (this.component != null) {
       this.component.close()
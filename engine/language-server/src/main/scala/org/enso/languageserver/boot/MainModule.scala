@@ -47,7 +47,7 @@ import org.enso.librarymanager.local.DefaultLocalLibraryProvider
 import org.enso.librarymanager.published.PublishedLibraryCache
 import org.enso.lockmanager.server.LockManagerService
 import org.enso.logger.masking.Masking
-import org.enso.common.RuntimeOptions
+import org.enso.common.{RuntimeOptions, SamplingProfilerService}
 import org.enso.common.ContextFactory
 import org.enso.logging.utils.akka.AkkaConverter
 import org.enso.polyglot.RuntimeServerInfo
@@ -201,7 +201,11 @@ class MainModule(serverConfig: LanguageServerConfig, logLevel: Level) {
 
   private val profilingManager =
     system.actorOf(
-      ProfilingManager.props(eventsMonitor, distributionManager),
+      ProfilingManager.props(
+        eventsMonitor,
+        distributionManager,
+        ensoSampler = () => lookupEnsoSampler()
+      ),
       "profiling-manager"
     )
 
@@ -315,6 +319,12 @@ class MainModule(serverConfig: LanguageServerConfig, logLevel: Level) {
     RuntimeOptions.JOB_PARALLELISM,
     Runtime.getRuntime.availableProcessors().toString
   )
+  // The runtime cache holds computed values strongly only if a budget is
+  // configured, as their sizes are estimates and the heap is shared with the
+  // running program.
+  Option(System.getProperty(RuntimeOptions.RUNTIME_CACHE_BUDGET)).foreach {
+    budget => extraOptions.put(RuntimeOptions.RUNTIME_CACHE_BUDGET, budget)
+  }
 
   if (java.lang.Boolean.getBoolean("com.oracle.graalvm.isaot")) {
     log.trace("Running Language Server in AOT mode")
@@ -516,6 +526,22 @@ class MainModule(serverConfig: LanguageServerConfig, logLevel: Level) {
     log.info("Stopped Language Server")
   }
 
+  /** Finds the sampling profiler of Enso methods in the runtime context.
+    *
+    * @return the profiler service, or `None` if the context isn't created yet
+    */
+  private def lookupEnsoSampler(): Option[SamplingProfilerService] =
+    contextSupervisor.getComponent.flatMap {
+      case ctx: org.graalvm.polyglot.Context =>
+        Option(
+          ctx.getEngine.getInstruments
+            .get(SamplingProfilerService.INSTRUMENT_NAME)
+        ).flatMap(instrument =>
+          Option(instrument.lookup(classOf[SamplingProfilerService]))
+        )
+      case _ => None
+    }
+
   private def akkaHttpsConfig(): com.typesafe.config.Config = {
     val empty = ConfigFactory.empty().atPath("akka.https")
     ConfigFactory
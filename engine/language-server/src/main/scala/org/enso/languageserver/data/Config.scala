@@ -80,8 +80,18 @@ object VcsManagerConfig {
 /** Configuration of the execution context.
   *
   * @param requestTimeout timeout of requests to the engine
+  * @param updatesSendRate how often the expression updates are sent
+  * @param visualizationsSendRate how long the visualization updates are
+  * collected before they are sent
+  * @param maxUpdatesBatchSize the maximum number of expression or
+  * visualization updates sent at once, the rest is sent later
   */
-case class ExecutionContextConfig(requestTimeout: FiniteDuration)
+case class ExecutionContextConfig(
+  requestTimeout: FiniteDuration,
+  updatesSendRate: FiniteDuration        = 1.second,
+  visualizationsSendRate: FiniteDuration = 50.millis,
+  maxUpdatesBatchSize: Int               = 1000
+)
 
 object ExecutionContextConfig {
 
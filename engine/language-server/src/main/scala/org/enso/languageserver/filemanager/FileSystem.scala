@@ -1,6 +1,7 @@
 package org.enso.languageserver.filemanager
 
 import org.apache.commons.io.{FileExistsException, FileUtils}
+import org.enso.filesystem.ModificationTimes
 import org.enso.languageserver.effect.BlockingIO
 import org.slf4j.Logger
 import zio._
@@ -23,6 +24,14 @@ class FileSystem(logger: Logger) extends FileSystemApi[BlockingIO] {
   /** The stride used by the [[FileSystem]] when processing a file in chunks. */
   private val fileChunkSize: Int = tenMb
 
+  /** The digests of files, reused while the files stay unmodified.
+    *
+    * The digests of the files deleted or moved by this file system are
+    * dropped, as is the digest of a file found missing.
+    */
+  private val digests =
+    new java.util.concurrent.ConcurrentHashMap[Path, FileSystem.FileDigest]()
+
   import FileSystemApi._
 
   /** Writes textual content to a file.
@@ -80,6 +89,7 @@ class FileSystem(logger: Logger) extends FileSystemApi[BlockingIO] {
       } else {
         Files.delete(file.toPath)
       }
+      forgetDigests(file)
     }.mapError(errorHandling)
 
   /** Creates an empty file with parent directory.
@@ -148,6 +158,8 @@ class FileSystem(logger: Logger) extends FileSystemApi[BlockingIO] {
       } else {
         FileUtils.moveFile(from, to)
       }
+      forgetDigests(from)
+      forgetDigests(to)
     }.mapError(errorHandling)
 
   /** Checks if the specified file exists.
@@ -241,21 +253,38 @@ class FileSystem(logger: Logger) extends FileSystemApi[BlockingIO] {
   override def digest(path: File): BlockingIO[FileSystemFailure, SHA3_224] = {
     if (path.isFile) {
       timedBlockingOp("digestFile", logger) {
-        val messageDigest = MessageDigest.getInstance("SHA3-224")
-        Using.resource(
-          Files.newInputStream(path.toPath, StandardOpenOption.READ)
-        ) { stream =>
-          var currentBytes = stream.readNBytes(fileChunkSize)
+        val filePath = path.toPath
+        val attrs =
+          Files.readAttributes(filePath, classOf[BasicFileAttributes])
+        val size         = attrs.size()
+        val lastModified = attrs.lastModifiedTime().toMillis
+        val cached       = digests.get(filePath)
+        if (cached != null && cached.isValidFor(size, lastModified)) {
+          cached.digest
+        } else {
+          val hashedAt      = java.lang.System.currentTimeMillis()
+          val messageDigest = MessageDigest.getInstance("SHA3-224")
+          val digest = Using.resource(
+            Files.newInputStream(filePath, StandardOpenOption.READ)
+          ) { stream =>
+            var currentBytes = stream.readNBytes(fileChunkSize)
+
+            while (currentBytes.nonEmpty) {
+              messageDigest.update(currentBytes)
+              currentBytes = stream.readNBytes(fileChunkSize)
+            }
 
-          while (currentBytes.nonEmpty) {
-            messageDigest.update(currentBytes)
-            currentBytes = stream.readNBytes(fileChunkSize)
+            SHA3_224(messageDigest.digest())
           }
-
-          SHA3_224(messageDigest.digest())
+          digests.put(
+            filePath,
+            FileSystem.FileDigest(size, lastModified, hashedAt, digest)
+          )
+          digest
         }
       }.mapError(errorHandling)
     } else {
+      forgetDigests(path)
       if (path.exists()) {
         ZIO.fail(NotFile)
       } else {
@@ -264,6 +293,15 @@ class FileSystem(logger: Logger) extends FileSystemApi[BlockingIO] {
     }
   }
 
+  /** Drops the digests of a file, or of all the files in a directory.
+    *
+    * @param path the path of the file or directory
+    */
+  private def forgetDigests(path: File): Unit = {
+    val removed = path.toPath
+    digests.keySet().removeIf(_.startsWith(removed))
+  }
+
   /** Returns the digest of the bytes described by `segment`.
     *
     * @param segment a description of the portion of a file to checksum
@@ -444,6 +482,32 @@ object FileSystem {
 
   import FileSystemApi._
 
+  /** The digest of a file and the state of the file it was computed for.
+    *
+    * @param size the size of the file in bytes
+    * @param lastModified the modification time of the file in milliseconds
+    * @param hashedAt the time the file started being read
+    * @param digest the digest of the file contents
+    */
+  private case class FileDigest(
+    size: Long,
+    lastModified: Long,
+    hashedAt: Long,
+    digest: SHA3_224
+  ) {
+
+    /** Checks whether the digest still describes a file.
+      *
+      * @param size the current size of the file
+      * @param lastModified the current modification time of the file
+      * @return `true` if the file hasn't been modified since it was hashed
+      */
+    def isValidFor(size: Long, lastModified: Long): Boolean =
+      this.size == size &&
+      this.lastModified == lastModified &&
+      lastModified + ModificationTimes.GRANULARITY < hashedAt
+  }
+
   /** Represent a depth limit when recursively traversing a directory.
     */
   sealed private trait Depth {
@@ -30,4 +30,27 @@ object MonitoringApi {
       }
   }
 
+  case object GetRuntimeCacheStatistics
+      extends Method("monitoring/getRuntimeCacheStatistics") {
+
+    case class Result(
+      budget: Long,
+      retainedBytes: Long,
+      retainedEntries: Int,
+      hits: Long,
+      misses: Long,
+      evictions: Long
+    )
+
+    implicit val hasParams: HasParams.Aux[this.type, Unused.type] =
+      new HasParams[this.type] {
+        type Params = Unused.type
+      }
+    implicit val hasResult
+      : HasResult.Aux[this.type, GetRuntimeCacheStatistics.Result] =
+      new HasResult[this.type] {
+        type Result = GetRuntimeCacheStatistics.Result
+      }
+  }
+
 }
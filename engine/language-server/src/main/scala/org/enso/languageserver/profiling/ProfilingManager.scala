@@ -2,6 +2,7 @@ package org.enso.languageserver.profiling
 
 import akka.actor.{Actor, ActorRef, Props}
 import com.typesafe.scalalogging.LazyLogging
+import org.enso.common.SamplingProfilerService
 import org.enso.distribution.DistributionManager
 import org.enso.languageserver.runtime.events.RuntimeEventsMonitor
 import org.enso.logger.masking.MaskedPath
@@ -16,7 +17,7 @@ import java.time.{Clock, Instant, ZoneOffset}
 import java.time.format.{DateTimeFormatter, DateTimeFormatterBuilder}
 import java.time.temporal.ChronoField
 
-import scala.util.{Failure, Success, Try}
+import scala.util.{Failure, Success, Try, Using}
 
 /** Handles the profiling commands.
   *
@@ -24,12 +25,14 @@ import scala.util.{Failure, Success, Try}
   * @param distributionManager the distribution manager
   * @param profilingSnapshot the profiling snapshot generator
   * @param clock the system clock
+  * @param ensoSampler the provider of the sampling profiler of Enso methods
   */
 final class ProfilingManager(
   eventsMonitorActor: ActorRef,
   distributionManager: DistributionManager,
   profilingSnapshot: ProfilingSnapshot,
-  clock: Clock
+  clock: Clock,
+  ensoSampler: () => Option[SamplingProfilerService]
 ) extends Actor
     with LazyLogging {
 
@@ -53,6 +56,7 @@ final class ProfilingManager(
           val sampler = new OutputStreamSampler(result)
 
           sampler.start()
+          val ensoSamplerOpt = startEnsoSampler()
 
           val eventsMonitor = createEventsMonitor(instant)
           eventsMonitorActor ! EventsMonitorProtocol.RegisterEventsMonitor(
@@ -68,7 +72,8 @@ final class ProfilingManager(
                   sampler,
                   result,
                   memorySnapshot,
-                  eventsMonitor
+                  eventsMonitor,
+                  ensoSamplerOpt
                 )
               )
             )
@@ -83,12 +88,28 @@ final class ProfilingManager(
                 sampler,
                 result,
                 memorySnapshot,
-                eventsMonitor
+                eventsMonitor,
+                ensoSamplerOpt
               )
             ) =>
           sampler.stop()
           eventsMonitor.close()
 
+          ensoSamplerOpt.foreach { ensoSampler =>
+            Try(saveEnsoSamplerResult(ensoSampler, instant)) match {
+              case Failure(exception) =>
+                logger.error(
+                  "Failed to save the Enso sampler's result.",
+                  exception
+                )
+              case Success(samplesPath) =>
+                logger.trace(
+                  "Saved the Enso sampler's result to [{}].",
+                  MaskedPath(samplesPath)
+                )
+            }
+          }
+
           Try(saveSamplerResult(result.toByteArray, instant)) match {
             case Failure(exception) =>
               logger.error("Failed to save the sampler's result.", exception)
@@ -144,6 +165,33 @@ final class ProfilingManager(
     samplesPath
   }
 
+  private def startEnsoSampler(): Option[SamplingProfilerService] =
+    Try(ensoSampler()) match {
+      case Success(Some(service)) =>
+        service.start()
+        Some(service)
+      case Success(None) =>
+        None
+      case Failure(exception) =>
+        logger.warn("Failed to start the Enso sampler.", exception)
+        None
+    }
+
+  private def saveEnsoSamplerResult(
+    ensoSampler: SamplingProfilerService,
+    instant: Instant
+  ): Path = {
+    val samplesFileName = createEnsoSamplesFileName(instant)
+    val samplesPath =
+      distributionManager.paths.profiling.resolve(samplesFileName)
+
+    Using.resource(Files.newOutputStream(samplesPath)) { out =>
+      ensoSampler.stop(out, SamplingProfilerService.Format.SPEEDSCOPE)
+    }
+
+    samplesPath
+  }
+
   private def saveHeapDump(instant: Instant): Path = {
     val heapDumpFileName = createHeapDumpFileName(instant)
     val heapDumpPath =
@@ -189,7 +237,8 @@ object ProfilingManager {
     sampler: MethodsSampler,
     result: ByteArrayOutputStream,
     memorySnapshot: Boolean,
-    eventsMonitor: EventsMonitor
+    eventsMonitor: EventsMonitor,
+    ensoSampler: Option[SamplingProfilerService]
   )
 
   private def createProfilingFileName(instant: Instant): String = {
@@ -202,6 +251,11 @@ object ProfilingManager {
     s"$baseName$SAMPLES_FILE_EXT"
   }
 
+  def createEnsoSamplesFileName(instant: Instant): String = {
+    val baseName = createProfilingFileName(instant)
+    s"$baseName${SamplingProfilerService.Format.SPEEDSCOPE.getExtension}"
+  }
+
   def createEventsFileName(instant: Instant): String = {
     val baseName = createProfilingFileName(instant)
     s"$baseName$EVENTS_FILE_EXT"
@@ -218,19 +272,22 @@ object ProfilingManager {
     * @param distributionManager the distribution manager
     * @param profilingSnapshot the profiling snapshot generator
     * @param clock the system clock
+    * @param ensoSampler the provider of the sampling profiler of Enso methods
     */
   def props(
     eventsMonitor: ActorRef,
     distributionManager: DistributionManager,
     profilingSnapshot: ProfilingSnapshot = new HeapDumpSnapshot(),
-    clock: Clock                         = Clock.systemUTC()
+    clock: Clock                         = Clock.systemUTC(),
+    ensoSampler: () => Option[SamplingProfilerService] = () => None
   ): Props =
     Props(
       new ProfilingManager(
         eventsMonitor,
         distributionManager,
         profilingSnapshot,
-        clock
+        clock,
+        ensoSampler
       )
     )
 }
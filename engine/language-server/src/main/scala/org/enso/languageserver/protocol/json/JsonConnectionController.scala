@@ -38,7 +38,11 @@ import org.enso.languageserver.io.{InputOutputApi, InputOutputProtocol}
 import org.enso.languageserver.libraries.LibraryApi._
 import org.enso.languageserver.libraries.LibraryConfig
 import org.enso.languageserver.libraries.handler._
-import org.enso.languageserver.monitoring.MonitoringApi.{InitialPing, Ping}
+import org.enso.languageserver.monitoring.MonitoringApi.{
+  GetRuntimeCacheStatistics,
+  InitialPing,
+  Ping
+}
 import org.enso.languageserver.monitoring.MonitoringProtocol
 import org.enso.languageserver.profiling.ProfilingApi.{
   ProfilingSnapshot,
@@ -54,6 +58,7 @@ import org.enso.languageserver.requesthandler._
 import org.enso.languageserver.requesthandler.capability._
 import org.enso.languageserver.requesthandler.io._
 import org.enso.languageserver.requesthandler.monitoring.{
+  GetRuntimeCacheStatisticsHandler,
   InitialPingHandler,
   PingHandler
 }
@@ -525,7 +530,7 @@ class JsonConnectionController(
 
   private def refreshIdleTime(method: Method): Unit = {
     method match {
-      case InitialPing | Ping =>
+      case InitialPing | Ping | GetRuntimeCacheStatistics =>
       // ignore
       case _ =>
         idlenessMonitor ! MonitoringProtocol.ResetIdleTimeCommand
@@ -546,6 +551,10 @@ class JsonConnectionController(
         requestTimeout
       ),
       InitialPing -> InitialPingHandler.props,
+      GetRuntimeCacheStatistics -> GetRuntimeCacheStatisticsHandler.props(
+        requestTimeout,
+        runtimeConnector
+      ),
       AcquireCapability -> AcquireCapabilityHandler
         .props(capabilityRouter, requestTimeout, rpcSession),
       ReleaseCapability -> ReleaseCapabilityHandler
@@ -20,7 +20,11 @@ import org.enso.languageserver.capability.CapabilityApi.{
 }
 import org.enso.languageserver.filemanager.FileManagerApi._
 import org.enso.languageserver.io.InputOutputApi._
-import org.enso.languageserver.monitoring.MonitoringApi.{InitialPing, Ping}
+import org.enso.languageserver.monitoring.MonitoringApi.{
+  GetRuntimeCacheStatistics,
+  InitialPing,
+  Ping
+}
 import org.enso.languageserver.refactoring.RefactoringApi._
 import org.enso.languageserver.runtime.ExecutionApi._
 import org.enso.languageserver.search.SearchApi._
@@ -47,6 +51,7 @@ object JsonRpc {
   /** A description of supported JSON RPC messages at a post-initialization stage */
   def fullProtocol(init: Protocol): Protocol = init
     .registerRequest(Ping)
+    .registerRequest(GetRuntimeCacheStatistics)
     .registerRequest(AcquireCapability)
     .registerRequest(ReleaseCapability)
     .registerRequest(WriteFile)
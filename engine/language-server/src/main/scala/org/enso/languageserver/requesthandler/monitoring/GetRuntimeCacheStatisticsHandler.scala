@@ -0,0 +1,90 @@
+package org.enso.languageserver.requesthandler.monitoring
+
+import akka.actor.{Actor, ActorRef, Cancellable, Props}
+import com.typesafe.scalalogging.LazyLogging
+import org.enso.jsonrpc._
+import org.enso.languageserver.monitoring.MonitoringApi.GetRuntimeCacheStatistics
+import org.enso.languageserver.requesthandler.RequestTimeout
+import org.enso.languageserver.util.UnhandledLogging
+import org.enso.polyglot.runtime.Runtime.Api
+
+import java.util.UUID
+
+import scala.concurrent.duration.FiniteDuration
+
+/** A request handler for `monitoring/getRuntimeCacheStatistics` commands.
+  *
+  * @param timeout request timeout
+  * @param runtime a reference to the runtime connector
+  */
+class GetRuntimeCacheStatisticsHandler(
+  timeout: FiniteDuration,
+  runtime: ActorRef
+) extends Actor
+    with LazyLogging
+    with UnhandledLogging {
+
+  import context.dispatcher
+
+  override def receive: Receive = requestStage
+
+  private def requestStage: Receive = {
+    case Request(GetRuntimeCacheStatistics, id, _) =>
+      runtime ! Api.Request(
+        UUID.randomUUID(),
+        Api.GetRuntimeCacheStatisticsRequest()
+      )
+      val cancellable =
+        context.system.scheduler.scheduleOnce(timeout, self, RequestTimeout)
+      context.become(responseStage(id, sender(), cancellable))
+  }
+
+  private def responseStage(
+    id: Id,
+    replyTo: ActorRef,
+    cancellable: Cancellable
+  ): Receive = {
+    case RequestTimeout =>
+      logger.error("Request [{}] timed out.", id)
+      replyTo ! ResponseError(Some(id), Errors.RequestTimeout)
+      context.stop(self)
+
+    case Api.Response(
+          _,
+          Api.GetRuntimeCacheStatisticsResponse(
+            budget,
+            retainedBytes,
+            retainedEntries,
+            hits,
+            misses,
+            evictions
+          )
+        ) =>
+      replyTo ! ResponseResult(
+        GetRuntimeCacheStatistics,
+        id,
+        GetRuntimeCacheStatistics.Result(
+          budget,
+          retainedBytes,
+          retainedEntries,
+          hits,
+          misses,
+          evictions
+        )
+      )
+      cancellable.cancel()
+      context.stop(self)
+  }
+}
+
+object GetRuntimeCacheStatisticsHandler {
+
+  /** Creates configuration object used to create a
+    * [[GetRuntimeCacheStatisticsHandler]].
+    *
+    * @param timeout request timeout
+    * @param runtime a reference to the runtime connector
+    */
+  def props(timeout: FiniteDuration, runtime: ActorRef): Props =
+    Props(new GetRuntimeCacheStatisticsHandler(timeout, runtime))
+}
@@ -1,6 +1,6 @@
 package org.enso.languageserver.runtime
 
-import akka.actor.{Actor, ActorRef, Props}
+import akka.actor.{Actor, ActorRef, Props, Timers}
 import akka.pattern.pipe
 import com.typesafe.scalalogging.LazyLogging
 import org.enso.languageserver.runtime.ContextRegistryProtocol.{
@@ -19,6 +19,9 @@ import org.enso.languageserver.util.UnhandledLogging
 import org.enso.languageserver.util.CollectionConversions._
 import org.enso.polyglot.runtime.Runtime.Api
 
+import java.util.UUID
+
+import scala.collection.immutable.VectorMap
 import scala.concurrent.duration._
 
 /** EventListener listens event stream for the notifications from the runtime
@@ -26,24 +29,36 @@ import scala.concurrent.duration._
   * only handles the notifications with the given `contextId`.
   *
   * Expression updates are collected and sent to the user in a batch.
+  * Visualization updates are collected for a short period too, so that a long
+  * recomputation doesn't flood the client with messages. Only the latest
+  * update of an expression or a visualization is kept, the superseded ones are
+  * dropped. At most `maxBatchSize` updates of each kind are sent at once, the
+  * rest waits for the next batch and can still be superseded meanwhile, which
+  * keeps the rate of messages bounded when the client falls behind.
   *
   * @param runtimeFailureMapper mapper for runtime failures
   * @param rpcSession reference to the client
   * @param contextId execution context identifier
   * @param sessionRouter the session router
   * @param updatesSendRate how often send the updates to the user
+  * @param visualizationsSendRate how long to collect the visualization updates
+  * before sending them to the user
+  * @param maxBatchSize the maximum number of updates sent at once
   */
 final class ContextEventsListener(
   runtimeFailureMapper: RuntimeFailureMapper,
   rpcSession: JsonSession,
   contextId: ContextId,
   sessionRouter: ActorRef,
-  updatesSendRate: FiniteDuration
+  updatesSendRate: FiniteDuration,
+  visualizationsSendRate: FiniteDuration,
+  maxBatchSize: Int
 ) extends Actor
+    with Timers
     with LazyLogging
     with UnhandledLogging {
 
-  import ContextEventsListener.RunExpressionUpdates
+  import ContextEventsListener.{RunExpressionUpdates, RunVisualizationUpdates}
   import context.dispatcher
 
   override def preStart(): Unit = {
@@ -57,11 +72,13 @@ final class ContextEventsListener(
     }
   }
 
-  override def receive: Receive = withState(Set(), Vector())
+  override def receive: Receive =
+    withState(Set(), VectorMap(), VectorMap())
 
   private def withState(
     oneshotVisualizations: Set[Api.VisualizationContext],
-    expressionUpdates: Vector[Api.ExpressionUpdate]
+    expressionUpdates: VectorMap[UUID, Api.ExpressionUpdate],
+    visualizationUpdates: VectorMap[Api.VisualizationContext, Array[Byte]]
   ): Receive = {
     case RegisterOneshotVisualization(
           contextId,
@@ -77,39 +94,45 @@ final class ContextEventsListener(
       context.become(
         withState(
           oneshotVisualizations + visualizationContext,
-          expressionUpdates
+          expressionUpdates,
+          visualizationUpdates
         )
       )
 
     case Api.VisualizationUpdate(ctx, data) if ctx.contextId == contextId =>
-      val payload =
-        VisualizationUpdate(
-          VisualizationContext(
-            ctx.visualizationId,
-            ctx.contextId,
-            ctx.expressionId
-          ),
-          data
-        )
-      sessionRouter ! DeliverToBinaryController(rpcSession.clientId, payload)
-      if (oneshotVisualizations.contains(ctx)) {
-        context.parent ! DetachVisualization(
-          rpcSession.clientId,
-          contextId,
-          ctx.visualizationId,
-          ctx.expressionId
+      val updates = visualizationUpdates.removed(ctx).updated(ctx, data)
+      if (visualizationsSendRate.length == 0) {
+        runVisualizationUpdates(
+          oneshotVisualizations,
+          expressionUpdates,
+          updates
         )
-        context.become(
-          withState(
-            oneshotVisualizations - ctx,
-            expressionUpdates
+      } else {
+        if (!timers.isTimerActive(RunVisualizationUpdates)) {
+          timers.startSingleTimer(
+            RunVisualizationUpdates,
+            RunVisualizationUpdates,
+            visualizationsSendRate
           )
+        }
+        context.become(
+          withState(oneshotVisualizations, expressionUpdates, updates)
         )
       }
 
+    case RunVisualizationUpdates =>
+      runVisualizationUpdates(
+        oneshotVisualizations,
+        expressionUpdates,
+        visualizationUpdates
+      )
+
     case Api.ExpressionUpdates(`contextId`, apiUpdates) =>
+      val updates = apiUpdates.foldLeft(expressionUpdates) { (acc, update) =>
+        acc.removed(update.expressionId).updated(update.expressionId, update)
+      }
       context.become(
-        withState(oneshotVisualizations, expressionUpdates :++ apiUpdates)
+        withState(oneshotVisualizations, updates, visualizationUpdates)
       )
 
     case Api.ExecutionFailed(`contextId`, error) =>
@@ -165,6 +188,8 @@ final class ContextEventsListener(
           )
       } yield DeliverToJsonController(rpcSession.clientId, payload)
 
+      // the pending update is superseded by the failure
+      val updates = visualizationUpdates.removed(ctx)
       if (oneshotVisualizations.contains(ctx)) {
         context.parent ! DetachVisualization(
           rpcSession.clientId,
@@ -175,20 +200,76 @@ final class ContextEventsListener(
         context.become(
           withState(
             oneshotVisualizations - ctx,
-            expressionUpdates
+            expressionUpdates,
+            updates
           )
         )
+      } else {
+        context.become(
+          withState(oneshotVisualizations, expressionUpdates, updates)
+        )
       }
 
       response.pipeTo(sessionRouter)
 
     case RunExpressionUpdates if expressionUpdates.nonEmpty =>
-      runExpressionUpdates(expressionUpdates)
-      context.become(withState(oneshotVisualizations, Vector()))
+      val (batch, rest) = expressionUpdates.splitAt(maxBatchSize)
+      runExpressionUpdates(batch.values.toVector)
+      context.become(
+        withState(oneshotVisualizations, rest, visualizationUpdates)
+      )
 
     case RunExpressionUpdates if expressionUpdates.isEmpty =>
   }
 
+  /** Send the collected visualization updates.
+    *
+    * Oneshot visualizations are detached once their update is sent. If there
+    * are more updates than fit in a batch, the rest is scheduled to be sent
+    * later.
+    */
+  private def runVisualizationUpdates(
+    oneshotVisualizations: Set[Api.VisualizationContext],
+    expressionUpdates: VectorMap[UUID, Api.ExpressionUpdate],
+    visualizationUpdates: VectorMap[Api.VisualizationContext, Array[Byte]]
+  ): Unit = {
+    val (batch, rest) = visualizationUpdates.splitAt(maxBatchSize)
+    batch.foreach { case (ctx, data) =>
+      val payload =
+        VisualizationUpdate(
+          VisualizationContext(
+            ctx.visualizationId,
+            ctx.contextId,
+            ctx.expressionId
+          ),
+          data
+        )
+      sessionRouter ! DeliverToBinaryController(rpcSession.clientId, payload)
+      if (oneshotVisualizations.contains(ctx)) {
+        context.parent ! DetachVisualization(
+          rpcSession.clientId,
+          contextId,
+          ctx.visualizationId,
+          ctx.expressionId
+        )
+      }
+    }
+    if (rest.nonEmpty) {
+      timers.startSingleTimer(
+        RunVisualizationUpdates,
+        RunVisualizationUpdates,
+        visualizationsSendRate.max(1.millis)
+      )
+    }
+    context.become(
+      withState(
+        oneshotVisualizations -- batch.keys,
+        expressionUpdates,
+        rest
+      )
+    )
+  }
+
   /** Process `ExpressionUpdate` notifications.
     *
     * Function resolves method pointers to the corresponding suggestion ids in
@@ -310,6 +391,9 @@ object ContextEventsListener {
   /** The action to process the expression updates. */
   case object RunExpressionUpdates
 
+  /** The action to send the collected visualization updates. */
+  case object RunVisualizationUpdates
+
   /** Creates a configuration object used to create a [[ContextEventsListener]].
     *
     * @param runtimeFailureMapper mapper for runtime failures
@@ -317,13 +401,18 @@ object ContextEventsListener {
     * @param contextId execution context identifier
     * @param sessionRouter the session router
     * @param updatesSendRate how often send the updates to the user
+    * @param visualizationsSendRate how long to collect the visualization
+    * updates before sending them to the user
+    * @param maxBatchSize the maximum number of updates sent at once
     */
   def props(
     runtimeFailureMapper: RuntimeFailureMapper,
     rpcSession: JsonSession,
     contextId: ContextId,
     sessionRouter: ActorRef,
-    updatesSendRate: FiniteDuration = 1.second
+    updatesSendRate: FiniteDuration        = 1.second,
+    visualizationsSendRate: FiniteDuration = 50.millis,
+    maxBatchSize: Int                      = 1000
   ): Props =
     Props(
       new ContextEventsListener(
@@ -331,7 +420,9 @@ object ContextEventsListener {
         rpcSession,
         contextId,
         sessionRouter: ActorRef,
-        updatesSendRate
+        updatesSendRate,
+        visualizationsSendRate,
+        maxBatchSize
       )
     )
 
@@ -133,7 +133,10 @@ final class ContextRegistry(
                 runtimeFailureMapper,
                 client,
                 contextId,
-                sessionRouter
+                sessionRouter,
+                config.executionContext.updatesSendRate,
+                config.executionContext.visualizationsSendRate,
+                config.executionContext.maxUpdatesBatchSize
               )
             )
           handler.forward(Api.CreateContextRequest(contextId))
@@ -1,7 +1,11 @@
 package org.enso.languageserver.text
 
 import java.io.File
-import org.enso.text.{ContentBasedVersioning, ContentVersion}
+import org.enso.text.{
+  ContentBasedVersioning,
+  ContentVersion,
+  IncrementalVersion
+}
 import org.enso.text.buffer.Rope
 import org.enso.text.editing.model.Position
 import org.enso.text.editing.model.Range
@@ -13,15 +17,18 @@ import java.time.OffsetDateTime
   * @param fileWithMetadata the file linked to the buffer.
   * @param contents the contents of the buffer.
   * @param inMemory determines if the buffer is in-memory
-  * @param version the current version of the buffer contents.
+  * @param incrementalVersion the current version of the buffer contents.
   */
 case class Buffer(
   fileWithMetadata: FileWithMetadata,
   contents: Rope,
   inMemory: Boolean,
-  version: ContentVersion
+  incrementalVersion: IncrementalVersion
 ) {
 
+  /** The current version of the buffer contents. */
+  def version: ContentVersion = incrementalVersion.version
+
   /** Returns a range covering the whole buffer. */
   lazy val fullRange: Range = {
     val lines = contents.lines.length
@@ -35,17 +42,22 @@ case class Buffer(
     *
     * @param newContents the new contents of the buffer
     * @param inMemory determines if the buffer is in-memory
+    * @param unchangedPrefix the number of leading characters of the new
+    * contents that are the same as in the current contents
     * @return the buffer with new provided contents
     */
   def withContents(
     newContents: Rope,
-    inMemory: Boolean = inMemory
-  )(implicit versionCalculator: ContentBasedVersioning): Buffer =
+    inMemory: Boolean    = inMemory,
+    unchangedPrefix: Int = 0
+  ): Buffer = {
+    val newVersion = incrementalVersion.update(newContents, unchangedPrefix)
     copy(
-      contents = newContents,
-      version  = versionCalculator.evalVersion(newContents.toString),
-      inMemory = inMemory
+      contents           = newContents,
+      incrementalVersion = newVersion,
+      inMemory           = inMemory
     )
+  }
 
   /** Create a buffer with new last modified time.
     *
@@ -82,11 +94,13 @@ object Buffer {
     file: File,
     contents: String,
     inMemory: Boolean
-  )(implicit versionCalculator: ContentBasedVersioning): Buffer =
+  )(implicit versionCalculator: ContentBasedVersioning): Buffer = {
+    val rope = Rope(contents)
     Buffer(
       FileWithMetadata(file),
-      Rope(contents),
+      rope,
       inMemory,
-      versionCalculator.evalVersion(contents)
+      versionCalculator.evalIncrementalVersion(rope)
     )
+  }
 }
@@ -818,11 +818,18 @@ class CollaborativeBuffer(
     buffer: Buffer,
     edits: List[TextEdit]
   ): Either[ApplyEditFailure, Buffer] = {
+    // every edit leaves the text before its start intact, so the lines
+    // preceding the first edited line are the same in the edited buffer
+    val firstEditedLine =
+      if (edits.isEmpty) Int.MaxValue
+      else math.max(0, edits.map(_.range.start.line).min)
+    val unchangedPrefix =
+      buffer.contents.lines.take(firstEditedLine).characters.length
     EditorOps
       .applyEdits(buffer.contents, edits)
       .left
       .map(toEditFailure)
-      .map(rope => buffer.withContents(rope))
+      .map(rope => buffer.withContents(rope, unchangedPrefix = unchangedPrefix))
   }
 
   private val toEditFailure: TextEditValidationFailure => ApplyEditFailure = {
@@ -7,9 +7,10 @@ import org.scalatest.matchers.should.Matchers
 import org.scalatest.wordspec.AnyWordSpecLike
 
 import java.nio.charset.StandardCharsets
-import java.nio.file.attribute.BasicFileAttributes
+import java.nio.file.attribute.{BasicFileAttributes, FileTime}
 import java.nio.file.{Files, Path, Paths}
 import java.security.MessageDigest
+import java.time.Instant
 import scala.collection.mutable.ArrayBuffer
 import scala.io.Source
 import scala.jdk.CollectionConverters._
@@ -695,6 +696,64 @@ class FileSystemSpec
       val result = objectUnderTest.digest(path.toFile).unsafeRunSync()
       result shouldBe Left(FileNotFound)
     }
+
+    "reuse the checksum of a file whose size and modification time are unchanged" in new TestCtx {
+      val path     = Paths.get(testDirPath.toString, "a.txt")
+      val modified = createSettledFile("Hello, Enso!", path)
+      val initial  = digestOf(path)
+
+      // Same size and modification time, so the file is not read again.
+      rewriteKeepingTime("Hello, Java!", path, modified)
+      digestOf(path) shouldEqual initial
+    }
+
+    "compute the checksum again when the file is modified" in new TestCtx {
+      val path     = Paths.get(testDirPath.toString, "a.txt")
+      val modified = createSettledFile("Hello, Enso!", path)
+      val initial  = digestOf(path)
+
+      rewriteKeepingTime("Hello, Java!", path, modified.plusSeconds(1))
+      digestOf(path) should not equal initial
+      digestOf(path) shouldEqual expectedDigest(path)
+    }
+
+    "compute the checksum again for a file modified within the timestamp granularity" in new TestCtx {
+      val path     = Paths.get(testDirPath.toString, "a.txt")
+      val modified = Instant.now()
+      createFileContaining("Hello, Enso!", path)
+      Files.setLastModifiedTime(path, FileTime.from(modified))
+      digestOf(path)
+
+      rewriteKeepingTime("Hello, Java!", path, modified)
+      digestOf(path) shouldEqual expectedDigest(path)
+    }
+
+    "not reuse the checksum of a deleted file" in new TestCtx {
+      val dir      = Paths.get(testDirPath.toString, "dir")
+      val path     = dir.resolve("a.txt")
+      val modified = createSettledFile("Hello, Enso!", path)
+      digestOf(path)
+
+      objectUnderTest.delete(dir.toFile).unsafeRunSync() shouldBe Right(())
+      createSettledFile("Hello, Java!", path, modified)
+      digestOf(path) shouldEqual expectedDigest(path)
+    }
+
+    "not reuse the checksum of a moved file" in new TestCtx {
+      val from     = Paths.get(testDirPath.toString, "a.txt")
+      val to       = Paths.get(testDirPath.toString, "b.txt")
+      val modified = createSettledFile("Hello, Enso!", from)
+      val initial  = digestOf(from)
+      createSettledFile("Hello, Java!", to, modified)
+      digestOf(to)
+
+      Files.delete(to)
+      objectUnderTest.move(from.toFile, to.toFile).unsafeRunSync() shouldBe Right(())
+      digestOf(to) shouldEqual initial
+
+      createSettledFile("Hello, Java!", from, modified)
+      digestOf(from) shouldEqual expectedDigest(from)
+    }
   }
 
   "Byte-range checksum" should {
@@ -1016,6 +1075,33 @@ class FileSystemSpec
     path
   }
 
+  /** Creates a file last modified well before it is hashed. */
+  def createSettledFile(
+    contents: String,
+    path: Path,
+    modified: Instant = Instant.now().minusSeconds(60)
+  ): Instant = {
+    createFileContaining(contents, path)
+    Files.setLastModifiedTime(path, FileTime.from(modified))
+    modified
+  }
+
+  /** Overwrites a file, setting its modification time. */
+  def rewriteKeepingTime(
+    contents: String,
+    path: Path,
+    modified: Instant
+  ): Unit = {
+    Files.write(path, contents.getBytes(StandardCharsets.UTF_8))
+    Files.setLastModifiedTime(path, FileTime.from(modified))
+  }
+
+  def expectedDigest(path: Path): Seq[Byte] =
+    MessageDigest
+      .getInstance("SHA3-224")
+      .digest(Files.readAllBytes(path))
+      .toSeq
+
   trait TestCtx {
 
     val testDirPath = Files.createTempDirectory(null)
@@ -1025,6 +1111,14 @@ class FileSystemSpec
       LoggerFactory.getLogger(classOf[FileSystemSpec])
     )
 
+    def digestOf(path: Path): Seq[Byte] =
+      objectUnderTest
+        .digest(path.toFile)
+        .unsafeRunSync()
+        .getOrElse(fail("Should be Right"))
+        .bytes
+        .toSeq
+
   }
 
 }
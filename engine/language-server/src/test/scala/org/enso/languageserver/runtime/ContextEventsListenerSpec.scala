@@ -251,6 +251,123 @@ class ContextEventsListenerSpec
       )
     }
 
+    "drop superseded expression updates" taggedAs Retry in withEventsListener(
+      0.seconds
+    ) { (clientId, contextId, router, _, listener) =>
+      def update(payload: Api.ExpressionUpdate.Payload) =
+        Api.ExpressionUpdates(
+          contextId,
+          Set(
+            Api.ExpressionUpdate(
+              Suggestions.method.externalId.get,
+              None,
+              None,
+              Vector(),
+              false,
+              false,
+              payload
+            )
+          )
+        )
+
+      listener ! update(Api.ExpressionUpdate.Payload.Pending(None, None))
+      listener ! update(Api.ExpressionUpdate.Payload.Value())
+      listener ! ContextEventsListener.RunExpressionUpdates
+
+      router.expectMsg(
+        DeliverToJsonController(
+          clientId,
+          ExpressionUpdatesNotification(
+            contextId,
+            Vector(
+              ContextRegistryProtocol.ExpressionUpdate(
+                Suggestions.method.externalId.get,
+                Vector(),
+                None,
+                Vector(),
+                false,
+                ContextRegistryProtocol.ExpressionUpdate.Payload
+                  .Value(None, None)
+              )
+            )
+          )
+        )
+      )
+    }
+
+    "limit the size of expression update batches" taggedAs Retry in withEventsListener(
+      0.seconds,
+      maxBatchSize = 1
+    ) { (clientId, contextId, router, _, listener) =>
+      def update(expressionId: UUID) =
+        Api.ExpressionUpdate(
+          expressionId,
+          None,
+          None,
+          Vector(),
+          false,
+          false,
+          Api.ExpressionUpdate.Payload.Value()
+        )
+      def notification(expressionId: UUID) =
+        DeliverToJsonController(
+          clientId,
+          ExpressionUpdatesNotification(
+            contextId,
+            Vector(
+              ContextRegistryProtocol.ExpressionUpdate(
+                expressionId,
+                Vector(),
+                None,
+                Vector(),
+                false,
+                ContextRegistryProtocol.ExpressionUpdate.Payload
+                  .Value(None, None)
+              )
+            )
+          )
+        )
+
+      listener ! Api.ExpressionUpdates(
+        contextId,
+        Set(update(Suggestions.method.externalId.get))
+      )
+      listener ! Api.ExpressionUpdates(
+        contextId,
+        Set(update(Suggestions.local.externalId.get))
+      )
+
+      listener ! ContextEventsListener.RunExpressionUpdates
+      router.expectMsg(notification(Suggestions.method.externalId.get))
+      listener ! ContextEventsListener.RunExpressionUpdates
+      router.expectMsg(notification(Suggestions.local.externalId.get))
+      listener ! ContextEventsListener.RunExpressionUpdates
+      router.expectNoMessage()
+    }
+
+    "drop superseded visualization updates" taggedAs Retry in withEventsListener(
+      0.seconds,
+      visualizationsSendRate = 300.millis
+    ) { (clientId, contextId, router, _, listener) =>
+      val ctx = Api.VisualizationContext(
+        UUID.randomUUID(),
+        contextId,
+        UUID.randomUUID()
+      )
+
+      listener ! Api.VisualizationUpdate(ctx, Array[Byte](1, 2, 3))
+      listener ! Api.VisualizationUpdate(ctx, Array[Byte](2, 3, 4))
+
+      val message = router.expectMsgType[DeliverToBinaryController[_]]
+      message.payload match {
+        case VisualizationUpdate(_, data) =>
+          data shouldEqual Array[Byte](2, 3, 4)
+        case other =>
+          fail(s"Unexpected payload $other")
+      }
+      router.expectNoMessage()
+    }
+
     "register oneshot visualization" taggedAs Retry in withEventsListener {
       (clientId, contextId, router, registry, listener) =>
         val ctx = Api.VisualizationContext(
@@ -507,7 +624,11 @@ class ContextEventsListenerSpec
   ): Unit =
     withEventsListener(100.millis)(test)
 
-  def withEventsListener(updatesSendRate: FiniteDuration)(
+  def withEventsListener(
+    updatesSendRate: FiniteDuration,
+    visualizationsSendRate: FiniteDuration = 50.millis,
+    maxBatchSize: Int                      = 1000
+  )(
     test: (UUID, UUID, TestProbe, TestProbe, ActorRef) => Any
   ): Unit = {
     val testContentRoot = Files.createTempDirectory(null).toRealPath()
@@ -533,7 +654,9 @@ class ContextEventsListenerSpec
         newJsonSession(clientId),
         contextId,
         router.ref,
-        updatesSendRate
+        updatesSendRate,
+        visualizationsSendRate,
+        maxBatchSize
       )
     )
 
@@ -1432,6 +1432,30 @@ object Runtime {
     @named("getTypeGraphResponse")
     final case class GetTypeGraphResponse(graph: TypeGraph) extends ApiResponse
 
+    /** A request for the statistics of the runtime value cache. */
+    @named("getRuntimeCacheStatisticsRequest")
+    final case class GetRuntimeCacheStatisticsRequest() extends ApiRequest
+
+    /** The statistics of the runtime value cache.
+      *
+      * @param budget the memory budget of the cache in bytes, 0 if disabled
+      * @param retainedBytes the estimated size of values held within the budget
+      * @param retainedEntries the number of values held within the budget
+      * @param hits the number of lookups that found a cached value
+      * @param misses the number of lookups of cacheable expressions that
+      * found no value
+      * @param evictions the number of values evicted to fit into the budget
+      */
+    @named("getRuntimeCacheStatisticsResponse")
+    final case class GetRuntimeCacheStatisticsResponse(
+      budget: Long,
+      retainedBytes: Long,
+      retainedEntries: Int,
+      hits: Long,
+      misses: Long,
+      evictions: Long
+    ) extends ApiResponse
+
     /** Signals that a new library has been imported, which means its content
       * root should be registered.
       *
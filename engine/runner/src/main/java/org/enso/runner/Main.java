@@ -30,6 +30,7 @@ import org.enso.common.ContextFactory;
 import org.enso.common.DebugServerInfo;
 import org.enso.common.HostEnsoUtils;
 import org.enso.common.LanguageInfo;
+import org.enso.common.SamplingProfilerService;
 import org.enso.distribution.DistributionManager;
 import org.enso.distribution.Environment;
 import org.enso.editions.DefaultEdition;
@@ -106,6 +107,9 @@ public class Main {
 
   private static final org.slf4j.Logger logger = LoggerFactory.getLogger(Main.class);
 
+  /** Profiling of Enso methods requested by {@code --profiling-path}, or {@code null}. */
+  private ProfilingConfig ensoProfiling;
+
   Main() {}
 
   private static boolean isDevBuild() {
@@ -227,7 +231,10 @@ public class Main {
             .numberOfArgs(1)
             .argName("file")
             .longOpt(PROFILING_PATH)
-            .desc("The path to the profiling file.")
+            .desc(
+                "The path to the profiling file. Files ending with .json (speedscope) or"
+                    + " .folded (collapsed stacks) record Enso methods, other files record the"
+                    + " JVM.")
             .build();
     var lsProfilingTimeOption =
         cliOptionBuilder()
@@ -735,6 +742,12 @@ public class Main {
             .warningsLimit(warningsLimit)
             .options(options);
 
+    if (ensoProfiling != null) {
+      var duration = ensoProfiling.profilingTime();
+      factory.samplingProfiler(
+          ensoProfiling.profilingPath().get().toAbsolutePath().toString(),
+          duration.isDefined() ? (int) duration.get().toSeconds() : 0);
+    }
     if (inspect) {
       if (enableDebugServer) {
         println("Cannot use --inspect and --repl and --run at once");
@@ -1475,6 +1488,13 @@ public class Main {
       }
       try {
         var conf = parseProfilingConfig(line);
+        if (conf.profilingPath().isDefined()
+            && SamplingProfilerService.Format.forFileName(conf.profilingPath().get().toString())
+                != null) {
+          // Enso methods are sampled by an instrument of the context created in handleRun
+          ensoProfiling = conf;
+          conf = new ProfilingConfig(scala.Option.empty(), scala.Option.empty());
+        }
         try {
           withProfiling(
               conf,
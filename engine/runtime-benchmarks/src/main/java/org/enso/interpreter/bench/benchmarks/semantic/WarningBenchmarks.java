@@ -34,6 +34,7 @@ public class WarningBenchmarks {
   private static final int INPUT_DIFF_VEC_SIZE = 10_000;
   private Context ctx;
   private Value vecSumBench;
+  private Value vecMapBench;
 
   private Value createVec;
   private Value mapVecWithWarnings;
@@ -41,6 +42,7 @@ public class WarningBenchmarks {
   private Value sameWarningVec;
   private Value randomVec;
   private Value randomElemsWithWarningsVec;
+  private Value randomElemsWithFewWarningsVec;
   private Value constElem;
   private Value constElemWithWarning;
 
@@ -80,6 +82,10 @@ public class WarningBenchmarks {
         vec_sum_bench : Vector Integer -> Integer
         vec_sum_bench vec =
             vec.fold 0 (x->y->x+y)
+
+        vec_map_bench : Vector Integer -> Integer
+        vec_map_bench vec =
+            vec.map (x-> x + 1) . map (x-> x - 1) . fold 0 (x->y->x+y)
         """;
 
     var setupCode =
@@ -102,6 +108,12 @@ public class WarningBenchmarks {
 
         map_vector_with_warnings vec = Runtime.no_inline <|
             vec.map (e-> elem_with_warning e)
+
+        map_vector_with_few_warnings vec = Runtime.no_inline <|
+            vec.map e->
+                w1 = Warning.attach "Foo!" e
+                w2 = Warning.attach "Bar!" w1
+                Warning.attach "Baz!" w2
         """);
 
     // generate random vector
@@ -133,12 +145,20 @@ public class WarningBenchmarks {
         Objects.requireNonNull(
             setupModule.invokeMember(MethodNames.Module.EVAL_EXPRESSION, randomIntVectorName));
     randomElemsWithWarningsVec = mapVecWithWarnings.execute(randomVec);
+    randomElemsWithFewWarningsVec =
+        Objects.requireNonNull(
+                setupModule.invokeMember(
+                    MethodNames.Module.EVAL_EXPRESSION, "map_vector_with_few_warnings"))
+            .execute(randomVec);
 
     var benchSrc = SrcUtil.source(benchmarkName + "_Bench", benchCode);
     Value benchModule = ctx.eval(benchSrc);
     vecSumBench =
         Objects.requireNonNull(
             benchModule.invokeMember(MethodNames.Module.EVAL_EXPRESSION, "vec_sum_bench"));
+    vecMapBench =
+        Objects.requireNonNull(
+            benchModule.invokeMember(MethodNames.Module.EVAL_EXPRESSION, "vec_map_bench"));
   }
 
   @TearDown
@@ -170,6 +190,16 @@ public class WarningBenchmarks {
     checkResult(res, randomVectorSum);
   }
 
+  /**
+   * Propagates a few warnings attached to every element through two intermediate values each, which
+   * is the typical shape of a table pipeline.
+   */
+  @Benchmark
+  public void fewWarningsRandomElementsVecMap() {
+    Value res = vecMapBench.execute(randomElemsWithFewWarningsVec);
+    checkResult(res, randomVectorSum);
+  }
+
   private static void checkResult(Value res, int expected) {
     if (res.asInt() != expected) {
       throw new AssertionError("Expected result: " + INPUT_VEC_SIZE * 42 + ", got: " + res.asInt());
@@ -1,5 +1,6 @@
 module org.enso.runtime.compiler {
   requires java.logging;
+  requires jdk.jfr;
   requires scala.library;
 
   requires org.enso.engine.common;
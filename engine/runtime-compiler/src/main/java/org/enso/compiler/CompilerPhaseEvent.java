@@ -0,0 +1,45 @@
+package org.enso.compiler;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.enso.pkg.QualifiedName;
+
+/**
+ * A flight recorder event covering a single compilation phase of a module.
+ *
+ * <p>The event is cheap to create when no recording is running: only {@link #begin()} and {@link
+ * #finish} are called and the module name is converted to a string only if the event is committed.
+ */
+@Name("org.enso.compiler.Phase")
+@Label("Compiler Phase")
+@Category({"Enso", "Compiler"})
+@Description("A compilation phase of a module")
+@StackTrace(false)
+final class CompilerPhaseEvent extends Event {
+  @Label("Module")
+  String module;
+
+  @Label("Phase")
+  String phase;
+
+  CompilerPhaseEvent(String phase) {
+    this.phase = phase;
+  }
+
+  /**
+   * Ends the phase and commits the event if it is recorded.
+   *
+   * @param moduleName the name of the compiled module
+   */
+  void finish(QualifiedName moduleName) {
+    end();
+    if (shouldCommit()) {
+      module = moduleName.toString();
+      commit();
+    }
+  }
+}
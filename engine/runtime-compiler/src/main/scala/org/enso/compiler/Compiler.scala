@@ -25,7 +25,12 @@ import org.enso.compiler.core.EnsoParser
 import org.enso.compiler.data.CompilerConfig
 import org.enso.compiler.pass.PassManager
 import org.enso.compiler.pass.analyse._
-import org.enso.compiler.phase.{ImportResolver, ImportResolverAlgorithm}
+import org.enso.compiler.phase.{
+  ImportResolver,
+  ImportResolverAlgorithm,
+  IncrementalCompilation,
+  ModulePassScheduler
+}
 import org.enso.editions.LibraryName
 import org.enso.pkg.QualifiedName
 import org.enso.common.CompilationStage
@@ -48,6 +53,8 @@ import java.util.concurrent.{
 }
 import java.util.logging.Level
 
+import scala.collection.mutable
+
 /** This class encapsulates the static transformation processes that take place
   * on source code, including parsing, desugaring, type-checking, static
   * analysis, and optimisation.
@@ -63,6 +70,7 @@ class Compiler(
   private val passes: Passes                   = new Passes(config)
   private val passManager: PassManager         = passes.passManager
   private val importResolver: ImportResolver   = new ImportResolver(this)
+  private val incrementalCompilation           = new IncrementalCompilation
   private val irCachingEnabled                 = !context.isIrCachingDisabled
   private val useGlobalCacheLocations          = context.isUseGlobalCacheLocations
   private val isInteractiveMode                = context.isInteractiveMode
@@ -74,19 +82,22 @@ class Compiler(
   /** Java accessor */
   def getConfig(): CompilerConfig = config
 
-  /** The thread pool that handles parsing of modules. */
-  private val pool: ExecutorService = if (config.parallelParsing) {
-    new ThreadPoolExecutor(
-      Compiler.startingThreadCount,
-      Compiler.maximumThreadCount,
-      Compiler.threadKeepalive,
-      TimeUnit.SECONDS,
-      new LinkedBlockingDeque[Runnable](),
-      (runnable: Runnable) => {
-        context.createThread(runnable)
-      }
-    )
-  } else null
+  /** The thread pool that handles parsing and compilation of modules. */
+  private val pool: ExecutorService =
+    if (config.parallelParsing || config.parallelCompilation) {
+      val executor = new ThreadPoolExecutor(
+        Compiler.parallelism,
+        Compiler.maximumThreadCount,
+        Compiler.threadKeepalive,
+        TimeUnit.SECONDS,
+        new LinkedBlockingDeque[Runnable](),
+        (runnable: Runnable) => {
+          context.createThread(runnable)
+        }
+      )
+      executor.allowCoreThreadTimeOut(true)
+      executor
+    } else null
 
   /** Duplicates this compiler with a different config.
     * @param newConfig Configuration to be used in the duplicated Compiler.
@@ -312,84 +323,14 @@ class Compiler(
         ensureParsed(module, !context.isInteractive(module))
       }
     }
-    requiredModules.foreach { module =>
-      if (
-        !context
-          .getCompilationStage(module)
-          .isAtLeast(
-            CompilationStage.AFTER_GLOBAL_TYPES
-          )
-      ) {
-
-        val moduleContext = ModuleContext(
-          module          = module,
-          freshNameSupply = Some(freshNameSupply),
-          compilerConfig  = config
-        )
-        val compilerOutput =
-          runGlobalTypingPasses(context.getIr(module), moduleContext)
-
-        context.updateModule(
-          module,
-          { u =>
-            u.ir(compilerOutput)
-            u.compilationStage(CompilationStage.AFTER_GLOBAL_TYPES)
-          }
-        )
-      }
-    }
-    requiredModules.foreach { module =>
-      if (
-        !context
-          .getCompilationStage(module)
-          .isAtLeast(
-            CompilationStage.AFTER_STATIC_PASSES
-          )
-      ) {
-
-        val moduleContext = ModuleContext(
-          module          = module,
-          freshNameSupply = Some(freshNameSupply),
-          compilerConfig  = config,
-          pkgRepo         = Some(packageRepository)
-        )
-        val compilerOutput =
-          runMethodBodyPasses(context.getIr(module), moduleContext)
-        context.updateModule(
-          module,
-          { u =>
-            u.ir(compilerOutput)
-            u.compilationStage(CompilationStage.AFTER_STATIC_PASSES)
-          }
-        )
-      }
-    }
-
-    requiredModules.foreach { module =>
-      if (
-        !context
-          .getCompilationStage(module)
-          .isAtLeast(
-            CompilationStage.AFTER_TYPE_INFERENCE_PASSES
-          )
-      ) {
-
-        val moduleContext = ModuleContext(
-          module          = module,
-          freshNameSupply = Some(freshNameSupply),
-          compilerConfig  = config,
-          pkgRepo         = Some(packageRepository)
-        )
-        val compilerOutput =
-          runFinalTypeInferencePasses(context.getIr(module), moduleContext)
-        context.updateModule(
-          module,
-          { u =>
-            u.ir(compilerOutput)
-            u.compilationStage(CompilationStage.AFTER_TYPE_INFERENCE_PASSES)
-          }
-        )
-      }
+    val stripped = requiredModules.flatMap(prepareIncrementalCompilation)
+    try {
+      runModulePasses(requiredModules)
+      requiredModules.foreach(completeIncrementalCompilation)
+    } catch {
+      case e: Throwable =>
+        abandonIncrementalCompilation(requiredModules, stripped)
+        throw e
     }
 
     runErrorHandling(requiredModules)
@@ -403,7 +344,9 @@ class Compiler(
           )
       ) {
         val moduleScopeBuilder = module.getScopeBuilder()
-        context.runStubsGenerator(module, moduleScopeBuilder)
+        phase(module, "stubs") {
+          context.runStubsGenerator(module, moduleScopeBuilder)
+        }
         context.updateModule(
           module,
           { u =>
@@ -432,7 +375,9 @@ class Compiler(
             context.getModuleName(module)
           )
 
-          context.truffleRunCodegen(module, moduleScopeBuilder, config)
+          phase(module, "codegen") {
+            context.truffleRunCodegen(module, moduleScopeBuilder, config)
+          }
         }
         context.updateModule(
           module,
@@ -477,6 +422,216 @@ class Compiler(
     requiredModules
   }
 
+  /** Runs the module-local pass groups on the provided modules.
+    *
+    * When parallel compilation is enabled, independent modules are processed
+    * concurrently following the import graph. See [[ModulePassScheduler]].
+    *
+    * @param modules the modules to process, in the compilation order
+    */
+  private def runModulePasses(modules: List[Module]): Unit = {
+    val scheduler = new ModulePassScheduler(modules, importedModules)
+    val executor  = if (config.parallelCompilation) pool else null
+    val stages: List[Module => Unit] = List(
+      runModuleStage(
+        _,
+        CompilationStage.AFTER_GLOBAL_TYPES,
+        "globalTypingPasses",
+        withPackageRepository = false,
+        runPasses             = runGlobalTypingPasses
+      ),
+      runModuleStage(
+        _,
+        CompilationStage.AFTER_STATIC_PASSES,
+        "functionBodyPasses",
+        withPackageRepository = true,
+        runPasses             = runMethodBodyPasses
+      ),
+      runModuleStage(
+        _,
+        CompilationStage.AFTER_TYPE_INFERENCE_PASSES,
+        "typeInferencePasses",
+        withPackageRepository = true,
+        runPasses             = runFinalTypeInferencePasses
+      )
+    )
+    scheduler.run(stages, executor)
+  }
+
+  /** Removes the methods unchanged since the previous compilation from an
+    * edited module, so that the module passes only process the changed ones.
+    *
+    * Only the modules which can be edited in the IDE, that is the modules of
+    * the project and the modules being edited interactively, are compiled
+    * incrementally. See [[IncrementalCompilation]].
+    *
+    * @param module the module about to be processed by the module passes
+    * @return the module along with its complete IR and compilation stage, if
+    *         some methods were removed
+    */
+  private def prepareIncrementalCompilation(
+    module: Module
+  ): Option[(Module, IRModule, CompilationStage)] = {
+    val name = context.getModuleName(module)
+    val isIncremental =
+      isInteractiveMode && !config.staticTypeInferenceEnabled &&
+      !context.isSynthetic(module) &&
+      (context.isInteractive(module) || context.isModuleInRootPackage(module))
+    if (!isIncremental) {
+      incrementalCompilation.forget(name)
+      None
+    } else if (
+      context
+        .getCompilationStage(module)
+        .isBefore(CompilationStage.AFTER_GLOBAL_TYPES)
+    ) {
+      val prepared = phase(module, "incremental") {
+        incrementalCompilation.prepare(
+          name,
+          context.getIr(module),
+          context.getCharacters(module),
+          transitiveImports(module).map(m =>
+            (context.getModuleName(m), context.getIr(m))
+          )
+        )
+      }
+      context.log(
+        Compiler.defaultLogLevel,
+        "Reusing {0} of {1} compiled methods of module [{2}].",
+        Array[Any](prepared.reused, prepared.methods, name)
+      )
+      if (prepared.reused == 0) {
+        None
+      } else {
+        val complete =
+          (module, context.getIr(module), context.getCompilationStage(module))
+        context.updateModule(module, _.ir(prepared.ir))
+        Some(complete)
+      }
+    } else {
+      None
+    }
+  }
+
+  /** Restores the modules whose module passes failed during an incremental
+    * compilation.
+    *
+    * The modules missing their reused methods get their complete IR back, and
+    * are compiled from scratch the next time.
+    *
+    * @param modules the modules processed by the module passes
+    * @param stripped the modules whose methods were removed, along with their
+    *                 complete IR and compilation stage
+    */
+  private def abandonIncrementalCompilation(
+    modules: List[Module],
+    stripped: List[(Module, IRModule, CompilationStage)]
+  ): Unit = {
+    modules.foreach(m =>
+      incrementalCompilation.forget(context.getModuleName(m))
+    )
+    stripped.foreach { case (module, ir, stage) =>
+      context.updateModule(
+        module,
+        { u =>
+          u.ir(ir)
+          u.compilationStage(stage)
+        }
+      )
+    }
+  }
+
+  /** Puts the reused methods back into a module compiled incrementally.
+    *
+    * The dataflow and cache preference analyses share their results across
+    * the whole module, so they are run again on the complete IR.
+    *
+    * @param module the module processed by the module passes
+    */
+  private def completeIncrementalCompilation(module: Module): Unit = {
+    if (
+      context
+        .getCompilationStage(module)
+        .isAtLeast(CompilationStage.AFTER_TYPE_INFERENCE_PASSES)
+    ) {
+      val moduleContext = ModuleContext(
+        module          = module,
+        freshNameSupply = Some(freshNameSupply),
+        compilerConfig  = config,
+        pkgRepo         = Some(packageRepository)
+      )
+      val ir = context.getIr(module)
+      val completed = incrementalCompilation.complete(
+        context.getModuleName(module),
+        ir,
+        spliced =>
+          CachePreferenceAnalysis.runModule(
+            DataflowAnalysis.runModule(spliced, moduleContext),
+            moduleContext
+          )
+      )
+      if (completed ne ir) {
+        context.updateModule(module, _.ir(completed))
+      }
+    }
+  }
+
+  /** Collects the modules a module depends on, directly or through other
+    * imported modules.
+    *
+    * @param module the module to start from
+    * @return the modules imported by `module`, directly or indirectly
+    */
+  private def transitiveImports(module: Module): List[Module] = {
+    val seen  = mutable.LinkedHashSet[Module](module)
+    val stack = mutable.Stack[Module](module)
+    while (stack.nonEmpty) {
+      importedModules(stack.pop()).foreach { imported =>
+        if (seen.add(imported)) {
+          stack.push(imported)
+        }
+      }
+    }
+    seen.toList.tail
+  }
+
+  private def runModuleStage(
+    module: Module,
+    stage: CompilationStage,
+    phaseName: String,
+    withPackageRepository: Boolean,
+    runPasses: (IRModule, ModuleContext) => IRModule
+  ): Unit = {
+    if (!context.getCompilationStage(module).isAtLeast(stage)) {
+      val moduleContext = ModuleContext(
+        module          = module,
+        freshNameSupply = Some(freshNameSupply),
+        compilerConfig  = config,
+        pkgRepo =
+          if (withPackageRepository) Some(packageRepository) else None
+      )
+      val compilerOutput = phase(module, phaseName) {
+        runPasses(context.getIr(module), moduleContext)
+      }
+      context.updateModule(
+        module,
+        { u =>
+          u.ir(compilerOutput)
+          u.compilationStage(stage)
+        }
+      )
+    }
+  }
+
+  private def importedModules(module: Module): List[Module] = {
+    val bindings = module.getBindingsMap
+    if (bindings == null) Nil
+    else
+      bindings.resolvedImports.flatMap(
+        _.targets.map(_.module.unsafeAsModule())
+      )
+  }
+
   private def runImportsAndExportsResolution(
     module: Module,
     bindingsCachingEnabled: Boolean
@@ -593,13 +748,30 @@ class Compiler(
     context.updateModule(module, _.resetScope())
 
     if (
-      useCaches && context.getIdMap(module) == null && context
-        .deserializeModule(this, module)
+      useCaches && context.getIdMap(module) == null && phase(
+        module,
+        "deserialize"
+      )(context.deserializeModule(this, module))
     ) {
       return
     }
 
-    uncachedParseModule(module, isGenDocs)
+    phase(module, "parse")(uncachedParseModule(module, isGenDocs))
+  }
+
+  /** Runs a compilation phase of a module, reporting it as a
+    * [[CompilerPhaseEvent]] to the flight recorder.
+    *
+    * @param module the module being compiled
+    * @param name the name of the phase
+    * @param action the phase to run
+    * @return the result of the phase
+    */
+  private def phase[A](module: Module, name: String)(action: => A): A = {
+    val event = new CompilerPhaseEvent(name)
+    event.begin()
+    try action
+    finally event.finish(context.getModuleName(module))
   }
 
   /** Retrieve module bindings from cache, if available.
@@ -905,12 +1077,20 @@ class Compiler(
   private def runErrorHandling(
     modules: List[Module]
   ): Unit = {
-    val diagnostics = modules.flatMap { module =>
-      val errors =
-        if (context.wasLoadedFromCache(module)) List()
-        else gatherDiagnostics(module)
-      List((module, errors))
-    }
+    val gatheringTasks: List[CompletableFuture[List[Diagnostic]]] =
+      modules.map { module =>
+        val gather = () =>
+          if (context.wasLoadedFromCache(module)) List()
+          else gatherDiagnostics(module)
+        if (config.parallelCompilation) {
+          CompletableFuture.supplyAsync(() => gather(), pool)
+        } else {
+          CompletableFuture.completedFuture(gather())
+        }
+      }
+    // diagnostics are reported in the order of modules, regardless of which
+    // gathering task finished first
+    val diagnostics = modules.zip(joinAllFutures(gatheringTasks).get())
 
     val hasErrors = reportDiagnostics(diagnostics)
     if (hasErrors.nonEmpty && config.isStrictErrors) {
@@ -1106,6 +1286,12 @@ object Compiler {
   /** The number of threads at compiler start. */
   val startingThreadCount: Integer = 2
 
+  /** The number of threads used for parsing and compilation of modules. */
+  val parallelism: Integer = Math.max(
+    startingThreadCount,
+    Math.min(Runtime.getRuntime.availableProcessors(), maximumThreadCount)
+  )
+
   /** The thread keep-alive time in seconds. */
   val threadKeepalive: Long = 2
 }
@@ -2,11 +2,13 @@ package org.enso.compiler.context
 
 import org.enso.compiler.core.ir.Name
 
+import java.util.concurrent.atomic.AtomicLong
+
 /** This class provides a supply of fresh names guaranteed not to exist in this
-  * program.
+  * program. The supply is shared by modules compiled in parallel.
   */
 class FreshNameSupply {
-  private var counter: Long = 0
+  private val counter = new AtomicLong()
 
   private def mkName(
     numId: Long,
@@ -31,8 +33,6 @@ class FreshNameSupply {
     isMethod: Boolean  = false,
     from: Option[Name] = None
   ): Name.Literal = {
-    val num = counter
-    counter += 1
-    mkName(num, isMethod, from)
+    mkName(counter.getAndIncrement(), isMethod, from)
   }
 }
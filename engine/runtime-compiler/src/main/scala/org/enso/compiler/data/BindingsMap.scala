@@ -54,7 +54,7 @@ case class BindingsMap(
   }
 
   /** Set to non-null after deserialization to signal that conversion to concrete values is needed */
-  private var pendingRepository: PackageRepository = null
+  @volatile private var pendingRepository: PackageRepository = null
 
   /** Symbols exported by [[currentModule]].
     */
@@ -103,14 +103,21 @@ case class BindingsMap(
     * @return `this` with module references converted to concrete
     */
   private def ensureConvertedToConcrete(): Option[BindingsMap] = {
-    val r = pendingRepository
-    if (r != null) {
-      toConcrete(r, r.getModuleMap).map { b =>
-        pendingRepository     = null
-        this._currentModule   = b._currentModule
-        this._exportedSymbols = b._exportedSymbols
-        this._resolvedImports = b._resolvedImports
-        this
+    if (pendingRepository != null) {
+      // modules compiled in parallel may read bindings of the same module
+      synchronized {
+        val r = pendingRepository
+        if (r != null) {
+          toConcrete(r, r.getModuleMap).map { b =>
+            this._currentModule   = b._currentModule
+            this._exportedSymbols = b._exportedSymbols
+            this._resolvedImports = b._resolvedImports
+            pendingRepository     = null
+            this
+          }
+        } else {
+          Some(this)
+        }
       }
     } else {
       Some(this)
@@ -13,6 +13,7 @@ import java.io.PrintStream
   * @param isStrictErrors if true, presence of any Error in IR will result in an exception
   * @oaram isLintingDisabled if true, compilation should not run any linting passes
   * @param outputRedirect redirection of the output of warnings and errors of compiler
+  * @param parallelCompilation whether or not independent modules are compiled in parallel
   */
 case class CompilerConfig(
   autoParallelismEnabled: Boolean     = false,
@@ -22,7 +23,8 @@ case class CompilerConfig(
   dumpIrs: Boolean                    = false,
   isStrictErrors: Boolean             = false,
   isLintingDisabled: Boolean          = false,
-  outputRedirect: Option[PrintStream] = None
+  outputRedirect: Option[PrintStream] = None,
+  parallelCompilation: Boolean        = false
 ) {
   def parallelParsing: Boolean = false
 }
@@ -0,0 +1,346 @@
+package org.enso.compiler.phase
+
+import org.enso.compiler.core.IR
+import org.enso.compiler.core.Implicits.AsMetadata
+import org.enso.compiler.core.ir.{Function, Name, Type, Module => IRModule}
+import org.enso.compiler.core.ir.module.scope.Definition
+import org.enso.compiler.core.ir.module.scope.definition.Method
+import org.enso.compiler.pass.resolve.{DocumentationComments, ModuleAnnotations}
+import org.enso.pkg.QualifiedName
+
+import java.lang.ref.WeakReference
+import java.nio.ByteBuffer
+import java.nio.charset.StandardCharsets
+import java.security.MessageDigest
+import java.util.concurrent.ConcurrentHashMap
+import java.util.function.Consumer
+
+import scala.collection.immutable.ArraySeq
+
+/** Reuses the compiled IR of the unchanged top-level methods of modules that
+  * are recompiled after an edit.
+  *
+  * Once a module is parsed and its imports are resolved, [[prepare]] compares
+  * its top-level definitions with the ones of the previous compilation. A
+  * method, together with the annotations and the type signature preceding it,
+  * is unchanged if its source text, position, documentation and identifiers
+  * are the same. As the compiled IR refers to the other definitions of the
+  * module and to the imported modules, it is only reused if the signature of
+  * the module (its imports, exports, types and the names and arguments of its
+  * methods) is unchanged, and none of the modules it depends on has been
+  * recompiled since. The unchanged methods are removed from the IR, so that
+  * the module passes only process the edited ones. [[complete]] then puts the
+  * previously compiled methods back in their place and re-runs the analyses
+  * whose results are shared by the whole module.
+  */
+final class IncrementalCompilation {
+  import IncrementalCompilation._
+
+  private val compiled = new ConcurrentHashMap[QualifiedName, Compiled]()
+  private val pending  = new ConcurrentHashMap[QualifiedName, Pending]()
+
+  /** Removes the methods which were compiled before from the module.
+    *
+    * @param name the name of the module
+    * @param ir the IR of the module after parsing and import resolution
+    * @param source the source of the module
+    * @param dependencies the IR of the modules the module depends on
+    * @return the IR to run the module passes on, along with the number of the
+    *         reused methods
+    */
+  def prepare(
+    name: QualifiedName,
+    ir: IRModule,
+    source: CharSequence,
+    dependencies: Iterable[(QualifiedName, IRModule)]
+  ): Prepared = {
+    val candidates = findCandidates(ir, source)
+    val signature  = signatureOf(ir)
+    val previous   = compiled.get(name)
+    val reused =
+      if (
+        previous != null && previous.signature == signature &&
+        previous.dependenciesUnchanged(dependencies)
+      ) {
+        candidates.filter(previous.canReuse)
+      } else Vector()
+
+    pending.put(
+      name,
+      Pending(
+        signature,
+        candidates.map(c => (c.key, c.fingerprint)).toMap,
+        dependencies.map { case (n, m) => (n, new WeakReference(m)) }.toMap,
+        reused.map(c => previous.methods(c.key).bindings)
+      )
+    )
+
+    if (reused.isEmpty) {
+      Prepared(ir, 0, candidates.length)
+    } else {
+      val removed =
+        java.util.Collections.newSetFromMap(
+          new java.util.IdentityHashMap[Definition, java.lang.Boolean]()
+        )
+      reused.foreach(_.members.foreach(removed.add))
+      Prepared(
+        ir.copy(bindings = ir.bindings.filterNot(removed.contains)),
+        reused.length,
+        candidates.length
+      )
+    }
+  }
+
+  /** Puts the reused methods back into the compiled module.
+    *
+    * @param name the name of the module
+    * @param ir the IR of the module after all the module passes
+    * @param reanalyse runs the analyses of the whole module on the complete IR
+    * @return the complete IR of the module
+    */
+  def complete(
+    name: QualifiedName,
+    ir: IRModule,
+    reanalyse: IRModule => IRModule
+  ): IRModule = {
+    val done = pending.remove(name)
+    if (done == null) {
+      ir
+    } else {
+      val result =
+        if (done.reused.isEmpty) ir
+        else reanalyse(ir.copy(bindings = splice(ir.bindings, done.reused)))
+      val methods = result.bindings
+        .collect {
+          case m: Method.Explicit if m.identifiedLocation != null => m
+        }
+        .groupBy(_.identifiedLocation.start)
+      compiled.put(
+        name,
+        Compiled(
+          done.signature,
+          done.fingerprints.collect {
+            case (key, fingerprint) if methods.contains(key) =>
+              (key, CompiledMethod(fingerprint, methods(key)))
+          },
+          done.dependencies
+        )
+      )
+      result
+    }
+  }
+
+  /** Drops the state kept for the module.
+    *
+    * @param name the name of the module
+    */
+  def forget(name: QualifiedName): Unit = {
+    compiled.remove(name)
+    pending.remove(name)
+  }
+}
+
+object IncrementalCompilation {
+
+  /** The result of preparing a module for compilation.
+    *
+    * @param ir the IR to run the module passes on
+    * @param reused the number of reused methods
+    * @param methods the number of methods in the module
+    */
+  case class Prepared(ir: IRModule, reused: Int, methods: Int)
+
+  /** A digest of a part of a module. */
+  private case class Fingerprint(digest: ArraySeq[Byte])
+
+  /** A method of a module, along with the bindings preceding it which are
+    * attached to it by the module passes.
+    *
+    * @param method the method definition
+    * @param members the method and the bindings preceding it
+    * @param fingerprint the fingerprint of the source of the members
+    */
+  private case class Candidate(
+    method: Method.Explicit,
+    members: Vector[Definition],
+    fingerprint: Fingerprint
+  ) {
+    def key: Int = method.identifiedLocation.start
+  }
+
+  /** The compiled IR of a method.
+    *
+    * @param fingerprint the fingerprint of the method source
+    * @param bindings the compiled bindings, including the generated static
+    *                 wrapper of an instance method
+    */
+  private case class CompiledMethod(
+    fingerprint: Fingerprint,
+    bindings: List[Definition]
+  )
+
+  private case class Compiled(
+    signature: Fingerprint,
+    methods: Map[Int, CompiledMethod],
+    dependencies: Map[QualifiedName, WeakReference[IRModule]]
+  ) {
+    def canReuse(candidate: Candidate): Boolean =
+      methods.get(candidate.key).exists { compiled =>
+        compiled.fingerprint == candidate.fingerprint &&
+        compiled.bindings.forall {
+          case m: Method.Explicit =>
+            m.methodName.name == candidate.method.methodName.name
+          case _ => false
+        }
+      }
+
+    def dependenciesUnchanged(
+      current: Iterable[(QualifiedName, IRModule)]
+    ): Boolean =
+      current.size == dependencies.size && current.forall { case (n, m) =>
+        dependencies.get(n).exists(_.get() eq m)
+      }
+  }
+
+  private case class Pending(
+    signature: Fingerprint,
+    fingerprints: Map[Int, Fingerprint],
+    dependencies: Map[QualifiedName, WeakReference[IRModule]],
+    reused: Vector[List[Definition]]
+  )
+
+  private class Hasher {
+    private val digest = MessageDigest.getInstance("SHA-256")
+
+    def add(value: Int): Hasher = {
+      digest.update(ByteBuffer.allocate(4).putInt(value).array())
+      this
+    }
+
+    def add(text: String): Hasher = {
+      val bytes = text.getBytes(StandardCharsets.UTF_8)
+      add(bytes.length)
+      digest.update(bytes)
+      this
+    }
+
+    def result(): Fingerprint =
+      Fingerprint(ArraySeq.unsafeWrapArray(digest.digest()))
+  }
+
+  /** Finds the methods of the module which can be reused.
+    *
+    * The ascriptions and the generic annotations are attached to the method
+    * following them, so they are reused together with it.
+    */
+  private def findCandidates(
+    ir: IRModule,
+    source: CharSequence
+  ): Vector[Candidate] = {
+    val bindings   = ir.bindings.toVector
+    val candidates = Vector.newBuilder[Candidate]
+    var runStart   = -1
+    bindings.indices.foreach { i =>
+      bindings(i) match {
+        case _: Name.GenericAnnotation | _: Type.Ascription =>
+          if (runStart < 0) runStart = i
+        case method: Method.Explicit =>
+          val members = bindings.slice(if (runStart < 0) i else runStart, i + 1)
+          if (members.forall(_.identifiedLocation != null)) {
+            candidates += Candidate(
+              method,
+              members,
+              fingerprintOf(members, source)
+            )
+          }
+          runStart = -1
+        case _ =>
+          runStart = -1
+      }
+    }
+    candidates.result()
+  }
+
+  private def fingerprintOf(
+    members: Vector[Definition],
+    source: CharSequence
+  ): Fingerprint = {
+    val hasher = new Hasher
+    val start  = members.head.identifiedLocation.start
+    val end    = Math.min(members.last.identifiedLocation.end, source.length)
+    hasher.add(start).add(source.subSequence(start, end).toString)
+    val addLocation: Consumer[IR] = { node =>
+      val location = node.identifiedLocation
+      if (location != null) {
+        hasher.add(location.start).add(location.end)
+        location.id.foreach(id => hasher.add(id.toString))
+      }
+    }
+    members.foreach { member =>
+      member
+        .getMetadata(DocumentationComments)
+        .foreach(doc => hasher.add(doc.documentation))
+      member
+        .getMetadata(ModuleAnnotations)
+        .foreach(_.annotations.foreach(a => hasher.add(a.showCode())))
+      IR.preorder(member, addLocation)
+    }
+    hasher.result()
+  }
+
+  /** Computes the fingerprint of the parts of the module the compiled methods
+    * can depend on.
+    */
+  private def signatureOf(ir: IRModule): Fingerprint = {
+    val hasher = new Hasher
+    hasher.add(ir.isPrivate.toString)
+    ir.imports.foreach(i => hasher.add(i.showCode()))
+    ir.exports.foreach(e => hasher.add(e.showCode()))
+    ir.bindings.foreach {
+      case _: Name.GenericAnnotation | _: Type.Ascription =>
+      case method: Method.Explicit =>
+        hasher
+          .add(method.methodReference.showCode())
+          .add(method.isStatic.toString)
+          .add(method.isPrivate.toString)
+        method.body match {
+          case lambda: Function.Lambda =>
+            lambda.arguments.foreach(arg => hasher.add(arg.showCode()))
+          case _ =>
+        }
+      case conversion: Method.Conversion =>
+        hasher
+          .add(conversion.methodReference.showCode())
+          .add(conversion.sourceTypeName.showCode())
+      case other =>
+        hasher.add(other.showCode())
+    }
+    hasher.result()
+  }
+
+  /** Inserts the reused bindings among the compiled ones, following their
+    * order in the source.
+    */
+  private def splice(
+    bindings: List[Definition],
+    reused: Vector[List[Definition]]
+  ): List[Definition] = {
+    var remaining = reused.sortBy(_.head.identifiedLocation.start).toList
+    val result    = List.newBuilder[Definition]
+    bindings.foreach { binding =>
+      val location = binding.identifiedLocation
+      if (location != null) {
+        while (
+          remaining.nonEmpty &&
+          remaining.head.head.identifiedLocation.start < location.start
+        ) {
+          result ++= remaining.head
+          remaining = remaining.tail
+        }
+      }
+      result += binding
+    }
+    remaining.foreach(result ++= _)
+    result.result()
+  }
+}
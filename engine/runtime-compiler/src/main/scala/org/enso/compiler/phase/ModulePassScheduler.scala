@@ -0,0 +1,207 @@
+package org.enso.compiler.phase
+
+import org.enso.compiler.context.CompilerContext.Module
+
+import java.util.concurrent.{
+  CompletableFuture,
+  CompletionException,
+  ExecutionException,
+  Executor
+}
+
+import scala.collection.mutable
+
+/** Schedules module-local compilation stages of a set of modules.
+  *
+  * The passes of a module may read the results of the same stage of the
+  * modules it imports. Hence a stage of a module starts only once the module
+  * has finished its previous stage and all of its imports have finished the
+  * same stage. Modules importing each other form a cycle; such modules are
+  * grouped together and processed one after another. Independent groups are
+  * processed in parallel.
+  *
+  * @param modules the modules to compile, their order is used whenever the
+  *                modules are processed sequentially
+  * @param imports the function returning modules imported by a module
+  */
+final class ModulePassScheduler(
+  modules: List[Module],
+  imports: Module => Iterable[Module]
+) {
+  private val groups: Vector[ModulePassScheduler.Group] = findGroups()
+
+  /** Runs the stages on all the modules.
+    *
+    * Without an executor, each stage is run on all modules in the order of
+    * the `modules` list before the next stage starts. With an executor, the
+    * stages are run in parallel following the import graph. In both cases the
+    * first failure (in the order of stages and modules) is rethrown once all
+    * the work that doesn't depend on the failure is finished.
+    *
+    * Everything a stage writes for a module, like its IR and compilation
+    * stage, happens-before the later stages of the module, the same stage of
+    * the modules importing it, and the return from this method.
+    *
+    * If the calling thread is interrupted while waiting, the stages that have
+    * not started yet are skipped, the running ones are awaited, and an
+    * [[InterruptedException]] is thrown, so that no module is modified once
+    * this method returns.
+    *
+    * @param stages the module-local stages, in the order they should run
+    * @param executor the executor for parallel execution or `null`
+    */
+  @throws[InterruptedException]
+  def run(stages: List[Module => Unit], executor: Executor): Unit = {
+    if (executor == null) {
+      stages.foreach(stage => modules.foreach(stage))
+    } else {
+      runParallel(stages, executor)
+    }
+  }
+
+  private def runParallel(
+    stages: List[Module => Unit],
+    executor: Executor
+  ): Unit = {
+    val tasks = new ModulePassScheduler.RunningTasks
+    val done  = CompletableFuture.completedFuture[Void](null)
+    var previous: Vector[CompletableFuture[Void]] = groups.map(_ => done)
+    val scheduled = mutable.ArrayBuffer[CompletableFuture[Void]]()
+    stages.foreach { stage =>
+      val current = mutable.ArrayBuffer[CompletableFuture[Void]]()
+      // groups are ordered topologically, so the imports are already scheduled
+      groups.foreach { group =>
+        val prerequisites =
+          previous(group.index) +: group.imports.map(current(_))
+        current += CompletableFuture
+          .allOf(prerequisites: _*)
+          .thenRunAsync(
+            () => tasks.runUnlessCancelled(group.modules.foreach(stage)),
+            executor
+          )
+      }
+      scheduled ++= current
+      previous = current.toVector
+    }
+
+    try {
+      CompletableFuture.allOf(scheduled.toSeq: _*).get()
+    } catch {
+      case e: InterruptedException =>
+        tasks.cancelAndAwait()
+        throw e
+      case _: ExecutionException =>
+        scheduled.find(_.isCompletedExceptionally).foreach { failed =>
+          try failed.join()
+          catch { case e: CompletionException => throw e.getCause }
+        }
+    }
+  }
+
+  /** Splits the modules into strongly connected components of the import
+    * graph using the Tarjan's algorithm.
+    *
+    * @return the groups of modules in a topological order, imported modules
+    *         first
+    */
+  private def findGroups(): Vector[ModulePassScheduler.Group] = {
+    val order   = modules.zipWithIndex.toMap
+    val index   = mutable.HashMap[Module, Int]()
+    val lowLink = mutable.HashMap[Module, Int]()
+    val onStack = mutable.HashSet[Module]()
+    val stack   = mutable.Stack[Module]()
+    val groupOf = mutable.HashMap[Module, Int]()
+    val found   = mutable.ArrayBuffer[ModulePassScheduler.Group]()
+
+    def importsOf(module: Module): List[Module] =
+      imports(module).filter(order.contains).toList.distinct
+
+    def visit(module: Module): Unit = {
+      index(module)   = index.size
+      lowLink(module) = index(module)
+      stack.push(module)
+      onStack += module
+      importsOf(module).foreach { imported =>
+        if (!index.contains(imported)) {
+          visit(imported)
+          lowLink(module) = Math.min(lowLink(module), lowLink(imported))
+        } else if (onStack.contains(imported)) {
+          lowLink(module) = Math.min(lowLink(module), index(imported))
+        }
+      }
+      if (lowLink(module) == index(module)) {
+        val members = mutable.ListBuffer[Module]()
+        var member: Module = null
+        while (member ne module) {
+          member = stack.pop()
+          onStack -= member
+          members += member
+        }
+        val groupIndex = found.length
+        members.foreach(groupOf(_) = groupIndex)
+        val groupImports = members
+          .flatMap(importsOf)
+          .map(groupOf)
+          .filter(_ != groupIndex)
+          .distinct
+          .sorted
+          .toList
+        found += ModulePassScheduler.Group(
+          groupIndex,
+          members.toList.sortBy(order),
+          groupImports
+        )
+      }
+    }
+
+    modules.foreach(module => if (!index.contains(module)) visit(module))
+    found.toVector
+  }
+}
+
+object ModulePassScheduler {
+
+  /** Modules that are compiled together.
+    *
+    * @param index the position of the group in the topological order
+    * @param modules the modules of the group
+    * @param imports the indexes of groups imported by this group
+    */
+  private case class Group(index: Int, modules: List[Module], imports: List[Int])
+
+  /** Tracks the tasks being run, so that the tasks can be cancelled and the
+    * running ones awaited.
+    */
+  private class RunningTasks {
+    private var cancelled = false
+    private var running   = 0
+
+    /** Runs the task, unless the tasks have been cancelled. */
+    def runUnlessCancelled(task: => Unit): Unit = {
+      val started = synchronized {
+        if (!cancelled) running += 1
+        !cancelled
+      }
+      if (started) {
+        try task
+        finally synchronized {
+          running -= 1
+          notifyAll()
+        }
+      }
+    }
+
+    /** Prevents any further task from starting and waits for the running
+      * ones to finish, keeping the interrupted status of the thread.
+      */
+    def cancelAndAwait(): Unit = synchronized {
+      cancelled = true
+      var interrupted = false
+      while (running > 0) {
+        try wait()
+        catch { case _: InterruptedException => interrupted = true }
+      }
+      if (interrupted) Thread.currentThread().interrupt()
+    }
+  }
+}
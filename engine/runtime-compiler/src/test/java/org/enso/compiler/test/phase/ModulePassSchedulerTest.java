@@ -0,0 +1,406 @@
+package org.enso.compiler.test.phase;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.enso.common.CompilationStage;
+import org.enso.compiler.context.CompilerContext;
+import org.enso.compiler.core.ir.Module;
+import org.enso.compiler.data.BindingsMap;
+import org.enso.compiler.data.IdMap;
+import org.enso.compiler.phase.ModulePassScheduler;
+import org.enso.pkg.Package;
+import org.enso.pkg.QualifiedName;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import scala.Function1;
+import scala.jdk.javaapi.CollectionConverters;
+import scala.runtime.BoxedUnit;
+
+public class ModulePassSchedulerTest {
+  private ExecutorService executor;
+  private final Map<MockModule, List<MockModule>> imports = new HashMap<>();
+  private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+  @Before
+  public void createExecutor() {
+    executor = Executors.newFixedThreadPool(4);
+  }
+
+  @After
+  public void shutdownExecutor() throws InterruptedException {
+    executor.shutdownNow();
+    assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void sequentialRunProcessesStageByStageInModuleOrder() throws Exception {
+    var a = module("A");
+    var b = module("B", a);
+    var c = module("C");
+    run(List.of(c, b, a), null, recordingStages(2));
+    assertThat(events, contains("0:C", "0:B", "0:A", "1:C", "1:B", "1:A"));
+  }
+
+  @Test
+  public void stagesRunAfterTheImportedModulesFinishedTheSameStage() throws Exception {
+    // A diamond: D imports B and C, both importing A; E is independent.
+    var a = module("A");
+    var b = module("B", a);
+    var c = module("C", a);
+    var d = module("D", b, c);
+    var e = module("E");
+    var modules = List.of(a, b, c, d, e);
+    var stageCount = 3;
+    run(modules, executor, recordingStages(stageCount));
+
+    assertThat(events.size(), is(modules.size() * stageCount));
+    for (var module : modules) {
+      for (int stage = 0; stage < stageCount; stage++) {
+        var position = events.indexOf(stage + ":" + module.name);
+        if (stage > 0) {
+          assertThat(events.indexOf((stage - 1) + ":" + module.name), lessThan(position));
+        }
+        for (var imported : imports.get(module)) {
+          assertThat(
+              module.name + " must wait for " + imported.name + " in stage " + stage,
+              events.indexOf(stage + ":" + imported.name),
+              lessThan(position));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void independentModulesRunConcurrently() throws Exception {
+    var a = module("A");
+    var b = module("B");
+    var bothStarted = new CountDownLatch(2);
+    var arrived = new AtomicInteger();
+    Consumer<MockModule> stage =
+        m -> {
+          bothStarted.countDown();
+          try {
+            if (bothStarted.await(10, TimeUnit.SECONDS)) {
+              arrived.incrementAndGet();
+            }
+          } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+          }
+        };
+    run(List.of(a, b), executor, List.of(stage));
+    assertThat("Both modules were processed at the same time", arrived.get(), is(2));
+  }
+
+  @Test
+  public void modulesImportingEachOtherAreProcessedOneAfterAnotherInModuleOrder()
+      throws Exception {
+    // A, B and C form a cycle, D imports one of its modules.
+    var a = module("A");
+    var b = module("B");
+    var c = module("C", b);
+    imports.get(a).add(c);
+    imports.get(b).add(a);
+    var d = module("D", a);
+    var active = new AtomicInteger();
+    var overlaps = new AtomicInteger();
+    var stages = new ArrayList<Consumer<MockModule>>();
+    for (int i = 0; i < 2; i++) {
+      var stage = i;
+      stages.add(
+          m -> {
+            var inCycle = m != d;
+            if (inCycle && active.incrementAndGet() > 1) {
+              overlaps.incrementAndGet();
+            }
+            sleep();
+            if (inCycle) {
+              active.decrementAndGet();
+            }
+            events.add(stage + ":" + m.name);
+          });
+    }
+    run(List.of(b, d, a, c), executor, stages);
+
+    assertThat("Modules of a cycle never run at the same time", overlaps.get(), is(0));
+    var cycleEvents = events.stream().filter(e -> !e.endsWith("D")).toList();
+    assertThat(cycleEvents, contains("0:B", "0:A", "0:C", "1:B", "1:A", "1:C"));
+    assertThat(events.indexOf("0:C"), lessThan(events.indexOf("0:D")));
+    assertThat(events.indexOf("1:C"), lessThan(events.indexOf("1:D")));
+    assertThat(events.indexOf("0:D"), lessThan(events.indexOf("1:D")));
+  }
+
+  @Test
+  public void failureIsRethrownAfterIndependentWorkFinished() throws Exception {
+    var a = module("A");
+    var b = module("B", a);
+    var c = module("C");
+    var failure = new IllegalStateException("stage 1 of A failed");
+    Consumer<MockModule> first = m -> events.add("0:" + m.name);
+    Consumer<MockModule> second =
+        m -> {
+          if (m == a) {
+            throw failure;
+          }
+          sleep();
+          events.add("1:" + m.name);
+        };
+    Consumer<MockModule> third = m -> events.add("2:" + m.name);
+
+    var thrown =
+        assertThrows(
+            IllegalStateException.class,
+            () -> run(List.of(a, b, c), executor, List.of(first, second, third)));
+    assertThat(thrown, sameInstance(failure));
+    assertThat(events, containsInAnyOrder("0:A", "0:B", "0:C", "1:C", "2:C"));
+  }
+
+  @Test
+  public void firstFailureInStageOrderIsRethrown() throws Exception {
+    var a = module("A");
+    var b = module("B");
+    var early = new IllegalStateException("stage 0 of B");
+    var late = new IllegalStateException("stage 1 of A");
+    Consumer<MockModule> first =
+        m -> {
+          if (m == b) {
+            sleep();
+            throw early;
+          }
+        };
+    Consumer<MockModule> second =
+        m -> {
+          if (m == a) {
+            throw late;
+          }
+        };
+
+    var thrown =
+        assertThrows(
+            IllegalStateException.class,
+            () -> run(List.of(a, b), executor, List.of(first, second)));
+    assertThat(thrown, sameInstance(early));
+  }
+
+  @Test
+  public void interruptionSkipsPendingStagesAndAwaitsRunningOnes() throws Exception {
+    var a = module("A");
+    var b = module("B", a);
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    Consumer<MockModule> blocking =
+        m -> {
+          started.countDown();
+          awaitUninterruptibly(release);
+          events.add("0:" + m.name);
+        };
+    Consumer<MockModule> next = m -> events.add("1:" + m.name);
+
+    var caller = Thread.currentThread();
+    var interrupter =
+        new Thread(
+            () -> {
+              awaitUninterruptibly(started);
+              caller.interrupt();
+              sleep();
+              release.countDown();
+            });
+    interrupter.start();
+    try {
+      assertThrows(
+          InterruptedException.class,
+          () -> run(List.of(a, b), executor, List.of(blocking, next)));
+      assertThat(
+          "The running stage finished before the scheduler returned", events, contains("0:A"));
+    } finally {
+      Thread.interrupted();
+      interrupter.join();
+    }
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    assertThat("No stage started after the interruption", events, contains("0:A"));
+  }
+
+  @Test
+  public void failureOfASequentialRunStopsImmediately() {
+    var a = module("A");
+    var b = module("B");
+    var failure = new IllegalStateException("A failed");
+    Consumer<MockModule> stage =
+        m -> {
+          if (m == a) {
+            throw failure;
+          }
+          events.add(m.name);
+        };
+    var thrown =
+        assertThrows(IllegalStateException.class, () -> run(List.of(a, b), null, List.of(stage)));
+    assertThat(thrown, sameInstance(failure));
+    assertThat(events, is(empty()));
+  }
+
+  private MockModule module(String name, MockModule... imported) {
+    var module = new MockModule(name);
+    imports.put(module, new ArrayList<>(List.of(imported)));
+    return module;
+  }
+
+  private List<Consumer<MockModule>> recordingStages(int count) {
+    var stages = new ArrayList<Consumer<MockModule>>();
+    for (int i = 0; i < count; i++) {
+      var stage = i;
+      stages.add(
+          m -> {
+            sleep();
+            events.add(stage + ":" + m.name);
+          });
+    }
+    return stages;
+  }
+
+  private void run(
+      List<MockModule> modules, ExecutorService executor, List<Consumer<MockModule>> stages)
+      throws InterruptedException {
+    Function1<CompilerContext.Module, scala.collection.Iterable<CompilerContext.Module>>
+        importsOf =
+            m -> {
+              List<CompilerContext.Module> imported = List.copyOf(imports.get((MockModule) m));
+              return CollectionConverters.asScala(imported);
+            };
+    var scheduler =
+        new ModulePassScheduler(
+            CollectionConverters.asScala(List.<CompilerContext.Module>copyOf(modules)).toList(),
+            importsOf);
+    var scalaStages =
+        stages.stream()
+            .map(
+                stage ->
+                    (Function1<CompilerContext.Module, BoxedUnit>)
+                        m -> {
+                          stage.accept((MockModule) m);
+                          return BoxedUnit.UNIT;
+                        })
+            .toList();
+    scheduler.run(CollectionConverters.asScala(scalaStages).toList(), executor);
+  }
+
+  private static void sleep() {
+    try {
+      Thread.sleep(20);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void awaitUninterruptibly(CountDownLatch latch) {
+    var interrupted = false;
+    while (true) {
+      try {
+        latch.await();
+        break;
+      } catch (InterruptedException ex) {
+        interrupted = true;
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static final class MockModule extends CompilerContext.Module {
+    private final String name;
+
+    MockModule(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public QualifiedName getName() {
+      return QualifiedName.simpleName(name);
+    }
+
+    @Override
+    public String toString() {
+      return name;
+    }
+
+    @Override
+    public CharSequence getCharacters() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public String getPath() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Package<? extends Object> getPackage() {
+      return null;
+    }
+
+    @Override
+    public BindingsMap getBindingsMap() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public IdMap getIdMap() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<QualifiedName> getDirectModulesRefs() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public CompilationStage getCompilationStage() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean isSynthetic() {
+      return false;
+    }
+
+    @Override
+    public Module getIr() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean isPrivate() {
+      return false;
+    }
+
+    @Override
+    public CompilerContext.ModuleScopeBuilder getScopeBuilder() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public CompilerContext.ModuleScopeBuilder newScopeBuilder() {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
@@ -1,5 +1,6 @@
 module org.enso.runtime.instrument.common {
   requires java.logging;
+  requires jdk.jfr;
   requires scala.library;
   requires org.slf4j;
 
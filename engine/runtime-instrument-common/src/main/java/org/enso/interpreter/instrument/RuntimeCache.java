@@ -8,19 +8,41 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import org.enso.common.CachePreferences;
 import org.enso.interpreter.service.ExecutionService;
 
-/** A storage for computed values. */
+/**
+ * A storage for computed values.
+ *
+ * <p>Cached values are softly referenced. Additionally, the values may be held strongly within the
+ * limits of a {@link RuntimeCacheBudget} shared by all the caches of the runtime.
+ */
 public final class RuntimeCache implements java.util.function.Function<String, Object> {
   private final Map<UUID, Reference<Object>> cache = new HashMap<>();
+  final Map<UUID, RuntimeCacheBudget.Entry> pinned = new ConcurrentHashMap<>();
   private final Map<UUID, Reference<Object>> expressions = new HashMap<>();
   private final Map<UUID, String[]> types = new HashMap<>();
   private final Map<UUID, ExecutionService.FunctionCallInfo> calls = new HashMap<>();
   private CachePreferences preferences = CachePreferences.empty();
   private Consumer<UUID> observer;
+  private final RuntimeCacheBudget budget;
+
+  /** Creates a cache that only softly references the cached values. */
+  public RuntimeCache() {
+    this(new RuntimeCacheBudget());
+  }
+
+  /**
+   * Creates a cache holding the values within the limits of the provided budget.
+   *
+   * @param budget the memory budget shared with other caches
+   */
+  public RuntimeCache(RuntimeCacheBudget budget) {
+    this.budget = budget;
+  }
 
   /**
    * Add value to the cache if it is possible.
@@ -29,12 +51,27 @@ public final class RuntimeCache implements java.util.function.Function<String, O
    * @param value the added value.
    * @return {@code true} if the value was added to the cache.
    */
-  @CompilerDirectives.TruffleBoundary
   public boolean offer(UUID key, Object value) {
+    return offer(key, value, 0);
+  }
+
+  /**
+   * Add value to the cache if it is possible.
+   *
+   * @param key the key of an entry.
+   * @param value the added value.
+   * @param nanoTimeElapsed the time it took to compute the value.
+   * @return {@code true} if the value was added to the cache.
+   */
+  @CompilerDirectives.TruffleBoundary
+  public boolean offer(UUID key, Object value, long nanoTimeElapsed) {
     if (preferences.contains(key)) {
       var ref = new SoftReference<>(value);
       cache.put(key, ref);
       expressions.put(key, new WeakReference<>(value));
+      if (budget.isEnabled()) {
+        budget.pin(this, key, value, ValueSizeEstimator.estimate(value), nanoTimeElapsed);
+      }
       return true;
     } else {
       var ref = new WeakReference<>(value);
@@ -44,9 +81,20 @@ public final class RuntimeCache implements java.util.function.Function<String, O
   }
 
   /** Get the value from the cache. */
+  @CompilerDirectives.TruffleBoundary
   public Object get(UUID key) {
+    var entry = pinned.get(key);
+    if (entry != null) {
+      budget.recordHit(entry);
+      return entry.value;
+    }
     var ref = cache.get(key);
     var res = ref != null ? ref.get() : null;
+    if (res != null) {
+      budget.recordHit(null);
+    } else if (ref != null || preferences.contains(key)) {
+      budget.recordMiss();
+    }
     return res;
   }
 
@@ -71,6 +119,7 @@ public final class RuntimeCache implements java.util.function.Function<String, O
 
   /** Remove the value from the cache. */
   public Object remove(UUID key) {
+    budget.unpin(this, key);
     var ref = cache.remove(key);
     return ref == null ? null : ref.get();
   }
@@ -84,9 +133,18 @@ public final class RuntimeCache implements java.util.function.Function<String, O
 
   /** Clear the cached values. */
   public void clear() {
+    budget.unpinAll(this);
     cache.clear();
   }
 
+  /**
+   * Releases the values held within the limits of the budget, leaving them only softly
+   * referenced. Called when the cache is no longer in use.
+   */
+  public void release() {
+    budget.unpinAll(this);
+  }
+
   /**
    * Clear cached values of the provided kind.
    *
@@ -96,6 +154,7 @@ public final class RuntimeCache implements java.util.function.Function<String, O
   public Set<UUID> clear(CachePreferences.Kind kind) {
     var keys = preferences.get(kind);
     for (var key : keys) {
+      budget.unpin(this, key);
       cache.remove(key);
     }
     return keys;
@@ -174,6 +233,13 @@ public final class RuntimeCache implements java.util.function.Function<String, O
     types.clear();
   }
 
+  /**
+   * @return the memory budget of this cache.
+   */
+  public RuntimeCacheBudget getBudget() {
+    return budget;
+  }
+
   /**
    * @return the preferences of this cache.
    */
@@ -0,0 +1,201 @@
+package org.enso.interpreter.instrument;
+
+import java.util.Comparator;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * A memory budget shared by the {@link RuntimeCache caches} of all execution contexts.
+ *
+ * <p>Without a budget, cached values are only held by soft references and the JVM drops an
+ * arbitrary subset of them under memory pressure, often forcing expensive computations to run
+ * again. When a budget is set, cached values are held strongly as long as their estimated total
+ * size fits into it. If a new value doesn't fit, the values that are the cheapest to recompute
+ * relative to their size are demoted back to soft references. Values of unknown size are never
+ * held strongly, as they could exceed any limit.
+ *
+ * <p>The eviction order follows the GreedyDual-Size policy. Every entry gets a priority of {@code
+ * L + cost / size}, where {@code cost} is the time it took to compute the value and {@code L} is the
+ * priority of the most recently evicted entry. Raising {@code L} on every eviction gradually ages
+ * the entries that are not accessed, while an access refreshes the priority of the entry.
+ *
+ * <p>Regardless of the limit, the budget collects the hit, miss and eviction statistics of all the
+ * caches using it.
+ */
+public final class RuntimeCacheBudget {
+  private final NavigableSet<Entry> entries =
+      new TreeSet<>(
+          Comparator.comparingDouble((Entry e) -> e.priority).thenComparingLong(e -> e.order));
+  private long limit;
+  private long retained;
+  private double inflation;
+  private long order;
+  private long hits;
+  private long misses;
+  private long evictions;
+
+  /** Creates a budget without a limit. The cached values are only softly referenced. */
+  public RuntimeCacheBudget() {
+    this(0);
+  }
+
+  /**
+   * Creates a budget with the given limit.
+   *
+   * @param limit the maximal estimated size of strongly held values in bytes, or {@code 0} to keep
+   *     the values only softly referenced
+   */
+  public RuntimeCacheBudget(long limit) {
+    this.limit = Math.max(0, limit);
+  }
+
+  /**
+   * @return the maximal estimated size of strongly held values in bytes, {@code 0} if disabled
+   */
+  public synchronized long getLimit() {
+    return limit;
+  }
+
+  /**
+   * Sets a new limit, evicting values that no longer fit into it.
+   *
+   * @param limit the maximal estimated size of strongly held values in bytes, or {@code 0} to keep
+   *     the values only softly referenced
+   */
+  public synchronized void setLimit(long limit) {
+    this.limit = Math.max(0, limit);
+    evictUntilFits(0);
+  }
+
+  synchronized boolean isEnabled() {
+    return limit > 0;
+  }
+
+  /**
+   * Strongly holds the value of a cache entry if its size is known and fits into the budget.
+   *
+   * @param cache the cache owning the entry
+   * @param key the key of the entry
+   * @param value the cached value
+   * @param size the estimated size of the value in bytes, or a negative number if unknown
+   * @param cost the time it took to compute the value in nanoseconds
+   */
+  synchronized void pin(RuntimeCache cache, UUID key, Object value, long size, long cost) {
+    release(cache.pinned.remove(key));
+    if (limit <= 0 || size < 0 || size > limit) {
+      return;
+    }
+    evictUntilFits(size);
+    var entry = new Entry(cache, key, value, Math.max(size, 1), Math.max(cost, 1));
+    refresh(entry);
+    retained += entry.size;
+    cache.pinned.put(key, entry);
+  }
+
+  /**
+   * Releases the strong reference of a cache entry.
+   *
+   * @param cache the cache owning the entry
+   * @param key the key of the entry
+   */
+  synchronized void unpin(RuntimeCache cache, UUID key) {
+    release(cache.pinned.remove(key));
+  }
+
+  /**
+   * Releases strong references of all entries of a cache.
+   *
+   * @param cache the cache owning the entries
+   */
+  synchronized void unpinAll(RuntimeCache cache) {
+    for (var entry : cache.pinned.values()) {
+      release(entry);
+    }
+    cache.pinned.clear();
+  }
+
+  /**
+   * Records a cache hit.
+   *
+   * @param entry the entry holding the value, or {@code null} if the value was softly referenced
+   */
+  synchronized void recordHit(Entry entry) {
+    hits++;
+    if (entry != null && entries.remove(entry)) {
+      refresh(entry);
+    }
+  }
+
+  /** Records a cache miss. */
+  synchronized void recordMiss() {
+    misses++;
+  }
+
+  /**
+   * @return the snapshot of the current statistics
+   */
+  public synchronized Statistics getStatistics() {
+    return new Statistics(limit, retained, entries.size(), hits, misses, evictions);
+  }
+
+  private void refresh(Entry entry) {
+    entry.priority = inflation + (double) entry.cost / entry.size;
+    entry.order = order++;
+    entries.add(entry);
+  }
+
+  private void release(Entry entry) {
+    if (entry != null && entries.remove(entry)) {
+      retained -= entry.size;
+    }
+  }
+
+  private void evictUntilFits(long size) {
+    while (!entries.isEmpty() && retained + size > limit) {
+      var victim = entries.pollFirst();
+      retained -= victim.size;
+      inflation = victim.priority;
+      victim.cache.pinned.remove(victim.key, victim);
+      evictions++;
+      RuntimeCacheEvictionEvent.evicted(victim.key, victim.size, victim.cost, retained);
+    }
+  }
+
+  /** A value held strongly on behalf of a cache. */
+  static final class Entry {
+    private final RuntimeCache cache;
+    private final UUID key;
+    private final long size;
+    private final long cost;
+    final Object value;
+    private double priority;
+    private long order;
+
+    private Entry(RuntimeCache cache, UUID key, Object value, long size, long cost) {
+      this.cache = cache;
+      this.key = key;
+      this.value = value;
+      this.size = size;
+      this.cost = cost;
+    }
+  }
+
+  /**
+   * The statistics of the caches sharing a budget.
+   *
+   * @param limit the budget limit in bytes, {@code 0} if disabled
+   * @param retainedBytes the estimated size of the strongly held values
+   * @param retainedEntries the number of strongly held values
+   * @param hits the number of lookups that found a cached value
+   * @param misses the number of lookups of cacheable expressions that found no value
+   * @param evictions the number of values demoted to soft references to fit into the budget
+   */
+  public record Statistics(
+      long limit,
+      long retainedBytes,
+      int retainedEntries,
+      long hits,
+      long misses,
+      long evictions) {}
+}
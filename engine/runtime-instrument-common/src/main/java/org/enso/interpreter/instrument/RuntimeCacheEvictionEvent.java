@@ -0,0 +1,53 @@
+package org.enso.interpreter.instrument;
+
+import java.util.UUID;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/** A flight recorder event of a value demoted by the {@link RuntimeCacheBudget}. */
+@Name("org.enso.runtime.RuntimeCacheEviction")
+@Label("Runtime Cache Eviction")
+@Category({"Enso", "Caches"})
+@Description("A cached value was demoted to a soft reference to fit into the memory budget")
+@StackTrace(false)
+final class RuntimeCacheEvictionEvent extends Event {
+  @Label("Expression Id")
+  String expressionId;
+
+  @Label("Estimated Size")
+  @DataAmount
+  long size;
+
+  @Label("Computation Time")
+  @Timespan(Timespan.NANOSECONDS)
+  long cost;
+
+  @Label("Retained After Eviction")
+  @DataAmount
+  long retained;
+
+  /**
+   * Records an eviction.
+   *
+   * @param key the id of the expression whose value was evicted
+   * @param size the estimated size of the value
+   * @param cost the time it took to compute the value
+   * @param retained the estimated size of the values still held by the budget
+   */
+  static void evicted(UUID key, long size, long cost, long retained) {
+    var event = new RuntimeCacheEvictionEvent();
+    if (event.shouldCommit()) {
+      event.expressionId = key.toString();
+      event.size = size;
+      event.cost = cost;
+      event.retained = retained;
+      event.commit();
+    }
+  }
+}
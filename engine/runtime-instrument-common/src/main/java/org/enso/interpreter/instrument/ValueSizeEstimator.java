@@ -0,0 +1,131 @@
+package org.enso.interpreter.instrument;
+
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.interop.InteropException;
+import com.oracle.truffle.api.interop.InteropLibrary;
+import com.oracle.truffle.api.interop.TruffleObject;
+import org.enso.interpreter.runtime.data.atom.Atom;
+import org.enso.interpreter.runtime.data.atom.StructsLibrary;
+import org.enso.interpreter.runtime.data.text.Text;
+import org.enso.interpreter.runtime.number.EnsoBigInteger;
+import org.enso.interpreter.runtime.warning.WithWarnings;
+
+/**
+ * Estimates the heap memory retained by values computed in the program.
+ *
+ * <p>The estimate is only a heuristic used to weigh cached values against each other, so it trades
+ * precision for speed: composite values are traversed only a few levels deep and large arrays are
+ * estimated from a small sample of their elements. Java objects (such as table columns) can
+ * provide their own estimate by exposing a public {@code estimateRetainedSize()} method.
+ *
+ * <p>Values that cannot be measured, such as arbitrary host objects or structures nested deeper
+ * than the traversal limit, are reported as {@link #UNKNOWN_SIZE}. Their size is unbounded as far
+ * as the caller can tell, so they must not be charged against a memory budget.
+ */
+final class ValueSizeEstimator {
+  static final String ESTIMATE_MEMBER = "estimateRetainedSize";
+
+  /** The estimate of a value whose size is not known. */
+  static final long UNKNOWN_SIZE = -1;
+
+  private static final long OBJECT_SIZE = 16;
+  private static final long REFERENCE_SIZE = 8;
+  private static final int MAX_DEPTH = 4;
+  private static final int SAMPLE_SIZE = 16;
+
+  private ValueSizeEstimator() {}
+
+  /**
+   * Estimates the retained size of a value.
+   *
+   * @param value the value to measure
+   * @return the estimated size in bytes, or {@link #UNKNOWN_SIZE} if it cannot be estimated
+   */
+  @CompilerDirectives.TruffleBoundary
+  static long estimate(Object value) {
+    return estimate(value, MAX_DEPTH);
+  }
+
+  private static long estimate(Object value, int depth) {
+    if (value == null) {
+      return 0;
+    }
+    if (depth <= 0) {
+      return UNKNOWN_SIZE;
+    }
+    return switch (value) {
+      case Long l -> OBJECT_SIZE;
+      case Double d -> OBJECT_SIZE;
+      case Boolean b -> OBJECT_SIZE;
+      case String s -> stringSize(s.length());
+      case Text t -> OBJECT_SIZE + stringSize(t.utf16Length());
+      case EnsoBigInteger i -> OBJECT_SIZE + 32 + i.getValue().bitLength() / 8;
+      case WithWarnings w -> add(OBJECT_SIZE, estimate(w.getValue(), depth));
+      case Atom atom -> atomSize(atom, depth);
+      case TruffleObject obj -> foreignSize(obj, depth);
+      default -> UNKNOWN_SIZE;
+    };
+  }
+
+  private static long add(long size, long other) {
+    return size == UNKNOWN_SIZE || other == UNKNOWN_SIZE ? UNKNOWN_SIZE : size + other;
+  }
+
+  private static long stringSize(long length) {
+    return 40 + 2L * length;
+  }
+
+  private static long atomSize(Atom atom, int depth) {
+    var structs = StructsLibrary.getUncached();
+    var arity = atom.getConstructor().getArity();
+    var size = OBJECT_SIZE + REFERENCE_SIZE * arity;
+    for (var i = 0; i < arity && size != UNKNOWN_SIZE; i++) {
+      size = add(size, estimate(structs.getField(atom, i), depth - 1));
+    }
+    return size;
+  }
+
+  private static long foreignSize(TruffleObject value, int depth) {
+    var iop = InteropLibrary.getUncached();
+    try {
+      if (iop.isMemberInvocable(value, ESTIMATE_MEMBER)) {
+        var estimate = iop.invokeMember(value, ESTIMATE_MEMBER);
+        if (iop.fitsInLong(estimate) && iop.asLong(estimate) >= 0) {
+          return iop.asLong(estimate);
+        }
+        return UNKNOWN_SIZE;
+      }
+      if (iop.hasArrayElements(value)) {
+        return arraySize(iop, value, depth);
+      }
+      if (iop.isString(value)) {
+        return stringSize(iop.asString(value).length());
+      }
+    } catch (InteropException ex) {
+      // the value changed its shape or refused to be inspected, its size is unknown
+    }
+    return UNKNOWN_SIZE;
+  }
+
+  private static long arraySize(InteropLibrary iop, Object array, int depth)
+      throws InteropException {
+    var length = iop.getArraySize(array);
+    if (length == 0) {
+      return OBJECT_SIZE;
+    }
+    var samples = Math.min(length, SAMPLE_SIZE);
+    var step = length / samples;
+    var sampled = 0L;
+    for (var i = 0L; i < samples; i++) {
+      var index = i * step;
+      if (iop.isArrayElementReadable(array, index)) {
+        var element = estimate(iop.readArrayElement(array, index), depth - 1);
+        if (element == UNKNOWN_SIZE) {
+          return UNKNOWN_SIZE;
+        }
+        sampled += element;
+      }
+    }
+    return OBJECT_SIZE + length * REFERENCE_SIZE + sampled * length / samples;
+  }
+}
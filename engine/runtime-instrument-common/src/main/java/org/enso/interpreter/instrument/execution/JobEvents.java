@@ -0,0 +1,158 @@
+package org.enso.interpreter.instrument.execution;
+
+import java.util.UUID;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import org.enso.interpreter.instrument.job.Job;
+
+/**
+ * Flight recorder events of the {@link JobExecutionEngine}.
+ *
+ * <p>The helper methods check whether an event is recorded before filling in its fields, so the
+ * events cost next to nothing when no recording is running.
+ */
+final class JobEvents {
+  private JobEvents() {}
+
+  /**
+   * Records that a job was submitted to a pool.
+   *
+   * @param job the job
+   * @param jobId the id of the job
+   * @param pool the name of the pool
+   * @param pending the number of jobs pending in the pool
+   */
+  static void queued(Job<?> job, UUID jobId, String pool, int pending) {
+    var event = new Queued();
+    if (event.shouldCommit()) {
+      event.job = jobType(job);
+      event.jobId = jobId.toString();
+      event.pool = pool;
+      event.pending = pending;
+      event.commit();
+    }
+  }
+
+  /**
+   * Starts recording the execution of a job.
+   *
+   * @return the event to pass to {@link #finished}
+   */
+  static Executed started() {
+    var event = new Executed();
+    event.begin();
+    return event;
+  }
+
+  /**
+   * Finishes recording the execution of a job.
+   *
+   * @param event the event returned by {@link #started()}
+   * @param job the job
+   * @param jobId the id of the job
+   * @param pool the name of the pool
+   * @param queuedNanos the time the job spent waiting in the pool
+   * @param outcome how the execution ended
+   */
+  static void finished(
+      Executed event, Job<?> job, UUID jobId, String pool, long queuedNanos, String outcome) {
+    event.end();
+    if (event.shouldCommit()) {
+      event.job = jobType(job);
+      event.jobId = jobId.toString();
+      event.pool = pool;
+      event.queued = queuedNanos;
+      event.outcome = outcome;
+      event.commit();
+    }
+  }
+
+  /**
+   * Records a cancellation of a job.
+   *
+   * @param job the job
+   * @param jobId the id of the job
+   * @param reason the reason of the cancellation
+   * @param forced whether the job is cancelled right away rather than asked to abort first
+   */
+  static void cancelled(Job<?> job, UUID jobId, String reason, boolean forced) {
+    var event = new Cancelled();
+    if (event.shouldCommit()) {
+      event.job = jobType(job);
+      event.jobId = jobId.toString();
+      event.reason = reason;
+      event.forced = forced;
+      event.commit();
+    }
+  }
+
+  private static String jobType(Job<?> job) {
+    return job.getClass().getSimpleName();
+  }
+
+  @Name("org.enso.runtime.JobQueued")
+  @Label("Job Queued")
+  @Category({"Enso", "Jobs"})
+  @Description("A job was submitted for execution")
+  @StackTrace(false)
+  static final class Queued extends Event {
+    @Label("Job Type")
+    String job;
+
+    @Label("Job Id")
+    String jobId;
+
+    @Label("Pool")
+    String pool;
+
+    @Label("Pending Jobs")
+    int pending;
+  }
+
+  @Name("org.enso.runtime.JobExecuted")
+  @Label("Job Executed")
+  @Category({"Enso", "Jobs"})
+  @Description("Execution of a job from its start until it finished, failed or was interrupted")
+  @StackTrace(false)
+  static final class Executed extends Event {
+    @Label("Job Type")
+    String job;
+
+    @Label("Job Id")
+    String jobId;
+
+    @Label("Pool")
+    String pool;
+
+    @Label("Queued")
+    @Timespan(Timespan.NANOSECONDS)
+    long queued;
+
+    @Label("Outcome")
+    String outcome;
+  }
+
+  @Name("org.enso.runtime.JobCancelled")
+  @Label("Job Cancelled")
+  @Category({"Enso", "Jobs"})
+  @Description("A running or pending job was cancelled")
+  @StackTrace(false)
+  static final class Cancelled extends Event {
+    @Label("Job Type")
+    String job;
+
+    @Label("Job Id")
+    String jobId;
+
+    @Label("Reason")
+    String reason;
+
+    @Label("Forced")
+    boolean forced;
+  }
+}
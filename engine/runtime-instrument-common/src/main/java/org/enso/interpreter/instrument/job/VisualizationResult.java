@@ -3,7 +3,9 @@ package org.enso.interpreter.instrument.job;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.interop.ExceptionType;
 import com.oracle.truffle.api.interop.InteropLibrary;
+import com.oracle.truffle.api.interop.InvalidBufferOffsetException;
 import com.oracle.truffle.api.interop.UnsupportedMessageException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import org.enso.interpreter.runtime.data.text.Text;
 import org.enso.interpreter.runtime.warning.WithWarnings;
@@ -73,6 +75,11 @@ public final class VisualizationResult {
     if (value instanceof byte[] arr) {
       return arr;
     }
+    if (value instanceof ByteBuffer buffer) {
+      var arr = new byte[buffer.remaining()];
+      buffer.duplicate().get(arr);
+      return arr;
+    }
     if (value instanceof String text) {
       return text.getBytes(StandardCharsets.UTF_8);
     }
@@ -90,6 +97,19 @@ public final class VisualizationResult {
         // fallthru
       }
     }
+    if (iop.hasBufferElements(value)) {
+      // binary payloads, like a java.nio.ByteBuffer returned from a Java helper
+      try {
+        var size = Math.toIntExact(iop.getBufferSize(value));
+        var arr = new byte[size];
+        iop.readBuffer(value, 0, arr, 0, size);
+        return arr;
+      } catch (UnsupportedMessageException
+          | InvalidBufferOffsetException
+          | ArithmeticException ex) {
+        // fallthru
+      }
+    }
     return null;
   }
 }
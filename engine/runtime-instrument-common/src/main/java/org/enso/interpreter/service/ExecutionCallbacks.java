@@ -116,7 +116,7 @@ final class ExecutionCallbacks implements IdExecutionService.Callbacks {
     // like imports, and the invalidation mechanism can not always track those changes and
     // appropriately invalidate all dependent expressions.
     if (!isPanic) {
-      cache.offer(nodeId, result);
+      cache.offer(nodeId, result, info.getElapsedTime());
       cache.putCall(nodeId, call);
     }
     cache.putType(nodeId, resultTypes);
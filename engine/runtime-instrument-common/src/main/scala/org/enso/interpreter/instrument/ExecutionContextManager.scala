@@ -14,6 +14,9 @@ import scala.collection.mutable
   */
 class ExecutionContextManager {
 
+  /** The memory budget shared by caches of all execution contexts. */
+  val cacheBudget: RuntimeCacheBudget = new RuntimeCacheBudget
+
   private var contexts: Map[ContextId, ExecutionContextState] =
     Map().withDefaultValue(ExecutionContextState.empty)
 
@@ -31,6 +34,7 @@ class ExecutionContextManager {
     */
   def destroy(id: ContextId): Unit =
     synchronized {
+      contexts.get(id).foreach(_.stack.foreach(_.cache.release()))
       contexts -= id
     }
 
@@ -64,7 +68,7 @@ class ExecutionContextManager {
     synchronized {
       for {
         state <- contexts.get(id)
-      } yield state.stack.push(InstrumentFrame(item))
+      } yield state.stack.push(InstrumentFrame(item, cacheBudget))
     }
 
   /** If the context exists and stack not empty, pop the item from the stack.
@@ -77,7 +81,11 @@ class ExecutionContextManager {
       for {
         state <- contexts.get(id)
         if state.stack.nonEmpty
-      } yield state.stack.pop()
+      } yield {
+        val frame = state.stack.pop()
+        frame.cache.release()
+        frame
+      }
     }
 
   /** Tests if a context specified by its id is stored by the manager.
@@ -44,4 +44,17 @@ case object InstrumentFrame {
     */
   def apply(item: StackItem): InstrumentFrame =
     new InstrumentFrame(item, new RuntimeCache, new UpdatesSynchronizationState)
+
+  /** Create an instrument frame with a cache sharing the memory budget.
+    *
+    * @param item the stack item
+    * @param budget the memory budget of the runtime cache
+    * @return an instance of [[InstrumentFrame]]
+    */
+  def apply(item: StackItem, budget: RuntimeCacheBudget): InstrumentFrame =
+    new InstrumentFrame(
+      item,
+      new RuntimeCache(budget),
+      new UpdatesSynchronizationState
+    )
 }
@@ -45,6 +45,9 @@ abstract class Handler {
         endpoint,
         truffleContext
       )
+    contextManager.cacheBudget.setLimit(
+      executionService.getContext.getRuntimeCacheBudget
+    )
     val commandProcessor = new CommandExecutionEngine(interpreterCtx)
     ctx = HandlersContext(
       executionService,
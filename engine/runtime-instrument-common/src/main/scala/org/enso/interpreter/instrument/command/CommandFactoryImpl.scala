@@ -71,6 +71,9 @@ class CommandFactory {
       case _: Api.GetTypeGraphRequest =>
         new GetTypeGraphCommand(request.requestId)
 
+      case _: Api.GetRuntimeCacheStatisticsRequest =>
+        new GetRuntimeCacheStatisticsCmd(request.requestId)
+
       case payload: Api.DeserializeLibrarySuggestions =>
         new DeserializeLibrarySuggestionsCmd(request.requestId, payload)
 
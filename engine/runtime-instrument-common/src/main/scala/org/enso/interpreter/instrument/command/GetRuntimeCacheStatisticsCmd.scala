@@ -0,0 +1,33 @@
+package org.enso.interpreter.instrument.command
+
+import org.enso.interpreter.instrument.execution.RuntimeContext
+import org.enso.polyglot.runtime.Runtime.Api
+import org.enso.polyglot.runtime.Runtime.Api.RequestId
+
+import scala.concurrent.{ExecutionContext, Future}
+
+/** A command that reports the statistics of the runtime value cache.
+  *
+  * @param maybeRequestId an option with request id
+  */
+class GetRuntimeCacheStatisticsCmd(maybeRequestId: Option[RequestId])
+    extends AsynchronousCommand(maybeRequestId) {
+
+  /** @inheritdoc */
+  override def executeAsynchronously(implicit
+    ctx: RuntimeContext,
+    ec: ExecutionContext
+  ): Future[Unit] = Future {
+    val stats = ctx.contextManager.cacheBudget.getStatistics
+    reply(
+      Api.GetRuntimeCacheStatisticsResponse(
+        stats.limit,
+        stats.retainedBytes,
+        stats.retainedEntries,
+        stats.hits,
+        stats.misses,
+        stats.evictions
+      )
+    )
+  }
+}
@@ -132,6 +132,12 @@ final class JobExecutionEngine(
                 }
               }
               logger.log(Level.WARNING, sb.toString())
+              JobEvents.cancelled(
+                runningJob.job,
+                runningJob.id,
+                "soft-cancel timeout",
+                true
+              )
               runningJob.future.cancel(runningJob.job.mayInterruptIfRunning)
             case e: Throwable =>
               logger.log(
@@ -146,11 +152,18 @@ final class JobExecutionEngine(
 
   private def maybeForceCancelRunningJob(
     runningJob: RunningJob,
-    softAbortFirst: Boolean
+    softAbortFirst: Boolean,
+    reason: String
   ): Option[RunningJob] = {
     val delayJobCancellation =
       runningJob.job.mayInterruptIfRunning && softAbortFirst || !runningJob.job
         .hasStarted()
+    JobEvents.cancelled(
+      runningJob.job,
+      runningJob.id,
+      reason,
+      !delayJobCancellation
+    )
     if (delayJobCancellation) {
       Some(runningJob)
     } else {
@@ -164,7 +177,12 @@ final class JobExecutionEngine(
     synchronized {
       if (isBackgroundJobsStarted) {
         cancelDuplicateJobs(job, backgroundJobsRef)
-        runInternal(job, backgroundJobExecutor, backgroundJobsRef)
+        runInternal(
+          job,
+          backgroundJobExecutor,
+          "background-job-pool",
+          backgroundJobsRef
+        )
       } else {
         job match {
           case job: UniqueJob[_] =>
@@ -181,9 +199,16 @@ final class JobExecutionEngine(
   /** @inheritdoc */
   override def run[A](job: Job[A]): Future[A] = {
     cancelDuplicateJobs(job, runningJobsRef)
-    val executor =
-      if (job.highPriority) highPriorityJobExecutor else jobExecutor
-    runInternal(job, executor, runningJobsRef)
+    if (job.highPriority) {
+      runInternal(
+        job,
+        highPriorityJobExecutor,
+        "prioritized-job-pool",
+        runningJobsRef
+      )
+    } else {
+      runInternal(job, jobExecutor, "job-pool", runningJobsRef)
+    }
   }
 
   private def cancelDuplicateJobs[A](
@@ -202,7 +227,8 @@ final class JobExecutionEngine(
               updatePendingCancellations(
                 maybeForceCancelRunningJob(
                   runningJob,
-                  softAbortFirst = true
+                  softAbortFirst = true,
+                  reason         = "duplicate job"
                 ).toSeq
               )
             case _ =>
@@ -232,10 +258,12 @@ final class JobExecutionEngine(
   private def runInternal[A](
     job: Job[A],
     executorService: ExecutorService,
+    pool: String,
     runningJobsRef: AtomicReference[Vector[RunningJob]]
   ): Future[A] = {
-    val jobId   = UUID.randomUUID()
-    val promise = Promise[A]()
+    val jobId     = UUID.randomUUID()
+    val promise   = Promise[A]()
+    val submitted = System.nanoTime()
     logger.log(
       Level.FINE,
       s"Submitting job: {0} with {1} id...",
@@ -243,10 +271,14 @@ final class JobExecutionEngine(
     )
     val future = executorService.submit(() => {
       logger.log(Level.FINE, s"Executing job: {0}...", job)
-      val before = System.currentTimeMillis()
+      val queued  = System.nanoTime() - submitted
+      val event   = JobEvents.started()
+      var outcome = "failed"
+      val before  = System.currentTimeMillis()
       try {
         val result = job.run(runtimeContext)
         val took   = System.currentTimeMillis() - before
+        outcome = "finished"
         logger.log(
           Level.FINE,
           s"Job {0} finished in {1} ms.",
@@ -258,11 +290,13 @@ final class JobExecutionEngine(
           logger.log(Level.SEVERE, s"Error executing $job", ex)
           promise.failure(ex)
         case _: InterruptedException =>
+          outcome = "interrupted"
           logger.log(Level.WARNING, s"$job got interrupted")
         case err: Throwable =>
           logger.log(Level.SEVERE, s"Error executing $job", err)
           throw err
       } finally {
+        JobEvents.finished(event, job, jobId, pool, queued, outcome)
         val remaining = runningJobsRef.updateAndGet(_.filterNot(_.id == jobId))
         logger.log(
           Level.FINEST,
@@ -276,6 +310,7 @@ final class JobExecutionEngine(
 
     val queue = runningJobsRef.updateAndGet(_ :+ runningJob)
     logger.log(Level.FINE, "Number of pending jobs: {0}", queue.size)
+    JobEvents.queued(job, jobId, pool, queue.size)
 
     promise.future
   }
@@ -302,7 +337,7 @@ final class JobExecutionEngine(
     )
 
     val pending = cancellableJobs.flatMap(
-      maybeForceCancelRunningJob(_, softAbortFirst = true)
+      maybeForceCancelRunningJob(_, softAbortFirst = true, reason)
     )
     updatePendingCancellations(pending)
     runtimeContext.executionService.getContext.getThreadManager
@@ -332,7 +367,7 @@ final class JobExecutionEngine(
           Some(runningJob)
         } else None
       }
-      .flatMap(maybeForceCancelRunningJob(_, softAbortFirst))
+      .flatMap(maybeForceCancelRunningJob(_, softAbortFirst, reason))
     updatePendingCancellations(pending)
     runtimeContext.executionService.getContext.getThreadManager
       .interruptThreads()
@@ -357,7 +392,7 @@ final class JobExecutionEngine(
           Some(runningJob)
         } else None
       }
-      .flatMap(maybeForceCancelRunningJob(_, softAbortFirst = true))
+      .flatMap(maybeForceCancelRunningJob(_, softAbortFirst = true, reason))
     updatePendingCancellations(pending)
     runtimeContext.executionService.getContext.getThreadManager
       .interruptThreads()
@@ -380,7 +415,7 @@ final class JobExecutionEngine(
       Array[Any](cancellableJobs.length, reason, cancellableJobs.map(_.id))
     )
     val pending = cancellableJobs.flatMap(
-      maybeForceCancelRunningJob(_, softAbortFirst = true)
+      maybeForceCancelRunningJob(_, softAbortFirst = true, reason)
     )
     updatePendingCancellations(pending)
   }
@@ -405,7 +440,10 @@ final class JobExecutionEngine(
   /** @inheritdoc */
   override def stop(): Unit = {
     val allJobs = runningJobsRef.get()
-    allJobs.foreach(_.future.cancel(true))
+    allJobs.foreach { runningJob =>
+      JobEvents.cancelled(runningJob.job, runningJob.id, "shutdown", true)
+      runningJob.future.cancel(true)
+    }
     runtimeContext.executionService.getContext.getThreadManager
       .interruptThreads()
     jobExecutor.shutdownNow()
@@ -36,11 +36,7 @@ import org.enso.interpreter.service.error.{
   VisualizationException
 }
 import org.enso.common.LanguageInfo
-import org.enso.interpreter.runtime.warning.{
-  Warning,
-  WarningsLibrary,
-  WithWarnings
-}
+import org.enso.interpreter.runtime.warning.{WarningsLibrary, WithWarnings}
 import org.enso.polyglot.debugger.ExecutedVisualization
 import org.enso.polyglot.runtime.Runtime.Api
 import org.enso.polyglot.runtime.Runtime.Api.{ContextId, ExecutionResult}
@@ -497,9 +493,10 @@ object ProgramExecutionSupport {
                 value.getValue
               )
             ) {
-              val warnsMap =
-                WarningsLibrary.getUncached.getWarnings(value.getValue, false)
-              val warnings      = Warning.fromMapToArray(warnsMap)
+              val warnings =
+                WarningsLibrary.getUncached
+                  .getWarnings(value.getValue, false)
+                  .toArray
               val warningsCount = warnings.length
               val warning =
                 if (warningsCount > 0) {
@@ -151,6 +151,87 @@ public class RuntimeCacheTest {
     assertTrue("Two queries to the cache: " + queried, queried.contains(key2));
   }
 
+  @Test
+  public void budgetEvictsValuesCheapestToRecompute() {
+    var budget = new RuntimeCacheBudget(1000);
+    var cache = new RuntimeCache(budget);
+    var expensive = UUID.randomUUID();
+    var cheap = UUID.randomUUID();
+    var other = UUID.randomUUID();
+    var preferences = CachePreferences.empty();
+    preferences.set(expensive, CachePreferences.Kind.BINDING_EXPRESSION);
+    preferences.set(cheap, CachePreferences.Kind.BINDING_EXPRESSION);
+    preferences.set(other, CachePreferences.Kind.BINDING_EXPRESSION);
+    cache.setPreferences(preferences);
+
+    assertTrue(cache.offer(expensive, "a".repeat(200), 1_000_000));
+    assertTrue(cache.offer(cheap, "b".repeat(200), 10));
+    assertEquals(2, budget.getStatistics().retainedEntries());
+
+    assertTrue(cache.offer(other, "c".repeat(200), 500_000));
+    var stats = budget.getStatistics();
+    assertEquals("Cheap value evicted: " + stats, 1, stats.evictions());
+    assertEquals(2, stats.retainedEntries());
+    assertTrue(stats.retainedBytes() <= stats.limit());
+    assertEquals("a".repeat(200), cache.get(expensive));
+    assertEquals("c".repeat(200), cache.get(other));
+    assertEquals(2, budget.getStatistics().hits());
+  }
+
+  @Test
+  public void budgetReleasesRemovedValues() {
+    var budget = new RuntimeCacheBudget(1000);
+    var cache = new RuntimeCache(budget);
+    var key = UUID.randomUUID();
+    var missing = UUID.randomUUID();
+
+    cache.setPreferences(of(key, CachePreferences.Kind.BINDING_EXPRESSION));
+    assertTrue(cache.offer(key, "value", 100));
+    assertEquals(1, budget.getStatistics().retainedEntries());
+
+    cache.remove(key);
+    assertNull(cache.get(key));
+    assertNull(cache.get(missing));
+    var stats = budget.getStatistics();
+    assertEquals(0, stats.retainedEntries());
+    assertEquals(0, stats.retainedBytes());
+    assertEquals("Only cacheable expressions count as misses", 1, stats.misses());
+  }
+
+  @Test
+  public void budgetKeepsValuesStronglyReachable() {
+    var cache = new RuntimeCache(new RuntimeCacheBudget(1_000_000));
+    var key = UUID.randomUUID();
+    var obj = "value".repeat(10);
+
+    cache.setPreferences(of(key, CachePreferences.Kind.BINDING_EXPRESSION));
+    assertTrue(cache.offer(key, obj, 100));
+
+    var ref = new WeakReference<>(obj);
+    obj = null;
+    assertGC("Value within the budget is retained", false, ref);
+
+    cache.release();
+    cache.remove(key);
+    assertGC("Released value can be collected", true, ref);
+  }
+
+  @Test
+  public void budgetDoesNotHoldValuesOfUnknownSize() {
+    var budget = new RuntimeCacheBudget(1_000_000);
+    var cache = new RuntimeCache(budget);
+    var key = UUID.randomUUID();
+    var obj = new Object();
+
+    cache.setPreferences(of(key, CachePreferences.Kind.BINDING_EXPRESSION));
+    assertTrue("Value is still cached softly", cache.offer(key, obj, 1_000_000));
+    assertEquals(obj, cache.get(key));
+
+    var stats = budget.getStatistics();
+    assertEquals("Unknown size is not charged to the budget", 0, stats.retainedEntries());
+    assertEquals(0, stats.retainedBytes());
+  }
+
   private static void assertGC(String msg, boolean expectGC, Reference<?> ref) {
     for (var i = 1; i < Integer.MAX_VALUE / 2; i *= 2) {
       if (ref.get() == null) {
@@ -7,6 +7,7 @@ import com.oracle.truffle.api.interop.InteropLibrary;
 import com.oracle.truffle.api.interop.TruffleObject;
 import com.oracle.truffle.api.library.ExportLibrary;
 import com.oracle.truffle.api.library.ExportMessage;
+import java.nio.ByteBuffer;
 import org.enso.interpreter.instrument.job.VisualizationResult;
 import org.junit.Test;
 
@@ -20,6 +21,18 @@ public class ConvertAsStringObjectTest {
     assertArrayEquals("Both arrays are the same", wrapRes, directRes);
   }
 
+  @Test
+  public void conversionOfByteBuffer() {
+    var buffer = ByteBuffer.wrap(new byte[] {0, 1, 2, 3, 4});
+    buffer.position(1);
+    var res = VisualizationResult.visualizationResultToBytes(buffer);
+    assertArrayEquals("Remaining bytes are converted", new byte[] {1, 2, 3, 4}, res);
+    assertArrayEquals(
+        "Buffer position isn't changed",
+        res,
+        VisualizationResult.visualizationResultToBytes(buffer));
+  }
+
   @ExportLibrary(InteropLibrary.class)
   static class AsString implements TruffleObject {
     private final String value;
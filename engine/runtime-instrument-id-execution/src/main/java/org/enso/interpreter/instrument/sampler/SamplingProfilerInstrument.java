@@ -0,0 +1,274 @@
+package org.enso.interpreter.instrument.sampler;
+
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.RootCallTarget;
+import com.oracle.truffle.api.ThreadLocalAction;
+import com.oracle.truffle.api.Truffle;
+import com.oracle.truffle.api.TruffleContext;
+import com.oracle.truffle.api.TruffleLogger;
+import com.oracle.truffle.api.instrumentation.ContextsListener;
+import com.oracle.truffle.api.instrumentation.TruffleInstrument;
+import com.oracle.truffle.api.nodes.LanguageInfo;
+import com.oracle.truffle.api.nodes.RootNode;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import org.enso.common.SamplingProfilerService;
+import org.enso.interpreter.node.EnsoRootNode;
+import org.graalvm.options.OptionDescriptor;
+import org.graalvm.options.OptionDescriptors;
+import org.graalvm.options.OptionKey;
+
+/**
+ * The instrument sampling the stacks of Enso methods.
+ *
+ * <p>At every sampling interval a thread-local action is submitted to all the threads executing
+ * Enso code. The action walks the Truffle stack and records the Enso root nodes found on it, so the
+ * resulting profile is expressed in terms of Enso methods and their source locations rather than
+ * the classes of the interpreter. A new action is not submitted to a context before the previous
+ * one finished, which keeps the overhead bounded even when the threads reach safepoints slowly.
+ */
+@TruffleInstrument.Registration(
+    id = SamplingProfilerService.INSTRUMENT_NAME,
+    services = SamplingProfilerService.class)
+public final class SamplingProfilerInstrument extends TruffleInstrument
+    implements SamplingProfilerService {
+  /** Option for {@link SamplingProfilerService#OUTPUT_OPTION} */
+  private static final OptionKey<String> OUTPUT_OPTION = new OptionKey<>("");
+
+  /** Option for {@link SamplingProfilerService#INTERVAL_OPTION} */
+  private static final OptionKey<Integer> INTERVAL_OPTION = new OptionKey<>(10);
+
+  /** Option for {@link SamplingProfilerService#DURATION_OPTION} */
+  private static final OptionKey<Integer> DURATION_OPTION = new OptionKey<>(0);
+
+  private final Set<TruffleContext> contexts = ConcurrentHashMap.newKeySet();
+  private final Map<TruffleContext, Future<Void>> pending = new ConcurrentHashMap<>();
+  private final Map<RootNode, StackSamples.Frame> frames =
+      Collections.synchronizedMap(new WeakHashMap<>());
+  private final StackSamples samples = new StackSamples();
+  private final ThreadLocalAction sampleStack = new SampleStack();
+
+  private Env env;
+  private TruffleLogger logger;
+  private String output;
+  private int interval;
+  private ScheduledExecutorService executor;
+  private ScheduledFuture<?> sampling;
+
+  /**
+   * Called by Truffle when this instrument is installed.
+   *
+   * @param env the instrumentation environment
+   */
+  @Override
+  protected void onCreate(Env env) {
+    this.env = env;
+    this.logger = env.getLogger(SamplingProfilerInstrument.class);
+    this.output = env.getOptions().get(OUTPUT_OPTION);
+    this.interval = Math.max(1, env.getOptions().get(INTERVAL_OPTION));
+    env.registerService(this);
+    env.getInstrumenter().attachContextsListener(new TrackContexts(), true);
+    if (!output.isEmpty()) {
+      start();
+      var duration = env.getOptions().get(DURATION_OPTION);
+      if (duration > 0) {
+        scheduler().schedule(this::stopSampling, duration, TimeUnit.SECONDS);
+      }
+    }
+  }
+
+  @Override
+  protected void onDispose(Env env) {
+    stopSampling();
+    if (!output.isEmpty() && !samples.isEmpty()) {
+      writeOutput();
+    }
+    synchronized (this) {
+      if (executor != null) {
+        executor.shutdownNow();
+        executor = null;
+      }
+    }
+  }
+
+  @Override
+  protected OptionDescriptors getOptionDescriptors() {
+    var options = new ArrayList<OptionDescriptor>();
+    options.add(
+        OptionDescriptor.newBuilder(OUTPUT_OPTION, SamplingProfilerService.OUTPUT_OPTION).build());
+    options.add(
+        OptionDescriptor.newBuilder(INTERVAL_OPTION, SamplingProfilerService.INTERVAL_OPTION)
+            .build());
+    options.add(
+        OptionDescriptor.newBuilder(DURATION_OPTION, SamplingProfilerService.DURATION_OPTION)
+            .build());
+    return OptionDescriptors.create(options);
+  }
+
+  @Override
+  public synchronized void start() {
+    if (sampling == null) {
+      sampling =
+          scheduler().scheduleAtFixedRate(this::sample, interval, interval, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  @Override
+  public synchronized boolean isRunning() {
+    return sampling != null;
+  }
+
+  @Override
+  public void stop(OutputStream out, Format format) throws IOException {
+    stopSampling();
+    var writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    switch (format) {
+      case COLLAPSED -> samples.writeCollapsed(writer);
+      case SPEEDSCOPE -> samples.writeSpeedscope(writer, "Enso", interval);
+    }
+    writer.flush();
+    samples.clear();
+  }
+
+  private synchronized ScheduledExecutorService scheduler() {
+    if (executor == null) {
+      executor =
+          Executors.newSingleThreadScheduledExecutor(
+              r -> {
+                var thread = new Thread(r, "Enso Sampling Profiler");
+                thread.setDaemon(true);
+                return thread;
+              });
+    }
+    return executor;
+  }
+
+  private void stopSampling() {
+    synchronized (this) {
+      if (sampling == null) {
+        return;
+      }
+      sampling.cancel(false);
+      sampling = null;
+    }
+    pending.values().forEach(f -> f.cancel(false));
+    pending.clear();
+  }
+
+  private void sample() {
+    for (var ctx : contexts) {
+      var previous = pending.get(ctx);
+      if (previous != null && !previous.isDone()) {
+        continue;
+      }
+      try {
+        pending.put(ctx, env.submitThreadLocal(ctx, null, sampleStack));
+      } catch (IllegalStateException ex) {
+        // the context is being closed
+        pending.remove(ctx);
+      }
+    }
+  }
+
+  private void writeOutput() {
+    var format = Format.forFileName(output);
+    try (var out = Files.newOutputStream(Path.of(output))) {
+      stop(out, format == null ? Format.COLLAPSED : format);
+    } catch (IOException | InvalidPathException ex) {
+      logger.log(Level.SEVERE, "Failed to write the profile to " + output, ex);
+    }
+  }
+
+  @CompilerDirectives.TruffleBoundary
+  private List<StackSamples.Frame> captureStack() {
+    var stack = new ArrayList<StackSamples.Frame>();
+    Truffle.getRuntime()
+        .iterateFrames(
+            frame -> {
+              if (frame.getCallTarget() instanceof RootCallTarget target
+                  && target.getRootNode() instanceof EnsoRootNode root) {
+                stack.add(frames.computeIfAbsent(root, SamplingProfilerInstrument::frameOf));
+              }
+              return null;
+            });
+    Collections.reverse(stack);
+    return stack;
+  }
+
+  private static StackSamples.Frame frameOf(RootNode root) {
+    var section = root.getSourceSection();
+    if (section == null || !section.isAvailable()) {
+      return new StackSamples.Frame(root.getQualifiedName(), null, 0);
+    }
+    return new StackSamples.Frame(
+        root.getQualifiedName(), section.getSource().getName(), section.getStartLine());
+  }
+
+  /** Records the stack of the thread it is performed on. */
+  private final class SampleStack extends ThreadLocalAction {
+    private SampleStack() {
+      super(false, false);
+    }
+
+    @Override
+    protected void perform(Access access) {
+      var stack = captureStack();
+      if (!stack.isEmpty()) {
+        samples.add(stack);
+      }
+    }
+  }
+
+  /** Keeps track of the contexts to sample. */
+  private final class TrackContexts implements ContextsListener {
+    @Override
+    public void onContextCreated(TruffleContext context) {
+      contexts.add(context);
+    }
+
+    @Override
+    public void onLanguageContextCreated(TruffleContext context, LanguageInfo language) {}
+
+    @Override
+    public void onLanguageContextInitialized(TruffleContext context, LanguageInfo language) {}
+
+    @Override
+    public void onLanguageContextFinalized(TruffleContext context, LanguageInfo language) {}
+
+    @Override
+    public void onLanguageContextDisposed(TruffleContext context, LanguageInfo language) {}
+
+    @Override
+    public void onContextClosed(TruffleContext context) {
+      contexts.remove(context);
+      var action = pending.remove(context);
+      if (action != null) {
+        action.cancel(false);
+      }
+      if (contexts.isEmpty() && !output.isEmpty()) {
+        // an explicitly created engine may never be closed, so write the profile now
+        stopSampling();
+        writeOutput();
+      }
+    }
+  }
+}
@@ -0,0 +1,163 @@
+package org.enso.interpreter.instrument.sampler;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/** Stacks of Enso methods collected by the {@link SamplingProfilerInstrument}. */
+final class StackSamples {
+  private final Map<List<Frame>, LongAdder> stacks = new ConcurrentHashMap<>();
+
+  /**
+   * Records a single sample.
+   *
+   * @param stack the sampled stack, the outermost frame first
+   */
+  void add(List<Frame> stack) {
+    stacks.computeIfAbsent(List.copyOf(stack), k -> new LongAdder()).increment();
+  }
+
+  /**
+   * @return {@code true} if no sample was recorded
+   */
+  boolean isEmpty() {
+    return stacks.isEmpty();
+  }
+
+  /** Discards all recorded samples. */
+  void clear() {
+    stacks.clear();
+  }
+
+  /**
+   * Writes the samples in the collapsed stack format. Every line holds the frames of a unique stack
+   * separated by semicolons, followed by the number of its samples.
+   *
+   * @param out the writer
+   * @throws IOException if the writing fails
+   */
+  void writeCollapsed(Writer out) throws IOException {
+    for (var e : stacks.entrySet()) {
+      var first = true;
+      for (var frame : e.getKey()) {
+        if (!first) {
+          out.write(';');
+        }
+        out.write(frame.label().replace(';', ','));
+        first = false;
+      }
+      out.write(' ');
+      out.write(Long.toString(e.getValue().sum()));
+      out.write('\n');
+    }
+  }
+
+  /**
+   * Writes the samples as a sampled profile of the speedscope file format.
+   *
+   * @param out the writer
+   * @param name the name of the profile
+   * @param interval the sampling interval in milliseconds
+   * @throws IOException if the writing fails
+   */
+  void writeSpeedscope(Writer out, String name, long interval) throws IOException {
+    var frameIds = new HashMap<Frame, Integer>();
+    var frames = new ArrayList<Frame>();
+    var samples = new StringBuilder();
+    var weights = new StringBuilder();
+    var total = 0L;
+    for (var e : stacks.entrySet()) {
+      if (!samples.isEmpty()) {
+        samples.append(',');
+        weights.append(',');
+      }
+      samples.append('[');
+      var first = true;
+      for (var frame : e.getKey()) {
+        var id =
+            frameIds.computeIfAbsent(
+                frame,
+                f -> {
+                  frames.add(f);
+                  return frames.size() - 1;
+                });
+        if (!first) {
+          samples.append(',');
+        }
+        samples.append(id);
+        first = false;
+      }
+      samples.append(']');
+      var weight = e.getValue().sum() * interval;
+      weights.append(weight);
+      total += weight;
+    }
+
+    out.write("{\"$schema\":\"https://www.speedscope.app/file-format-schema.json\",");
+    out.write("\"shared\":{\"frames\":[");
+    for (var i = 0; i < frames.size(); i++) {
+      var frame = frames.get(i);
+      if (i > 0) {
+        out.write(',');
+      }
+      out.write("{\"name\":");
+      writeString(out, frame.name());
+      if (frame.file() != null) {
+        out.write(",\"file\":");
+        writeString(out, frame.file());
+        out.write(",\"line\":");
+        out.write(Integer.toString(frame.line()));
+      }
+      out.write('}');
+    }
+    out.write("]},\"profiles\":[{\"type\":\"sampled\",\"name\":");
+    writeString(out, name);
+    out.write(",\"unit\":\"milliseconds\",\"startValue\":0,\"endValue\":");
+    out.write(Long.toString(total));
+    out.write(",\"samples\":[");
+    out.write(samples.toString());
+    out.write("],\"weights\":[");
+    out.write(weights.toString());
+    out.write("]}],\"exporter\":\"enso\"}\n");
+  }
+
+  private static void writeString(Writer out, String text) throws IOException {
+    out.write('"');
+    for (var i = 0; i < text.length(); i++) {
+      var ch = text.charAt(i);
+      switch (ch) {
+        case '"' -> out.write("\\\"");
+        case '\\' -> out.write("\\\\");
+        case '\n' -> out.write("\\n");
+        case '\r' -> out.write("\\r");
+        case '\t' -> out.write("\\t");
+        default -> {
+          if (ch < 0x20) {
+            out.write(String.format("\\u%04x", (int) ch));
+          } else {
+            out.write(ch);
+          }
+        }
+      }
+    }
+    out.write('"');
+  }
+
+  /**
+   * A sampled frame of an Enso function.
+   *
+   * @param name the qualified name of the function
+   * @param file the name of the source file or {@code null} if unknown
+   * @param line the line where the function starts
+   */
+  record Frame(String name, String file, int line) {
+    String label() {
+      return file == null ? name : name + " (" + file + ":" + line + ")";
+    }
+  }
+}
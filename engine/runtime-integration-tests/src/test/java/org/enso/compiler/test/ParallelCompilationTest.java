@@ -0,0 +1,188 @@
+package org.enso.compiler.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.HashMap;
+import java.util.Map;
+import org.enso.common.CompilationStage;
+import org.enso.common.RuntimeOptions;
+import org.enso.compiler.core.IR;
+import org.enso.pkg.QualifiedName;
+import org.enso.polyglot.PolyglotContext;
+import org.enso.test.utils.ContextUtils;
+import org.enso.test.utils.ModuleUtils;
+import org.enso.test.utils.ProjectUtils;
+import org.enso.test.utils.SourceModule;
+import org.graalvm.polyglot.Context;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Checks that compiling modules in parallel along the import graph produces the same IR as the
+ * sequential compilation.
+ */
+public class ParallelCompilationTest {
+  @ClassRule public static final TemporaryFolder TEMP = new TemporaryFolder();
+
+  private static final List<String> MODULES =
+      List.of("Main", "Base", "Left", "Right", "Cycle_A", "Cycle_B", "Independent");
+
+  private static Path projDir;
+
+  @BeforeClass
+  public static void createProject() throws IOException {
+    // Left and Right import Base, Main imports both of them, Cycle_A and Cycle_B import each
+    // other and Independent does not import anything.
+    var base =
+        module(
+            "Base",
+            """
+            type Shape
+                Circle radius
+                Square side
+
+                area self = case self of
+                    Shape.Circle r -> r * r * 3
+                    Shape.Square s -> s * s
+
+            default_shape = Shape.Circle 1
+            """);
+    var left =
+        module(
+            "Left",
+            """
+            import project.Base.Shape
+            from project.Base import default_shape
+
+            type Left
+                Value (shape : Shape)
+
+                grow self -> Left = Left.Value (Shape.Square self.shape.area)
+
+            make = Left.Value default_shape
+            """);
+    var right =
+        module(
+            "Right",
+            """
+            import project.Base.Shape
+
+            type Right
+                Value (first : Shape) (second : Shape)
+
+                total self = self.first.area + self.second.area
+
+            make n = Right.Value (Shape.Square n) (Shape.Circle n)
+            """);
+    var cycleA =
+        module(
+            "Cycle_A",
+            """
+            import project.Cycle_B
+
+            ping n = if n == 0 then "A" else Cycle_B.pong n-1
+            """);
+    var cycleB =
+        module(
+            "Cycle_B",
+            """
+            import project.Cycle_A
+
+            pong n = if n == 0 then "B" else Cycle_A.ping n-1
+            """);
+    var independent =
+        module(
+            "Independent",
+            """
+            type Counter
+                Value count
+
+                next self = Counter.Value self.count+1
+
+            start = Counter.Value 0
+            """);
+    var main =
+        module(
+            "Main",
+            """
+            import project.Left
+            import project.Right
+            import project.Cycle_A
+            import project.Independent
+
+            main =
+                l = Left.make.grow
+                r = Right.make 4
+                text = Cycle_A.ping 3
+                if text == "B" then l.shape.area + r.total else Independent.start.next.count
+            """);
+    projDir = TEMP.newFolder().toPath();
+    ProjectUtils.createProject(
+        "Proj", Set.of(base, left, right, cycleA, cycleB, independent, main), projDir);
+  }
+
+  @Test
+  public void parallelCompilationProducesTheSameIrAsSequentialCompilation() {
+    var sequential = compileProject(false);
+    for (int i = 0; i < 3; i++) {
+      var parallel = compileProject(true);
+      for (var name : MODULES) {
+        assertEquals("IR of " + name + " in run " + i, sequential.get(name), parallel.get(name));
+      }
+    }
+  }
+
+  /** Compiles the project, returning a description of the IR of every module by its name. */
+  private static Map<String, String> compileProject(boolean parallel) {
+    var result = new HashMap<String, String>();
+    try (var ctx = createContext(parallel)) {
+      new PolyglotContext(ctx).getTopScope().compile(true);
+      for (var name : MODULES) {
+        var module = ModuleUtils.getLoadedModule(ctx, "local.Proj." + name);
+        assertNotNull("Module " + name + " is loaded", module);
+        assertEquals(
+            "Module " + name + " is compiled",
+            CompilationStage.AFTER_CODEGEN,
+            module.getCompilationStage());
+        result.put(name, describe(module.getIr()));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Describes the code of the IR along with the kind of every node and the passes that attached
+   * metadata to it. The identifiers of the nodes differ between compilations, so they are left out.
+   */
+  private static String describe(org.enso.compiler.core.ir.Module ir) {
+    var sb = new StringBuilder(ir.showCode()).append('\n');
+    IR.preorder(
+        ir,
+        node -> {
+          sb.append(node.getClass().getSimpleName());
+          sb.append(' ').append(node.passData());
+          var diagnostics = node.getDiagnostics();
+          sb.append(' ').append(diagnostics == null ? 0 : diagnostics.toList().size());
+          sb.append('\n');
+        });
+    return sb.toString();
+  }
+
+  private static Context createContext(boolean parallel) {
+    return ContextUtils.defaultContextBuilder()
+        .option(RuntimeOptions.PROJECT_ROOT, projDir.toAbsolutePath().toString())
+        .option(RuntimeOptions.PARALLEL_COMPILATION, Boolean.toString(parallel))
+        .build();
+  }
+
+  private static SourceModule module(String name, String code) {
+    return new SourceModule(QualifiedName.fromString(name), code);
+  }
+}
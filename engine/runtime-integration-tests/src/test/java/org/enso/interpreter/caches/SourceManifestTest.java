@@ -0,0 +1,160 @@
+package org.enso.interpreter.caches;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.oracle.truffle.api.TruffleFile;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.enso.filesystem.ModificationTimes;
+import org.enso.interpreter.runtime.EnsoContext;
+import org.enso.pkg.QualifiedName;
+import org.enso.pkg.SourceFile;
+import org.enso.test.utils.ContextUtils;
+import org.graalvm.polyglot.Context;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class SourceManifestTest {
+  private static Context ctx;
+  private static EnsoContext ensoCtx;
+
+  @Rule public TemporaryFolder tempFolder = new TemporaryFolder();
+
+  private File first;
+  private File second;
+
+  @BeforeClass
+  public static void initializeContext() {
+    ctx = ContextUtils.createDefaultContext();
+    ensoCtx = ContextUtils.leakContext(ctx);
+  }
+
+  @AfterClass
+  public static void disposeContext() {
+    ctx.close();
+    ctx = null;
+    ensoCtx = null;
+  }
+
+  @Before
+  public void createSources() throws IOException {
+    first = tempFolder.newFile("First.enso");
+    second = tempFolder.newFile("Second.enso");
+    Files.writeString(first.toPath(), "main = 1");
+    Files.writeString(second.toPath(), "main = 2");
+    modifiedAgo(first, 60_000);
+    modifiedAgo(second, 60_000);
+  }
+
+  @Test
+  public void unchangedSourcesAreNotReadAgain() throws Exception {
+    var initial = computeDigest(SourceManifest.empty());
+    assertEquals(2, initial.rehashed());
+    assertTrue(initial.changed());
+
+    var next = computeDigest(initial.manifest());
+    assertEquals(0, next.rehashed());
+    assertFalse(next.changed());
+    assertEquals(initial.digest(), next.digest());
+  }
+
+  @Test
+  public void digestIsTheSameAsWhenReadingAllSources() throws Exception {
+    var initial = computeDigest(SourceManifest.empty());
+    var next = computeDigest(initial.manifest());
+    var full =
+        ContextUtils.executeInContext(
+                ctx, () -> CacheUtils.computeDigestOfLibrarySources(sources()))
+            .asString();
+    assertEquals(full, next.digest());
+  }
+
+  @Test
+  public void modifiedSourceIsReadAgain() throws Exception {
+    var initial = computeDigest(SourceManifest.empty());
+    Files.writeString(second.toPath(), "main = 42");
+    modifiedAgo(second, 30_000);
+
+    var next = computeDigest(initial.manifest());
+    assertEquals(1, next.rehashed());
+    assertTrue(next.changed());
+    assertNotEquals(initial.digest(), next.digest());
+  }
+
+  @Test
+  public void sourceModifiedWithinTheTimestampGranularityIsAlwaysReadAgain() throws Exception {
+    var modified = modifiedAgo(second, ModificationTimes.GRANULARITY / 2);
+    var initial = computeDigest(SourceManifest.empty());
+
+    // The file changes again, keeping its size and the coarse modification time.
+    Files.writeString(second.toPath(), "main = 3");
+    Files.setLastModifiedTime(second.toPath(), modified);
+
+    var next = computeDigest(initial.manifest());
+    assertEquals(1, next.rehashed());
+    assertNotEquals(initial.digest(), next.digest());
+  }
+
+  @Test
+  public void manifestIsWrittenAndReadBack() throws Exception {
+    var initial = computeDigest(SourceManifest.empty());
+    var manifestFile = truffleFile(new File(tempFolder.getRoot(), "sources.manifest"));
+    assertTrue(
+        ContextUtils.executeInContext(ctx, () -> initial.manifest().write(manifestFile))
+            .asBoolean());
+
+    var read =
+        ContextUtils.executeInContext(ctx, () -> SourceManifest.read(manifestFile))
+            .<SourceManifest>asHostObject();
+    var next = computeDigest(read);
+    assertEquals(0, next.rehashed());
+    assertEquals(initial.digest(), next.digest());
+  }
+
+  @Test
+  public void invalidManifestIsIgnored() throws Exception {
+    var manifest = new File(tempFolder.getRoot(), "sources.manifest");
+    Files.writeString(manifest.toPath(), "not a manifest");
+    var manifestFile = truffleFile(manifest);
+
+    var read =
+        ContextUtils.executeInContext(ctx, () -> SourceManifest.read(manifestFile))
+            .<SourceManifest>asHostObject();
+    var result = computeDigest(read);
+    assertEquals(2, result.rehashed());
+    assertEquals(computeDigest(SourceManifest.empty()).digest(), result.digest());
+  }
+
+  private SourceManifest.Result computeDigest(SourceManifest manifest) {
+    return ContextUtils.executeInContext(ctx, () -> manifest.computeDigest(sources()))
+        .asHostObject();
+  }
+
+  private List<SourceFile<TruffleFile>> sources() {
+    var sources = new ArrayList<SourceFile<TruffleFile>>();
+    sources.add(new SourceFile<>(QualifiedName.fromString("Lib.Second"), truffleFile(second)));
+    sources.add(new SourceFile<>(QualifiedName.fromString("Lib.First"), truffleFile(first)));
+    return sources;
+  }
+
+  private static TruffleFile truffleFile(File file) {
+    return ensoCtx.getTruffleFile(file);
+  }
+
+  private static FileTime modifiedAgo(File file, long millis) throws IOException {
+    var time = FileTime.fromMillis(System.currentTimeMillis() - millis);
+    Files.setLastModifiedTime(file.toPath(), time);
+    return time;
+  }
+}
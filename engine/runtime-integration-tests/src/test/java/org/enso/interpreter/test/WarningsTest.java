@@ -16,14 +16,11 @@ import org.enso.common.LanguageInfo;
 import org.enso.common.MethodNames;
 import org.enso.interpreter.node.expression.foreign.HostValueToEnsoNode;
 import org.enso.interpreter.runtime.EnsoContext;
-import org.enso.interpreter.runtime.data.hash.EnsoHashMap;
-import org.enso.interpreter.runtime.data.hash.HashMapGetNode;
-import org.enso.interpreter.runtime.data.hash.HashMapInsertNode;
-import org.enso.interpreter.runtime.data.hash.HashMapSizeNode;
 import org.enso.interpreter.runtime.data.text.Text;
 import org.enso.interpreter.runtime.data.vector.ArrayLikeHelpers;
 import org.enso.interpreter.runtime.warning.AppendWarningNode;
 import org.enso.interpreter.runtime.warning.Warning;
+import org.enso.interpreter.runtime.warning.WarningSet;
 import org.enso.interpreter.runtime.warning.WarningsLibrary;
 import org.enso.interpreter.runtime.warning.WithWarnings;
 import org.enso.test.utils.ContextUtils;
@@ -90,6 +87,36 @@ public class WarningsTest {
         });
   }
 
+  @Test
+  public void warningSetDeduplicatesAndKeepsOrderBeyondInlineCapacity() {
+    ContextUtils.executeInContext(
+        ctx,
+        () -> {
+          var warns = new Warning[20];
+          for (int i = 0; i < warns.length; i++) {
+            warns[i] = Warning.create(ensoContext, "w" + i, this);
+          }
+          var set = WarningSet.fromArray(warns);
+          assertEquals(warns.length, set.size());
+          Assert.assertArrayEquals(warns, set.toArray());
+
+          var same = set.add(warns[3]).addAll(set, Long.MAX_VALUE);
+          assertEquals("Duplicates are ignored", warns.length, same.size());
+          Assert.assertArrayEquals(warns, same.toArray());
+
+          var extra = Warning.create(ensoContext, "extra", this);
+          var extended = set.add(extra);
+          assertEquals(warns.length + 1, extended.size());
+          assertEquals("Original set is unchanged", warns.length, set.size());
+          assertThat(extended.get(extra.getSequenceId()), is(sameInstance(extra)));
+          assertThat(set.contains(extra.getSequenceId()), is(false));
+
+          var limited = WarningSet.empty().add(extra).addAll(set, 5);
+          assertEquals(6, limited.size());
+          return null;
+        });
+  }
+
   @Test
   public void wrapAndUnwrap() {
     var value = 42;
@@ -276,24 +303,20 @@ public class WarningsTest {
         () -> {
           var appendWarnNode = AppendWarningNode.getUncached();
           var warnsLib = WarningsLibrary.getUncached();
-          var hashMapSizeNode = HashMapSizeNode.getUncached();
-          var hashMapGetNode = HashMapGetNode.getUncached();
-
           var warn1 = Warning.create(ensoContext, 1L, null);
           var warn2 = Warning.create(ensoContext, 2L, null);
-          var warnsMap = createWarningsMap(List.of(warn1, warn2));
+          var warns = createWarningSet(List.of(warn1, warn2));
           var text1 = Text.create("1");
           var text2 = Text.create("2");
           var arr = ArrayLikeHelpers.wrapEnsoObjects(text1, text2);
-          var arrWithWarns = appendWarnNode.executeAppend(null, arr, warnsMap);
+          var arrWithWarns = appendWarnNode.executeAppend(null, arr, warns);
           assertThat(warnsLib.hasWarnings(arrWithWarns), is(true));
           var gatheredWarns = warnsLib.getWarnings(arrWithWarns, false);
-          assertThat("Hash size should be 2", hashMapSizeNode.execute(gatheredWarns), is(2L));
-          var warn1FromMap =
-              hashMapGetNode.execute(null, null, gatheredWarns, warn1.getSequenceId(), null);
+          assertThat("Set size should be 2", gatheredWarns.size(), is(2));
+          var warn1FromSet = gatheredWarns.get(warn1.getSequenceId());
           assertThat(
               "Original warning and warning gathered via WarningsLibrary should be the same object",
-              warn1 == warn1FromMap,
+              warn1 == warn1FromSet,
               is(true));
           return null;
         });
@@ -313,24 +336,18 @@ public class WarningsTest {
   }
 
   @Test
-  public void nothingWithWarn_FromMapToArray() {
+  public void nothingWithWarn_ToArray() {
     ContextUtils.executeInContext(
         ctx,
         () -> {
           var warn = Warning.create(ensoContext, ensoContext.getNothing(), null);
-          var warnsMap = createWarningsMap(List.of(warn));
-          var warns = Warning.fromMapToArray(warnsMap);
+          var warns = createWarningSet(List.of(warn)).toArray();
           assertThat(warns.length, is(1));
           return null;
         });
   }
 
-  private EnsoHashMap createWarningsMap(List<Warning> warns) {
-    var map = EnsoHashMap.empty();
-    var mapInsertNode = HashMapInsertNode.getUncached();
-    for (var warn : warns) {
-      map = mapInsertNode.execute(null, map, warn.getSequenceId(), warn);
-    }
-    return map;
+  private WarningSet createWarningSet(List<Warning> warns) {
+    return WarningSet.fromArray(warns.toArray(new Warning[0]));
   }
 }
@@ -0,0 +1,104 @@
+package org.enso.interpreter.test.instrument;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import org.enso.common.MethodNames;
+import org.enso.common.SamplingProfilerService;
+import org.enso.test.utils.ContextUtils;
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Source;
+import org.graalvm.polyglot.Value;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SamplingProfilerTest {
+  private Context ctx;
+  private SamplingProfilerService profiler;
+
+  @Before
+  public void initContext() {
+    this.ctx = ContextUtils.defaultContextBuilder().build();
+    var instrument = ctx.getEngine().getInstruments().get(SamplingProfilerService.INSTRUMENT_NAME);
+    assertNotNull("Sampling profiler is registered", instrument);
+    this.profiler = instrument.lookup(SamplingProfilerService.class);
+    assertNotNull("Sampling profiler service is available", profiler);
+  }
+
+  @After
+  public void disposeContext() {
+    this.ctx.close();
+    this.ctx = null;
+  }
+
+  @Test
+  public void formatForFileName() {
+    assertEquals(
+        SamplingProfilerService.Format.SPEEDSCOPE,
+        SamplingProfilerService.Format.forFileName("/tmp/run.json"));
+    assertEquals(
+        SamplingProfilerService.Format.COLLAPSED,
+        SamplingProfilerService.Format.forFileName("run.folded"));
+    assertEquals(null, SamplingProfilerService.Format.forFileName("run.npss"));
+  }
+
+  @Test
+  public void samplesAreNamedByEnsoMethods() throws Exception {
+    var spin = busyFunction();
+
+    profiler.start();
+    assertTrue(profiler.isRunning());
+    spinFor(spin, 500);
+    var out = new ByteArrayOutputStream();
+    profiler.stop(out, SamplingProfilerService.Format.COLLAPSED);
+    assertFalse(profiler.isRunning());
+
+    var profile = out.toString(StandardCharsets.UTF_8);
+    assertTrue("Enso method is sampled:\n" + profile, profile.contains("spin"));
+    assertTrue("Source file is recorded:\n" + profile, profile.contains("busy.enso:"));
+  }
+
+  @Test
+  public void speedscopeProfile() throws Exception {
+    var spin = busyFunction();
+
+    profiler.start();
+    spinFor(spin, 500);
+    var out = new ByteArrayOutputStream();
+    profiler.stop(out, SamplingProfilerService.Format.SPEEDSCOPE);
+
+    var profile = out.toString(StandardCharsets.UTF_8);
+    assertTrue(profile, profile.startsWith("{\"$schema\":\"https://www.speedscope.app/"));
+    assertTrue(profile, profile.contains("\"type\":\"sampled\""));
+    assertTrue(profile, profile.contains("spin"));
+  }
+
+  private Value busyFunction() throws Exception {
+    var code =
+        Source.newBuilder(
+                "enso",
+                """
+                import Standard.Base.Data.Numbers
+                spin n =
+                    go i acc = if i <= 0 then acc else
+                        @Tail_Call go i-1 acc+1
+                    go n 0
+                """,
+                "busy.enso")
+            .build();
+    var m = ctx.eval(code);
+    return m.invokeMember(MethodNames.Module.EVAL_EXPRESSION, "spin");
+  }
+
+  private static void spinFor(Value spin, long millis) {
+    var until = System.currentTimeMillis() + millis;
+    while (System.currentTimeMillis() < until) {
+      assertEquals(100000, spin.execute(100000).asInt());
+    }
+  }
+}
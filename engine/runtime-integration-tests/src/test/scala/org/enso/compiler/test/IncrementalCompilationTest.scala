@@ -0,0 +1,175 @@
+package org.enso.compiler.test
+
+import org.enso.compiler.Passes
+import org.enso.compiler.context.ModuleContext
+import org.enso.compiler.core.ir.{Module, Type}
+import org.enso.compiler.core.ir.module.scope.definition.Method
+import org.enso.compiler.pass.{PassConfiguration, PassManager}
+import org.enso.compiler.phase.IncrementalCompilation
+import org.enso.pkg.QualifiedName
+
+class IncrementalCompilationTest extends CompilerTest {
+
+  // === Test Setup ===========================================================
+
+  val passes = new Passes(defaultConfig)
+
+  implicit val ctx: ModuleContext = buildModuleContext()
+
+  implicit val passManager: PassManager =
+    new PassManager(List(passes.moduleDiscoveryPasses), PassConfiguration())
+
+  val moduleName: QualifiedName = QualifiedName.simpleName("Test_Module")
+
+  /** The outcome of compiling an edited module.
+    *
+    * @param previous the IR of the previous version of the module
+    * @param prepared the result of preparing the edited module
+    * @param completed the complete IR of the edited module
+    */
+  case class Recompiled(
+    previous: Module,
+    prepared: IncrementalCompilation.Prepared,
+    completed: Module
+  )
+
+  def recompile(
+    before: String,
+    after: String,
+    dependenciesBefore: Seq[(QualifiedName, Module)] = Seq(),
+    dependenciesAfter: Seq[(QualifiedName, Module)]  = Seq()
+  ): Recompiled = {
+    val incremental = new IncrementalCompilation
+    val previous    = before.preprocessModule
+    incremental.prepare(moduleName, previous, before, dependenciesBefore)
+    incremental.complete(moduleName, previous, identity)
+
+    val prepared =
+      incremental.prepare(
+        moduleName,
+        after.preprocessModule,
+        after,
+        dependenciesAfter
+      )
+    val completed = incremental.complete(moduleName, prepared.ir, identity)
+    Recompiled(previous, prepared, completed)
+  }
+
+  def methods(ir: Module): List[Method.Explicit] =
+    ir.bindings.collect { case m: Method.Explicit => m }
+
+  def method(ir: Module, name: String): Method.Explicit =
+    methods(ir).find(_.methodName.name == name).get
+
+  // === The Tests ============================================================
+
+  "Incremental compilation" should {
+    "only pass the edited methods to the module passes" in {
+      val result = recompile(
+        """foo = 1
+          |bar x = x + 1
+          |main = foo + bar 2
+          |""".stripMargin,
+        """foo = 1
+          |bar x = x + 1
+          |main = foo + bar 40
+          |""".stripMargin
+      )
+
+      result.prepared.reused shouldEqual 2
+      result.prepared.methods shouldEqual 3
+      methods(result.prepared.ir).map(_.methodName.name) shouldEqual List(
+        "main"
+      )
+    }
+
+    "put the reused methods back in their original order" in {
+      val result = recompile(
+        """foo = 1
+          |main = foo + 2
+          |bar = 3
+          |""".stripMargin,
+        """foo = 1
+          |main = foo + 42
+          |bar = 3
+          |""".stripMargin
+      )
+
+      result.prepared.reused shouldEqual 1
+      methods(result.completed).map(_.methodName.name) shouldEqual List(
+        "foo",
+        "main",
+        "bar"
+      )
+      method(result.completed, "foo") should be theSameInstanceAs method(
+        result.previous,
+        "foo"
+      )
+    }
+
+    "reuse type signatures together with their methods" in {
+      val result = recompile(
+        """foo : Integer
+          |foo = 1
+          |main = foo
+          |""".stripMargin,
+        """foo : Integer
+          |foo = 1
+          |main = foo + 1
+          |""".stripMargin
+      )
+
+      result.prepared.reused shouldEqual 1
+      val ascriptions = result.prepared.ir.bindings.collect {
+        case a: Type.Ascription => a
+      }
+      ascriptions shouldBe empty
+    }
+
+    "recompile the methods moved by an edit" in {
+      val result = recompile(
+        """foo = 1
+          |main = foo
+          |""".stripMargin,
+        """foo = 10
+          |main = foo
+          |""".stripMargin
+      )
+
+      result.prepared.reused shouldEqual 0
+      methods(result.prepared.ir).length shouldEqual 2
+    }
+
+    "recompile the whole module when its signature changes" in {
+      val result = recompile(
+        """foo = 1
+          |main = foo
+          |""".stripMargin,
+        """foo = 1
+          |main = foo
+          |baz = 2
+          |""".stripMargin
+      )
+
+      result.prepared.reused shouldEqual 0
+    }
+
+    "recompile the whole module when a dependency was recompiled" in {
+      val dependency = QualifiedName.simpleName("Dependency")
+      val before     = "x = 1".preprocessModule
+      val after      = "x = 1".preprocessModule
+      val result = recompile(
+        """foo = 1
+          |main = foo
+          |""".stripMargin,
+        """foo = 1
+          |main = foo + 1
+          |""".stripMargin,
+        dependenciesBefore = Seq((dependency, before)),
+        dependenciesAfter  = Seq((dependency, after))
+      )
+
+      result.prepared.reused shouldEqual 0
+    }
+  }
+}
@@ -4271,6 +4271,102 @@ class RuntimeServerTest
     context.consumeOut shouldEqual List()
   }
 
+  it should "run both the edited and the reused methods after an edit" in {
+    val contextId  = UUID.randomUUID()
+    val requestId  = UUID.randomUUID()
+    val moduleName = "Enso_Test.Test.Main"
+
+    context.send(Api.Request(requestId, Api.CreateContextRequest(contextId)))
+    context.receive shouldEqual Some(
+      Api.Response(requestId, Api.CreateContextResponse(contextId))
+    )
+
+    val code =
+      """import Standard.Base.IO
+        |
+        |type Counter
+        |    Value n
+        |    twice self = self.n * 2
+        |    make n = Counter.Value n
+        |
+        |helper x = x + 1
+        |
+        |main =
+        |    IO.println (helper 1)
+        |    IO.println (Counter.make 5).twice
+        |    IO.println (Counter.twice (Counter.Value 7))
+        |    IO.println greeting
+        |
+        |greeting = "hello"
+        |""".stripMargin.linesIterator.mkString("\n")
+    val mainFile = context.writeMain(code)
+
+    context.send(
+      Api.Request(requestId, Api.OpenFileRequest(mainFile, code))
+    )
+    context.receive shouldEqual Some(
+      Api.Response(Some(requestId), Api.OpenFileResponse)
+    )
+
+    context.send(
+      Api.Request(
+        requestId,
+        Api.PushContextRequest(
+          contextId,
+          Api.StackItem
+            .ExplicitCall(
+              Api.MethodPointer(moduleName, moduleName, "main"),
+              None,
+              Vector()
+            )
+        )
+      )
+    )
+    context.receiveNIgnoreStdLib(2) should contain theSameElementsAs Seq(
+      Api.Response(requestId, Api.PushContextResponse(contextId)),
+      context.executionComplete(contextId)
+    )
+    context.consumeOut shouldEqual List("2", "10", "14", "hello")
+
+    def edit(line: Int, start: Int, end: Int, text: String): Unit = {
+      context.send(
+        Api.Request(
+          Api.EditFileNotification(
+            mainFile,
+            Seq(
+              TextEdit(
+                model.Range(
+                  model.Position(line, start),
+                  model.Position(line, end)
+                ),
+                text
+              )
+            ),
+            execute = true,
+            idMap   = None
+          )
+        )
+      )
+      context.receiveN(1) shouldEqual Seq(
+        context.executionComplete(contextId)
+      )
+    }
+
+    // The other methods, including main, keep their compiled IR
+    edit(15, 12, 17, "world")
+    context.consumeOut shouldEqual List("2", "10", "14", "world")
+
+    edit(7, 15, 16, "2")
+    context.consumeOut shouldEqual List("3", "10", "14", "world")
+
+    // The method is called both on an instance and through its static wrapper
+    edit(4, 26, 27, "3")
+    context.consumeOut shouldEqual List("3", "15", "21", "world")
+
+    context.send(Api.Request(Api.CloseFileNotification(mainFile)))
+    context.consumeOut shouldEqual List()
+  }
+
   it should "support file modifications after reopening the file" in {
     val contextId = UUID.randomUUID()
     val requestId = UUID.randomUUID()
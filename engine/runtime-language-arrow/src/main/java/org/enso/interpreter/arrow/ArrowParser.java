@@ -17,8 +17,8 @@ public final class ArrowParser {
       try {
         var layout = LogicalLayout.valueOf(m.group(2));
         var mode = Mode.parse(m.group(1));
-        if (layout != null && mode != null) {
-          return new Result(PhysicalLayout.Primitive, layout, mode);
+        if (layout != null && mode != null && mode.supports(layout)) {
+          return new Result(layout.physicalLayout(), layout, mode);
         }
       } catch (IllegalArgumentException iae) {
         // propagate warning
@@ -27,12 +27,24 @@ public final class ArrowParser {
     return null;
   }
 
-  private static final Pattern PATTERN = Pattern.compile("^([a-z\\+]+)\\[(.+)\\]$");
+  private static final Pattern PATTERN = Pattern.compile("^([a-z\\+\\-\\*/<>=]+)\\[(.+)\\]$");
 
   public enum Mode {
     Allocate("new"),
     Cast("cast"),
-    Plus("+");
+    Plus("+"),
+    Minus("-"),
+    Multiply("*"),
+    Divide("/"),
+    Equals("=="),
+    Less("<"),
+    LessOrEqual("<="),
+    Greater(">"),
+    GreaterOrEqual(">="),
+    Sum("sum"),
+    Min("min"),
+    Max("max"),
+    Filter("filter");
 
     private final String op;
 
@@ -48,5 +60,29 @@ public final class ArrowParser {
       }
       return null;
     }
+
+    public boolean isArithmetic() {
+      return this == Plus || this == Minus || this == Multiply || this == Divide;
+    }
+
+    public boolean isComparison() {
+      return this == Equals
+          || this == Less
+          || this == LessOrEqual
+          || this == Greater
+          || this == GreaterOrEqual;
+    }
+
+    public boolean isReduction() {
+      return this == Sum || this == Min || this == Max;
+    }
+
+    /** Checks whether the operation can be applied to arrays of the given layout. */
+    boolean supports(LogicalLayout layout) {
+      if (isArithmetic() || isComparison() || isReduction()) {
+        return layout.isNumeric();
+      }
+      return true;
+    }
   }
 }
@@ -8,7 +8,13 @@ public enum LogicalLayout implements SizeInBytes {
   Int8(8),
   Int16(16),
   Int32(32),
-  Int64(64);
+  Int64(64),
+  Float32(32),
+  Float64(64),
+  /** Values packed into a bitmap, one bit per value. */
+  Boolean(1),
+  /** Variable-width UTF-8 strings; the size is the width of the 32-bit offsets. */
+  Utf8(32);
 
   private final int bits;
 
@@ -20,4 +26,20 @@ public enum LogicalLayout implements SizeInBytes {
   public int sizeInBytes() {
     return bits / 8;
   }
+
+  public boolean isInteger() {
+    return this == Int8 || this == Int16 || this == Int32 || this == Int64;
+  }
+
+  public boolean isFloatingPoint() {
+    return this == Float32 || this == Float64;
+  }
+
+  public boolean isNumeric() {
+    return isInteger() || isFloatingPoint();
+  }
+
+  public PhysicalLayout physicalLayout() {
+    return this == Utf8 ? PhysicalLayout.VariableSizeBinary : PhysicalLayout.Primitive;
+  }
 }
@@ -7,8 +7,11 @@ import com.oracle.truffle.api.nodes.RootNode;
 import org.enso.interpreter.arrow.ArrowLanguage;
 import org.enso.interpreter.arrow.ArrowParser;
 import org.enso.interpreter.arrow.runtime.ArrowCastToFixedSizeArrayFactory;
+import org.enso.interpreter.arrow.runtime.ArrowCastToVariableSizeArrayFactory;
 import org.enso.interpreter.arrow.runtime.ArrowFixedSizeArrayFactory;
 import org.enso.interpreter.arrow.runtime.ArrowOperationPlus;
+import org.enso.interpreter.arrow.runtime.ArrowVariableSizeArrayFactory;
+import org.enso.interpreter.arrow.runtime.ArrowVectorOperation;
 
 public class ArrowEvalNode extends RootNode {
   private final ArrowParser.Result code;
@@ -27,7 +30,15 @@ public class ArrowEvalNode extends RootNode {
       case Primitive -> switch (code.mode()) {
         case Allocate -> new ArrowFixedSizeArrayFactory(code.logicalLayout());
         case Cast -> new ArrowCastToFixedSizeArrayFactory(code.logicalLayout());
-        case Plus -> new ArrowOperationPlus(code.logicalLayout());
+        case Plus -> code.logicalLayout().isInteger()
+            ? new ArrowOperationPlus(code.logicalLayout())
+            : new ArrowVectorOperation(code.mode(), code.logicalLayout());
+        default -> new ArrowVectorOperation(code.mode(), code.logicalLayout());
+      };
+      case VariableSizeBinary -> switch (code.mode()) {
+        case Allocate -> new ArrowVariableSizeArrayFactory(code.logicalLayout());
+        case Cast -> new ArrowCastToVariableSizeArrayFactory(code.logicalLayout());
+        case Filter -> new ArrowVectorOperation(code.mode(), code.logicalLayout());
         default -> throw CompilerDirectives.shouldNotReachHere("unsupported mode");
       };
       default -> throw CompilerDirectives.shouldNotReachHere("unsupported physical layout");
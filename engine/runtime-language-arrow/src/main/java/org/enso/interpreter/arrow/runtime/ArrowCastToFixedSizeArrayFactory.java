@@ -102,6 +102,38 @@ public class ArrowCastToFixedSizeArrayFactory implements TruffleObject {
       return new ArrowFixedArrayInt(pair.buffer(), pair.at(), unit);
     }
 
+    @Specialization(guards = "receiver.getLayout() == Float32")
+    static Object doFloat32(
+        ArrowCastToFixedSizeArrayFactory receiver,
+        Object[] args,
+        @Cached.Shared("interop") @CachedLibrary(limit = "1") InteropLibrary iop)
+        throws UnsupportedMessageException, ArityException, UnsupportedTypeException {
+      var unit = LogicalLayout.Float32;
+      var pair = pointer(args, iop, unit);
+      return new ArrowFixedArrayFloat(pair.buffer(), pair.at(), unit);
+    }
+
+    @Specialization(guards = "receiver.getLayout() == Float64")
+    static Object doFloat64(
+        ArrowCastToFixedSizeArrayFactory receiver,
+        Object[] args,
+        @Cached.Shared("interop") @CachedLibrary(limit = "1") InteropLibrary iop)
+        throws UnsupportedMessageException, ArityException, UnsupportedTypeException {
+      var unit = LogicalLayout.Float64;
+      var pair = pointer(args, iop, unit);
+      return new ArrowFixedArrayFloat(pair.buffer(), pair.at(), unit);
+    }
+
+    @Specialization(guards = "receiver.getLayout() == Boolean")
+    static Object doBoolean(
+        ArrowCastToFixedSizeArrayFactory receiver,
+        Object[] args,
+        @Cached.Shared("interop") @CachedLibrary(limit = "1") InteropLibrary iop)
+        throws UnsupportedMessageException, ArityException, UnsupportedTypeException {
+      var pair = pointer(args, iop, LogicalLayout.Boolean);
+      return new ArrowFixedArrayBool(pair.buffer(), pair.at());
+    }
+
     @CompilerDirectives.TruffleBoundary
     private static BufferInt pointer(Object[] args, InteropLibrary interop, SizeInBytes unit)
         throws ArityException, UnsupportedTypeException, UnsupportedMessageException {
@@ -0,0 +1,75 @@
+package org.enso.interpreter.arrow.runtime;
+
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.interop.ArityException;
+import com.oracle.truffle.api.interop.InteropLibrary;
+import com.oracle.truffle.api.interop.TruffleObject;
+import com.oracle.truffle.api.interop.UnsupportedMessageException;
+import com.oracle.truffle.api.interop.UnsupportedTypeException;
+import com.oracle.truffle.api.library.CachedLibrary;
+import com.oracle.truffle.api.library.ExportLibrary;
+import com.oracle.truffle.api.library.ExportMessage;
+import java.nio.ByteOrder;
+import org.enso.interpreter.arrow.LogicalLayout;
+import org.enso.interpreter.arrow.util.MemoryUtil;
+
+/**
+ * Wraps memory allocated outside of the language as an {@link ArrowVariableArrayUtf8}. Expects the
+ * address of the offsets, the address of the data, the number of values and, optionally, the
+ * address of the non-null bitmap.
+ */
+@ExportLibrary(InteropLibrary.class)
+public final class ArrowCastToVariableSizeArrayFactory implements TruffleObject {
+
+  private final LogicalLayout logicalLayout;
+
+  public ArrowCastToVariableSizeArrayFactory(LogicalLayout logicalLayout) {
+    assert logicalLayout == LogicalLayout.Utf8;
+    this.logicalLayout = logicalLayout;
+  }
+
+  @ExportMessage
+  public boolean isExecutable() {
+    return true;
+  }
+
+  public LogicalLayout getLayout() {
+    return logicalLayout;
+  }
+
+  @ExportMessage
+  Object execute(Object[] args, @CachedLibrary(limit = "1") InteropLibrary iop)
+      throws UnsupportedMessageException, ArityException, UnsupportedTypeException {
+    if (args.length < 3 || args.length > 4) {
+      throw ArityException.create(3, 4, args.length);
+    }
+    var offsetsAddress = address(args[0], iop, "Address of Arrow offsets is invalid");
+    var dataAddress = address(args[1], iop, "Address of Arrow vector is invalid");
+    if (!iop.isNumber(args[2]) || !iop.fitsInInt(args[2])) {
+      throw UnsupportedTypeException.create(
+          new Object[] {args[2]}, "Size of allocated memory is invalid");
+    }
+    var size = iop.asInt(args[2]);
+    var bitmapAddress =
+        args.length == 4 ? address(args[3], iop, "Address of non-null bitmap is invalid") : 0L;
+    return wrap(offsetsAddress, dataAddress, bitmapAddress, size);
+  }
+
+  private static long address(Object arg, InteropLibrary iop, String message)
+      throws UnsupportedTypeException, UnsupportedMessageException {
+    if (!iop.isNumber(arg) || !iop.fitsInLong(arg)) {
+      throw UnsupportedTypeException.create(new Object[] {arg}, message);
+    }
+    return iop.asLong(arg);
+  }
+
+  @CompilerDirectives.TruffleBoundary
+  private static ArrowVariableArrayUtf8 wrap(
+      long offsetsAddress, long dataAddress, long bitmapAddress, int size) {
+    var offsets = MemoryUtil.directBuffer(offsetsAddress, (size + 1L) * 4);
+    offsets.order(ByteOrder.LITTLE_ENDIAN);
+    var bitmap = bitmapAddress == 0L ? null : MemoryUtil.directBuffer(bitmapAddress, (size + 7) / 8);
+    var data = MemoryUtil.directBuffer(dataAddress, offsets.getInt(size * 4));
+    return new ArrowVariableArrayUtf8(ByteBufferDirect.forBuffers(offsets, bitmap), data, size);
+  }
+}
@@ -0,0 +1,12 @@
+package org.enso.interpreter.arrow.runtime;
+
+import org.enso.interpreter.arrow.LogicalLayout;
+
+/** An Arrow array of fixed-width values, giving the vectorized operations access to its buffers. */
+interface ArrowFixedArray {
+  LogicalLayout getUnit();
+
+  ByteBufferDirect getBuffer();
+
+  int getSize();
+}
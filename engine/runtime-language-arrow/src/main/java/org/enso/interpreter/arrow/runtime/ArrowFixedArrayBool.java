@@ -0,0 +1,62 @@
+package org.enso.interpreter.arrow.runtime;
+
+import com.oracle.truffle.api.interop.InteropLibrary;
+import com.oracle.truffle.api.interop.InvalidArrayIndexException;
+import com.oracle.truffle.api.interop.TruffleObject;
+import com.oracle.truffle.api.library.ExportLibrary;
+import com.oracle.truffle.api.library.ExportMessage;
+import org.enso.interpreter.arrow.LogicalLayout;
+
+/** An array of booleans stored as a bitmap, one bit per value. */
+@ExportLibrary(InteropLibrary.class)
+public final class ArrowFixedArrayBool implements TruffleObject, ArrowFixedArray {
+  private final int size;
+  private final ByteBufferDirect buffer;
+
+  public ArrowFixedArrayBool(ByteBufferDirect buffer, int size) {
+    this.size = size;
+    this.buffer = buffer;
+  }
+
+  @Override
+  public LogicalLayout getUnit() {
+    return LogicalLayout.Boolean;
+  }
+
+  @Override
+  public ByteBufferDirect getBuffer() {
+    return buffer;
+  }
+
+  @Override
+  public int getSize() {
+    return size;
+  }
+
+  @ExportMessage
+  boolean hasArrayElements() {
+    return true;
+  }
+
+  @ExportMessage
+  Object readArrayElement(long index) throws InvalidArrayIndexException {
+    if (index >= size || index < 0) {
+      throw InvalidArrayIndexException.create(index);
+    }
+    var i = (int) index;
+    if (buffer.isNull(i)) {
+      return NullValue.get();
+    }
+    return buffer.getBit(i);
+  }
+
+  @ExportMessage
+  long getArraySize() {
+    return size;
+  }
+
+  @ExportMessage
+  boolean isArrayElementReadable(long index) {
+    return index >= 0 && index < size && !buffer.isNull((int) index);
+  }
+}
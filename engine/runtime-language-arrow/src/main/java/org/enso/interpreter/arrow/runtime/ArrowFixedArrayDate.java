@@ -16,7 +16,7 @@ import java.time.ZonedDateTime;
 import org.enso.interpreter.arrow.LogicalLayout;
 
 @ExportLibrary(InteropLibrary.class)
-public final class ArrowFixedArrayDate implements TruffleObject {
+public final class ArrowFixedArrayDate implements TruffleObject, ArrowFixedArray {
   private final int size;
   private final ByteBufferDirect buffer;
   private final LogicalLayout unit;
@@ -33,10 +33,21 @@ public final class ArrowFixedArrayDate implements TruffleObject {
     this.buffer = buffer;
   }
 
+  @Override
   public LogicalLayout getUnit() {
     return unit;
   }
 
+  @Override
+  public ByteBufferDirect getBuffer() {
+    return buffer;
+  }
+
+  @Override
+  public int getSize() {
+    return size;
+  }
+
   @ExportMessage
   public boolean hasArrayElements() {
     return true;
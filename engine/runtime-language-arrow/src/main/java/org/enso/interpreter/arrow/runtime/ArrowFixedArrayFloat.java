@@ -0,0 +1,64 @@
+package org.enso.interpreter.arrow.runtime;
+
+import com.oracle.truffle.api.interop.InteropLibrary;
+import com.oracle.truffle.api.interop.InvalidArrayIndexException;
+import com.oracle.truffle.api.interop.TruffleObject;
+import com.oracle.truffle.api.library.ExportLibrary;
+import com.oracle.truffle.api.library.ExportMessage;
+import org.enso.interpreter.arrow.LogicalLayout;
+
+@ExportLibrary(InteropLibrary.class)
+public final class ArrowFixedArrayFloat implements TruffleObject, ArrowFixedArray {
+  private final int size;
+  private final ByteBufferDirect buffer;
+  private final LogicalLayout unit;
+
+  public ArrowFixedArrayFloat(ByteBufferDirect buffer, int size, LogicalLayout unit) {
+    assert unit.isFloatingPoint();
+    this.size = size;
+    this.unit = unit;
+    this.buffer = buffer;
+  }
+
+  @Override
+  public LogicalLayout getUnit() {
+    return unit;
+  }
+
+  @Override
+  public ByteBufferDirect getBuffer() {
+    return buffer;
+  }
+
+  @Override
+  public int getSize() {
+    return size;
+  }
+
+  @ExportMessage
+  boolean hasArrayElements() {
+    return true;
+  }
+
+  @ExportMessage
+  Object readArrayElement(long index) throws InvalidArrayIndexException {
+    if (index >= size || index < 0) {
+      throw InvalidArrayIndexException.create(index);
+    }
+    var i = (int) index;
+    if (buffer.isNull(i)) {
+      return NullValue.get();
+    }
+    return VectorOperations.readDouble(buffer, unit, i);
+  }
+
+  @ExportMessage
+  long getArraySize() {
+    return size;
+  }
+
+  @ExportMessage
+  boolean isArrayElementReadable(long index) {
+    return index >= 0 && index < size && !buffer.isNull((int) index);
+  }
+}
@@ -21,7 +21,7 @@ import java.nio.ByteBuffer;
 import org.enso.interpreter.arrow.LogicalLayout;
 
 @ExportLibrary(InteropLibrary.class)
-public final class ArrowFixedArrayInt implements TruffleObject {
+public final class ArrowFixedArrayInt implements TruffleObject, ArrowFixedArray {
   private final int size;
   private final ByteBufferDirect buffer;
   private final LogicalLayout unit;
@@ -32,10 +32,21 @@ public final class ArrowFixedArrayInt implements TruffleObject {
     this.buffer = buffer;
   }
 
+  @Override
   public LogicalLayout getUnit() {
     return unit;
   }
 
+  @Override
+  public ByteBufferDirect getBuffer() {
+    return buffer;
+  }
+
+  @Override
+  public int getSize() {
+    return size;
+  }
+
   @ExportMessage
   boolean hasArrayElements() {
     return true;
@@ -22,6 +22,7 @@ public final class ArrowFixedSizeArrayBuilder implements TruffleObject {
   private final LogicalLayout unit;
   private final int size;
   private ByteBufferDirect buffer;
+  private int appended;
 
   private static final String APPEND_OP = "append";
   private static final String BUILD_OP = "build";
@@ -89,6 +90,9 @@ public final class ArrowFixedSizeArrayBuilder implements TruffleObject {
     return switch (unit) {
       case Date32, Date64 -> new ArrowFixedArrayDate(b, size, unit);
       case Int8, Int16, Int32, Int64 -> new ArrowFixedArrayInt(b, size, unit);
+      case Float32, Float64 -> new ArrowFixedArrayFloat(b, size, unit);
+      case Boolean -> new ArrowFixedArrayBool(b, size);
+      case Utf8 -> throw CompilerDirectives.shouldNotReachHere("not a fixed-size layout");
     };
   }
 
@@ -109,6 +113,10 @@ public final class ArrowFixedSizeArrayBuilder implements TruffleObject {
         @Shared("value") @Cached ValueToNumberNode valueNode,
         @Shared("iop") @CachedLibrary(limit = "3") InteropLibrary iop)
         throws UnsupportedTypeException, UnsupportedMessageException {
+      if (cachedUnit == LogicalLayout.Boolean) {
+        writeBit(builder, value, put, iop);
+        return;
+      }
       if (iop.isNull(value)) {
         put.putNull(builder.buffer, cachedUnit);
         return;
@@ -119,10 +127,31 @@ public final class ArrowFixedSizeArrayBuilder implements TruffleObject {
         case Short s -> put.putShort(builder.buffer, s);
         case Integer i -> put.putInt(builder.buffer, i);
         case Long l -> put.putLong(builder.buffer, l);
+        case Float f -> put.putFloat(builder.buffer, f);
+        case Double d -> put.putDouble(builder.buffer, d);
         default -> throw CompilerDirectives.shouldNotReachHere();
       }
     }
 
+    private static void writeBit(
+        ArrowFixedSizeArrayBuilder builder,
+        Object value,
+        ByteBufferDirect.PutNode put,
+        InteropLibrary iop)
+        throws UnsupportedTypeException, UnsupportedMessageException {
+      if (builder.appended >= builder.size) {
+        throw UnsupportedTypeException.create(new Object[] {value}, "the builder is full");
+      }
+      if (iop.isNull(value)) {
+        put.putNullBit(builder.buffer, builder.appended);
+      } else if (iop.isBoolean(value)) {
+        put.putBit(builder.buffer, builder.appended, iop.asBoolean(value));
+      } else {
+        throw UnsupportedTypeException.create(new Object[] {value}, "value is not a boolean");
+      }
+      builder.appended++;
+    }
+
     @Specialization(replaces = "writeToBuffer")
     static void writeToBufferUncached(
         ArrowFixedSizeArrayBuilder builder,
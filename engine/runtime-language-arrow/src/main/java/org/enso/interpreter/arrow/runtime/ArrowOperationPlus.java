@@ -13,6 +13,7 @@ import com.oracle.truffle.api.library.ExportLibrary;
 import com.oracle.truffle.api.library.ExportMessage;
 import com.oracle.truffle.api.nodes.Node;
 import com.oracle.truffle.api.profiles.InlinedExactClassProfile;
+import org.enso.interpreter.arrow.ArrowParser;
 import org.enso.interpreter.arrow.LogicalLayout;
 
 @ExportLibrary(InteropLibrary.class)
@@ -71,6 +72,15 @@ public final class ArrowOperationPlus implements TruffleObject {
       throws ArityException, UnsupportedTypeException, UnsupportedMessageException {
     var arr0 = args[0];
     var arr1 = args[1];
+    if (arr0 instanceof ArrowFixedArray a0
+        && arr1 instanceof ArrowFixedArray a1
+        && a0.getUnit() == cachedLayout
+        && a1.getUnit() == cachedLayout) {
+      if (a0.getSize() != a1.getSize()) {
+        throw UnsupportedTypeException.create(args, "Arrays must have the same length");
+      }
+      return VectorOperations.arithmetic(ArrowParser.Mode.Plus, a0, a1);
+    }
     if (!iopArray0.hasArrayElements(arr0) || !iopArray1.hasArrayElements(arr1)) {
       throw UnsupportedTypeException.create(args);
     }
@@ -0,0 +1,83 @@
+package org.enso.interpreter.arrow.runtime;
+
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.interop.InteropLibrary;
+import com.oracle.truffle.api.interop.InvalidArrayIndexException;
+import com.oracle.truffle.api.interop.TruffleObject;
+import com.oracle.truffle.api.library.ExportLibrary;
+import com.oracle.truffle.api.library.ExportMessage;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * An array of variable-width UTF-8 strings. The value at {@code i} occupies the bytes of the data
+ * buffer between the 32-bit offsets at {@code i} and {@code i + 1}.
+ */
+@ExportLibrary(InteropLibrary.class)
+public final class ArrowVariableArrayUtf8 implements TruffleObject {
+  private final int size;
+  private final ByteBufferDirect offsets;
+  private final ByteBuffer data;
+
+  /**
+   * @param offsets the {@code size + 1} offsets, together with the non-null bitmap
+   * @param data the bytes of the values
+   * @param size the number of values
+   */
+  public ArrowVariableArrayUtf8(ByteBufferDirect offsets, ByteBuffer data, int size) {
+    this.size = size;
+    this.offsets = offsets;
+    this.data = data;
+  }
+
+  ByteBufferDirect getOffsets() {
+    return offsets;
+  }
+
+  ByteBuffer getData() {
+    return data;
+  }
+
+  int getSize() {
+    return size;
+  }
+
+  int offsetAt(int index) {
+    return offsets.getDataBuffer().getInt(index * 4);
+  }
+
+  @ExportMessage
+  boolean hasArrayElements() {
+    return true;
+  }
+
+  @ExportMessage
+  Object readArrayElement(long index) throws InvalidArrayIndexException {
+    if (index >= size || index < 0) {
+      throw InvalidArrayIndexException.create(index);
+    }
+    var i = (int) index;
+    if (offsets.isNull(i)) {
+      return NullValue.get();
+    }
+    var start = offsetAt(i);
+    return decode(data, start, offsetAt(i + 1) - start);
+  }
+
+  @ExportMessage
+  long getArraySize() {
+    return size;
+  }
+
+  @ExportMessage
+  boolean isArrayElementReadable(long index) {
+    return index >= 0 && index < size && !offsets.isNull((int) index);
+  }
+
+  @CompilerDirectives.TruffleBoundary
+  private static String decode(ByteBuffer data, int start, int length) {
+    var bytes = new byte[length];
+    data.get(start, bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,115 @@
+package org.enso.interpreter.arrow.runtime;
+
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.interop.InteropLibrary;
+import com.oracle.truffle.api.interop.TruffleObject;
+import com.oracle.truffle.api.interop.UnknownIdentifierException;
+import com.oracle.truffle.api.interop.UnsupportedMessageException;
+import com.oracle.truffle.api.interop.UnsupportedTypeException;
+import com.oracle.truffle.api.library.CachedLibrary;
+import com.oracle.truffle.api.library.ExportLibrary;
+import com.oracle.truffle.api.library.ExportMessage;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.enso.interpreter.arrow.LogicalLayout;
+
+/** Builds an {@link ArrowVariableArrayUtf8}, growing the data buffer as the values are appended. */
+@ExportLibrary(InteropLibrary.class)
+public final class ArrowVariableSizeArrayBuilder implements TruffleObject {
+  private final int size;
+  private ByteBufferDirect offsets;
+  private ByteBuffer data;
+  private int appended;
+
+  private static final String APPEND_OP = "append";
+  private static final String BUILD_OP = "build";
+
+  public ArrowVariableSizeArrayBuilder(int size) {
+    this.size = size;
+    this.offsets = ByteBufferDirect.forSize(size + 1, LogicalLayout.Utf8);
+    this.data = ByteBuffer.allocate(Math.max(64, size * 8));
+  }
+
+  public boolean isSealed() {
+    return offsets == null;
+  }
+
+  @ExportMessage
+  public boolean hasMembers() {
+    return true;
+  }
+
+  @ExportMessage
+  public boolean isMemberInvocable(String member) {
+    return switch (member) {
+      case APPEND_OP -> offsets != null;
+      case BUILD_OP -> true;
+      default -> false;
+    };
+  }
+
+  @ExportMessage
+  Object getMembers(boolean includeInternal) throws UnsupportedMessageException {
+    return this;
+  }
+
+  @ExportMessage
+  Object invokeMember(
+      String name, Object[] args, @CachedLibrary(limit = "3") InteropLibrary iop)
+      throws UnsupportedMessageException, UnknownIdentifierException, UnsupportedTypeException {
+    return switch (name) {
+      case BUILD_OP -> build();
+      case APPEND_OP -> {
+        append(args[0], iop);
+        yield NullValue.get();
+      }
+      default -> throw UnknownIdentifierException.create(name);
+    };
+  }
+
+  private void append(Object value, InteropLibrary iop)
+      throws UnsupportedMessageException, UnsupportedTypeException {
+    if (offsets == null) {
+      throw UnsupportedMessageException.create();
+    }
+    if (appended >= size) {
+      throw UnsupportedTypeException.create(new Object[] {value}, "the builder is full");
+    }
+    var end = data.position();
+    if (iop.isNull(value)) {
+      offsets.setNull(appended);
+    } else if (iop.isString(value)) {
+      end = appendBytes(iop.asString(value));
+    } else {
+      throw UnsupportedTypeException.create(new Object[] {value}, "value is not a text");
+    }
+    appended++;
+    offsets.getDataBuffer().putInt(appended * 4, end);
+  }
+
+  @CompilerDirectives.TruffleBoundary
+  private int appendBytes(String value) {
+    var bytes = value.getBytes(StandardCharsets.UTF_8);
+    if (data.remaining() < bytes.length) {
+      var grown = ByteBuffer.allocate(Math.max(data.capacity() * 2, data.position() + bytes.length));
+      grown.put(data.flip());
+      data = grown;
+    }
+    data.put(bytes);
+    return data.position();
+  }
+
+  private TruffleObject build() throws UnsupportedMessageException {
+    var o = offsets;
+    if (o == null) {
+      throw UnsupportedMessageException.create();
+    }
+    offsets = null;
+    // Values that were never appended are missing.
+    for (var i = appended; i < size; i++) {
+      o.setNull(i);
+      o.getDataBuffer().putInt((i + 1) * 4, data.position());
+    }
+    return new ArrowVariableArrayUtf8(o, data.slice(0, data.position()), size);
+  }
+}
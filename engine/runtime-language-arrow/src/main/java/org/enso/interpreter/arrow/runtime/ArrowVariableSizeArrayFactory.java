@@ -0,0 +1,39 @@
+package org.enso.interpreter.arrow.runtime;
+
+import com.oracle.truffle.api.interop.InteropLibrary;
+import com.oracle.truffle.api.interop.TruffleObject;
+import com.oracle.truffle.api.interop.UnsupportedMessageException;
+import com.oracle.truffle.api.library.CachedLibrary;
+import com.oracle.truffle.api.library.ExportLibrary;
+import com.oracle.truffle.api.library.ExportMessage;
+import org.enso.interpreter.arrow.LogicalLayout;
+
+@ExportLibrary(InteropLibrary.class)
+public final class ArrowVariableSizeArrayFactory implements TruffleObject {
+
+  private final LogicalLayout logicalLayout;
+
+  public ArrowVariableSizeArrayFactory(LogicalLayout logicalLayout) {
+    assert logicalLayout == LogicalLayout.Utf8;
+    this.logicalLayout = logicalLayout;
+  }
+
+  @ExportMessage
+  boolean isInstantiable() {
+    return true;
+  }
+
+  public LogicalLayout getLayout() {
+    return logicalLayout;
+  }
+
+  @ExportMessage
+  ArrowVariableSizeArrayBuilder instantiate(
+      Object[] args, @CachedLibrary(limit = "1") InteropLibrary iop)
+      throws UnsupportedMessageException {
+    if (args.length != 1 || !iop.isNumber(args[0]) || !iop.fitsInInt(args[0])) {
+      throw UnsupportedMessageException.create();
+    }
+    return new ArrowVariableSizeArrayBuilder(iop.asInt(args[0]));
+  }
+}
@@ -0,0 +1,106 @@
+package org.enso.interpreter.arrow.runtime;
+
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.interop.ArityException;
+import com.oracle.truffle.api.interop.InteropLibrary;
+import com.oracle.truffle.api.interop.TruffleObject;
+import com.oracle.truffle.api.interop.UnsupportedMessageException;
+import com.oracle.truffle.api.interop.UnsupportedTypeException;
+import com.oracle.truffle.api.library.CachedLibrary;
+import com.oracle.truffle.api.library.ExportLibrary;
+import com.oracle.truffle.api.library.ExportMessage;
+import org.enso.interpreter.arrow.ArrowParser;
+import org.enso.interpreter.arrow.LogicalLayout;
+
+/**
+ * An operation over whole Arrow arrays of a given layout, evaluated by {@link VectorOperations}.
+ *
+ * <ul>
+ *   <li>arithmetic and comparisons take two arrays of the same length, or an array and a number
+ *   <li>{@code sum}, {@code min} and {@code max} take a single array
+ *   <li>{@code filter} takes an array and a {@link LogicalLayout#Boolean} array of the same length
+ * </ul>
+ */
+@ExportLibrary(InteropLibrary.class)
+public final class ArrowVectorOperation implements TruffleObject {
+  private final ArrowParser.Mode mode;
+  private final LogicalLayout layout;
+
+  public ArrowVectorOperation(ArrowParser.Mode mode, LogicalLayout layout) {
+    this.mode = mode;
+    this.layout = layout;
+  }
+
+  @ExportMessage
+  boolean isExecutable() {
+    return true;
+  }
+
+  @ExportMessage
+  Object execute(Object[] args, @CachedLibrary(limit = "3") InteropLibrary iop)
+      throws ArityException, UnsupportedTypeException, UnsupportedMessageException {
+    if (mode.isReduction()) {
+      if (args.length != 1) {
+        throw ArityException.create(1, 1, args.length);
+      }
+      return VectorOperations.reduce(mode, array(args, 0));
+    }
+    if (args.length != 2) {
+      throw ArityException.create(2, 2, args.length);
+    }
+    if (mode == ArrowParser.Mode.Filter) {
+      if (!(args[1] instanceof ArrowFixedArrayBool mask)) {
+        throw UnsupportedTypeException.create(args, "Expected an Arrow array of Boolean");
+      }
+      if (layout == LogicalLayout.Utf8 && args[0] instanceof ArrowVariableArrayUtf8 texts) {
+        sameLength(args, texts.getSize(), mask.getSize());
+        return VectorOperations.filter(texts, mask);
+      }
+      var array = array(args, 0);
+      sameLength(args, array.getSize(), mask.getSize());
+      return VectorOperations.filter(array, mask);
+    }
+    var left = array(args, 0);
+    var comparison = mode.isComparison();
+    if (args[1] instanceof ArrowFixedArray) {
+      var right = array(args, 1);
+      sameLength(args, left.getSize(), right.getSize());
+      return comparison
+          ? VectorOperations.compare(mode, left, right)
+          : VectorOperations.arithmetic(mode, left, right);
+    }
+    var scalar = args[1];
+    if (iop.isNumber(scalar) && iop.fitsInLong(scalar)) {
+      var value = iop.asLong(scalar);
+      return comparison
+          ? VectorOperations.compare(mode, left, value)
+          : VectorOperations.arithmetic(mode, left, value);
+    }
+    if (iop.isNumber(scalar) && iop.fitsInDouble(scalar)) {
+      var value = iop.asDouble(scalar);
+      return comparison
+          ? VectorOperations.compare(mode, left, value)
+          : VectorOperations.arithmetic(mode, left, value);
+    }
+    throw UnsupportedTypeException.create(args, "Expected an Arrow array or a number");
+  }
+
+  private ArrowFixedArray array(Object[] args, int index) throws UnsupportedTypeException {
+    if (args[index] instanceof ArrowFixedArray array && array.getUnit() == layout) {
+      return array;
+    }
+    throw UnsupportedTypeException.create(args, expectedArrayMessage(layout));
+  }
+
+  private static void sameLength(Object[] args, int size0, int size1)
+      throws UnsupportedTypeException {
+    if (size0 != size1) {
+      throw UnsupportedTypeException.create(args, "Arrays must have the same length");
+    }
+  }
+
+  @CompilerDirectives.TruffleBoundary
+  private static String expectedArrayMessage(LogicalLayout layout) {
+    return "Expected an Arrow array of " + layout;
+  }
+}
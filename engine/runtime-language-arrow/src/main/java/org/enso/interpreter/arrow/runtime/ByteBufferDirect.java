@@ -70,6 +70,16 @@ final class ByteBufferDirect implements AutoCloseable {
     return new ByteBufferDirect(buf, buf, null);
   }
 
+  /**
+   * Wraps existing data and non-null bitmap buffers.
+   *
+   * @param dataBuffer the data buffer
+   * @param bitmapBuffer the non-null bitmap, or {@code null} if there are no missing values
+   */
+  static ByteBufferDirect forBuffers(ByteBuffer dataBuffer, ByteBuffer bitmapBuffer) {
+    return new ByteBufferDirect(dataBuffer, dataBuffer, bitmapBuffer);
+  }
+
   /**
    * Creates a new buffer being able to store `valueCount` number of elements.
    *
@@ -238,6 +248,36 @@ final class ByteBufferDirect implements AutoCloseable {
       db.putLong(value);
     }
 
+    final void putFloat(ByteBufferDirect direct, float value) {
+      var db = dataBuffer.executeDataBuffer(direct);
+      addValidityBitmap(direct, db.position(), 4);
+      db.putFloat(value);
+    }
+
+    final void putDouble(ByteBufferDirect direct, double value) {
+      var db = dataBuffer.executeDataBuffer(direct);
+      addValidityBitmap(direct, db.position(), 8);
+      db.putDouble(value);
+    }
+
+    /**
+     * Stores a value of a bitmap-packed buffer. Such buffers have no position advancing with every
+     * value, so the index is provided explicitly.
+     */
+    final void putBit(ByteBufferDirect direct, int index, boolean value) {
+      var db = dataBuffer.executeDataBuffer(direct);
+      setBit(db, index, value);
+      var bb = bitmapBuffer.executeBitmapBuffer(direct, false);
+      if (bb != null) {
+        setBit(bb, index, true);
+      }
+    }
+
+    final void putNullBit(ByteBufferDirect direct, int index) {
+      var bb = bitmapBuffer.executeBitmapBuffer(direct, true);
+      setBit(bb, index, false);
+    }
+
     private void addValidityBitmap(ByteBufferDirect direct, int pos, int size) {
       var bb = bitmapBuffer.executeBitmapBuffer(direct, false);
       if (bb == null) {
@@ -270,6 +310,43 @@ final class ByteBufferDirect implements AutoCloseable {
     return dataBuffer.getLong(index);
   }
 
+  public float getFloat(int index) {
+    return dataBuffer.getFloat(index);
+  }
+
+  public double getDouble(int index) {
+    return dataBuffer.getDouble(index);
+  }
+
+  /** Reads a value of a bitmap-packed data buffer. */
+  public boolean getBit(int index) {
+    return isBitSet(dataBuffer, index);
+  }
+
+  /** Writes a value of a bitmap-packed data buffer. */
+  void setBit(int index, boolean value) {
+    setBit(dataBuffer, index, value);
+  }
+
+  /** Marks the value at {@code index} as missing, creating the non-null bitmap if necessary. */
+  void setNull(int index) {
+    if (bitmapBuffer == null) {
+      initializeBitmapBuffer();
+    }
+    setBit(bitmapBuffer, index, false);
+  }
+
+  static boolean isBitSet(ByteBuffer buffer, int index) {
+    return (buffer.get(index >> 3) & (1 << (index & BYTE_MASK))) != 0;
+  }
+
+  static void setBit(ByteBuffer buffer, int index, boolean value) {
+    var bufferIndex = index >> 3;
+    var mask = 1 << (index & BYTE_MASK);
+    var slot = buffer.get(bufferIndex);
+    buffer.put(bufferIndex, (byte) (value ? slot | mask : slot & ~mask));
+  }
+
   public long getLong(int index, Node node, InlinedExactClassProfile profile)
       throws UnsupportedMessageException {
     var buf = profile.profile(node, dataBuffer);
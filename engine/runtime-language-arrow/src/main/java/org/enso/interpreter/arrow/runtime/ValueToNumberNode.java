@@ -30,7 +30,7 @@ abstract class ValueToNumberNode extends Node {
    *
    * @param unit type of layout
    * @param value a value to convert
-   * @return byte, short, int or long
+   * @return byte, short, int, long, float or double
    * @throws UnsupportedTypeException if the conversion isn't possible
    */
   abstract Number executeAdjust(LogicalLayout unit, Object value) throws UnsupportedTypeException;
@@ -180,6 +180,32 @@ abstract class ValueToNumberNode extends Node {
     }
   }
 
+  @Specialization(guards = "unit == Float32")
+  Float doFloat(
+      LogicalLayout unit,
+      Object value,
+      @Cached.Shared("interop") @CachedLibrary(limit = "1") InteropLibrary iop)
+      throws UnsupportedTypeException {
+    return doDouble(LogicalLayout.Float64, value, iop).floatValue();
+  }
+
+  @Specialization(guards = "unit == Float64")
+  static Double doDouble(
+      LogicalLayout unit,
+      Object value,
+      @Cached.Shared("interop") @CachedLibrary(limit = "1") InteropLibrary iop)
+      throws UnsupportedTypeException {
+    if (!iop.fitsInDouble(value)) {
+      throw UnsupportedTypeException.create(
+          new Object[] {value}, "value does not fit a 8 byte float");
+    }
+    try {
+      return iop.asDouble(value);
+    } catch (UnsupportedMessageException e) {
+      throw UnsupportedTypeException.create(new Object[] {value}, "value is not a float");
+    }
+  }
+
   @Fallback
   Number doOther(LogicalLayout unit, Object value) throws UnsupportedTypeException {
     throw UnsupportedTypeException.create(new Object[] {unit, value}, "unknown type");
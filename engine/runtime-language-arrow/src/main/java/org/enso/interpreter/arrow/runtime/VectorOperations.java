@@ -0,0 +1,390 @@
+package org.enso.interpreter.arrow.runtime;
+
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.interop.TruffleObject;
+import java.nio.ByteBuffer;
+import org.enso.interpreter.arrow.ArrowParser.Mode;
+import org.enso.interpreter.arrow.LogicalLayout;
+
+/**
+ * Kernels running an operation over whole Arrow buffers. Every kernel is a single boundary call
+ * reading the buffers directly, instead of going through interop for every element.
+ *
+ * <p>Integer results that overflow, or don't fit the layout of the result, are missing values.
+ * Division of integers yields {@link LogicalLayout#Float64} values and division by zero of integers
+ * yields a missing value.
+ */
+final class VectorOperations {
+  private VectorOperations() {}
+
+  static long readLong(ByteBuffer data, LogicalLayout unit, int index) {
+    return switch (unit) {
+      case Int8 -> data.get(index);
+      case Int16 -> data.getShort(index * 2);
+      case Int32, Date32 -> data.getInt(index * 4);
+      default -> data.getLong(index * 8);
+    };
+  }
+
+  static double readDouble(ByteBufferDirect buffer, LogicalLayout unit, int index) {
+    return readDouble(buffer.getDataBuffer(), unit, index);
+  }
+
+  private static double readDouble(ByteBuffer data, LogicalLayout unit, int index) {
+    return switch (unit) {
+      case Float32 -> data.getFloat(index * 4);
+      case Float64 -> data.getDouble(index * 8);
+      default -> readLong(data, unit, index);
+    };
+  }
+
+  private static boolean fits(long value, LogicalLayout unit) {
+    return switch (unit) {
+      case Int8 -> value == (byte) value;
+      case Int16 -> value == (short) value;
+      case Int32 -> value == (int) value;
+      default -> true;
+    };
+  }
+
+  private static void writeLong(ByteBuffer data, LogicalLayout unit, int index, long value) {
+    switch (unit) {
+      case Int8 -> data.put(index, (byte) value);
+      case Int16 -> data.putShort(index * 2, (short) value);
+      case Int32 -> data.putInt(index * 4, (int) value);
+      default -> data.putLong(index * 8, value);
+    }
+  }
+
+  private static void writeDouble(ByteBuffer data, LogicalLayout unit, int index, double value) {
+    if (unit == LogicalLayout.Float32) {
+      data.putFloat(index * 4, (float) value);
+    } else {
+      data.putDouble(index * 8, value);
+    }
+  }
+
+  private static boolean isNull(ArrowFixedArray array, int index) {
+    return array != null && array.getBuffer().isNull(index);
+  }
+
+  /** Applies an arithmetic operation to the elements of two arrays of the same layout. */
+  @CompilerDirectives.TruffleBoundary
+  static TruffleObject arithmetic(Mode mode, ArrowFixedArray left, ArrowFixedArray right) {
+    if (left.getUnit().isInteger() && mode != Mode.Divide) {
+      return integerArithmetic(mode, left, right, 0L);
+    } else {
+      return floatArithmetic(mode, left, right, 0.0);
+    }
+  }
+
+  /** Applies an arithmetic operation to the elements of an integer array and a scalar. */
+  @CompilerDirectives.TruffleBoundary
+  static TruffleObject arithmetic(Mode mode, ArrowFixedArray left, long right) {
+    if (left.getUnit().isInteger() && mode != Mode.Divide) {
+      return integerArithmetic(mode, left, null, right);
+    } else {
+      return floatArithmetic(mode, left, null, right);
+    }
+  }
+
+  /** Applies an arithmetic operation to the elements of an array and a scalar. */
+  @CompilerDirectives.TruffleBoundary
+  static TruffleObject arithmetic(Mode mode, ArrowFixedArray left, double right) {
+    return floatArithmetic(mode, left, null, right);
+  }
+
+  private static TruffleObject integerArithmetic(
+      Mode mode, ArrowFixedArray left, ArrowFixedArray right, long scalar) {
+    var unit = left.getUnit();
+    var size = left.getSize();
+    var l = left.getBuffer().getDataBuffer();
+    var r = right == null ? null : right.getBuffer().getDataBuffer();
+    var result = ByteBufferDirect.forSize(size, unit);
+    var out = result.getDataBuffer();
+    for (var i = 0; i < size; i++) {
+      if (isNull(left, i) || isNull(right, i)) {
+        result.setNull(i);
+        continue;
+      }
+      var x = readLong(l, unit, i);
+      var y = r == null ? scalar : readLong(r, unit, i);
+      long res;
+      boolean overflow;
+      switch (mode) {
+        case Plus -> {
+          res = x + y;
+          overflow = ((x ^ res) & (y ^ res)) < 0;
+        }
+        case Minus -> {
+          res = x - y;
+          overflow = ((x ^ y) & (x ^ res)) < 0;
+        }
+        case Multiply -> {
+          res = x * y;
+          overflow = Math.multiplyHigh(x, y) != (res >> 63);
+        }
+        default -> throw CompilerDirectives.shouldNotReachHere(mode.toString());
+      }
+      if (overflow || !fits(res, unit)) {
+        result.setNull(i);
+      } else {
+        writeLong(out, unit, i, res);
+      }
+    }
+    return new ArrowFixedArrayInt(result, size, unit);
+  }
+
+  private static TruffleObject floatArithmetic(
+      Mode mode, ArrowFixedArray left, ArrowFixedArray right, double scalar) {
+    var inUnit = left.getUnit();
+    var unit = inUnit.isFloatingPoint() ? inUnit : LogicalLayout.Float64;
+    var size = left.getSize();
+    var l = left.getBuffer().getDataBuffer();
+    var r = right == null ? null : right.getBuffer().getDataBuffer();
+    var result = ByteBufferDirect.forSize(size, unit);
+    var out = result.getDataBuffer();
+    for (var i = 0; i < size; i++) {
+      if (isNull(left, i) || isNull(right, i)) {
+        result.setNull(i);
+        continue;
+      }
+      var x = readDouble(l, inUnit, i);
+      var y = r == null ? scalar : readDouble(r, inUnit, i);
+      var res =
+          switch (mode) {
+            case Plus -> x + y;
+            case Minus -> x - y;
+            case Multiply -> x * y;
+            case Divide -> x / y;
+            default -> throw CompilerDirectives.shouldNotReachHere(mode.toString());
+          };
+      if (y == 0 && mode == Mode.Divide && inUnit.isInteger()) {
+        result.setNull(i);
+      } else {
+        writeDouble(out, unit, i, res);
+      }
+    }
+    return new ArrowFixedArrayFloat(result, size, unit);
+  }
+
+  /** Compares the elements of two arrays of the same layout, yielding an array of booleans. */
+  @CompilerDirectives.TruffleBoundary
+  static TruffleObject compare(Mode mode, ArrowFixedArray left, ArrowFixedArray right) {
+    return compare(mode, left, right, 0.0);
+  }
+
+  /** Compares the elements of an array with a scalar, yielding an array of booleans. */
+  @CompilerDirectives.TruffleBoundary
+  static TruffleObject compare(Mode mode, ArrowFixedArray left, double right) {
+    return compare(mode, left, null, right);
+  }
+
+  /** Compares the elements of an array with an integer scalar, yielding an array of booleans. */
+  @CompilerDirectives.TruffleBoundary
+  static TruffleObject compare(Mode mode, ArrowFixedArray left, long right) {
+    var unit = left.getUnit();
+    if (!unit.isInteger()) {
+      return compare(mode, left, null, right);
+    }
+    var size = left.getSize();
+    var l = left.getBuffer().getDataBuffer();
+    var result = ByteBufferDirect.forSize(size, LogicalLayout.Boolean);
+    for (var i = 0; i < size; i++) {
+      if (isNull(left, i)) {
+        result.setNull(i);
+      } else {
+        result.setBit(i, test(mode, Long.compare(readLong(l, unit, i), right)));
+      }
+    }
+    return new ArrowFixedArrayBool(result, size);
+  }
+
+  private static TruffleObject compare(
+      Mode mode, ArrowFixedArray left, ArrowFixedArray right, double scalar) {
+    var unit = left.getUnit();
+    var size = left.getSize();
+    var l = left.getBuffer().getDataBuffer();
+    var r = right == null ? null : right.getBuffer().getDataBuffer();
+    var result = ByteBufferDirect.forSize(size, LogicalLayout.Boolean);
+    for (var i = 0; i < size; i++) {
+      if (isNull(left, i) || isNull(right, i)) {
+        result.setNull(i);
+        continue;
+      }
+      boolean res;
+      if (unit.isInteger() && r != null) {
+        res = test(mode, Long.compare(readLong(l, unit, i), readLong(r, unit, i)));
+      } else {
+        var x = readDouble(l, unit, i);
+        var y = r == null ? scalar : readDouble(r, unit, i);
+        res = test(mode, x, y);
+      }
+      result.setBit(i, res);
+    }
+    return new ArrowFixedArrayBool(result, size);
+  }
+
+  private static boolean test(Mode mode, int comparison) {
+    return switch (mode) {
+      case Equals -> comparison == 0;
+      case Less -> comparison < 0;
+      case LessOrEqual -> comparison <= 0;
+      case Greater -> comparison > 0;
+      case GreaterOrEqual -> comparison >= 0;
+      default -> throw CompilerDirectives.shouldNotReachHere(mode.toString());
+    };
+  }
+
+  private static boolean test(Mode mode, double x, double y) {
+    return switch (mode) {
+      case Equals -> x == y;
+      case Less -> x < y;
+      case LessOrEqual -> x <= y;
+      case Greater -> x > y;
+      case GreaterOrEqual -> x >= y;
+      default -> throw CompilerDirectives.shouldNotReachHere(mode.toString());
+    };
+  }
+
+  /**
+   * Reduces the non-missing elements of an array to their sum, minimum or maximum.
+   *
+   * @return a {@code long} for integer arrays, a {@code double} for floating point arrays, or
+   *     {@link NullValue} if there are no values or the sum of integers overflows
+   */
+  @CompilerDirectives.TruffleBoundary
+  static Object reduce(Mode mode, ArrowFixedArray array) {
+    var unit = array.getUnit();
+    var size = array.getSize();
+    var data = array.getBuffer().getDataBuffer();
+    var found = false;
+    if (unit.isInteger()) {
+      long acc = mode == Mode.Min ? Long.MAX_VALUE : mode == Mode.Max ? Long.MIN_VALUE : 0L;
+      for (var i = 0; i < size; i++) {
+        if (isNull(array, i)) {
+          continue;
+        }
+        found = true;
+        var x = readLong(data, unit, i);
+        switch (mode) {
+          case Sum -> {
+            var res = acc + x;
+            if (((acc ^ res) & (x ^ res)) < 0) {
+              return NullValue.get();
+            }
+            acc = res;
+          }
+          case Min -> acc = Math.min(acc, x);
+          case Max -> acc = Math.max(acc, x);
+          default -> throw CompilerDirectives.shouldNotReachHere(mode.toString());
+        }
+      }
+      return found ? (Object) acc : NullValue.get();
+    } else {
+      double acc =
+          mode == Mode.Min
+              ? Double.POSITIVE_INFINITY
+              : mode == Mode.Max ? Double.NEGATIVE_INFINITY : 0.0;
+      for (var i = 0; i < size; i++) {
+        if (isNull(array, i)) {
+          continue;
+        }
+        found = true;
+        var x = readDouble(data, unit, i);
+        acc =
+            switch (mode) {
+              case Sum -> acc + x;
+              case Min -> Math.min(acc, x);
+              case Max -> Math.max(acc, x);
+              default -> throw CompilerDirectives.shouldNotReachHere(mode.toString());
+            };
+      }
+      return found ? (Object) acc : NullValue.get();
+    }
+  }
+
+  private static int countSelected(ArrowFixedArrayBool mask) {
+    var bits = mask.getBuffer();
+    var count = 0;
+    for (var i = 0; i < mask.getSize(); i++) {
+      if (!bits.isNull(i) && bits.getBit(i)) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Keeps the elements of a fixed-width array for which the mask holds {@code true}. Missing values
+   * of the mask drop the element.
+   */
+  @CompilerDirectives.TruffleBoundary
+  static TruffleObject filter(ArrowFixedArray array, ArrowFixedArrayBool mask) {
+    var unit = array.getUnit();
+    var bits = mask.getBuffer();
+    var source = array.getBuffer();
+    var count = countSelected(mask);
+    var result = ByteBufferDirect.forSize(count, unit);
+    var in = source.getDataBuffer();
+    var out = result.getDataBuffer();
+    var width = unit.sizeInBytes();
+    var at = 0;
+    for (var i = 0; i < array.getSize(); i++) {
+      if (bits.isNull(i) || !bits.getBit(i)) {
+        continue;
+      }
+      if (source.isNull(i)) {
+        result.setNull(at);
+      } else if (unit == LogicalLayout.Boolean) {
+        result.setBit(at, source.getBit(i));
+      } else {
+        out.put(at * width, in, i * width, width);
+      }
+      at++;
+    }
+    return switch (unit) {
+      case Boolean -> new ArrowFixedArrayBool(result, count);
+      case Float32, Float64 -> new ArrowFixedArrayFloat(result, count, unit);
+      case Date32, Date64 -> new ArrowFixedArrayDate(result, count, unit);
+      default -> new ArrowFixedArrayInt(result, count, unit);
+    };
+  }
+
+  /**
+   * Keeps the elements of a UTF-8 array for which the mask holds {@code true}. Missing values of the
+   * mask drop the element.
+   */
+  @CompilerDirectives.TruffleBoundary
+  static TruffleObject filter(ArrowVariableArrayUtf8 array, ArrowFixedArrayBool mask) {
+    var bits = mask.getBuffer();
+    var source = array.getOffsets();
+    var count = countSelected(mask);
+    var length = 0;
+    for (var i = 0; i < array.getSize(); i++) {
+      if (!bits.isNull(i) && bits.getBit(i) && !source.isNull(i)) {
+        length += array.offsetAt(i + 1) - array.offsetAt(i);
+      }
+    }
+    var offsets = ByteBufferDirect.forSize(count + 1, LogicalLayout.Utf8);
+    var data = ByteBuffer.allocate(length);
+    var in = array.getData();
+    var at = 0;
+    for (var i = 0; i < array.getSize(); i++) {
+      if (bits.isNull(i) || !bits.getBit(i)) {
+        continue;
+      }
+      if (source.isNull(i)) {
+        offsets.setNull(at);
+      } else {
+        var start = array.offsetAt(i);
+        var end = array.offsetAt(i + 1);
+        data.put(data.position(), in, start, end - start);
+        data.position(data.position() + end - start);
+      }
+      at++;
+      offsets.getDataBuffer().putInt(at * 4, data.position());
+    }
+    return new ArrowVariableArrayUtf8(offsets, data.flip(), count);
+  }
+}
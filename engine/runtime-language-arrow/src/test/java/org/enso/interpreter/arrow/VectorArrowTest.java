@@ -0,0 +1,177 @@
+package org.enso.interpreter.arrow;
+
+import static org.junit.Assert.*;
+
+import java.nio.charset.StandardCharsets;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.VarCharVector;
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Value;
+import org.graalvm.polyglot.io.IOAccess;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class VectorArrowTest {
+  private static Context ctx;
+
+  @BeforeClass
+  public static void initEnsoContext() {
+    ctx =
+        Context.newBuilder()
+            .allowExperimentalOptions(true)
+            .allowIO(IOAccess.ALL)
+            .out(System.out)
+            .err(System.err)
+            .allowAllAccess(true)
+            .build();
+  }
+
+  @AfterClass
+  public static void closeEnsoContext() throws Exception {
+    if (ctx != null) {
+      ctx.close();
+    }
+  }
+
+  private static Value build(String layout, Object... values) {
+    var builder = ctx.eval("arrow", "new[" + layout + "]").newInstance(values.length);
+    for (var v : values) {
+      builder.invokeMember("append", v);
+    }
+    return builder.invokeMember("build");
+  }
+
+  private static void assertElements(Value arr, Object... expected) {
+    assertEquals("Right size", expected.length, arr.getArraySize());
+    for (var i = 0; i < expected.length; i++) {
+      var elem = arr.getArrayElement(i);
+      if (expected[i] == null) {
+        assertTrue("is null at " + i, elem.isNull());
+      } else if (expected[i] instanceof Double d) {
+        assertEquals("Value at " + i, d, elem.asDouble(), 0.0);
+      } else if (expected[i] instanceof Long l) {
+        assertEquals("Value at " + i, l.longValue(), elem.asLong());
+      } else if (expected[i] instanceof Boolean b) {
+        assertEquals("Value at " + i, b, elem.asBoolean());
+      } else {
+        assertEquals("Value at " + i, expected[i], elem.asString());
+      }
+    }
+  }
+
+  @Test
+  public void arithmeticOnFloat64Arrays() {
+    var arr1 = build("Float64", 1.5, null, 3.0, -2.0);
+    var arr2 = build("Float64", 0.5, 1.0, null, 4.0);
+    assertElements(arr1, 1.5, null, 3.0, -2.0);
+
+    assertElements(ctx.eval("arrow", "+[Float64]").execute(arr1, arr2), 2.0, null, null, 2.0);
+    assertElements(ctx.eval("arrow", "-[Float64]").execute(arr1, arr2), 1.0, null, null, -6.0);
+    assertElements(ctx.eval("arrow", "*[Float64]").execute(arr1, 2), 3.0, null, 6.0, -4.0);
+    assertElements(ctx.eval("arrow", "/[Float64]").execute(arr1, 0.5), 3.0, null, 6.0, -4.0);
+  }
+
+  @Test
+  public void arithmeticOnIntegerArrays() {
+    var arr1 = build("Int32", 10, null, Integer.MAX_VALUE, -7);
+    var arr2 = build("Int32", 3, 1, 1, 0);
+
+    assertElements(ctx.eval("arrow", "+[Int32]").execute(arr1, arr2), 13L, null, null, -7L);
+    assertElements(ctx.eval("arrow", "-[Int32]").execute(arr1, 1), 9L, null, 2147483646L, -8L);
+    assertElements(ctx.eval("arrow", "*[Int32]").execute(arr1, arr2), 30L, null, 2147483647L, 0L);
+
+    var quotient = ctx.eval("arrow", "/[Int32]").execute(arr1, arr2);
+    assertElements(quotient, 10.0 / 3, null, (double) Integer.MAX_VALUE, null);
+  }
+
+  @Test
+  public void comparisonsYieldBooleanArrays() {
+    var arr1 = build("Int64", 1, 5, null, 7);
+    var arr2 = build("Int64", 1, 3, 4, 9);
+
+    assertElements(ctx.eval("arrow", "==[Int64]").execute(arr1, arr2), true, false, null, false);
+    assertElements(ctx.eval("arrow", "<[Int64]").execute(arr1, arr2), false, false, null, true);
+    assertElements(ctx.eval("arrow", ">=[Int64]").execute(arr1, 5), false, true, null, true);
+
+    var floats = build("Float32", 0.5, Double.NaN, 2.0);
+    assertElements(ctx.eval("arrow", "<=[Float32]").execute(floats, 2.0), true, false, true);
+  }
+
+  @Test
+  public void reductionsSkipMissingValues() {
+    var ints = build("Int16", 4, null, -3, 10);
+    assertEquals(11, ctx.eval("arrow", "sum[Int16]").execute(ints).asLong());
+    assertEquals(-3, ctx.eval("arrow", "min[Int16]").execute(ints).asLong());
+    assertEquals(10, ctx.eval("arrow", "max[Int16]").execute(ints).asLong());
+
+    var floats = build("Float64", 0.25, null, 0.5);
+    assertEquals(0.75, ctx.eval("arrow", "sum[Float64]").execute(floats).asDouble(), 0.0);
+
+    var empty = build("Float64", null, null);
+    assertTrue(ctx.eval("arrow", "max[Float64]").execute(empty).isNull());
+
+    var overflow = build("Int64", Long.MAX_VALUE, 1);
+    assertTrue(ctx.eval("arrow", "sum[Int64]").execute(overflow).isNull());
+  }
+
+  @Test
+  public void filterByBooleanArray() {
+    var mask = build("Boolean", true, false, null, true);
+    assertElements(mask, true, false, null, true);
+
+    var ints = build("Int8", 1, 2, 3, null);
+    assertElements(ctx.eval("arrow", "filter[Int8]").execute(ints, mask), 1L, null);
+
+    var texts = build("Utf8", "a", "bb", "ccc", "zażółć");
+    assertElements(texts, "a", "bb", "ccc", "zażółć");
+    assertElements(ctx.eval("arrow", "filter[Utf8]").execute(texts, mask), "a", "zażółć");
+
+    var selected = ctx.eval("arrow", ">[Int8]").execute(ints, 1);
+    assertElements(ctx.eval("arrow", "filter[Utf8]").execute(texts, selected), "bb", "ccc");
+  }
+
+  @Test
+  public void mismatchedArraysAreRejected() {
+    var arr1 = build("Float64", 1.0, 2.0);
+    var arr2 = build("Float64", 1.0, 2.0, 3.0);
+    var times = ctx.eval("arrow", "*[Float64]");
+    assertThrows(
+        "Arrays must have the same length",
+        IllegalArgumentException.class,
+        () -> times.execute(arr1, arr2));
+
+    var ints = build("Int64", 1, 2);
+    assertThrows(
+        "Arrays must have the same layout",
+        IllegalArgumentException.class,
+        () -> times.execute(ints, arr1));
+  }
+
+  @Test
+  public void castUtf8() {
+    var testValues = new String[] {"one", null, "", "čtyři"};
+    try (BufferAllocator allocator = new RootAllocator();
+        VarCharVector vector = new VarCharVector("variable-size-binary-layout", allocator)) {
+      vector.allocateNew(testValues.length);
+      for (var i = 0; i < testValues.length; i++) {
+        if (testValues[i] == null) {
+          vector.setNull(i);
+        } else {
+          vector.set(i, testValues[i].getBytes(StandardCharsets.UTF_8));
+        }
+      }
+      vector.setValueCount(testValues.length);
+
+      var utf8Constr = ctx.eval("arrow", "cast[Utf8]");
+      Value utf8Array =
+          utf8Constr.execute(
+              vector.getOffsetBufferAddress(),
+              vector.getDataBufferAddress(),
+              testValues.length,
+              vector.getValidityBufferAddress());
+      assertElements(utf8Array, (Object[]) testValues);
+    }
+  }
+}
@@ -1,5 +1,6 @@
 open module org.enso.runtime {
   requires java.logging;
+  requires jdk.jfr;
   requires scala.library;
 
   requires org.enso.cli;
@@ -266,7 +266,8 @@ public final class EnsoLanguage extends TruffleLanguage<EnsoContext> {
               false,
               true,
               false,
-              scala.Option.apply(new PrintStream(outputRedirect)));
+              scala.Option.apply(new PrintStream(outputRedirect)),
+              false);
       var moduleContext =
           new ModuleContext(
               module.asCompilerModule(),
@@ -137,31 +137,40 @@ public final class Cache<T, M> {
       EnsoContext context, TruffleFile cacheRoot, T entry, TruffleLogger logger)
       throws IOException {
     if (ensureRoot(cacheRoot)) {
-      byte[] bytesToWrite = spi.serialize(context, entry);
+      var event = new CacheEvent(logName, CacheEvent.SAVE);
+      event.begin();
+      try {
+        byte[] bytesToWrite = spi.serialize(context, entry);
+
+        String blobDigest = CacheUtils.computeDigestFromBytes(ByteBuffer.wrap(bytesToWrite));
+        String sourceDigest = spi.computeDigest(entry, cacheRoot, logger).get();
+        if (sourceDigest == null) {
+          throw new IOException("unable to compute digest");
+        }
+        byte[] metadataBytes = spi.metadata(sourceDigest, blobDigest, entry);
 
-      String blobDigest = CacheUtils.computeDigestFromBytes(ByteBuffer.wrap(bytesToWrite));
-      String sourceDigest = spi.computeDigest(entry, logger).get();
-      if (sourceDigest == null) {
-        throw new IOException("unable to compute digest");
-      }
-      byte[] metadataBytes = spi.metadata(sourceDigest, blobDigest, entry);
-
-      TruffleFile cacheDataFile = getCacheDataPath(cacheRoot);
-      TruffleFile metadataFile = getCacheMetadataPath(cacheRoot);
-      TruffleFile parentPath = cacheDataFile.getParent();
-
-      if (writeBytesTo(cacheDataFile, bytesToWrite) && writeBytesTo(metadataFile, metadataBytes)) {
-        logger.log(
-            logLevel,
-            "Written cache data ["
-                + logName
-                + "] to ["
-                + toMaskedPath(parentPath).applyMasking()
-                + "].");
-        return true;
-      } else {
-        // Clean up after ourselves if it fails.
-        cacheDataFile.delete();
+        TruffleFile cacheDataFile = getCacheDataPath(cacheRoot);
+        TruffleFile metadataFile = getCacheMetadataPath(cacheRoot);
+        TruffleFile parentPath = cacheDataFile.getParent();
+
+        if (writeBytesTo(cacheDataFile, bytesToWrite)
+            && writeBytesTo(metadataFile, metadataBytes)) {
+          event.bytes = bytesToWrite.length + metadataBytes.length;
+          event.successful = true;
+          logger.log(
+              logLevel,
+              "Written cache data ["
+                  + logName
+                  + "] to ["
+                  + toMaskedPath(parentPath).applyMasking()
+                  + "].");
+          return true;
+        } else {
+          // Clean up after ourselves if it fails.
+          cacheDataFile.delete();
+        }
+      } finally {
+        event.commit();
       }
     }
     return false;
@@ -245,6 +254,20 @@ public final class Cache<T, M> {
    */
   private T loadCacheFrom(TruffleFile cacheRoot, EnsoContext context, TruffleLogger logger)
       throws IOException {
+    var event = new CacheEvent(logName, CacheEvent.LOAD);
+    event.begin();
+    try {
+      var cachedObject = readCacheFrom(cacheRoot, context, logger, event);
+      event.successful = true;
+      return cachedObject;
+    } finally {
+      event.commit();
+    }
+  }
+
+  private T readCacheFrom(
+      TruffleFile cacheRoot, EnsoContext context, TruffleLogger logger, CacheEvent event)
+      throws IOException {
     TruffleFile metadataPath = getCacheMetadataPath(cacheRoot);
     TruffleFile dataPath = getCacheDataPath(cacheRoot);
 
@@ -252,7 +275,7 @@ public final class Cache<T, M> {
     if (meta != null) {
       boolean sourceDigestValid =
           !needsSourceDigestVerification
-              || spi.computeDigestFromSource(context, logger)
+              || spi.computeDigestFromSource(context, cacheRoot, logger)
                   .map(digest -> digest.equals(spi.sourceHash(meta)))
                   .orElseGet(() -> false);
       var file = new File(dataPath.toUri());
@@ -265,6 +288,7 @@ public final class Cache<T, M> {
       } else {
         blobBytes = ByteBuffer.wrap(dataPath.readAllBytes());
       }
+      event.bytes = blobBytes.limit();
       boolean blobDigestValid =
           !needsDataDigestVerification
               || CacheUtils.computeDigestFromBytes(blobBytes).equals(spi.blobHash(meta));
@@ -501,6 +525,35 @@ public final class Cache<T, M> {
     public abstract Optional<String> computeDigestFromSource(
         EnsoContext context, TruffleLogger logger);
 
+    /**
+     * Compute digest of cache's data that is about to be stored in the given cache root. Caches
+     * that keep additional information about their sources next to the data may override this
+     * method.
+     *
+     * @param entry data for which digest should be computed
+     * @param cacheRoot the root where the data is going to be stored
+     * @param logger Truffle's logger
+     * @return non-empty digest, if successful
+     */
+    default Optional<String> computeDigest(T entry, TruffleFile cacheRoot, TruffleLogger logger) {
+      return computeDigest(entry, logger);
+    }
+
+    /**
+     * Compute digest of data's source to validate the data stored in the given cache root. Caches
+     * that keep additional information about their sources next to the data may override this
+     * method.
+     *
+     * @param context the language context in which loading is taking place
+     * @param cacheRoot the root where the data is stored
+     * @param logger Truffle's logger
+     * @return non-empty digest, if successful
+     */
+    default Optional<String> computeDigestFromSource(
+        EnsoContext context, TruffleFile cacheRoot, TruffleLogger logger) {
+      return computeDigestFromSource(context, logger);
+    }
+
     /**
      * Returns locations where caches can be located
      *
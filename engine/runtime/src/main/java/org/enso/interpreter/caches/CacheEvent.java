@@ -0,0 +1,38 @@
+package org.enso.interpreter.caches;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** A flight recorder event covering loading or saving of a {@link Cache}. */
+@Name("org.enso.interpreter.caches.Cache")
+@Label("Cache Operation")
+@Category({"Enso", "Caches"})
+@Description("Loading or saving of a cache")
+@StackTrace(false)
+final class CacheEvent extends Event {
+  static final String LOAD = "load";
+  static final String SAVE = "save";
+
+  @Label("Cache")
+  String cache;
+
+  @Label("Operation")
+  String operation;
+
+  @Label("Size")
+  @DataAmount
+  long bytes;
+
+  @Label("Successful")
+  boolean successful;
+
+  CacheEvent(String cache, String operation) {
+    this.cache = cache;
+    this.operation = operation;
+  }
+}
@@ -2,11 +2,9 @@ package org.enso.interpreter.caches;
 
 import com.oracle.truffle.api.TruffleFile;
 import java.io.IOException;
-import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
 import java.util.function.Function;
@@ -20,8 +18,6 @@ import org.enso.text.Hex;
 final class CacheUtils {
   private CacheUtils() {}
 
-  private static int BUFFER_SIZE = 1024;
-
   static Function<Object, Object> writeReplace(CompilerContext context, boolean keepUUIDs) {
     return (obj) ->
         switch (obj) {
@@ -53,7 +49,7 @@ final class CacheUtils {
    *
    * @return digest used for computing hashes
    */
-  private static MessageDigest messageDigest() {
+  static MessageDigest messageDigest() {
     try {
       return MessageDigest.getInstance("SHA-1");
     } catch (NoSuchAlgorithmException ex) {
@@ -76,25 +72,15 @@ final class CacheUtils {
   /**
    * Computes digest from package sources using a default hashing algorithm.
    *
+   * <p>All the sources are read. Use {@link SourceManifest#computeDigest} to only read the sources
+   * that changed since the last computation.
+   *
    * @param pkgSources the list of package sources
    * @return string representation of bytes' hash
    */
   static final String computeDigestOfLibrarySources(List<SourceFile<TruffleFile>> pkgSources) {
-    pkgSources.sort(Comparator.comparing(o -> o.qualifiedName().toString()));
-
     try {
-      var digest = messageDigest();
-      for (var source : pkgSources) {
-        byte[] buffer = new byte[BUFFER_SIZE];
-        try (InputStream is = source.file().newInputStream()) {
-          int read = is.read(buffer, 0, BUFFER_SIZE);
-          while (read > -1) {
-            digest.update(buffer, 0, read);
-            read = is.read(buffer, 0, BUFFER_SIZE);
-          }
-        }
-      }
-      return Hex.toHexString(digest.digest());
+      return SourceManifest.empty().computeDigest(pkgSources).digest();
     } catch (IOException ex) {
       throw raise(RuntimeException.class, ex);
     }
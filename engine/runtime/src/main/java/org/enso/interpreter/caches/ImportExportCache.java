@@ -96,6 +96,44 @@ public final class ImportExportCache
         .map(pkg -> CacheUtils.computeDigestOfLibrarySources(pkg.listSourcesJava()));
   }
 
+  @Override
+  public Optional<String> computeDigest(
+      CachedBindings entry, TruffleFile cacheRoot, TruffleLogger logger) {
+    return entry.sources().map(sources -> digestWithManifest(sources, cacheRoot, logger));
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public Optional<String> computeDigestFromSource(
+      EnsoContext context, TruffleFile cacheRoot, TruffleLogger logger) {
+    return context
+        .getPackageRepository()
+        .getPackageForLibraryJava(libraryName)
+        .map(pkg -> digestWithManifest(pkg.listSourcesJava(), cacheRoot, logger));
+  }
+
+  /**
+   * Computes the digest of library sources, reading only the files that changed since the
+   * manifest in the cache root was written. The manifest is updated if anything changed.
+   */
+  private String digestWithManifest(
+      List<SourceFile<TruffleFile>> sources, TruffleFile cacheRoot, TruffleLogger logger) {
+    var manifestFile = cacheRoot.resolve(entryName() + sourcesManifestExtension);
+    try {
+      var result = SourceManifest.read(manifestFile).computeDigest(sources);
+      logger.log(
+          Level.FINEST,
+          "Computed digest of {0} sources of {1}, {2} of them read",
+          new Object[] {sources.size(), libraryName, result.rehashed()});
+      if (result.changed() && cacheRoot.isDirectory() && cacheRoot.isWritable()) {
+        result.manifest().write(manifestFile);
+      }
+      return result.digest();
+    } catch (IOException ex) {
+      throw CacheUtils.raise(RuntimeException.class, ex);
+    }
+  }
+
   @Override
   @SuppressWarnings("unchecked")
   public Optional<Cache.Roots> getCacheRoots(EnsoContext context) {
@@ -193,6 +231,8 @@ public final class ImportExportCache
 
   private static final String bindingsCacheMetadataExtension = ".bindings.meta";
 
+  private static final String sourcesManifestExtension = ".bindings.sources";
+
   @Persistable(clazz = BindingsMap.PolyglotSymbol.class, id = 33006)
   @Persistable(
       clazz = org.enso.compiler.data.BindingsMap$ModuleReference$Abstract.class,
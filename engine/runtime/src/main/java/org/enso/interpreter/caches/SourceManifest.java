@@ -0,0 +1,184 @@
+package org.enso.interpreter.caches;
+
+import com.oracle.truffle.api.TruffleFile;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.enso.filesystem.ModificationTimes;
+import org.enso.pkg.SourceFile;
+import org.enso.text.Hex;
+
+/**
+ * A manifest of the source files of a library stored next to the library caches.
+ *
+ * <p>Validating a library cache requires a digest of all the library sources. Reading and hashing
+ * every source file on each startup is expensive for large libraries, so the manifest remembers
+ * the size, modification time and digest of every file. When the digest is computed again, only
+ * the files whose size or modification time changed are read.
+ *
+ * <p>A file modified shortly before the manifest was written could change again without its
+ * modification time changing, as some file systems only record it with a coarse granularity. Files
+ * modified less than {@link ModificationTimes#GRANULARITY} before the digest was computed are
+ * always re-hashed.
+ */
+final class SourceManifest {
+  private static final int MAGIC = 0x454e534d;
+  private static final int VERSION = 1;
+  private static final int BUFFER_SIZE = 8192;
+
+  private final long writtenAt;
+  private final Map<String, Entry> entries;
+
+  private SourceManifest(long writtenAt, Map<String, Entry> entries) {
+    this.writtenAt = writtenAt;
+    this.entries = entries;
+  }
+
+  /**
+   * @return a manifest without any recorded files
+   */
+  static SourceManifest empty() {
+    return new SourceManifest(Long.MIN_VALUE, new HashMap<>());
+  }
+
+  /**
+   * Reads a manifest from a file.
+   *
+   * @param file the manifest file
+   * @return the manifest, or an empty one if the file doesn't exist or cannot be read
+   */
+  static SourceManifest read(TruffleFile file) {
+    try {
+      if (!file.isReadable()) {
+        return empty();
+      }
+      try (var is = new DataInputStream(new ByteArrayInputStream(file.readAllBytes()))) {
+        if (is.readInt() != MAGIC || is.readInt() != VERSION) {
+          return empty();
+        }
+        var writtenAt = is.readLong();
+        var count = is.readInt();
+        var entries = new HashMap<String, Entry>(count);
+        for (var i = 0; i < count; i++) {
+          var path = is.readUTF();
+          entries.put(path, new Entry(is.readLong(), is.readLong(), is.readUTF()));
+        }
+        return new SourceManifest(writtenAt, entries);
+      }
+    } catch (IOException | SecurityException ex) {
+      return empty();
+    }
+  }
+
+  /**
+   * Writes the manifest to a file.
+   *
+   * @param file the manifest file
+   * @return {@code true} if the manifest was written
+   */
+  boolean write(TruffleFile file) {
+    try (var os = new ByteArrayOutputStream();
+        var dos = new DataOutputStream(os)) {
+      dos.writeInt(MAGIC);
+      dos.writeInt(VERSION);
+      dos.writeLong(writtenAt);
+      dos.writeInt(entries.size());
+      for (var e : entries.entrySet()) {
+        dos.writeUTF(e.getKey());
+        dos.writeLong(e.getValue().size());
+        dos.writeLong(e.getValue().lastModified());
+        dos.writeUTF(e.getValue().digest());
+      }
+      dos.flush();
+      try (OutputStream stream =
+          file.newOutputStream(
+              StandardOpenOption.WRITE,
+              StandardOpenOption.CREATE,
+              StandardOpenOption.TRUNCATE_EXISTING)) {
+        stream.write(os.toByteArray());
+      }
+      return true;
+    } catch (IOException | SecurityException ex) {
+      return false;
+    }
+  }
+
+  /**
+   * Computes the digest of library sources, reusing digests of files that haven't changed since
+   * this manifest was written.
+   *
+   * @param sources the library sources
+   * @return the digest of all the sources and the manifest describing their current state
+   * @throws IOException if a source cannot be read
+   */
+  Result computeDigest(List<SourceFile<TruffleFile>> sources) throws IOException {
+    sources.sort(Comparator.comparing(o -> o.qualifiedName().toString()));
+    var now = System.currentTimeMillis();
+    var updated = new HashMap<String, Entry>(sources.size());
+    var rehashed = 0;
+    var digest = CacheUtils.messageDigest();
+    for (var source : sources) {
+      var file = source.file();
+      var path = file.getPath();
+      var size = file.size();
+      var lastModified = file.getLastModifiedTime().toMillis();
+      var previous = entries.get(path);
+      Entry entry;
+      if (previous != null
+          && previous.size() == size
+          && previous.lastModified() == lastModified
+          && lastModified + ModificationTimes.GRANULARITY < writtenAt) {
+        entry = previous;
+      } else {
+        entry = new Entry(size, lastModified, digestOf(file));
+        rehashed++;
+      }
+      updated.put(path, entry);
+      digest.update(source.qualifiedName().toString().getBytes());
+      digest.update(entry.digest().getBytes());
+    }
+    var changed = rehashed > 0 || updated.size() != entries.size();
+    return new Result(
+        Hex.toHexString(digest.digest()), new SourceManifest(now, updated), rehashed, changed);
+  }
+
+  private static String digestOf(TruffleFile file) throws IOException {
+    var digest = CacheUtils.messageDigest();
+    var buffer = new byte[BUFFER_SIZE];
+    try (InputStream is = file.newInputStream()) {
+      int read;
+      while ((read = is.read(buffer, 0, BUFFER_SIZE)) > -1) {
+        digest.update(buffer, 0, read);
+      }
+    }
+    return Hex.toHexString(digest.digest());
+  }
+
+  /**
+   * The recorded state of a single source file.
+   *
+   * @param size the size of the file in bytes
+   * @param lastModified the modification time of the file in milliseconds
+   * @param digest the digest of the file contents
+   */
+  private record Entry(long size, long lastModified, String digest) {}
+
+  /**
+   * The result of {@link #computeDigest}.
+   *
+   * @param digest the digest of all the library sources
+   * @param manifest the manifest describing the current state of the sources
+   * @param rehashed the number of source files that had to be read
+   * @param changed whether {@code manifest} differs from the previous one and should be stored
+   */
+  record Result(String digest, SourceManifest manifest, int rehashed, boolean changed) {}
+}
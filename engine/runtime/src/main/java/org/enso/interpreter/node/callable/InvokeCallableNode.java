@@ -30,13 +30,13 @@ import org.enso.interpreter.runtime.callable.function.Function;
 import org.enso.interpreter.runtime.control.TailCallException;
 import org.enso.interpreter.runtime.data.atom.Atom;
 import org.enso.interpreter.runtime.data.atom.AtomConstructor;
-import org.enso.interpreter.runtime.data.hash.EnsoHashMap;
 import org.enso.interpreter.runtime.error.DataflowError;
 import org.enso.interpreter.runtime.error.PanicException;
 import org.enso.interpreter.runtime.error.PanicSentinel;
 import org.enso.interpreter.runtime.library.dispatch.TypesLibrary;
 import org.enso.interpreter.runtime.state.State;
 import org.enso.interpreter.runtime.warning.AppendWarningNode;
+import org.enso.interpreter.runtime.warning.WarningSet;
 import org.enso.interpreter.runtime.warning.WarningsLibrary;
 
 /**
@@ -288,7 +288,7 @@ public abstract class InvokeCallableNode extends BaseNode {
       Object[] arguments,
       @Shared("warnings") @CachedLibrary(limit = "3") WarningsLibrary warnings,
       @Cached AppendWarningNode appendWarningNode) {
-    EnsoHashMap extracted;
+    WarningSet extracted;
     Object callable;
     try {
       extracted = warnings.getWarnings(warning, false);
@@ -50,9 +50,6 @@ import org.enso.interpreter.runtime.data.EnsoMultiValue;
 import org.enso.interpreter.runtime.data.EnsoTimeOfDay;
 import org.enso.interpreter.runtime.data.EnsoTimeZone;
 import org.enso.interpreter.runtime.data.Type;
-import org.enso.interpreter.runtime.data.hash.EnsoHashMap;
-import org.enso.interpreter.runtime.data.hash.HashMapInsertAllNode;
-import org.enso.interpreter.runtime.data.hash.HashMapSizeNode;
 import org.enso.interpreter.runtime.data.text.Text;
 import org.enso.interpreter.runtime.error.DataflowError;
 import org.enso.interpreter.runtime.error.PanicException;
@@ -60,6 +57,7 @@ import org.enso.interpreter.runtime.error.PanicSentinel;
 import org.enso.interpreter.runtime.library.dispatch.TypesLibrary;
 import org.enso.interpreter.runtime.state.State;
 import org.enso.interpreter.runtime.warning.AppendWarningNode;
+import org.enso.interpreter.runtime.warning.WarningSet;
 import org.enso.interpreter.runtime.warning.WarningsLibrary;
 
 @ImportStatic({HostMethodCallNode.PolyglotCallType.class, HostMethodCallNode.class})
@@ -443,7 +441,7 @@ public abstract class InvokeMethodNode extends BaseNode {
       @Shared("warnings") @CachedLibrary(limit = "10") WarningsLibrary warnings,
       @Shared @Cached AppendWarningNode appendWarningNode) {
     Object selfWithoutWarnings;
-    EnsoHashMap warnsMap;
+    WarningSet warnsMap;
     try {
       selfWithoutWarnings = warnings.removeWarnings(self);
       warnsMap = warnings.getWarnings(self, false);
@@ -512,12 +510,10 @@ public abstract class InvokeMethodNode extends BaseNode {
       @Cached(value = "buildProfiles()", dimensions = 1) BranchProfile[] warningProfiles,
       @Cached BranchProfile anyWarningsProfile,
       @Cached HostMethodCallNode hostMethodCallNode,
-      @Shared @Cached AppendWarningNode appendWarningNode,
-      @Cached HashMapSizeNode mapSizeNode,
-      @Cached HashMapInsertAllNode mapInsertAllNode) {
+      @Shared @Cached AppendWarningNode appendWarningNode) {
     Object[] args = new Object[argExecutors.length];
     boolean anyWarnings = false;
-    var accumulatedWarnings = EnsoHashMap.empty();
+    var accumulatedWarnings = WarningSet.empty();
     for (int i = 0; i < argExecutors.length; i++) {
       var r = argExecutors[i].executeThunk(frame, arguments[i + 1], state, TailStatus.NOT_TAIL);
       if (r instanceof DataflowError) {
@@ -527,12 +523,10 @@ public abstract class InvokeMethodNode extends BaseNode {
         warningProfiles[i].enter();
         anyWarnings = true;
         try {
-          EnsoHashMap rWarnsMap = warnings.getWarnings(r, false);
+          WarningSet rWarns = warnings.getWarnings(r, false);
           var maxWarningsToAdd =
-              EnsoContext.get(this).getWarningsLimit() - mapSizeNode.execute(accumulatedWarnings);
-          accumulatedWarnings =
-              mapInsertAllNode.executeInsertAll(
-                  frame, accumulatedWarnings, rWarnsMap, maxWarningsToAdd);
+              EnsoContext.get(this).getWarningsLimit() - accumulatedWarnings.size();
+          accumulatedWarnings = accumulatedWarnings.addAll(rWarns, maxWarningsToAdd);
           args[i] = warnings.removeWarnings(r);
         } catch (UnsupportedMessageException e) {
           var ctx = EnsoContext.get(this);
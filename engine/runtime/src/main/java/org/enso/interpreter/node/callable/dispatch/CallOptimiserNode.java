@@ -5,8 +5,8 @@ import com.oracle.truffle.api.nodes.Node;
 import com.oracle.truffle.api.nodes.NodeInfo;
 import org.enso.interpreter.runtime.callable.CallerInfo;
 import org.enso.interpreter.runtime.callable.function.Function;
-import org.enso.interpreter.runtime.data.hash.EnsoHashMap;
 import org.enso.interpreter.runtime.state.State;
+import org.enso.interpreter.runtime.warning.WarningSet;
 
 /**
  * This node handles optimising calls. It performs detection based on the kind of call being made,
@@ -43,5 +43,5 @@ public abstract class CallOptimiserNode extends Node {
       CallerInfo callerInfo,
       State state,
       Object[] arguments,
-      EnsoHashMap warnings);
+      WarningSet warnings);
 }
@@ -3,7 +3,7 @@ package org.enso.interpreter.node.expression.builtin.meta;
 import com.oracle.truffle.api.Assumption;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.Truffle;
-import org.enso.interpreter.runtime.data.hash.EnsoHashMap;
+import org.enso.interpreter.runtime.warning.WarningSet;
 
 /** Holds result of equality check with addtional information about warnings. */
 public final class EqualsAndInfo {
@@ -17,9 +17,9 @@ public final class EqualsAndInfo {
   static final EqualsAndInfo FALSE = new EqualsAndInfo(false, null);
 
   private boolean equals;
-  private EnsoHashMap warnings;
+  private WarningSet warnings;
 
-  private EqualsAndInfo(boolean equals, EnsoHashMap warnings) {
+  private EqualsAndInfo(boolean equals, WarningSet warnings) {
     this.equals = equals;
     this.warnings = warnings;
   }
@@ -43,7 +43,7 @@ public final class EqualsAndInfo {
    *
    * @return {@code null} if there are no warnings, or the warnings
    */
-  final EnsoHashMap getWarnings() {
+  final WarningSet getWarnings() {
     if (NO_WARNINGS.isValid()) {
       return null;
     } else {
@@ -69,7 +69,7 @@ public final class EqualsAndInfo {
    * @param warnings associated warnings or {@code null}
    * @return either {@code TRUE} or {@code FALSE} or instance representing both values
    */
-  static EqualsAndInfo valueOf(boolean result, EnsoHashMap warnings) {
+  static EqualsAndInfo valueOf(boolean result, WarningSet warnings) {
     if (warnings == null) {
       return result ? TRUE : FALSE;
     } else {
@@ -27,10 +27,9 @@ import org.enso.interpreter.runtime.callable.UnresolvedSymbol;
 import org.enso.interpreter.runtime.data.EnsoFile;
 import org.enso.interpreter.runtime.data.Type;
 import org.enso.interpreter.runtime.data.atom.Atom;
-import org.enso.interpreter.runtime.data.hash.EnsoHashMap;
-import org.enso.interpreter.runtime.data.hash.HashMapInsertAllNode;
 import org.enso.interpreter.runtime.library.dispatch.TypesLibrary;
 import org.enso.interpreter.runtime.scope.ModuleScope;
+import org.enso.interpreter.runtime.warning.WarningSet;
 import org.enso.interpreter.runtime.warning.WarningsLibrary;
 
 @GenerateUncached
@@ -119,26 +118,25 @@ abstract class EqualsComplexNode extends Node {
       Object otherWithWarnings,
       @CachedLibrary("selfWithWarnings") WarningsLibrary selfWarnLib,
       @CachedLibrary("otherWithWarnings") WarningsLibrary otherWarnLib,
-      @Shared("equalsNode") @Cached EqualsNode equalsNode,
-      @Cached HashMapInsertAllNode insertAllNode) {
+      @Shared("equalsNode") @Cached EqualsNode equalsNode) {
     try {
-      var all = EnsoHashMap.empty();
+      var all = WarningSet.empty();
       var max = EnsoContext.get(this).getWarningsLimit();
       Object self = selfWithWarnings;
       Object other = otherWithWarnings;
       if (selfWarnLib.hasWarnings(selfWithWarnings)) {
         self = selfWarnLib.removeWarnings(selfWithWarnings);
         var toAdd = selfWarnLib.getWarnings(selfWithWarnings, false);
-        all = insertAllNode.executeInsertAll(frame, all, toAdd, max);
+        all = all.addAll(toAdd, max);
       }
       if (otherWarnLib.hasWarnings(otherWithWarnings)) {
         other = otherWarnLib.removeWarnings(otherWithWarnings);
         var toAdd = otherWarnLib.getWarnings(otherWithWarnings, false);
-        all = insertAllNode.executeInsertAll(frame, all, toAdd, max);
+        all = all.addAll(toAdd, max);
       }
       var res = equalsNode.execute(frame, self, other);
       if (res.getWarnings() != null) {
-        all = insertAllNode.executeInsertAll(frame, all, res.getWarnings(), max);
+        all = all.addAll(res.getWarnings(), max);
       }
       return EqualsAndInfo.valueOf(res.isTrue(), all);
     } catch (UnsupportedMessageException e) {
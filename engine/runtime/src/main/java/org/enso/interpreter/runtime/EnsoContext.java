@@ -159,7 +159,8 @@ public final class EnsoContext {
             dumpIrs,
             getOption(RuntimeOptions.STRICT_ERRORS_KEY),
             getOption(RuntimeOptions.DISABLE_LINTING_KEY),
-            scala.Option.empty());
+            scala.Option.empty(),
+            getOption(RuntimeOptions.PARALLEL_COMPILATION_KEY));
     this.home = home;
     this.builtins = new Builtins(this);
     this.notificationHandler = notificationHandler;
@@ -756,6 +757,15 @@ public final class EnsoContext {
     return getOption(RuntimeOptions.ENABLE_GLOBAL_SUGGESTIONS_KEY);
   }
 
+  /**
+   * Checks value of {@link RuntimeOptions#RUNTIME_CACHE_BUDGET_KEY}.
+   *
+   * @return the memory budget of the runtime cache in bytes, {@code 0} if disabled
+   */
+  public long getRuntimeCacheBudget() {
+    return getOption(RuntimeOptions.RUNTIME_CACHE_BUDGET_KEY);
+  }
+
   /** The job parallelism or 1 */
   public int getJobParallelism() {
     var n = getOption(RuntimeOptions.JOB_PARALLELISM_KEY);
@@ -64,9 +64,10 @@ public final class Module extends EnsoObject {
   private final boolean synthetic;
   private PatchedModuleValues patchedValues;
   private final Map<Source, Module> allSources = new WeakHashMap<>();
-  private CompilationStage compilationStage = CompilationStage.INITIAL;
-  private org.enso.compiler.core.ir.Module ir;
-  private Map<UUID, IR> uuidsMap;
+  // Written by the compiler, possibly on its worker threads, and read by other threads.
+  private volatile CompilationStage compilationStage = CompilationStage.INITIAL;
+  private volatile org.enso.compiler.core.ir.Module ir;
+  private volatile Map<UUID, IR> uuidsMap;
   private IdMap idMap;
 
   /**
@@ -174,6 +174,7 @@ final class SerializationPool {
   }
 
   <T> Future<T> submitTask(Callable<T> task, boolean useThreadPool, QualifiedName key) {
+    task = SerializationTaskEvent.recorded(task, key, useThreadPool);
     if (useThreadPool) {
       synchronized (isWaitingForSerialization) {
         var future = pool.submit(task);
@@ -0,0 +1,62 @@
+package org.enso.interpreter.runtime;
+
+import java.util.concurrent.Callable;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import org.enso.pkg.QualifiedName;
+
+/** A flight recorder event covering a task of the {@link SerializationPool}. */
+@Name("org.enso.interpreter.runtime.SerializationTask")
+@Label("Serialization Task")
+@Category({"Enso", "Caches"})
+@Description("Serialization of a module or a library")
+@StackTrace(false)
+final class SerializationTaskEvent extends Event {
+  @Label("Key")
+  String key;
+
+  @Label("Background")
+  boolean background;
+
+  @Label("Queued")
+  @Timespan(Timespan.NANOSECONDS)
+  long queued;
+
+  @Label("Successful")
+  boolean successful;
+
+  /**
+   * Wraps a serialization task so its execution is recorded.
+   *
+   * @param task the task
+   * @param key the key the task is submitted for
+   * @param background whether the task runs in the background thread
+   * @return the wrapped task
+   */
+  static <T> Callable<T> recorded(Callable<T> task, QualifiedName key, boolean background) {
+    var submitted = System.nanoTime();
+    return () -> {
+      var started = System.nanoTime();
+      var event = new SerializationTaskEvent();
+      event.begin();
+      try {
+        var result = task.call();
+        event.successful = true;
+        return result;
+      } finally {
+        event.end();
+        if (event.shouldCommit()) {
+          event.key = key.toString();
+          event.background = background;
+          event.queued = started - submitted;
+          event.commit();
+        }
+      }
+    };
+  }
+}
@@ -759,7 +759,7 @@ final class TruffleCompilerContext implements CompilerContext {
   public static final class Module extends CompilerContext.Module {
 
     private final org.enso.interpreter.runtime.Module module;
-    private BindingsMap bindings;
+    private volatile BindingsMap bindings;
 
     public Module(org.enso.interpreter.runtime.Module module) {
       this.module = module;
@@ -1,20 +1,9 @@
 package org.enso.interpreter.runtime.builtin;
 
 import com.oracle.truffle.api.CompilerDirectives;
-import com.oracle.truffle.api.TruffleOptions;
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.nio.charset.StandardCharsets;
-import java.util.AbstractMap;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
@@ -22,13 +11,11 @@ import java.util.stream.Collectors;
 import org.enso.compiler.Passes;
 import org.enso.compiler.context.CompilerContext;
 import org.enso.compiler.context.FreshNameSupply;
-import org.enso.compiler.core.CompilerError;
 import org.enso.compiler.phase.BuiltinsIrBuilder;
 import org.enso.interpreter.EnsoLanguage;
 import org.enso.interpreter.node.expression.builtin.Any;
 import org.enso.interpreter.node.expression.builtin.Boolean;
 import org.enso.interpreter.node.expression.builtin.Builtin;
-import org.enso.interpreter.node.expression.builtin.BuiltinRootNode;
 import org.enso.interpreter.node.expression.builtin.Nothing;
 import org.enso.interpreter.node.expression.builtin.Polyglot;
 import org.enso.interpreter.node.expression.builtin.debug.Debug;
@@ -53,24 +40,11 @@ import org.enso.interpreter.runtime.Module;
 import org.enso.interpreter.runtime.callable.function.Function;
 import org.enso.interpreter.runtime.data.Type;
 import org.enso.interpreter.runtime.scope.ModuleScope;
-import org.enso.interpreter.runtime.util.CachingSupplier;
 import org.enso.pkg.QualifiedName;
 
 /** Container class for static predefined atoms, methods, and their containing scope. */
 public final class Builtins {
 
-  private static List<Constructor<? extends Builtin>> loadedBuiltinConstructors;
-  private static Map<String, LoadedBuiltinMetaMethod> loadedBuiltinMethodsMeta;
-  private static Map<String, LoadedBuiltinMethod> loadedBuiltinMethods;
-
-  static {
-    loadedBuiltinConstructors = readBuiltinTypes();
-    loadedBuiltinMethodsMeta = readBuiltinMethodsMeta();
-    if (TruffleOptions.AOT) {
-      loadedBuiltinMethods = loadBuiltinMethodClassesEarly(loadedBuiltinMethodsMeta);
-    }
-  }
-
   public static final String PACKAGE_NAME = "Builtins";
   public static final String NAMESPACE = "Standard";
   public static final String MODULE_NAME = NAMESPACE + "." + PACKAGE_NAME + ".Main";
@@ -83,7 +57,6 @@ public final class Builtins {
   }
 
   private final Map<Class<? extends Builtin>, Builtin> builtins;
-  private final Map<String, Map<String, Supplier<LoadedBuiltinMethod>>> builtinMethodNodes;
   private final Map<String, Builtin> builtinsByName;
 
   private final Error error;
@@ -134,18 +107,13 @@ public final class Builtins {
     module.compileScope(context); // Dummy compilation for an empty module
     ModuleScope.Builder scopeBuilder = module.newScopeBuilder(false);
 
-    builtins = initializeBuiltinTypes(loadedBuiltinConstructors, language, scopeBuilder);
+    builtins = initializeBuiltinTypes(language, scopeBuilder);
     builtinsByName =
         builtins.values().stream()
             .collect(
                 Collectors.toMap(
                     v -> v.getType().getName(), java.util.function.Function.identity()));
-    if (TruffleOptions.AOT) {
-      builtinMethodNodes = readBuiltinMethodsMetadata(loadedBuiltinMethods, scopeBuilder);
-      registerBuiltinMethods(scopeBuilder, language);
-    } else {
-      builtinMethodNodes = registerBuiltinMethodsLazily(scopeBuilder, language);
-    }
+    registerBuiltinMethods(scopeBuilder, language);
 
     ordering = getBuiltinType(Ordering.class);
     comparable = getBuiltinType(Comparable.class);
@@ -183,20 +151,10 @@ public final class Builtins {
     scope = scopeBuilder.build();
   }
 
-  private static Map<String, LoadedBuiltinMethod> loadBuiltinMethodClassesEarly(
-      Map<String, LoadedBuiltinMetaMethod> map) {
-    Map<String, LoadedBuiltinMethod> methods = new HashMap<>();
-    map.forEach(
-        (key, value) -> {
-          methods.put(key, value.toMethod());
-        });
-    return methods;
-  }
-
   /**
    * Registers builtin methods with their corresponding Atom Constructor's owners. That way
    * "special" builtin types have builtin methods in the scope without requiring everyone to always
-   * import full stdlib.
+   * import full stdlib. The functions of the methods are created lazily, when first used.
    *
    * @param scope Builtins scope
    * @param language The language the resulting function nodes should be associated with
@@ -204,101 +162,27 @@ public final class Builtins {
   private void registerBuiltinMethods(ModuleScope.Builder scope, EnsoLanguage language) {
     for (Builtin builtin : builtins.values()) {
       var type = builtin.getType();
-      Map<String, Supplier<LoadedBuiltinMethod>> methods = builtinMethodNodes.get(type.getName());
-      if (methods != null) {
-        // Register a builtin method iff it is marked as auto-register.
-        // Methods can only register under a type or, if we deal with a static method, it's
-        // eigen-type.
-        // Such builtins are available on certain types without importing the whole stdlib, e.g. Any
-        // or Number.
-        methods.forEach(
-            (key, value) -> {
-              LoadedBuiltinMethod meth = value.get();
-              Type tpe =
-                  meth.isAutoRegister ? (!meth.isStatic() ? type : type.getEigentype()) : null;
-              if (tpe != null) {
-                Optional<BuiltinFunction> fun = meth.toFunction(language, false);
-                fun.ifPresent(f -> scope.registerMethod(tpe, key, f.getFunction()));
-              }
-            });
+      var owner = Arrays.binarySearch(BuiltinMethodsGen.OWNERS, type.getName());
+      if (owner < 0) {
+        continue;
       }
-    }
-  }
-
-  /**
-   * Register builtin methods and initialize them lazily in the provided scope. This method differs
-   * from `registerBuiltinMethods` where all methods are initialized by the time they are
-   * registered..
-   *
-   * @param scope Builtins scope
-   * @param language The language the resulting function nodes should be associated with
-   * @return map from types to builtin methods
-   */
-  private Map<String, Map<String, Supplier<LoadedBuiltinMethod>>> registerBuiltinMethodsLazily(
-      ModuleScope.Builder scope, EnsoLanguage language) {
-    Map<String, Map<String, Supplier<LoadedBuiltinMethod>>> builtinMethodNodes = new HashMap<>();
-    Map<String, Map<String, LoadedBuiltinMetaMethod>> builtinMetaMethods = new HashMap<>();
-    loadedBuiltinMethodsMeta.forEach(
-        (fullName, meta) -> {
-          String[] builtinName = fullName.split("\\.");
-          if (builtinName.length != 2) {
-            throw new CompilerError("Invalid builtin metadata for " + fullName);
-          }
-          String builtinMethodOwner = builtinName[0];
-          String builtinMethodName = builtinName[1];
-          Optional.ofNullable(scope.asModuleScope().getType(builtinMethodOwner, true))
-              .ifPresentOrElse(
-                  constr -> {
-                    Map<String, Supplier<LoadedBuiltinMethod>> atomNodes =
-                        getOrUpdate(builtinMethodNodes, constr.getName());
-                    atomNodes.put(builtinMethodName, CachingSupplier.wrap(() -> meta.toMethod()));
-
-                    Map<String, LoadedBuiltinMetaMethod> atomNodesMeta =
-                        getOrUpdate(builtinMetaMethods, constr.getName());
-                    atomNodesMeta.put(builtinMethodName, meta);
-                  },
-                  () -> {
-                    Map<String, Supplier<LoadedBuiltinMethod>> atomNodes =
-                        getOrUpdate(builtinMethodNodes, builtinMethodOwner);
-                    atomNodes.put(builtinMethodName, CachingSupplier.wrap(() -> meta.toMethod()));
-
-                    Map<String, LoadedBuiltinMetaMethod> atomNodesMeta =
-                        getOrUpdate(builtinMetaMethods, builtinMethodOwner);
-                    atomNodesMeta.put(builtinMethodName, meta);
-                  });
-        });
-
-    for (Builtin builtin : builtins.values()) {
-      var type = builtin.getType();
-      Map<String, LoadedBuiltinMetaMethod> methods = builtinMetaMethods.get(type.getName());
-      if (methods != null) {
-        // Register a builtin method iff it is marked as auto-register.
-        // Methods can only register under a type or, if we deal with a static method, it's
-        // eigen-type.
-        // Such builtins are available on certain types without importing the whole stdlib, e.g. Any
-        // or Number.
-        methods.forEach(
-            (key, value) -> {
-              Type tpe =
-                  value.isAutoRegister() ? (!value.isStatic() ? type : type.getEigentype()) : null;
-              if (tpe != null) {
-                Supplier<Function> supplier =
-                    () -> value.toMethod().toFunction(language, false).get().getFunction();
-                scope.registerMethod(tpe, key, supplier);
-              }
-            });
+      // Register a builtin method iff it is marked as auto-register.
+      // Methods can only register under a type or, if we deal with a static method, it's
+      // eigen-type.
+      // Such builtins are available on certain types without importing the whole stdlib, e.g. Any
+      // or Number.
+      var end = BuiltinMethodsGen.OWNER_START[owner + 1];
+      for (var id = BuiltinMethodsGen.OWNER_START[owner]; id < end; id++) {
+        var flags = BuiltinMethodsGen.METHOD_FLAGS[id];
+        if ((flags & BuiltinMethodsGen.AUTO_REGISTER) != 0) {
+          var tpe = (flags & BuiltinMethodsGen.STATIC) == 0 ? type : type.getEigentype();
+          var methodId = id;
+          Supplier<Function> supplier =
+              () -> BuiltinMethodsGen.makeFunction(methodId, language, false);
+          scope.registerMethod(tpe, BuiltinMethodsGen.METHOD_NAMES[id], supplier);
+        }
       }
     }
-    return builtinMethodNodes;
-  }
-
-  private <T> Map<String, T> getOrUpdate(Map<String, Map<String, T>> map, String key) {
-    Map<String, T> entry = map.get(key);
-    if (entry == null) {
-      entry = new HashMap<>();
-      map.put(key, entry);
-    }
-    return entry;
   }
 
   /**
@@ -334,68 +218,16 @@ public final class Builtins {
   }
 
   /**
-   * Returns a list of supported builtins.
+   * Initialize builtin types in the context of the given language and module scope.
    *
-   * <p>Builtin types are marked via @BuiltinType annotation. The metadata file represents a single
-   * builtin type per row. The format of the row is as follows: <Enso name of the builtin
-   * type>:<Name of the class representing it>:[<field1>,<field2>,...] where the last column gives a
-   * list of optional type's fields.
-   */
-  private static List<Constructor<? extends Builtin>> readBuiltinTypes() {
-    ClassLoader classLoader = Builtins.class.getClassLoader();
-    List<String> lines;
-    final String NODE_PKG = "org.enso.interpreter.node.expression.builtin";
-    final String META_PATH =
-        "META-INF" + "/" + NODE_PKG.replace('.', '/') + "/BuiltinTypes.metadata";
-    try (InputStream resource = classLoader.getResourceAsStream(META_PATH)) {
-      lines =
-          new BufferedReader(new InputStreamReader(resource, StandardCharsets.UTF_8))
-              .lines()
-              .collect(Collectors.toList());
-    } catch (Exception ioe) {
-      lines = new ArrayList<>();
-      ioe.printStackTrace();
-    }
-
-    return lines.stream()
-        .map(
-            line -> {
-              String[] builtinMeta = line.split(":");
-              if (builtinMeta.length < 2 || builtinMeta.length > 4) {
-                java.lang.System.out.println(Arrays.toString(builtinMeta));
-                throw new CompilerError("Invalid builtin metadata in: " + line);
-              }
-              try {
-                @SuppressWarnings("unchecked")
-                Class<? extends Builtin> clazz =
-                    (Class<? extends Builtin>) Class.forName(builtinMeta[1]);
-
-                // Note: Don't create a new instance of the builtin at this point
-                // because that will be too much for the inliner and won't get
-                // constant folded.
-                return clazz.getConstructor();
-              } catch (ClassNotFoundException | NoSuchMethodException e) {
-                e.printStackTrace();
-                throw new CompilerError("Invalid builtin type entry: " + builtinMeta[1]);
-              }
-            })
-        .collect(Collectors.toList());
-  }
-
-  /** Initialize builting types in the context of the given language and module scope */
+   * <p>Builtin types are marked via @BuiltinType annotation. Their instances are created by the
+   * {@link BuiltinTypesGen} factory generated at build time.
+   */
   private Map<Class<? extends Builtin>, Builtin> initializeBuiltinTypes(
-      List<Constructor<? extends Builtin>> constrs,
-      EnsoLanguage language,
-      ModuleScope.Builder scope) {
+      EnsoLanguage language, ModuleScope.Builder scope) {
     Map<Class<? extends Builtin>, Builtin> builtins = new HashMap<>();
-
-    for (var constr : constrs) {
-      try {
-        Builtin builtin = constr.newInstance();
-        builtins.put(builtin.getClass(), builtin);
-      } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
-        throw new CompilerError("Invalid builtin type entry: " + constr, e);
-      }
+    for (var builtin : BuiltinTypesGen.createBuiltinTypes()) {
+      builtins.put(builtin.getClass(), builtin);
     }
     for (var b : builtins.values()) {
       b.initialize(language, scope, builtins);
@@ -403,88 +235,6 @@ public final class Builtins {
     return builtins;
   }
 
-  /**
-   * Returns a map of Builtin methods associated with their owner.
-   *
-   * @param classes a map of (already loaded) builtin methods
-   * @param scope Builtins scope
-   * @return A map of builtin method nodes per builtin type name
-   */
-  private Map<String, Map<String, Supplier<LoadedBuiltinMethod>>> readBuiltinMethodsMetadata(
-      Map<String, LoadedBuiltinMethod> classes, ModuleScope.Builder scope) {
-
-    Map<String, Map<String, Supplier<LoadedBuiltinMethod>>> methodNodes = new HashMap<>();
-    classes.forEach(
-        (fullBuiltinName, builtin) -> {
-          String[] builtinName = fullBuiltinName.split("\\.");
-          if (builtinName.length != 2) {
-            throw new CompilerError("Invalid builtin metadata for " + fullBuiltinName);
-          }
-          String builtinMethodOwner = builtinName[0];
-          String builtinMethodName = builtinName[1];
-          Optional.ofNullable(scope.asModuleScope().getType(builtinMethodOwner, true))
-              .ifPresentOrElse(
-                  constr -> {
-                    Map<String, Supplier<LoadedBuiltinMethod>> atomNodes =
-                        getOrUpdate(methodNodes, constr.getName());
-                    atomNodes.put(builtinMethodName, CachingSupplier.forValue(builtin));
-                  },
-                  () -> {
-                    Map<String, Supplier<LoadedBuiltinMethod>> atomNodes =
-                        getOrUpdate(methodNodes, builtinMethodOwner);
-                    atomNodes.put(builtinMethodName, CachingSupplier.forValue(builtin));
-                  });
-        });
-    return methodNodes;
-  }
-
-  /**
-   * Loads a Map of builtin methods.
-   *
-   * <p>Builtin methods are marked via @BuiltinMethod annotation. THe metadata file represents a
-   * single builtin method per row. The format of the row is as follows: <Fully qualified name of
-   * the builtin method>:<Class name of the builtin method representing it>
-   *
-   * @return A map of builtin method nodes per builtin type name
-   */
-  private static Map<String, LoadedBuiltinMetaMethod> readBuiltinMethodsMeta() {
-    ClassLoader classLoader = Builtins.class.getClassLoader();
-    List<String> lines;
-
-    final String NODE_PKG = "org.enso.interpreter.node.expression.builtin";
-    final String META_PATH =
-        "META-INF" + "/" + NODE_PKG.replace('.', '/') + "/BuiltinMethods.metadata";
-    try (InputStream resource = classLoader.getResourceAsStream(META_PATH)) {
-      lines =
-          new BufferedReader(new InputStreamReader(resource, StandardCharsets.UTF_8))
-              .lines()
-              .collect(Collectors.toList());
-    } catch (Exception ioe) {
-      lines = new ArrayList<>();
-      ioe.printStackTrace();
-    }
-
-    return lines.stream()
-        .map(
-            line -> {
-              String[] builtinMeta = line.split(":");
-              if (builtinMeta.length != 4) {
-                throw new CompilerError("Invalid builtin metadata in: " + line);
-              }
-              String[] builtinName = builtinMeta[0].split("\\.");
-              if (builtinName.length != 2) {
-                throw new CompilerError("Invalid builtin metadata in : " + line);
-              }
-              boolean isStatic = java.lang.Boolean.valueOf(builtinMeta[2]);
-              boolean isAutoRegister = java.lang.Boolean.valueOf(builtinMeta[3]);
-
-              return new AbstractMap.SimpleEntry<>(
-                  builtinMeta[0],
-                  new LoadedBuiltinMetaMethod(builtinMeta[1], isStatic, isAutoRegister));
-            })
-        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-  }
-
   /**
    * Returns a builtin method for the provided Atom Constructor and the name, if it exists.
    *
@@ -497,19 +247,28 @@ public final class Builtins {
   public Optional<BuiltinFunction> getBuiltinFunction(
       String type, String methodName, EnsoLanguage language, boolean isStaticInstance) {
     // TODO: move away from String mapping once Builtins is gone
-    Map<String, Supplier<LoadedBuiltinMethod>> atomNodes = builtinMethodNodes.get(type);
-    if (atomNodes == null) {
+    var owner = Arrays.binarySearch(BuiltinMethodsGen.OWNERS, type);
+    if (owner < 0) {
       return Optional.empty();
     }
-    var supply = atomNodes.get(methodName);
-    if (supply == null) {
+    var id =
+        Arrays.binarySearch(
+            BuiltinMethodsGen.METHOD_NAMES,
+            BuiltinMethodsGen.OWNER_START[owner],
+            BuiltinMethodsGen.OWNER_START[owner + 1],
+            methodName);
+    if (id < 0) {
       return Optional.empty();
     }
-    LoadedBuiltinMethod builtin = supply.get();
-    if (builtin == null) {
+    var isAutoRegister =
+        (BuiltinMethodsGen.METHOD_FLAGS[id] & BuiltinMethodsGen.AUTO_REGISTER) != 0;
+    try {
+      return Optional.ofNullable(BuiltinMethodsGen.makeFunction(id, language, isStaticInstance))
+          .map(f -> new BuiltinFunction(f, isAutoRegister));
+    } catch (Exception e) {
+      e.printStackTrace();
       return Optional.empty();
     }
-    return builtin.toFunction(language, isStaticInstance);
   }
 
   public Optional<BuiltinFunction> getBuiltinFunction(
@@ -779,53 +538,4 @@ public final class Builtins {
   public Module getModule() {
     return module;
   }
-
-  private static class LoadedBuiltinMetaMethod {
-
-    private LoadedBuiltinMethod method;
-    private final String className;
-    private final boolean staticMethod;
-    private final boolean autoRegister;
-
-    private LoadedBuiltinMetaMethod(String className, boolean staticMethod, boolean autoRegister) {
-      this.className = className;
-      this.staticMethod = staticMethod;
-      this.autoRegister = autoRegister;
-      this.method = null;
-    }
-
-    boolean isStatic() {
-      return staticMethod;
-    }
-
-    boolean isAutoRegister() {
-      return autoRegister;
-    }
-
-    LoadedBuiltinMethod toMethod() {
-      if (method == null) {
-        try {
-          @SuppressWarnings("unchecked")
-          Class<BuiltinRootNode> clazz = (Class<BuiltinRootNode>) Class.forName(className);
-          Method meth = clazz.getMethod("makeFunction", EnsoLanguage.class, boolean.class);
-          method = new LoadedBuiltinMethod(meth, staticMethod, autoRegister);
-        } catch (ClassNotFoundException | NoSuchMethodException e) {
-          throw new CompilerError("Invalid builtin method " + className, e);
-        }
-      }
-      return method;
-    }
-  }
-
-  private record LoadedBuiltinMethod(Method meth, boolean isStatic, boolean isAutoRegister) {
-    Optional<BuiltinFunction> toFunction(EnsoLanguage language, boolean isStaticInstance) {
-      try {
-        return Optional.ofNullable((Function) meth.invoke(null, language, isStaticInstance))
-            .map(f -> new BuiltinFunction(f, isAutoRegister));
-      } catch (Exception e) {
-        e.printStackTrace();
-        return Optional.empty();
-      }
-    }
-  }
 }
@@ -3,7 +3,7 @@ package org.enso.interpreter.runtime.control;
 import com.oracle.truffle.api.nodes.ControlFlowException;
 import org.enso.interpreter.runtime.callable.CallerInfo;
 import org.enso.interpreter.runtime.callable.function.Function;
-import org.enso.interpreter.runtime.data.hash.EnsoHashMap;
+import org.enso.interpreter.runtime.warning.WarningSet;
 
 /**
  * Used to model the switch of control-flow from standard stack-based execution to looping.
@@ -20,7 +20,7 @@ public class TailCallException extends ControlFlowException {
    *
    * @see org.enso.interpreter.runtime.warning.WithWarnings#warnings
    */
-  private final EnsoHashMap warnings;
+  private final WarningSet warnings;
 
   /**
    * Creates a new exception containing the necessary data to continue computation.
@@ -37,7 +37,7 @@ public class TailCallException extends ControlFlowException {
   }
 
   private TailCallException(
-      Function function, CallerInfo callerInfo, Object[] arguments, EnsoHashMap warnings) {
+      Function function, CallerInfo callerInfo, Object[] arguments, WarningSet warnings) {
     this.function = function;
     this.callerInfo = callerInfo;
     this.arguments = arguments;
@@ -50,7 +50,7 @@ public class TailCallException extends ControlFlowException {
    * @param origin the original tail call exception
    * @param warnings warnings to be associated with the tail call exception
    */
-  public TailCallException(TailCallException origin, EnsoHashMap warnings) {
+  public TailCallException(TailCallException origin, WarningSet warnings) {
     this(origin.getFunction(), origin.getCallerInfo(), origin.getArguments(), warnings);
   }
 
@@ -86,7 +86,7 @@ public class TailCallException extends ControlFlowException {
    *
    * @return the warnings to be appended to the result of the call, or null if empty
    */
-  public EnsoHashMap getWarnings() {
+  public WarningSet getWarnings() {
     return warnings;
   }
 }
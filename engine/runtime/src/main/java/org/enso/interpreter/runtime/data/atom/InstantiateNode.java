@@ -11,11 +11,9 @@ import com.oracle.truffle.api.profiles.BranchProfile;
 import com.oracle.truffle.api.profiles.CountingConditionProfile;
 import org.enso.interpreter.node.ExpressionNode;
 import org.enso.interpreter.runtime.EnsoContext;
-import org.enso.interpreter.runtime.data.hash.EnsoHashMap;
-import org.enso.interpreter.runtime.data.hash.HashMapInsertAllNode;
-import org.enso.interpreter.runtime.data.hash.HashMapSizeNode;
 import org.enso.interpreter.runtime.type.TypesGen;
 import org.enso.interpreter.runtime.warning.AppendWarningNode;
+import org.enso.interpreter.runtime.warning.WarningSet;
 import org.enso.interpreter.runtime.warning.WarningsLibrary;
 
 /**
@@ -68,12 +66,10 @@ abstract class InstantiateNode extends ExpressionNode {
   Object doExecute(
       VirtualFrame frame,
       @Cached(parameters = {"constructor"}) AtomConstructorInstanceNode createInstanceNode,
-      @Cached AppendWarningNode appendWarningNode,
-      @Cached HashMapSizeNode mapSizeNode,
-      @Cached HashMapInsertAllNode mapInsertAllNode) {
+      @Cached AppendWarningNode appendWarningNode) {
     Object[] argumentValues = new Object[arguments.length];
     boolean anyWarnings = false;
-    var accumulatedWarnings = EnsoHashMap.empty();
+    var accumulatedWarnings = WarningSet.empty();
     for (int i = 0; i < arguments.length; i++) {
       CountingConditionProfile profile = profiles[i];
       CountingConditionProfile warningProfile = warningProfiles[i];
@@ -84,12 +80,10 @@ abstract class InstantiateNode extends ExpressionNode {
       } else if (warningProfile.profile(warnings.hasWarnings(argument))) {
         anyWarnings = true;
         try {
-          var argumentWarnsMap = warnings.getWarnings(argument, false);
+          var argumentWarns = warnings.getWarnings(argument, false);
           var maxWarningsToAdd =
-              EnsoContext.get(this).getWarningsLimit() - mapSizeNode.execute(accumulatedWarnings);
-          accumulatedWarnings =
-              mapInsertAllNode.executeInsertAll(
-                  frame, accumulatedWarnings, argumentWarnsMap, maxWarningsToAdd);
+              EnsoContext.get(this).getWarningsLimit() - accumulatedWarnings.size();
+          accumulatedWarnings = accumulatedWarnings.addAll(argumentWarns, maxWarningsToAdd);
           argumentValues[i] = warnings.removeWarnings(argument);
         } catch (UnsupportedMessageException e) {
           throw EnsoContext.get(this).raiseAssertionPanic(this, null, e);
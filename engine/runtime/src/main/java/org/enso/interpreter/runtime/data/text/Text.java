@@ -226,6 +226,33 @@ public final class Text extends BuiltinObject {
     }
   }
 
+  /**
+   * Computes the number of UTF-16 code units of this text without flattening it.
+   *
+   * @return the length of the Java representation of this text
+   */
+  @CompilerDirectives.TruffleBoundary
+  public long utf16Length() {
+    Object c = this.contents;
+    if (c instanceof String s) {
+      return s.length();
+    }
+    long result = 0;
+    Deque<Object> workStack = new ArrayDeque<>();
+    workStack.push(c);
+    while (!workStack.isEmpty()) {
+      Object item = workStack.pop();
+      if (item instanceof String s) {
+        result += s.length();
+      } else {
+        ConcatRope rope = (ConcatRope) item;
+        workStack.push(rope.getRight());
+        workStack.push(rope.getLeft());
+      }
+    }
+    return result;
+  }
+
   @Override
   public String toString() {
     Object c = this.contents;
@@ -16,12 +16,9 @@ import java.util.Comparator;
 import org.enso.interpreter.dsl.Builtin;
 import org.enso.interpreter.runtime.EnsoContext;
 import org.enso.interpreter.runtime.builtin.BuiltinObject;
-import org.enso.interpreter.runtime.data.hash.EnsoHashMap;
-import org.enso.interpreter.runtime.data.hash.HashMapInsertAllNode;
-import org.enso.interpreter.runtime.data.hash.HashMapInsertNode;
-import org.enso.interpreter.runtime.data.hash.HashMapSizeNode;
 import org.enso.interpreter.runtime.warning.AppendWarningNode;
 import org.enso.interpreter.runtime.warning.Warning;
+import org.enso.interpreter.runtime.warning.WarningSet;
 import org.enso.interpreter.runtime.warning.WarningsLibrary;
 
 /** A primitive boxed array type for use in the runtime. */
@@ -34,9 +31,9 @@ final class Array extends BuiltinObject {
   /** If true, some elements contain warning, and thus, this Array contains warning. */
   private Boolean withWarnings;
 
-  private EnsoHashMap cachedWarningsWrapped;
+  private WarningSet cachedWarningsWrapped;
 
-  private EnsoHashMap cachedWarningsUnwrapped;
+  private WarningSet cachedWarningsUnwrapped;
 
   /**
    * Creates a new array
@@ -101,11 +98,8 @@ final class Array extends BuiltinObject {
       @CachedLibrary(limit = "3") WarningsLibrary warnings,
       @Cached BranchProfile errProfile,
       @Cached BranchProfile hasWarningsProfile,
-      @Cached HashMapInsertNode mapInsertNode,
       @Cached AppendWarningNode appendWarningNode,
-      @Cached BranchProfile shouldWrapProfile,
-      @Cached HashMapSizeNode mapSizeNode,
-      @Cached HashMapInsertAllNode mapInsertAllNode)
+      @Cached BranchProfile shouldWrapProfile)
       throws InvalidArrayIndexException, UnsupportedMessageException {
     if (index >= items.length || index < 0) {
       errProfile.enter();
@@ -115,13 +109,11 @@ final class Array extends BuiltinObject {
     var v = items[(int) index];
     if (this.hasWarnings(warnings)) {
       hasWarningsProfile.enter();
-      var extractedWarnsMap =
-          this.getWarnings(
-              false, warnings, mapInsertNode, shouldWrapProfile, mapSizeNode, mapInsertAllNode);
+      var extractedWarns = this.getWarnings(false, warnings, shouldWrapProfile);
       if (warnings.hasWarnings(v)) {
         v = warnings.removeWarnings(v);
       }
-      return appendWarningNode.executeAppend(null, v, extractedWarnsMap);
+      return appendWarningNode.executeAppend(null, v, extractedWarns);
     }
 
     return v;
@@ -183,31 +175,20 @@ final class Array extends BuiltinObject {
   }
 
   @ExportMessage
-  EnsoHashMap getWarnings(
+  WarningSet getWarnings(
       boolean shouldWrap,
       @Shared("warnsLib") @CachedLibrary(limit = "3") WarningsLibrary warnings,
-      @Shared("mapInsertNode") @Cached HashMapInsertNode mapInsertNode,
-      @Shared @Cached BranchProfile shouldWrapProfile,
-      @Shared @Cached HashMapSizeNode mapSizeNode,
-      @Shared @Cached HashMapInsertAllNode mapInsertAllNode)
+      @Shared @Cached BranchProfile shouldWrapProfile)
       throws UnsupportedMessageException {
     var cache = shouldWrap ? cachedWarningsWrapped : cachedWarningsUnwrapped;
     if (cache == null) {
       var warnLimit = EnsoContext.get(warnings).getWarningsLimit();
-      var allWarnsMap =
-          collectAllWarnings(
-              warnings,
-              mapInsertNode,
-              shouldWrap,
-              mapInsertAllNode,
-              warnLimit,
-              shouldWrapProfile,
-              mapSizeNode);
+      var allWarns = collectAllWarnings(warnings, shouldWrap, warnLimit, shouldWrapProfile);
       if (shouldWrap) {
-        cachedWarningsWrapped = allWarnsMap;
+        cachedWarningsWrapped = allWarns;
         cache = cachedWarningsWrapped;
       } else {
-        cachedWarningsUnwrapped = allWarnsMap;
+        cachedWarningsUnwrapped = allWarns;
         cache = cachedWarningsUnwrapped;
       }
     }
@@ -215,29 +196,25 @@ final class Array extends BuiltinObject {
     return cache;
   }
 
-  private EnsoHashMap collectAllWarnings(
+  private WarningSet collectAllWarnings(
       WarningsLibrary warningsLib,
-      HashMapInsertNode mapInsertNode,
       boolean shouldWrap,
-      HashMapInsertAllNode mapInsertAllNode,
       int warnLimit,
-      BranchProfile shouldWrapProfile,
-      HashMapSizeNode mapSizeNode)
+      BranchProfile shouldWrapProfile)
       throws UnsupportedMessageException {
-    var warnsSet = EnsoHashMap.empty();
+    var warnsSet = WarningSet.empty();
     for (int itemIdx = 0; itemIdx < this.items.length; itemIdx++) {
       Object item = this.items[itemIdx];
-      var warnsCnt = (int) mapSizeNode.execute(warnsSet);
+      var warnsCnt = warnsSet.size();
       if (warnsCnt == warnLimit) {
         break;
       }
       if (warningsLib.hasWarnings(item)) {
-        var itemWarnsMap = warningsLib.getWarnings(item, shouldWrap);
-        assert mapSizeNode.execute(itemWarnsMap) <= warnLimit;
+        var itemWarns = warningsLib.getWarnings(item, shouldWrap);
+        assert itemWarns.size() <= warnLimit;
 
         if (!shouldWrap) {
-          warnsSet =
-              mapInsertAllNode.executeInsertAll(null, warnsSet, itemWarnsMap, warnLimit - warnsCnt);
+          warnsSet = warnsSet.addAll(itemWarns, warnLimit - warnsCnt);
         } else {
           shouldWrapProfile.enter();
           CompilerDirectives.transferToInterpreter();
@@ -245,18 +222,17 @@ final class Array extends BuiltinObject {
           // This is because we are creating new warnings by wrapping the previous one, and we need
           // to
           // do that in the same creation order.
-          var warnings = Warning.fromMapToArray(itemWarnsMap);
+          var warnings = itemWarns.toArray();
           Arrays.sort(warnings, Comparator.comparing(Warning::getSequenceId));
           for (int i = 0; i < Math.min(warnings.length, warnLimit); i++) {
             var warn = warnings[i];
             var wrappedWarn = Warning.wrapMapError(warningsLib, warn, itemIdx);
-            warnsSet =
-                mapInsertNode.execute(null, warnsSet, wrappedWarn.getSequenceId(), wrappedWarn);
+            warnsSet = warnsSet.add(wrappedWarn);
           }
         }
       }
     }
-    assert mapSizeNode.execute(warnsSet) <= warnLimit;
+    assert warnsSet.size() <= warnLimit;
     return warnsSet;
   }
 
@@ -277,16 +253,11 @@ final class Array extends BuiltinObject {
   @ExportMessage
   boolean isLimitReached(
       @Shared("warnsLib") @CachedLibrary(limit = "3") WarningsLibrary warnsLib,
-      @Shared("mapInsertNode") @Cached HashMapInsertNode mapInsertNode,
-      @Shared @Cached HashMapInsertAllNode mapInsertAllNode,
-      @Shared @Cached HashMapSizeNode mapSizeNode,
       @Shared @Cached BranchProfile shouldWrapProfile) {
     try {
       int limit = EnsoContext.get(warnsLib).getWarningsLimit();
-      var ourWarnings =
-          getWarnings(
-              false, warnsLib, mapInsertNode, shouldWrapProfile, mapSizeNode, mapInsertAllNode);
-      return (int) mapSizeNode.execute(ourWarnings) >= limit;
+      var ourWarnings = getWarnings(false, warnsLib, shouldWrapProfile);
+      return ourWarnings.size() >= limit;
     } catch (UnsupportedMessageException e) {
       return false;
     }
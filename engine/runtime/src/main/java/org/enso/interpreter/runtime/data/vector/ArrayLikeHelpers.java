@@ -93,6 +93,19 @@ public final class ArrayLikeHelpers extends BuiltinObject {
     return ArrayBuilder.newBuilder((int) Math.min(Math.abs(capacity), Integer.MAX_VALUE));
   }
 
+  @Builtin.Method(
+      name = "vector_from_range",
+      description = "Returns a vector of the elements of an integer range.")
+  @Builtin.WrapException(from = IllegalArgumentException.class)
+  public static EnsoObject vectorFromRange(long start, long step, long length)
+      throws IllegalArgumentException {
+    if (length < 0) {
+      CompilerDirectives.transferToInterpreter();
+      throw new IllegalArgumentException("Range length cannot be negative.");
+    }
+    return Vector.fromInteropArray(ArrayOverRange.create(start, step, length));
+  }
+
   public static EnsoObject wrapBuffer(ByteBuffer buffer) {
     return ArrayOverBuffer.wrapBuffer(buffer);
   }
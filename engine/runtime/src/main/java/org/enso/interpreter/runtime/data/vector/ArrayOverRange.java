@@ -0,0 +1,81 @@
+package org.enso.interpreter.runtime.data.vector;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Bind;
+import com.oracle.truffle.api.interop.InteropLibrary;
+import com.oracle.truffle.api.interop.InvalidArrayIndexException;
+import com.oracle.truffle.api.library.ExportLibrary;
+import com.oracle.truffle.api.library.ExportMessage;
+import com.oracle.truffle.api.nodes.Node;
+import org.enso.interpreter.runtime.EnsoContext;
+import org.enso.interpreter.runtime.data.EnsoObject;
+import org.enso.interpreter.runtime.data.Type;
+import org.enso.interpreter.runtime.library.dispatch.TypesLibrary;
+
+/**
+ * The elements of an integer range, computed on access.
+ *
+ * <p>The elements are computed with {@code long} arithmetic, so the range must have its start,
+ * step and all of its elements representable as {@code long}. As the elements lie between the
+ * start and the end of the range, it is enough for its bounds to fit.
+ */
+@ExportLibrary(TypesLibrary.class)
+@ExportLibrary(InteropLibrary.class)
+final class ArrayOverRange extends EnsoObject {
+  private final long start;
+  private final long step;
+  private final long length;
+
+  private ArrayOverRange(long start, long step, long length) {
+    assert length >= 0;
+    this.start = start;
+    this.step = step;
+    this.length = length;
+  }
+
+  @ExportMessage
+  Object readArrayElement(long index) throws InvalidArrayIndexException {
+    if (index < 0 || index >= length) {
+      throw InvalidArrayIndexException.create(index);
+    }
+    return start + index * step;
+  }
+
+  @ExportMessage
+  boolean hasArrayElements() {
+    return true;
+  }
+
+  @ExportMessage
+  boolean isArrayElementReadable(long index) {
+    return index >= 0 && index < length;
+  }
+
+  @ExportMessage
+  long getArraySize() {
+    return length;
+  }
+
+  @ExportMessage
+  boolean hasType() {
+    return true;
+  }
+
+  @ExportMessage
+  Type getType(@Bind("$node") Node node) {
+    var ctx = EnsoContext.get(node);
+    return ctx.getBuiltins().array();
+  }
+
+  static ArrayOverRange create(long start, long step, long length) {
+    return new ArrayOverRange(start, step, length);
+  }
+
+  @ExportMessage
+  @TruffleBoundary
+  @Override
+  public String toDisplayString(boolean allowSideEffects) {
+    final InteropLibrary iop = InteropLibrary.getUncached();
+    return DisplayArrayUtils.toDisplayString(this, allowSideEffects, iop);
+  }
+}
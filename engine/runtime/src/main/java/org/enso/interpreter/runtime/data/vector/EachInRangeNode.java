@@ -0,0 +1,51 @@
+package org.enso.interpreter.runtime.data.vector;
+
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.profiles.BranchProfile;
+import com.oracle.truffle.api.profiles.LoopConditionProfile;
+import org.enso.interpreter.dsl.BuiltinMethod;
+import org.enso.interpreter.node.callable.dispatch.InvokeFunctionNode;
+import org.enso.interpreter.runtime.EnsoContext;
+import org.enso.interpreter.runtime.callable.function.Function;
+import org.enso.interpreter.runtime.error.DataflowError;
+import org.enso.interpreter.runtime.error.PanicException;
+import org.enso.interpreter.runtime.state.State;
+
+@BuiltinMethod(
+    type = "Array_Like_Helpers",
+    name = "each_in_range",
+    description = "Applies a function to each element of an integer range.")
+public final class EachInRangeNode extends Node {
+  private @Child InvokeFunctionNode invokeFunctionNode = InvokeFunctionNode.buildWithArity(1);
+  private final LoopConditionProfile loopConditionProfile = LoopConditionProfile.create();
+  private final BranchProfile errorProfile = BranchProfile.create();
+
+  public static EachInRangeNode build() {
+    return new EachInRangeNode();
+  }
+
+  /**
+   * Applies the function to the elements, turning a dataflow error returned by it into a panic.
+   *
+   * @param start the first element of the range
+   * @param step the difference between the consecutive elements
+   * @param length the number of elements of the range
+   * @param function the function to apply
+   * @return {@code Nothing}
+   */
+  Object execute(
+      VirtualFrame frame, State state, long start, long step, long length, Function function) {
+    var current = start;
+    loopConditionProfile.profileCounted(length);
+    for (long i = 0; loopConditionProfile.inject(i < length); i++) {
+      var result = invokeFunctionNode.execute(function, frame, state, new Object[] {current});
+      if (result instanceof DataflowError error) {
+        errorProfile.enter();
+        throw new PanicException(error.getPayload(), this);
+      }
+      current += step;
+    }
+    return EnsoContext.get(this).getNothing();
+  }
+}
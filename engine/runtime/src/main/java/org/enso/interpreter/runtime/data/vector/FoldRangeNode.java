@@ -0,0 +1,49 @@
+package org.enso.interpreter.runtime.data.vector;
+
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.profiles.LoopConditionProfile;
+import org.enso.interpreter.dsl.BuiltinMethod;
+import org.enso.interpreter.node.callable.dispatch.InvokeFunctionNode;
+import org.enso.interpreter.runtime.callable.function.Function;
+import org.enso.interpreter.runtime.state.State;
+
+@BuiltinMethod(
+    type = "Array_Like_Helpers",
+    name = "fold_range",
+    description = "Folds the elements of an integer range.")
+public final class FoldRangeNode extends Node {
+  private @Child InvokeFunctionNode invokeFunctionNode = InvokeFunctionNode.buildWithArity(2);
+  private final LoopConditionProfile loopConditionProfile = LoopConditionProfile.create();
+
+  public static FoldRangeNode build() {
+    return new FoldRangeNode();
+  }
+
+  /**
+   * @param start the first element of the range
+   * @param step the difference between the consecutive elements
+   * @param length the number of elements of the range
+   * @param init the initial value of the accumulator
+   * @param function the function combining the accumulator with the next element
+   * @return the final value of the accumulator
+   */
+  Object execute(
+      VirtualFrame frame,
+      State state,
+      long start,
+      long step,
+      long length,
+      Object init,
+      Function function) {
+    var accumulator = init;
+    var current = start;
+    loopConditionProfile.profileCounted(length);
+    for (long i = 0; loopConditionProfile.inject(i < length); i++) {
+      accumulator =
+          invokeFunctionNode.execute(function, frame, state, new Object[] {accumulator, current});
+      current += step;
+    }
+    return accumulator;
+  }
+}
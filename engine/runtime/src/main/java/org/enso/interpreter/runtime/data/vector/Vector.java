@@ -12,8 +12,8 @@ import org.enso.interpreter.dsl.Builtin;
 import org.enso.interpreter.node.expression.foreign.HostValueToEnsoNode;
 import org.enso.interpreter.runtime.EnsoContext;
 import org.enso.interpreter.runtime.builtin.BuiltinObject;
-import org.enso.interpreter.runtime.data.hash.EnsoHashMap;
 import org.enso.interpreter.runtime.warning.AppendWarningNode;
+import org.enso.interpreter.runtime.warning.WarningSet;
 import org.enso.interpreter.runtime.warning.WarningsLibrary;
 
 @ExportLibrary(InteropLibrary.class)
@@ -155,8 +155,8 @@ abstract class Vector extends BuiltinObject {
     }
 
     @ExportMessage
-    EnsoHashMap getWarnings(boolean shouldWrap) {
-      return EnsoHashMap.empty();
+    WarningSet getWarnings(boolean shouldWrap) {
+      return WarningSet.empty();
     }
 
     @ExportMessage
@@ -265,7 +265,7 @@ abstract class Vector extends BuiltinObject {
     }
 
     @ExportMessage
-    EnsoHashMap getWarnings(
+    WarningSet getWarnings(
         boolean shouldWrap,
         @Cached.Shared(value = "warnsLib") @CachedLibrary(limit = "3") WarningsLibrary warnings)
         throws UnsupportedMessageException {
@@ -334,8 +334,8 @@ abstract class Vector extends BuiltinObject {
     }
 
     @ExportMessage
-    EnsoHashMap getWarnings(boolean shouldWrap) {
-      return EnsoHashMap.empty();
+    WarningSet getWarnings(boolean shouldWrap) {
+      return WarningSet.empty();
     }
 
     @ExportMessage
@@ -384,8 +384,8 @@ abstract class Vector extends BuiltinObject {
     }
 
     @ExportMessage
-    EnsoHashMap getWarnings(boolean shouldWrap) {
-      return EnsoHashMap.empty();
+    WarningSet getWarnings(boolean shouldWrap) {
+      return WarningSet.empty();
     }
 
     @ExportMessage
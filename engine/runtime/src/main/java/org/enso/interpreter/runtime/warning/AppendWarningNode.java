@@ -13,10 +13,6 @@ import com.oracle.truffle.api.library.CachedLibrary;
 import com.oracle.truffle.api.nodes.Node;
 import com.oracle.truffle.api.profiles.ConditionProfile;
 import org.enso.interpreter.runtime.EnsoContext;
-import org.enso.interpreter.runtime.data.hash.EnsoHashMap;
-import org.enso.interpreter.runtime.data.hash.HashMapInsertAllNode;
-import org.enso.interpreter.runtime.data.hash.HashMapInsertNode;
-import org.enso.interpreter.runtime.data.hash.HashMapSizeNode;
 import org.enso.interpreter.runtime.data.vector.ArrayLikeAtNode;
 import org.enso.interpreter.runtime.data.vector.ArrayLikeLengthNode;
 import org.enso.interpreter.runtime.error.DataflowError;
@@ -37,140 +33,120 @@ public abstract class AppendWarningNode extends Node {
    * Appends a warning to the given object.
    *
    * @param object Object that will have the warning appended
-   * @param warnings Either an array-like object containing warnings to append, or a single warning.
-   *     It is expected that all the elements in the container are of {@link Warning} class.
+   * @param warnings Either a {@link WarningSet}, an array-like object containing warnings to append,
+   *     or a single warning. It is expected that all the elements in the container are of {@link
+   *     Warning} class.
    * @return A wrapped object with warnings
    */
   public abstract Object executeAppend(VirtualFrame frame, Object object, Object warnings);
 
   @Specialization(guards = "!isError(object)")
   WithWarnings doSingleWarning(
-      VirtualFrame frame,
-      Object object,
-      Warning warning,
-      @Shared @Cached HashMapInsertNode mapInsertNode,
-      @Shared @Cached HashMapSizeNode mapSizeNode,
-      @Shared @Cached ConditionProfile isWithWarnsProfile) {
-    EnsoHashMap warnsMap;
+      Object object, Warning warning, @Shared @Cached ConditionProfile isWithWarnsProfile) {
+    WarningSet warns;
     int warnsLimit;
     Object value;
     if (isWithWarnsProfile.profile(object instanceof WithWarnings)) {
-      warnsMap = ((WithWarnings) object).warnings;
+      warns = ((WithWarnings) object).warnings;
       value = ((WithWarnings) object).value;
       warnsLimit = ((WithWarnings) object).maxWarnings;
     } else {
-      warnsMap = EnsoHashMap.empty();
+      warns = WarningSet.empty();
       value = object;
       warnsLimit = EnsoContext.get(this).getWarningsLimit();
     }
     boolean isLimitReached;
-    if ((int) mapSizeNode.execute(warnsMap) < warnsLimit) {
-      warnsMap = mapInsertNode.execute(frame, warnsMap, warning.getSequenceId(), warning);
+    if (warns.size() < warnsLimit) {
+      warns = warns.add(warning);
       isLimitReached = false;
     } else {
       isLimitReached = true;
     }
-    return new WithWarnings(value, warnsLimit, isLimitReached, warnsMap);
+    return new WithWarnings(value, warnsLimit, isLimitReached, warns);
   }
 
   @Specialization(guards = "!isError(object)")
   WithWarnings doMultipleWarningsArray(
-      VirtualFrame frame,
-      Object object,
-      Warning[] warnings,
-      @Shared @Cached HashMapInsertNode mapInsertNode,
-      @Shared @Cached HashMapSizeNode mapSizeNode,
-      @Shared @Cached ConditionProfile isWithWarnsProfile) {
-    EnsoHashMap warnsMap;
+      Object object, Warning[] warnings, @Shared @Cached ConditionProfile isWithWarnsProfile) {
+    WarningSet warns;
     int warnsLimit;
     Object value;
     if (isWithWarnsProfile.profile(object instanceof WithWarnings)) {
-      warnsMap = ((WithWarnings) object).warnings;
+      warns = ((WithWarnings) object).warnings;
       warnsLimit = ((WithWarnings) object).maxWarnings;
       value = ((WithWarnings) object).value;
     } else {
-      warnsMap = EnsoHashMap.empty();
+      warns = WarningSet.empty();
       warnsLimit = EnsoContext.get(this).getWarningsLimit();
       value = object;
     }
     var isLimitReached = false;
     for (var warn : warnings) {
-      if (mapSizeNode.execute(warnsMap) < warnsLimit) {
-        warnsMap = mapInsertNode.execute(frame, warnsMap, warn.getSequenceId(), warn);
+      if (warns.size() < warnsLimit) {
+        warns = warns.add(warn);
       } else {
         isLimitReached = true;
         break;
       }
     }
-    return new WithWarnings(value, warnsLimit, isLimitReached, warnsMap);
+    return new WithWarnings(value, warnsLimit, isLimitReached, warns);
   }
 
   /**
    * This specialization should be the most frequent - just wrapping the given {@code object} with
-   * warnings hash map
+   * a set of warnings
    */
   @Specialization(guards = {"!isError(object)", "!isWithWarns(object)"})
-  WithWarnings doObjectMultipleWarningsHashMap(
-      VirtualFrame frame,
-      Object object,
-      EnsoHashMap newWarnsMap,
-      @Shared @Cached HashMapSizeNode mapSizeNode) {
+  WithWarnings doObjectMultipleWarningsSet(Object object, WarningSet newWarns) {
     assert !(object instanceof WithWarnings);
     int warnsLimit = EnsoContext.get(this).getWarningsLimit();
-    var limitReached = mapSizeNode.execute(newWarnsMap) >= warnsLimit;
-    return new WithWarnings(object, warnsLimit, limitReached, newWarnsMap);
+    var limitReached = newWarns.size() >= warnsLimit;
+    return new WithWarnings(object, warnsLimit, limitReached, newWarns);
   }
 
   @Specialization
-  WithWarnings doWithWarnMultipleWarningsHashMap(
-      VirtualFrame frame,
-      WithWarnings withWarnings,
-      EnsoHashMap newWarnsMap,
-      @Cached HashMapInsertAllNode mapInsertAllNode,
-      @Shared @Cached HashMapSizeNode mapSizeNode) {
+  WithWarnings doWithWarnMultipleWarningsSet(WithWarnings withWarnings, WarningSet newWarns) {
     if (withWarnings.isLimitReached()) {
       return withWarnings;
     }
     var maxWarns = withWarnings.maxWarnings;
-    var warnsMap = withWarnings.warnings;
-    var curWarnsCnt = (int) mapSizeNode.execute(warnsMap);
-    warnsMap = mapInsertAllNode.executeInsertAll(frame, warnsMap, newWarnsMap, maxWarns);
-    var isLimitReached = mapSizeNode.execute(warnsMap) >= maxWarns;
-    return new WithWarnings(withWarnings.value, withWarnings.maxWarnings, isLimitReached, warnsMap);
+    var warns = withWarnings.warnings.addAll(newWarns, maxWarns);
+    var isLimitReached = warns.size() >= maxWarns;
+    return new WithWarnings(withWarnings.value, withWarnings.maxWarnings, isLimitReached, warns);
   }
 
   @Specialization(
-      guards = {"interop.hasArrayElements(warnings)", "!isError(object)", "!isWarnArray(warnings)"})
+      guards = {
+        "!isError(object)",
+        "!isWarnArray(warnings)",
+        "!isWarnSet(warnings)",
+        "interop.hasArrayElements(warnings)"
+      })
   WithWarnings doMultipleWarningsInterop(
-      VirtualFrame frame,
       Object object,
       Object warnings,
       @CachedLibrary(limit = "3") InteropLibrary interop,
-      @Shared @Cached HashMapInsertNode mapInsertNode,
       @Cached ArrayLikeAtNode atNode,
       @Cached ArrayLikeLengthNode lengthNode,
-      @Shared @Cached HashMapSizeNode mapSizeNode,
       @Shared @Cached ConditionProfile isWithWarnsProfile) {
     assert !(warnings instanceof Warning[]);
-    EnsoHashMap warnsMap;
+    WarningSet warns;
     int warnsLimit;
     Object value;
     if (isWithWarnsProfile.profile(object instanceof WithWarnings)) {
       value = ((WithWarnings) object).value;
       warnsLimit = ((WithWarnings) object).maxWarnings;
-      warnsMap = ((WithWarnings) object).warnings;
+      warns = ((WithWarnings) object).warnings;
     } else {
       value = object;
       warnsLimit = EnsoContext.get(this).getWarningsLimit();
-      warnsMap = EnsoHashMap.empty();
+      warns = WarningSet.empty();
     }
-    var currWarnsCnt = mapSizeNode.execute(warnsMap);
-    var resWarningMap =
-        insertToWarningMap(
-            frame, warnsMap, warnings, warnsLimit, lengthNode, atNode, mapInsertNode, mapSizeNode);
+    var currWarnsCnt = warns.size();
+    var resWarnings = insertToWarningSet(warns, warnings, warnsLimit, lengthNode, atNode);
     var newWarnsCnt = lengthNode.executeLength(warnings);
     var isLimitReached = currWarnsCnt + newWarnsCnt >= warnsLimit;
-    return new WithWarnings(value, warnsLimit, isLimitReached, resWarningMap);
+    return new WithWarnings(value, warnsLimit, isLimitReached, resWarnings);
   }
 
   @Specialization(guards = "isError(object)")
@@ -178,17 +154,14 @@ public abstract class AppendWarningNode extends Node {
     return object;
   }
 
-  /** Inserts all {@code warnings} to the {@code initialWarningMap}. */
-  private EnsoHashMap insertToWarningMap(
-      VirtualFrame frame,
-      EnsoHashMap initialWarningMap,
+  /** Inserts all {@code warnings} to the {@code initialWarnings}. */
+  private WarningSet insertToWarningSet(
+      WarningSet initialWarnings,
       Object warnings,
       int warnsLimit,
       ArrayLikeLengthNode lengthNode,
-      ArrayLikeAtNode atNode,
-      HashMapInsertNode mapInsertNode,
-      HashMapSizeNode mapSizeNode) {
-    EnsoHashMap resWarningMap = initialWarningMap;
+      ArrayLikeAtNode atNode) {
+    WarningSet resWarnings = initialWarnings;
     for (long i = 0; i < lengthNode.executeLength(warnings); i++) {
       Warning warn;
       try {
@@ -198,18 +171,22 @@ public abstract class AppendWarningNode extends Node {
       } catch (ClassCastException e) {
         throw EnsoContext.get(this).raiseAssertionPanic(this, "Expected warning object", e);
       }
-      if (mapSizeNode.execute(resWarningMap) >= warnsLimit) {
-        return resWarningMap;
+      if (resWarnings.size() >= warnsLimit) {
+        return resWarnings;
       }
-      resWarningMap = mapInsertNode.execute(frame, resWarningMap, warn.getSequenceId(), warn);
+      resWarnings = resWarnings.add(warn);
     }
-    return resWarningMap;
+    return resWarnings;
   }
 
   static boolean isWarnArray(Object obj) {
     return obj instanceof Warning[];
   }
 
+  static boolean isWarnSet(Object obj) {
+    return obj instanceof WarningSet;
+  }
+
   static boolean isWithWarns(Object obj) {
     return obj instanceof WithWarnings;
   }
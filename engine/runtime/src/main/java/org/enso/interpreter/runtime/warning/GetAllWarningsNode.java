@@ -1,11 +1,9 @@
 package org.enso.interpreter.runtime.warning;
 
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
-import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.Cached.Shared;
 import com.oracle.truffle.api.dsl.Fallback;
 import com.oracle.truffle.api.dsl.Specialization;
-import com.oracle.truffle.api.interop.InteropLibrary;
 import com.oracle.truffle.api.interop.UnsupportedMessageException;
 import com.oracle.truffle.api.library.CachedLibrary;
 import com.oracle.truffle.api.nodes.Node;
@@ -14,7 +12,6 @@ import java.util.Comparator;
 import org.enso.interpreter.dsl.AcceptsWarning;
 import org.enso.interpreter.dsl.BuiltinMethod;
 import org.enso.interpreter.runtime.EnsoContext;
-import org.enso.interpreter.runtime.data.hash.HashMapInsertAllNode;
 import org.enso.interpreter.runtime.data.vector.ArrayLikeHelpers;
 
 @BuiltinMethod(
@@ -34,10 +31,8 @@ public abstract class GetAllWarningsNode extends Node {
   Object doWithWarn(
       WithWarnings value,
       boolean shouldWrap,
-      @Shared @CachedLibrary(limit = "3") WarningsLibrary warningsLib,
-      @Shared @CachedLibrary(limit = "3") InteropLibrary interop,
-      @Cached HashMapInsertAllNode mapInsertAllNode) {
-    var warns = value.getWarningsArray(shouldWrap, warningsLib, mapInsertAllNode, interop);
+      @Shared @CachedLibrary(limit = "3") WarningsLibrary warningsLib) {
+    var warns = value.getWarningsArray(shouldWrap, warningsLib);
     sortArray(warns);
     return ArrayLikeHelpers.asVectorEnsoObjects(warns);
   }
@@ -46,13 +41,11 @@ public abstract class GetAllWarningsNode extends Node {
   Object doGeneric(
       Object value,
       boolean shouldWrap,
-      @Shared @CachedLibrary(limit = "3") WarningsLibrary warningsLib,
-      @Shared @CachedLibrary(limit = "3") InteropLibrary interop) {
+      @Shared @CachedLibrary(limit = "3") WarningsLibrary warningsLib) {
     assert !(value instanceof WithWarnings);
     if (warningsLib.hasWarnings(value)) {
       try {
-        var warnsMap = warningsLib.getWarnings(value, shouldWrap);
-        var warnings = Warning.fromMapToArray(warnsMap, interop);
+        var warnings = warningsLib.getWarnings(value, shouldWrap).toArray();
         sortArray(warnings);
         return ArrayLikeHelpers.asVectorEnsoObjects(warnings);
       } catch (UnsupportedMessageException e) {
@@ -14,8 +14,6 @@ import com.oracle.truffle.api.profiles.ConditionProfile;
 import org.enso.interpreter.dsl.AcceptsWarning;
 import org.enso.interpreter.dsl.BuiltinMethod;
 import org.enso.interpreter.runtime.EnsoContext;
-import org.enso.interpreter.runtime.data.hash.EnsoHashMap;
-import org.enso.interpreter.runtime.data.hash.HashMapInsertNode;
 
 @BuiltinMethod(
     type = "Warning",
@@ -51,18 +49,14 @@ public abstract class SetWarningsNode extends Node {
       Object object,
       Warning[] warnings,
       @Shared @CachedLibrary(limit = "3") InteropLibrary interop,
-      @Shared @Cached HashMapInsertNode mapInsertNode,
       @Shared @Cached ConditionProfile isWithWarnsProfile) {
-    var warnMap = EnsoHashMap.empty();
-    for (var warn : warnings) {
-      warnMap = mapInsertNode.execute(frame, warnMap, warn.getSequenceId(), warn);
-    }
+    var warnSet = WarningSet.fromArray(warnings);
     var maxWarns = EnsoContext.get(this).getWarningsLimit();
     var isLimitReached = warnings.length >= maxWarns;
     if (isWithWarnsProfile.profile(object instanceof WithWarnings)) {
-      return new WithWarnings(((WithWarnings) object).value, maxWarns, isLimitReached, warnMap);
+      return new WithWarnings(((WithWarnings) object).value, maxWarns, isLimitReached, warnSet);
     } else {
-      return new WithWarnings(object, maxWarns, isLimitReached, warnMap);
+      return new WithWarnings(object, maxWarns, isLimitReached, warnSet);
     }
   }
 
@@ -72,23 +66,22 @@ public abstract class SetWarningsNode extends Node {
       Object object,
       Object warnings,
       @Shared @CachedLibrary(limit = "3") InteropLibrary interop,
-      @Shared @Cached HashMapInsertNode mapInsertNode,
       @Shared @Cached ConditionProfile isWithWarnsProfile) {
     assert !(warnings instanceof Warning[]);
-    var warnMap = EnsoHashMap.empty();
+    var warnSet = WarningSet.empty();
     var ctx = EnsoContext.get(this);
     try {
       var size = interop.getArraySize(warnings);
       for (long i = 0; i < interop.getArraySize(warnings); i++) {
         var warn = (Warning) interop.readArrayElement(warnings, i);
-        warnMap = mapInsertNode.execute(frame, warnMap, warn.getSequenceId(), warn);
+        warnSet = warnSet.add(warn);
       }
       var maxWarns = ctx.getWarningsLimit();
       var isLimitReached = size >= maxWarns;
       if (isWithWarnsProfile.profile(object instanceof WithWarnings)) {
-        return new WithWarnings(((WithWarnings) object).value, maxWarns, isLimitReached, warnMap);
+        return new WithWarnings(((WithWarnings) object).value, maxWarns, isLimitReached, warnSet);
       } else {
-        return new WithWarnings(object, maxWarns, isLimitReached, warnMap);
+        return new WithWarnings(object, maxWarns, isLimitReached, warnSet);
       }
     } catch (ClassCastException | UnsupportedMessageException | InvalidArrayIndexException e) {
       throw ctx.raiseAssertionPanic(this, "Expected Warning, got something else", e);
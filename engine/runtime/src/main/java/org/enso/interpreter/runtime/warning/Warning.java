@@ -4,15 +4,11 @@ import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.interop.InteropLibrary;
-import com.oracle.truffle.api.interop.StopIterationException;
-import com.oracle.truffle.api.interop.UnsupportedMessageException;
 import com.oracle.truffle.api.library.ExportLibrary;
 import com.oracle.truffle.api.library.ExportMessage;
 import org.enso.interpreter.dsl.Builtin;
 import org.enso.interpreter.runtime.EnsoContext;
 import org.enso.interpreter.runtime.builtin.BuiltinObject;
-import org.enso.interpreter.runtime.data.hash.EnsoHashMap;
-import org.enso.interpreter.runtime.data.hash.HashMapInsertNode;
 
 @Builtin(pkg = "error", stdlibName = "Standard.Base.Warning.Warning")
 @ExportLibrary(value = InteropLibrary.class, delegateTo = "value")
@@ -69,44 +65,6 @@ public final class Warning extends BuiltinObject {
     return appendWarningNode.executeAppend(null, value, warn);
   }
 
-  /** Slow version of {@link #fromMapToArray(EnsoHashMap, InteropLibrary)}. */
-  @TruffleBoundary
-  public static Warning[] fromMapToArray(EnsoHashMap map) {
-    return fromMapToArray(map, InteropLibrary.getUncached());
-  }
-
-  public static Warning[] fromMapToArray(EnsoHashMap map, InteropLibrary interop) {
-    assert interop.hasHashEntries(map);
-    Warning[] warns = null;
-    try {
-      long mapSize = interop.getHashSize(map);
-      assert mapSize < Integer.MAX_VALUE;
-      warns = new Warning[(int) mapSize];
-      var hashValuesIt = interop.getHashValuesIterator(map);
-      assert interop.isIterator(hashValuesIt);
-      int warnsIdx = 0;
-      while (interop.hasIteratorNextElement(hashValuesIt)) {
-        var value = interop.getIteratorNextElement(hashValuesIt);
-        warns[warnsIdx] = (Warning) value;
-        warnsIdx++;
-      }
-      return warns;
-    } catch (UnsupportedMessageException | ClassCastException | ArrayIndexOutOfBoundsException e) {
-      throw CompilerDirectives.shouldNotReachHere(e);
-    } catch (StopIterationException e) {
-      assert warns != null;
-      return warns;
-    }
-  }
-
-  public static EnsoHashMap fromArrayToMap(Warning[] warnings, HashMapInsertNode mapInsertNode) {
-    var map = EnsoHashMap.empty();
-    for (var warn : warnings) {
-      map = mapInsertNode.execute(null, map, warn.getSequenceId(), warn);
-    }
-    return map;
-  }
-
   @ExportMessage
   @TruffleBoundary
   @Override
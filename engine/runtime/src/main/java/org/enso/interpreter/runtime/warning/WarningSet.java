@@ -0,0 +1,179 @@
+package org.enso.interpreter.runtime.warning;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+
+/**
+ * An immutable set of warnings attached to a value. Warnings are deduplicated by their {@link
+ * Warning#getSequenceId() sequence ID} and kept in insertion order.
+ *
+ * <p>Most values carry just a few warnings, so up to {@link #INLINE_CAPACITY} warnings are stored
+ * directly in a small array. Larger sets form a chain of such chunks: adding a warning to a set
+ * with a full chunk starts a new chunk and shares the original set as its tail. Values derived from
+ * each other therefore share most of their warnings instead of copying them.
+ *
+ * <p>Sequence IDs grow monotonically, so a newly created warning has a higher ID than any warning
+ * already in the set. Each set remembers the range of IDs it holds, which makes the duplicate check
+ * for fresh warnings a constant-time operation.
+ */
+public final class WarningSet {
+  /** Maximal number of warnings stored in a single chunk. */
+  static final int INLINE_CAPACITY = 8;
+
+  private static final WarningSet EMPTY =
+      new WarningSet(new Warning[0], null, Long.MAX_VALUE, Long.MIN_VALUE);
+
+  /** The most recently added warnings, in insertion order. */
+  private final Warning[] chunk;
+
+  /** Warnings added before those in {@link #chunk}, or {@code null}. */
+  private final WarningSet tail;
+
+  private final int size;
+  private final long minSequenceId;
+  private final long maxSequenceId;
+
+  private WarningSet(Warning[] chunk, WarningSet tail, long minSequenceId, long maxSequenceId) {
+    this.chunk = chunk;
+    this.tail = tail;
+    this.size = chunk.length + (tail == null ? 0 : tail.size);
+    this.minSequenceId = minSequenceId;
+    this.maxSequenceId = maxSequenceId;
+  }
+
+  /**
+   * @return the set without any warnings
+   */
+  public static WarningSet empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Creates a set from the given warnings, dropping duplicates.
+   *
+   * @param warnings the warnings to put into the set
+   * @return a set containing all the unique {@code warnings}
+   */
+  @TruffleBoundary
+  public static WarningSet fromArray(Warning[] warnings) {
+    var set = EMPTY;
+    for (var warn : warnings) {
+      set = set.add(warn);
+    }
+    return set;
+  }
+
+  /**
+   * @return the number of warnings in this set
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @return {@code true} if there are no warnings in this set
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Checks whether a warning with the given sequence ID is present in this set.
+   *
+   * @param sequenceId the sequence ID of a warning
+   * @return {@code true} if the warning is in this set
+   */
+  public boolean contains(long sequenceId) {
+    return get(sequenceId) != null;
+  }
+
+  /**
+   * Finds a warning with the given sequence ID.
+   *
+   * @param sequenceId the sequence ID of a warning
+   * @return the warning or {@code null} if it isn't part of this set
+   */
+  @TruffleBoundary
+  public Warning get(long sequenceId) {
+    for (var set = this; set != null; set = set.tail) {
+      if (sequenceId < set.minSequenceId || sequenceId > set.maxSequenceId) {
+        return null;
+      }
+      for (var warn : set.chunk) {
+        if (warn.getSequenceId() == sequenceId) {
+          return warn;
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Adds a warning to the set.
+   *
+   * @param warning the warning to add
+   * @return a set containing also {@code warning}, or {@code this} if it is already present
+   */
+  @TruffleBoundary
+  public WarningSet add(Warning warning) {
+    var id = warning.getSequenceId();
+    if (contains(id)) {
+      return this;
+    }
+    var newMin = Math.min(minSequenceId, id);
+    var newMax = Math.max(maxSequenceId, id);
+    if (chunk.length < INLINE_CAPACITY) {
+      var newChunk = new Warning[chunk.length + 1];
+      System.arraycopy(chunk, 0, newChunk, 0, chunk.length);
+      newChunk[chunk.length] = warning;
+      return new WarningSet(newChunk, tail, newMin, newMax);
+    } else {
+      return new WarningSet(new Warning[] {warning}, this, newMin, newMax);
+    }
+  }
+
+  /**
+   * Adds warnings from another set to this one.
+   *
+   * @param other the warnings to add
+   * @param maxItems maximal number of warnings from {@code other} to consider, duplicates included
+   * @return a set containing warnings of both sets
+   */
+  @TruffleBoundary
+  public WarningSet addAll(WarningSet other, long maxItems) {
+    if (maxItems <= 0 || other.isEmpty() || other == this) {
+      return this;
+    }
+    if (isEmpty() && other.size <= maxItems) {
+      return other;
+    }
+    var result = this;
+    var toAdd = other.toArray();
+    var count = Math.min(toAdd.length, maxItems);
+    for (int i = 0; i < count; i++) {
+      result = result.add(toAdd[i]);
+    }
+    return result;
+  }
+
+  /**
+   * Copies the warnings into an array.
+   *
+   * @return a new array of all the warnings in insertion order
+   */
+  @TruffleBoundary
+  public Warning[] toArray() {
+    var result = new Warning[size];
+    var end = size;
+    for (var set = this; set != null; set = set.tail) {
+      end -= set.chunk.length;
+      System.arraycopy(set.chunk, 0, result, end, set.chunk.length);
+    }
+    assert end == 0;
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return "WarningSet{size=" + size + "}";
+  }
+}
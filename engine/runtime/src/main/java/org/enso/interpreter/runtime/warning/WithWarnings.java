@@ -3,7 +3,6 @@ package org.enso.interpreter.runtime.warning;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.dsl.Bind;
-import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.Cached.Shared;
 import com.oracle.truffle.api.interop.ArityException;
 import com.oracle.truffle.api.interop.InteropLibrary;
@@ -20,15 +19,7 @@ import org.enso.interpreter.runtime.EnsoContext;
 import org.enso.interpreter.runtime.callable.UnresolvedSymbol;
 import org.enso.interpreter.runtime.data.EnsoObject;
 import org.enso.interpreter.runtime.data.Type;
-import org.enso.interpreter.runtime.data.hash.EnsoHashMap;
-import org.enso.interpreter.runtime.data.hash.HashMapInsertAllNode;
-import org.enso.interpreter.runtime.data.hash.HashMapInsertNodeGen;
-import org.enso.interpreter.runtime.data.hash.HashMapSizeNode;
 import org.enso.interpreter.runtime.data.text.Text;
-import org.enso.interpreter.runtime.data.vector.ArrayLikeAtNode;
-import org.enso.interpreter.runtime.data.vector.ArrayLikeAtNodeGen;
-import org.enso.interpreter.runtime.data.vector.ArrayLikeLengthNode;
-import org.enso.interpreter.runtime.data.vector.ArrayLikeLengthNodeGen;
 import org.enso.interpreter.runtime.error.PanicException;
 import org.enso.interpreter.runtime.library.dispatch.TypesLibrary;
 import org.enso.interpreter.runtime.state.State;
@@ -59,11 +50,11 @@ public final class WithWarnings extends EnsoObject {
   final Object value;
 
   /**
-   * Internal storage for warnings is a PE-friendly hash map. The key is a sequence ID (gathered
-   * from {@link EnsoContext#nextSequenceId()} and the value is the warning itself. Note that it is
-   * essential that sequenceId is the key so that the warnings are not duplicated.
+   * Internal storage for warnings is a compact {@link WarningSet}. Warnings are deduplicated by
+   * their sequence ID (gathered from {@link EnsoContext#nextSequenceId()}), so that the same
+   * warning is never attached twice.
    */
-  final EnsoHashMap warnings;
+  final WarningSet warnings;
 
   private final boolean limitReached;
   final int maxWarnings;
@@ -73,21 +64,20 @@ public final class WithWarnings extends EnsoObject {
    *
    * @param value value to be wrapped in warnings
    * @param maxWarnings maximal number of warnings allowed to be attached to the value
-   * @param warningsMap warnings originally attached to a value
+   * @param warnings warnings originally attached to a value
    * @param limitReached if `true`, indicates that `warnings` have already been limited for a
    *     custom-method, `false` otherwise
    */
-  WithWarnings(Object value, int maxWarnings, boolean limitReached, EnsoHashMap warningsMap) {
+  WithWarnings(Object value, int maxWarnings, boolean limitReached, WarningSet warnings) {
     assert isAcceptableValue(value);
-    var mapSizeNode = HashMapSizeNode.getUncached();
-    assert mapSizeNode.execute(warningsMap) <= maxWarnings;
+    assert warnings.size() <= maxWarnings;
     if (limitReached) {
-      assert mapSizeNode.execute(warningsMap) == maxWarnings;
+      assert warnings.size() == maxWarnings;
     }
     this.value = value;
     this.maxWarnings = maxWarnings;
-    this.limitReached = limitReached || mapSizeNode.execute(warningsMap) >= maxWarnings;
-    this.warnings = warningsMap;
+    this.limitReached = limitReached || warnings.size() >= maxWarnings;
+    this.warnings = warnings;
   }
 
   /**
@@ -107,8 +97,7 @@ public final class WithWarnings extends EnsoObject {
     if (limitReached) {
       assert warnings.length == maxWarnings;
     }
-    var warnMap = Warning.fromArrayToMap(warnings, HashMapInsertNodeGen.getUncached());
-    return new WithWarnings(value, maxWarnings, limitReached, warnMap);
+    return new WithWarnings(value, maxWarnings, limitReached, WarningSet.fromArray(warnings));
   }
 
   private static boolean isAcceptableValue(Object value) {
@@ -129,8 +118,7 @@ public final class WithWarnings extends EnsoObject {
 
   // Ignore the warnings cache in .value and re-fetch them using the WarningsLibrary.
   // This is only used for shouldWrap=true.
-  private EnsoHashMap getWarningsNoCache(
-      WarningsLibrary warningsLibrary, ArrayLikeLengthNode lengthNode, ArrayLikeAtNode atNode) {
+  private WarningSet getWarningsNoCache(WarningsLibrary warningsLibrary) {
     assert warningsLibrary != null;
     if (warningsLibrary.hasWarnings(value)) {
       try {
@@ -144,54 +132,40 @@ public final class WithWarnings extends EnsoObject {
   }
 
   /**
-   * Slow version of {@link #getWarningsArray(boolean, WarningsLibrary, HashMapInsertAllNode,
-   * InteropLibrary)} that uses uncached version of nodes and libraries parameters.
+   * Slow version of {@link #getWarningsArray(boolean, WarningsLibrary)} that uses uncached version
+   * of the library.
    */
   public Warning[] getWarningsArray(boolean shouldWrap) {
-    return getWarningsArray(
-        shouldWrap,
-        WarningsLibrary.getUncached(),
-        HashMapInsertAllNode.getUncached(),
-        InteropLibrary.getUncached());
+    return getWarningsArray(shouldWrap, WarningsLibrary.getUncached());
   }
 
-  public Warning[] getWarningsArray(
-      boolean shouldWrap,
-      WarningsLibrary warningsLibrary,
-      HashMapInsertAllNode mapInsertAllNode,
-      InteropLibrary interop) {
+  public Warning[] getWarningsArray(boolean shouldWrap, WarningsLibrary warningsLibrary) {
     Warning[] allWarnsArray;
     if (warningsLibrary != null && warningsLibrary.hasWarnings(value)) {
       try {
         var valueWarnings = warningsLibrary.getWarnings(value, shouldWrap);
-        var allWarns =
-            mapInsertAllNode.executeInsertAll(null, warnings, valueWarnings, maxWarnings);
-        allWarnsArray = Warning.fromMapToArray(allWarns, interop);
+        var allWarns = warnings.addAll(valueWarnings, maxWarnings);
+        allWarnsArray = allWarns.toArray();
       } catch (UnsupportedMessageException e) {
         throw EnsoContext.get(warningsLibrary).raiseAssertionPanic(warningsLibrary, null, e);
       }
     } else {
-      allWarnsArray = Warning.fromMapToArray(warnings, interop);
+      allWarnsArray = warnings.toArray();
     }
     return allWarnsArray;
   }
 
   @CompilerDirectives.TruffleBoundary
   private PanicException asException(Node where) {
-    var warnsMap =
-        this.getWarnings(
-            false,
-            WarningsLibrary.getUncached(),
-            ArrayLikeAtNodeGen.getUncached(),
-            ArrayLikeLengthNodeGen.getUncached());
-    var text = warningsToText(warnsMap, where, null);
+    var warns = this.getWarnings(false, WarningsLibrary.getUncached());
+    var text = warningsToText(warns, where, null);
     return new PanicException(text, where);
   }
 
   @CompilerDirectives.TruffleBoundary
-  public static Text warningsToText(EnsoHashMap warnsMap, Node where, Text prefix)
+  public static Text warningsToText(WarningSet warnings, Node where, Text prefix)
       throws PanicException {
-    var warns = Warning.fromMapToArray(warnsMap);
+    var warns = warnings.toArray();
     var ctx = EnsoContext.get(where);
     var scopeOfAny = ctx.getBuiltins().any().getDefinitionScope();
     var toText = UnresolvedSymbol.build("to_text", scopeOfAny);
@@ -226,15 +200,13 @@ public final class WithWarnings extends EnsoObject {
   }
 
   @ExportMessage
-  EnsoHashMap getWarnings(
+  WarningSet getWarnings(
       boolean shouldWrap,
-      @Shared("warnsLib") @CachedLibrary(limit = "3") WarningsLibrary warningsLibrary,
-      @Cached ArrayLikeAtNode atNode,
-      @Cached ArrayLikeLengthNode lengthNode) {
+      @Shared("warnsLib") @CachedLibrary(limit = "3") WarningsLibrary warningsLibrary) {
     if (shouldWrap) {
       // In the wrapping case, we don't use the local cache in .values, since
       // it contains unwrapped warnings. Instead, we fetch them again.
-      return getWarningsNoCache(warningsLibrary, lengthNode, atNode);
+      return getWarningsNoCache(warningsLibrary);
     } else {
       return warnings;
     }
@@ -298,7 +270,7 @@ public final class WithWarnings extends EnsoObject {
     return "WithWarnings{"
         + value
         + " has "
-        + HashMapSizeNode.getUncached().execute(warnings)
+        + warnings.size()
         + " warnings"
         + (limitReached ? " (warnings limit reached)}" : "}");
   }
@@ -9,6 +9,10 @@ public class Core_Text_Utils {
 
   /** Computes the length of the string as the number of grapheme clusters it contains. */
   public static int computeGraphemeLength(String text) {
+    if (isSimple(text)) {
+      return text.length();
+    }
+
     BreakIterator iter = BreakIterator.getCharacterInstance();
     iter.setText(text);
     int len = 0;
@@ -18,6 +22,25 @@ public class Core_Text_Utils {
     return len;
   }
 
+  /**
+   * Checks whether every UTF-16 code unit of the text forms a separate grapheme cluster.
+   *
+   * <p>That is the case for pure ASCII text which does not contain a {@code "\r\n"} sequence.
+   */
+  private static boolean isSimple(String text) {
+    int len = text.length();
+    for (int i = 0; i < len; i++) {
+      char c = text.charAt(i);
+      if (c >= 0x80) {
+        return false;
+      }
+      if (c == '\r' && i + 1 < len && text.charAt(i + 1) == '\n') {
+        return false;
+      }
+    }
+    return true;
+  }
+
   /** Computes a hashcode of a string that is insensitive to Unicode normalization. */
   public static int unicodeNormalizedHashCode(String str) {
     Normalizer2 normalizer = Normalizer2.getNFDInstance();
@@ -50,14 +73,49 @@ public class Core_Text_Utils {
 
   /** Returns a prefix of the string not exceeding the provided grapheme length. */
   public static String take_prefix(String str, long grapheme_length) {
+    return str.substring(0, prefixEnd(str, grapheme_length));
+  }
+
+  /** Returns a suffix of the string not exceeding the provided grapheme length. */
+  public static String take_suffix(String str, long grapheme_length) {
+    return str.substring(suffixStart(str, grapheme_length));
+  }
+
+  /**
+   * Returns the UTF-16 offset after the first {@code grapheme_count} grapheme clusters of the
+   * string, clamped to its bounds.
+   *
+   * <p>Only the requested prefix is scanned, so that taking a short prefix of a long text stays
+   * cheap.
+   */
+  public static int prefixEnd(String str, long grapheme_count) {
+    if (grapheme_count <= 0) {
+      return 0;
+    }
+    BreakIterator iter = BreakIterator.getCharacterInstance();
+    iter.setText(str);
+    if (iter.next(Math.toIntExact(grapheme_count)) == BreakIterator.DONE) {
+      return str.length();
+    } else {
+      return iter.current();
+    }
+  }
+
+  /**
+   * Returns the UTF-16 offset at which the last {@code grapheme_count} grapheme clusters of the
+   * string start, clamped to its bounds.
+   */
+  public static int suffixStart(String str, long grapheme_count) {
+    if (grapheme_count <= 0) {
+      return str.length();
+    }
     BreakIterator iter = BreakIterator.getCharacterInstance();
     iter.setText(str);
-    if (grapheme_length <= 0) {
-      return "";
-    } else if (iter.next(Math.toIntExact(grapheme_length)) == BreakIterator.DONE) {
-      return str;
+    iter.last();
+    if (iter.next(Math.toIntExact(-grapheme_count)) == BreakIterator.DONE) {
+      return 0;
     } else {
-      return str.substring(0, iter.current());
+      return iter.current();
     }
   }
 
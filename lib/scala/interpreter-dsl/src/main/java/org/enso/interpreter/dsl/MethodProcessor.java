@@ -6,11 +6,13 @@ import java.io.PrintWriter;
 import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 import javax.annotation.processing.Filer;
 import javax.annotation.processing.Processor;
@@ -38,6 +40,7 @@ public class MethodProcessor
     extends BuiltinsMetadataProcessor<MethodProcessor.MethodMetadataEntry> {
 
   private final Map<Filer, Map<String, String[]>> builtinMethods = new HashMap<>();
+  private JavaFileObject registryJfo = null;
 
   /**
    * Processes annotated elements, generating code for each of them. The method also records
@@ -111,6 +114,11 @@ public class MethodProcessor
       return;
     }
     String fullClassName = def.getPackageName() + "." + def.getClassName();
+    if (registryJfo == null && isEngineBuiltin(fullClassName)) {
+      // Create the registry source file early, so that it can be written in the last round of
+      // processing (see TypeProcessor)
+      registryJfo = processingEnv.getFiler().createSourceFile(RegistryGenFullClassname);
+    }
     registerBuiltinMethod(
         processingEnv.getFiler(),
         def.getDeclaredName(),
@@ -150,13 +158,13 @@ public class MethodProcessor
           "org.enso.interpreter.runtime.builtin.Builtins",
           "org.enso.interpreter.runtime.data.hash.EnsoHashMap",
           "org.enso.interpreter.runtime.data.hash.HashMapInsertNode",
-          "org.enso.interpreter.runtime.data.hash.HashMapInsertAllNode",
           "org.enso.interpreter.runtime.data.text.Text",
           "org.enso.interpreter.runtime.error.DataflowError",
           "org.enso.interpreter.runtime.error.PanicException",
           "org.enso.interpreter.runtime.state.State",
           "org.enso.interpreter.runtime.type.TypesGen",
           "org.enso.interpreter.runtime.warning.Warning",
+          "org.enso.interpreter.runtime.warning.WarningSet",
           "org.enso.interpreter.runtime.warning.WarningsLibrary",
           "org.enso.interpreter.runtime.warning.WithWarnings",
           "org.enso.interpreter.runtime.warning.AppendWarningNode");
@@ -201,8 +209,6 @@ public class MethodProcessor
       out.println(
           "  private @Child WarningsLibrary warnLib ="
               + " WarningsLibrary.getFactory().createDispatched(5);");
-      out.println(
-          "  private @Child HashMapInsertAllNode mapInsertAllNode = HashMapInsertAllNode.build();");
       out.println();
       out.println("  private static final class Internals {");
       out.println("    Internals(boolean s) {");
@@ -301,15 +307,12 @@ public class MethodProcessor
         out.println(
             "      private @Child WarningsLibrary warnLib ="
                 + " WarningsLibrary.getFactory().createDispatched(5);");
-        out.println(
-            "      private @Child HashMapInsertAllNode mapInsertAllNode ="
-                + " HashMapInsertAllNode.build();");
         out.println();
         out.println("      @Override");
         out.println("      public Object call(VirtualFrame frame, Object[] args) {");
         out.println(
             "        return handleExecute(frame, extra, body, appendWarningNode, warnLib,"
-                + " mapInsertAllNode, args);");
+                + " args);");
         out.println("      }");
         out.println("    }");
         out.println();
@@ -326,13 +329,13 @@ public class MethodProcessor
       } else {
         out.println(
             "    return handleExecute(frame, this.internals, bodyNode, this.appendWarningNode,"
-                + " this.warnLib, this.mapInsertAllNode, frame.getArguments());");
+                + " this.warnLib, frame.getArguments());");
         out.println("  }");
         out.println(
             "  private static Object handleExecute(VirtualFrame frame, Internals internals, "
                 + methodDefinition.getOriginalClassName()
                 + " bodyNode, AppendWarningNode appendWarningNode, WarningsLibrary warnLib,"
-                + " HashMapInsertAllNode mapInsertAllNode, Object[] args) {");
+                + " Object[] args) {");
       }
       out.println("    var prefix = internals.staticOrInstanceMethod ? 1 : 0;");
       out.println("    State state = Function.ArgumentsHelper.getState(args);");
@@ -635,7 +638,7 @@ public class MethodProcessor
     } else {
       out.println("    boolean anyWarnings = false;");
       out.println("    int maxWarnings = EnsoContext.get(bodyNode).getWarningsLimit();");
-      out.println("    EnsoHashMap gatheredWarnings = EnsoHashMap.empty();");
+      out.println("    WarningSet gatheredWarnings = WarningSet.empty();");
       for (var arg : argsToCheck) {
         String argCode = arrayRead(argumentsArray, arg.getPosition());
         out.println(
@@ -648,9 +651,7 @@ public class MethodProcessor
         out.println("      try {"); // begin try
         out.println("        var warns = warnLib.getWarnings(withWarnings, false);");
         out.println("        " + argCode + " = withWarnings.getValue();");
-        out.println(
-            "        gatheredWarnings = mapInsertAllNode.executeInsertAll(frame, gatheredWarnings,"
-                + " warns, maxWarnings);");
+        out.println("        gatheredWarnings = gatheredWarnings.addAll(warns, maxWarnings);");
         out.println("      } catch (UnsupportedMessageException e) {"); // end try
         out.println("        throw CompilerDirectives.shouldNotReachHere(e);");
         out.println("      }"); // end catch
@@ -683,6 +684,138 @@ public class MethodProcessor
         }
       }
     }
+    if (registryJfo != null) {
+      var methods = new TreeMap<String, MethodMetadataEntry>();
+      for (Filer f : builtinMethods.keySet()) {
+        for (Map.Entry<String, String[]> entry : builtinMethods.get(f).entrySet()) {
+          String[] value = entry.getValue();
+          methods.put(
+              entry.getKey(),
+              new MethodMetadataEntry(
+                  entry.getKey(),
+                  value[0],
+                  Boolean.parseBoolean(value[1]),
+                  Boolean.parseBoolean(value[2])));
+        }
+      }
+      for (MethodMetadataEntry entry : pastEntries.values()) {
+        // Entries of deleted builtins may linger in the metadata of an incremental build
+        if (processingEnv.getElementUtils().getTypeElement(entry.clazzName()) != null) {
+          methods.put(entry.key(), entry);
+        }
+      }
+      generateRegistry(methods.values());
+    }
+  }
+
+  /**
+   * Generates a registry of all builtin methods of the engine. The methods are grouped by their
+   * owner type and the runtime creates their functions through direct calls of the generated
+   * {@code makeFunction} methods, rather than by reading the metadata file and looking up the
+   * classes reflectively.
+   *
+   * <p>Methods are identified by their position in the registry. The owners are sorted by name and
+   * so are the methods of each owner, hence the methods of the i-th owner have ids from {@code
+   * OWNER_START[i]} (inclusive) to {@code OWNER_START[i + 1]} (exclusive).
+   *
+   * @param methods the builtin methods sorted by their full name
+   * @throws IOException - if an I/O error occurred
+   */
+  private void generateRegistry(Collection<MethodMetadataEntry> methods) throws IOException {
+    var owners = new ArrayList<String>();
+    var ownerStarts = new ArrayList<Integer>();
+    var id = 0;
+    for (var method : methods) {
+      var owner = ownerName(method);
+      if (owners.isEmpty() || !owners.get(owners.size() - 1).equals(owner)) {
+        owners.add(owner);
+        ownerStarts.add(id);
+      }
+      id++;
+    }
+    ownerStarts.add(id);
+
+    try (PrintWriter out = new PrintWriter(registryJfo.openWriter())) {
+      out.println("package " + RegistryGenPkg + ";");
+      out.println();
+      out.println("import org.enso.interpreter.EnsoLanguage;");
+      out.println("import org.enso.interpreter.runtime.callable.function.Function;");
+      out.println();
+      out.println("/** Generated by {@link " + getClass().getName() + "}. */");
+      out.println("final class " + RegistryGenClass + " {");
+      out.println("  private " + RegistryGenClass + "() {}");
+      out.println();
+      out.println("  static final byte STATIC = 1;");
+      out.println("  static final byte AUTO_REGISTER = 2;");
+      out.println();
+      out.println("  /** Types owning builtin methods, sorted by name. */");
+      out.println("  static final String[] OWNERS = {");
+      for (var owner : owners) {
+        out.println("    \"" + owner + "\",");
+      }
+      out.println("  };");
+      out.println();
+      out.println("  /** Id of the first method of each owner, followed by the total count. */");
+      out.println("  static final int[] OWNER_START = {");
+      for (var start : ownerStarts) {
+        out.println("    " + start + ",");
+      }
+      out.println("  };");
+      out.println();
+      out.println("  /** Names of the methods, sorted within each owner. */");
+      out.println("  static final String[] METHOD_NAMES = {");
+      for (var method : methods) {
+        out.println("    \"" + methodName(method) + "\",");
+      }
+      out.println("  };");
+      out.println();
+      out.println("  /** Flags of the methods, a combination of STATIC and AUTO_REGISTER. */");
+      out.println("  static final byte[] METHOD_FLAGS = {");
+      for (var method : methods) {
+        var flags = (method.isStatic() ? 1 : 0) | (method.isAutoRegister() ? 2 : 0);
+        out.println("    " + flags + ",");
+      }
+      out.println("  };");
+      out.println();
+      out.println("  /** Creates the function of the method with the given id. */");
+      out.println(
+          "  static Function makeFunction(int id, EnsoLanguage language, boolean"
+              + " staticOrInstanceMethod) {");
+      out.println("    return switch (id) {");
+      id = 0;
+      for (var method : methods) {
+        out.println(
+            "      case "
+                + id++
+                + " -> "
+                + method.clazzName()
+                + ".makeFunction(language, staticOrInstanceMethod);");
+      }
+      out.println(
+          "      default -> throw new IllegalArgumentException(\"Unknown builtin method \" + id);");
+      out.println("    };");
+      out.println("  }");
+      out.println("}");
+    }
+  }
+
+  private static String ownerName(MethodMetadataEntry method) {
+    var name = method.fullEnsoName();
+    return name.substring(0, name.indexOf('.'));
+  }
+
+  private static String methodName(MethodMetadataEntry method) {
+    var name = method.fullEnsoName();
+    return name.substring(name.indexOf('.') + 1);
+  }
+
+  /**
+   * Checks whether the builtin method belongs to the engine runtime, as opposed to builtins defined
+   * e.g. in tests of the DSL. Only the runtime gets the generated registry.
+   */
+  private static boolean isEngineBuiltin(String className) {
+    return className.startsWith("org.enso.interpreter.node.")
+        || className.startsWith("org.enso.interpreter.runtime.");
   }
 
   protected void registerBuiltinMethod(
@@ -705,6 +838,10 @@ public class MethodProcessor
     builtinMethods.clear();
   }
 
+  private static final String RegistryGenPkg = "org.enso.interpreter.runtime.builtin";
+  private static final String RegistryGenClass = "BuiltinMethodsGen";
+  private static final String RegistryGenFullClassname = RegistryGenPkg + "." + RegistryGenClass;
+
   private String warningCheck(MethodDefinition.ArgumentDefinition arg) {
     return "(" + mkArgumentInternalVarName(arg) + " instanceof WithWarnings)";
   }
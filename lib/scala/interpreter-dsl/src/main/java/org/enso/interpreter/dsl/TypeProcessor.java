@@ -18,6 +18,7 @@ public class TypeProcessor extends BuiltinsMetadataProcessor<TypeProcessor.TypeM
 
   private final Map<Filer, Map<String, BuiltinTypeConstr>> builtinTypes = new HashMap<>();
   private JavaFileObject jfo = null;
+  private JavaFileObject registryJfo = null;
 
   private class BuiltinTypeConstr {
     private final String tpeName;
@@ -56,6 +57,7 @@ public class TypeProcessor extends BuiltinsMetadataProcessor<TypeProcessor.TypeM
       // used in further processing. That's fine, we know it won't.
       try {
         jfo = processingEnv.getFiler().createSourceFile(ConstantsGenFullClassname);
+        registryJfo = processingEnv.getFiler().createSourceFile(RegistryGenFullClassname);
       } catch (IOException e) {
         processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage());
         return false;
@@ -158,6 +160,53 @@ public class TypeProcessor extends BuiltinsMetadataProcessor<TypeProcessor.TypeM
 
       out.println("}");
     }
+
+    var classNames = new TreeSet<String>();
+    for (Filer f : builtinTypes.keySet()) {
+      for (BuiltinTypeConstr constr : builtinTypes.get(f).values()) {
+        classNames.add(constr.getTpeName());
+      }
+    }
+    pastEntries.values().stream()
+        .map(TypeMetadataEntry::clazzName)
+        .filter(this::classExists)
+        .forEach(classNames::add);
+    generateRegistry(classNames);
+  }
+
+  /**
+   * Generates a factory of all builtin types. The runtime instantiates the builtin types through
+   * direct constructor calls of the factory rather than by reading the metadata file and looking up
+   * the classes reflectively.
+   *
+   * @param classNames fully qualified names of the classes representing the builtin types
+   * @throws IOException - if an I/O error occurred
+   */
+  private void generateRegistry(Collection<String> classNames) throws IOException {
+    try (PrintWriter out = new PrintWriter(registryJfo.openWriter())) {
+      out.println("package " + RegistryGenPkg + ";");
+      out.println();
+      out.println("import org.enso.interpreter.node.expression.builtin.Builtin;");
+      out.println();
+      out.println("/** Generated by {@link " + getClass().getName() + "}. */");
+      out.println("final class " + RegistryGenClass + " {");
+      out.println("  private " + RegistryGenClass + "() {}");
+      out.println();
+      out.println("  /** Creates fresh instances of all builtin types. */");
+      out.println("  static Builtin[] createBuiltinTypes() {");
+      out.println("    return new Builtin[] {");
+      for (String className : classNames) {
+        out.println("      new " + className + "(),");
+      }
+      out.println("    };");
+      out.println("  }");
+      out.println("}");
+    }
+  }
+
+  private boolean classExists(String className) {
+    // Entries of deleted builtins may linger in the metadata of an incremental build
+    return processingEnv.getElementUtils().getTypeElement(className) != null;
   }
 
   public void generateEntry(String name, String value, PrintWriter out) {
@@ -193,6 +242,9 @@ public class TypeProcessor extends BuiltinsMetadataProcessor<TypeProcessor.TypeM
   private static final String ConstantsGenPkg = "org.enso.interpreter.runtime.type";
   private static final String ConstantsGenClass = "ConstantsGen";
   private static final String ConstantsGenFullClassname = ConstantsGenPkg + "." + ConstantsGenClass;
+  private static final String RegistryGenPkg = "org.enso.interpreter.runtime.builtin";
+  private static final String RegistryGenClass = "BuiltinTypesGen";
+  private static final String RegistryGenFullClassname = RegistryGenPkg + "." + RegistryGenClass;
 
   @Override
   public SourceVersion getSupportedSourceVersion() {
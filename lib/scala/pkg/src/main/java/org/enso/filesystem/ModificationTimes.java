@@ -0,0 +1,15 @@
+package org.enso.filesystem;
+
+/** The limits of the modification times file systems record. */
+public final class ModificationTimes {
+  /**
+   * The coarsest granularity of file modification times, in milliseconds, the one of FAT.
+   *
+   * <p>A file modified less than this before it was read could change again without its
+   * modification time changing, so what was computed from its contents cannot be reused based on
+   * its modification time alone.
+   */
+  public static final long GRANULARITY = 2000;
+
+  private ModificationTimes() {}
+}
@@ -85,6 +85,23 @@ trait SuggestionsRepo[F[_]] {
     */
   def removeModules(modules: Seq[String]): F[(Long, Seq[Long])]
 
+  /** Search the suggestions by name.
+    *
+    * The name matches the suggestions with names starting with it, and the
+    * ones it abbreviates, having its underscore-separated words as prefixes
+    * of their words.
+    *
+    * @param module the module to search in, or all modules if not provided
+    * @param selfTypes the self types to search in, or all suggestions if empty
+    * @param name the name or the abbreviation of the name to search for
+    * @return the current database version and the ids of the found suggestions
+    */
+  def search(
+    module: Option[String],
+    selfTypes: Seq[String],
+    name: String
+  ): F[(Long, Seq[Long])]
+
   /** Update the suggestion.
     *
     * @param suggestion the key suggestion
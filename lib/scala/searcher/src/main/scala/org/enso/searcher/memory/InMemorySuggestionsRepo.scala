@@ -17,6 +17,7 @@ import scala.concurrent.{ExecutionContext, Future}
 class InMemorySuggestionsRepo(implicit ec: ExecutionContext)
     extends SuggestionsRepo[Future] {
   private[this] var db: mutable.Map[Long, Suggestion] = null
+  private[this] val indexes                           = new SuggestionsIndex
   @volatile private[this] var version: Long           = 0
   @volatile private[this] var index: Long             = 0
 
@@ -72,11 +73,11 @@ class InMemorySuggestionsRepo(implicit ec: ExecutionContext)
     */
   override def insert(suggestion: Suggestion): Future[Option[Long]] = Future {
     db.synchronized {
-      val isDuplicate = db.exists(_._2 == suggestion)
+      val isDuplicate = indexes.find(suggestion).nonEmpty
       if (!isDuplicate) {
         val i = index
         index += 1
-        db.put(i, suggestion)
+        put(i, suggestion)
         versionIncrement()
         Some(i)
       } else {
@@ -108,7 +109,7 @@ class InMemorySuggestionsRepo(implicit ec: ExecutionContext)
         val result = suggestions.map(s => {
           val i = index
           index += 1
-          db.put(i, s)
+          put(i, s)
           i
         })
         versionIncrement()
@@ -134,7 +135,7 @@ class InMemorySuggestionsRepo(implicit ec: ExecutionContext)
             // TODO: find duplicates
             val i = index
             index += 1
-            db.put(i, update.suggestion)
+            put(i, update.suggestion)
             versionIncrement()
             QueryResult(Seq(i), update)
           case SuggestionAction.Modify(
@@ -148,11 +149,12 @@ class InMemorySuggestionsRepo(implicit ec: ExecutionContext)
             if (
               externalId.nonEmpty || arguments.nonEmpty || returnType.nonEmpty || documentation.nonEmpty || scope.nonEmpty || reexport.nonEmpty
             ) {
-              val suggestionInDb = db.find(_._2 == update.suggestion)
-              suggestionInDb match {
+              val suggestionIdx = indexes.find(update.suggestion)
+              suggestionIdx match {
                 case None =>
                   QueryResult(Seq(), update)
-                case Some((suggestionIdx, suggestionInDb)) =>
+                case Some(suggestionIdx) =>
+                  val suggestionInDb = db(suggestionIdx)
                   val updatedSuggestion = suggestionInDb.update(
                     externalId,
                     returnType,
@@ -162,16 +164,16 @@ class InMemorySuggestionsRepo(implicit ec: ExecutionContext)
                   if (updatedSuggestion != suggestionInDb) {
                     versionIncrement()
                   }
-                  db.put(suggestionIdx, updatedSuggestion)
+                  put(suggestionIdx, updatedSuggestion)
                   QueryResult(Seq(suggestionIdx), update)
               }
             } else {
               QueryResult(Seq(), update)
             }
           case SuggestionAction.Remove() =>
-            val sugestionKey = db.find(_._2 == update.suggestion).map(_._1)
+            val sugestionKey = indexes.find(update.suggestion)
             sugestionKey.foreach { key =>
-              db.remove(key)
+              delete(key)
               versionIncrement()
             }
             QueryResult(sugestionKey.toSeq, update)
@@ -192,12 +194,10 @@ class InMemorySuggestionsRepo(implicit ec: ExecutionContext)
     db.synchronized {
       val result = actions.map {
         case act @ SuggestionsDatabaseAction.Clean(module) =>
-          val suggestions = db.filter(_._2.module == module)
-          suggestions.foreach { case (id, _) =>
-            db.remove(id)
-          }
+          val suggestions = indexes.inModule(module)
+          suggestions.foreach(delete)
           QueryResult(
-            suggestions.map(_._1),
+            suggestions,
             act.asInstanceOf[SuggestionsDatabaseAction]
           )
       }
@@ -216,13 +216,10 @@ class InMemorySuggestionsRepo(implicit ec: ExecutionContext)
     db.synchronized {
       actions.map { action =>
         val result = action.exports.symbols.toSeq.flatMap { symbol =>
-          db.collectFirst {
-            case (id, suggestion)
-                if suggestion.module == symbol.module &&
-                suggestion.name == symbol.name && Suggestion.Kind(
-                  suggestion
-                ) == symbol.kind =>
-              id
+          indexes.inModule(symbol.module).find { id =>
+            val suggestion = db(id)
+            suggestion.name == symbol.name &&
+            Suggestion.Kind(suggestion) == symbol.kind
           }
         }
         QueryResult(result, action)
@@ -237,9 +234,9 @@ class InMemorySuggestionsRepo(implicit ec: ExecutionContext)
     */
   override def remove(suggestion: Suggestion): Future[Option[Long]] = Future {
     db.synchronized {
-      val suggestionKey = db.find(_._2 == suggestion).map(_._1)
+      val suggestionKey = indexes.find(suggestion)
       suggestionKey.foreach { id =>
-        db.remove(id)
+        delete(id)
         versionIncrement()
       }
       suggestionKey
@@ -254,18 +251,10 @@ class InMemorySuggestionsRepo(implicit ec: ExecutionContext)
   override def removeModules(modules: Seq[String]): Future[(Long, Seq[Long])] =
     Future {
       db.synchronized {
-        val suggestions = db.filter {
-          case (_, suggestion: Suggestion)
-              if modules.contains(suggestion.module) =>
-            true
-          case _ => false
-        }
-        suggestions.foreach { case (id, _) =>
-          db.remove(id)
-
-        }
+        val suggestions = modules.distinct.flatMap(indexes.inModule)
+        suggestions.foreach(delete)
         condVersionIncrement(suggestions.nonEmpty)
-        (version, suggestions.map(_._1).toSeq)
+        (version, suggestions)
       }
     }
 
@@ -285,22 +274,51 @@ class InMemorySuggestionsRepo(implicit ec: ExecutionContext)
     scope: Option[Suggestion.Scope]
   ): Future[(Long, Option[Long])] = Future {
     db.synchronized {
-      val suggestionEntry = db.find(_._2 == suggestion)
-      val result = suggestionEntry.flatMap { case (idx, oldSuggestion) =>
+      val suggestionEntry = indexes.find(suggestion)
+      val result = suggestionEntry.flatMap { idx =>
+        val oldSuggestion = db(idx)
         val updated =
           oldSuggestion.update(externalId, returnType, documentation, scope)
         if (updated != oldSuggestion) {
-          db.put(idx, updated)
+          put(idx, updated)
           Some(idx)
         } else {
           None
         }
       }
       condVersionIncrement(result.nonEmpty)
-      (version, suggestionEntry.map(_._1))
+      (version, suggestionEntry)
     }
   }
 
+  /** Search the suggestions by name.
+    *
+    * @param module the module to search in
+    * @param selfTypes the self types to search in, or all suggestions if empty
+    * @param name the name or the abbreviation of the name to search for
+    * @return the current database version and the ids of the found suggestions
+    */
+  override def search(
+    module: Option[String],
+    selfTypes: Seq[String],
+    name: String
+  ): Future[(Long, Seq[Long])] = Future {
+    db.synchronized {
+      (version, indexes.search(module, selfTypes, name))
+    }
+  }
+
+  /** Store the suggestion, replacing the one with the same id. */
+  private def put(id: Long, suggestion: Suggestion): Unit = {
+    db.put(id, suggestion).foreach(indexes.remove(id, _))
+    indexes.add(id, suggestion)
+  }
+
+  /** Remove the suggestion with the provided id. */
+  private def delete(id: Long): Unit = {
+    db.remove(id).foreach(indexes.remove(id, _))
+  }
+
   private def versionIncrement(): Unit = {
     version += 1
   }
@@ -316,6 +334,7 @@ class InMemorySuggestionsRepo(implicit ec: ExecutionContext)
     if (db != null) {
       db.synchronized {
         db.clear()
+        indexes.clear()
       }
     }
   }
@@ -0,0 +1,183 @@
+package org.enso.searcher.memory
+
+import org.enso.polyglot.Suggestion
+
+import scala.collection.mutable
+
+/** The secondary indexes of the in-memory suggestions database.
+  *
+  * Suggestions are indexed by their value, module and self type, so that the
+  * module-level operations only visit the affected entries. The names are kept
+  * in sorted maps, both whole and split into the words separated by
+  * underscores, so that the suggestions matching a query are found with range
+  * lookups instead of scanning the whole database.
+  *
+  * The index is not thread-safe, the database guards it with its own lock.
+  */
+final private[memory] class SuggestionsIndex {
+  import SuggestionsIndex._
+
+  private[this] val byValue    = mutable.HashMap[Suggestion, Ids]()
+  private[this] val byModule   = mutable.HashMap[String, Ids]()
+  private[this] val bySelfType = mutable.HashMap[String, Ids]()
+  private[this] val byName     = mutable.TreeMap[String, Ids]()
+  private[this] val byWord     = mutable.TreeMap[String, mutable.Set[String]]()
+
+  /** Add the suggestion to the index.
+    *
+    * @param id the id of the suggestion
+    * @param suggestion the suggestion
+    */
+  def add(id: Long, suggestion: Suggestion): Unit = {
+    addTo(byValue, suggestion, id)
+    addTo(byModule, suggestion.module, id)
+    Suggestion.SelfType(suggestion).foreach(addTo(bySelfType, _, id))
+    val name = normalize(suggestion.name)
+    if (!byName.contains(name)) {
+      words(name).foreach(addTo(byWord, _, name))
+    }
+    addTo(byName, name, id)
+  }
+
+  /** Remove the suggestion from the index.
+    *
+    * @param id the id of the suggestion
+    * @param suggestion the suggestion
+    */
+  def remove(id: Long, suggestion: Suggestion): Unit = {
+    removeFrom(byValue, suggestion, id)
+    removeFrom(byModule, suggestion.module, id)
+    Suggestion.SelfType(suggestion).foreach(removeFrom(bySelfType, _, id))
+    val name = normalize(suggestion.name)
+    removeFrom(byName, name, id)
+    if (!byName.contains(name)) {
+      words(name).foreach(removeFrom(byWord, _, name))
+    }
+  }
+
+  /** Find the id of a suggestion equal to the provided one.
+    *
+    * @param suggestion the suggestion to look for
+    * @return the id of the suggestion if it is in the index
+    */
+  def find(suggestion: Suggestion): Option[Long] =
+    byValue.get(suggestion).flatMap(_.headOption)
+
+  /** Get the ids of the suggestions defined in the module.
+    *
+    * @param module the module name
+    * @return the ids of the suggestions of the module
+    */
+  def inModule(module: String): Seq[Long] =
+    byModule.get(module).map(_.toSeq).getOrElse(Seq())
+
+  /** Search the suggestions by name.
+    *
+    * The query matches the names starting with it, ignoring the case. The
+    * query is also matched as an abbreviation: every underscore-separated word
+    * of the query must be a prefix of a word of the name, in the same order,
+    * so that `to_vec` and `vec` both match `to_vector`. The exact matches come
+    * first, followed by the other names starting with the query, and then the
+    * abbreviation matches.
+    *
+    * @param module the module to search in, or all modules if not provided
+    * @param selfTypes the self types to search in, or all suggestions if empty
+    * @param query the name or the abbreviation of the name to search for
+    * @return the ids of the matching suggestions
+    */
+  def search(
+    module: Option[String],
+    selfTypes: Seq[String],
+    query: String
+  ): Seq[Long] = {
+    val moduleIds   = module.map(byModule.getOrElse(_, mutable.Set[Long]()))
+    val selfTypeIds = selfTypes.flatMap(bySelfType.get)
+    def isInScope(id: Long): Boolean =
+      moduleIds.forall(_.contains(id)) &&
+      (selfTypes.isEmpty || selfTypeIds.exists(_.contains(id)))
+
+    val prefix = normalize(query)
+    if (prefix.isEmpty) {
+      val scope =
+        if (selfTypes.nonEmpty) selfTypeIds.flatten
+        else moduleIds.map(_.toSeq).getOrElse(byValue.values.flatten.toSeq)
+      scope.filter(isInScope).distinct.sorted
+    } else {
+      val queryWords = words(prefix)
+      val prefixed   = namesStartingWith(prefix).filter(_ != prefix).toVector
+      val abbreviated = queryWords.headOption.toSeq
+        .flatMap(wordsStartingWith)
+        .distinct
+        .filter(name =>
+          !name.startsWith(prefix) && isAbbreviation(queryWords, words(name))
+        )
+      (prefix +: (prefixed ++ abbreviated))
+        .flatMap(name => byName.get(name).toSeq.flatMap(_.toSeq.sorted))
+        .filter(isInScope)
+    }
+  }
+
+  /** Remove all suggestions from the index. */
+  def clear(): Unit = {
+    byValue.clear()
+    byModule.clear()
+    bySelfType.clear()
+    byName.clear()
+    byWord.clear()
+  }
+
+  private def namesStartingWith(prefix: String): Iterator[String] =
+    byName.keysIteratorFrom(prefix).takeWhile(_.startsWith(prefix))
+
+  private def wordsStartingWith(prefix: String): Iterator[String] =
+    byWord
+      .iteratorFrom(prefix)
+      .takeWhile(_._1.startsWith(prefix))
+      .flatMap(_._2)
+
+  private def addTo[K, V](
+    index: mutable.Map[K, mutable.Set[V]],
+    key: K,
+    value: V
+  ): Unit =
+    index.getOrElseUpdate(key, mutable.LinkedHashSet[V]()).add(value)
+
+  private def removeFrom[K, V](
+    index: mutable.Map[K, mutable.Set[V]],
+    key: K,
+    value: V
+  ): Unit =
+    index.get(key).foreach { values =>
+      values.remove(value)
+      if (values.isEmpty) {
+        index.remove(key)
+      }
+    }
+}
+
+object SuggestionsIndex {
+
+  private type Ids = mutable.Set[Long]
+
+  private def normalize(name: String): String =
+    name.toLowerCase
+
+  private def words(name: String): Vector[String] =
+    name.split('_').iterator.filter(_.nonEmpty).toVector
+
+  /** Check if every word of the query is a prefix of a word of the name,
+    * keeping the order of the words.
+    */
+  private def isAbbreviation(
+    query: Vector[String],
+    name: Vector[String]
+  ): Boolean = {
+    var i = 0
+    name.foreach { word =>
+      if (i < query.length && word.startsWith(query(i))) {
+        i += 1
+      }
+    }
+    i == query.length
+  }
+}
@@ -134,6 +134,72 @@ class SuggestionsRepoTest
         removed shouldEqual Seq()
     }
 
+    "find suggestions after removing modules" taggedAs Retry in withRepo {
+      repo =>
+        val other = suggestion.function.copy(module = "local.Test.Other")
+        val action = for {
+          _              <- repo.insertAll(suggestion.all)
+          (_, Seq(id))   <- repo.insertAll(Seq(other))
+          _              <- repo.removeModules(Seq(suggestion.module.module))
+          (_, remaining) <- repo.search(None, Seq(), "")
+          inserted       <- repo.insert(suggestion.function)
+        } yield (id, remaining, inserted)
+
+        val (id, remaining, inserted) = Await.result(action, Timeout)
+        remaining shouldEqual Seq(id)
+        inserted should not equal None
+    }
+
+    "search suggestions by name prefix" taggedAs Retry in withRepo { repo =>
+      val toVector = suggestion.method.copy(name = "to_vector")
+      val toText   = suggestion.method.copy(name = "to_text")
+      val action = for {
+        (_, ids)   <- repo.insertAll(Seq(toVector, toText, suggestion.function))
+        (_, to)    <- repo.search(None, Seq(), "to_")
+        (_, exact) <- repo.search(None, Seq(), "TO_TEXT")
+        (_, none)  <- repo.search(None, Seq(), "text_to")
+      } yield (ids, to, exact, none)
+
+      val (ids, to, exact, none) = Await.result(action, Timeout)
+      to should contain theSameElementsAs Seq(ids(0), ids(1))
+      exact shouldEqual Seq(ids(1))
+      none shouldEqual Seq()
+    }
+
+    "search suggestions by abbreviated name" taggedAs Retry in withRepo {
+      repo =>
+        val toVector = suggestion.method.copy(name = "to_vector")
+        val vec      = suggestion.method.copy(name = "vec_sum")
+        val action = for {
+          (_, ids) <- repo.insertAll(Seq(toVector, vec, suggestion.function))
+          (_, res) <- repo.search(None, Seq(), "vec")
+          (_, abb) <- repo.search(None, Seq(), "t_v")
+        } yield (ids, res, abb)
+
+        val (ids, res, abb) = Await.result(action, Timeout)
+        res shouldEqual Seq(ids(1), ids(0))
+        abb shouldEqual Seq(ids(0))
+    }
+
+    "search suggestions by self type and module" taggedAs Retry in withRepo {
+      repo =>
+        val action = for {
+          (_, ids)   <- repo.insertAll(suggestion.all)
+          (_, byTpe) <- repo.search(None, Seq("local.Test.Main.A"), "")
+          (_, byMod) <- repo.search(Some("local.Test.Other"), Seq(), "")
+          (_, both)  <- repo.search(
+            Some(suggestion.module.module),
+            Seq("local.Test.Main", "local.Test.Main.A"),
+            "f"
+          )
+        } yield (ids, byTpe, byMod, both)
+
+        val (ids, byTpe, byMod, both) = Await.result(action, Timeout)
+        byTpe shouldEqual Seq(ids(5))
+        byMod shouldEqual Seq()
+        both shouldEqual Seq(ids(5))
+    }
+
     "get version" taggedAs Retry in withRepo { repo =>
       val action = repo.currentVersion
 
@@ -1,5 +1,7 @@
 package org.enso.text
 
+import org.enso.text.buffer.Rope
+
 /** A content-based versioning calculator. */
 trait ContentBasedVersioning {
 
@@ -9,4 +11,13 @@ trait ContentBasedVersioning {
     * @return a content version
     */
   def evalVersion(content: CharSequence): ContentVersion
+
+  /** Evaluates content-based version of a document that can be updated
+    * incrementally when the document is edited.
+    *
+    * @param content a textual content
+    * @return a content version
+    */
+  def evalIncrementalVersion(content: Rope): IncrementalVersion =
+    IncrementalVersion.Full(this, evalVersion(content.toString))
 }
@@ -0,0 +1,42 @@
+package org.enso.text
+
+import org.enso.text.buffer.Rope
+
+/** A content version that can be updated after an edit without necessarily
+  * evaluating the whole content again.
+  */
+trait IncrementalVersion {
+
+  /** @return the version of the content */
+  def version: ContentVersion
+
+  /** Evaluates the version of the edited content.
+    *
+    * @param contents the edited contents
+    * @param unchangedPrefix the number of leading characters that are the
+    * same as in the contents this version was evaluated for
+    * @return the version of the edited contents
+    */
+  def update(contents: Rope, unchangedPrefix: Int): IncrementalVersion
+}
+
+object IncrementalVersion {
+
+  /** A version that is always evaluated from the whole content.
+    *
+    * @param calculator the versioning used to evaluate the version
+    * @param version the version of the content
+    */
+  final case class Full(
+    calculator: ContentBasedVersioning,
+    version: ContentVersion
+  ) extends IncrementalVersion {
+
+    /** @inheritdoc */
+    override def update(
+      contents: Rope,
+      unchangedPrefix: Int
+    ): IncrementalVersion =
+      Full(calculator, calculator.evalVersion(contents.toString))
+  }
+}
@@ -0,0 +1,96 @@
+package org.enso.text
+
+import org.enso.text.buffer.Rope
+
+import java.nio.charset.StandardCharsets
+import java.security.MessageDigest
+
+/** The SHA3-224 version of a [[Rope]] that can be updated incrementally.
+  *
+  * SHA3 absorbs the content sequentially, so an edit invalidates the state of
+  * the digest after the first changed character. The digest keeps the states
+  * of the computation at checkpoints placed roughly every
+  * [[Sha3_224RopeDigest.CheckpointSize]] characters. After an edit, hashing
+  * resumes from the last checkpoint before the change, so editing a large
+  * module re-hashes only the text following the edit. The version is always
+  * equal to [[Sha3_224VersionCalculator.evalVersion]] of the same content.
+  *
+  * @param version the version of the content
+  * @param checkpoints the states of the digest after absorbing the first
+  * `offset` characters, ordered by the offset
+  */
+final class Sha3_224RopeDigest private (
+  val version: ContentVersion,
+  checkpoints: Vector[Sha3_224RopeDigest.Checkpoint]
+) extends IncrementalVersion {
+
+  /** @inheritdoc */
+  override def update(
+    contents: Rope,
+    unchangedPrefix: Int
+  ): Sha3_224RopeDigest = {
+    val valid = checkpoints.takeWhile(_.offset <= unchangedPrefix)
+    valid.lastOption match {
+      case Some(checkpoint) =>
+        Sha3_224RopeDigest.compute(
+          contents,
+          checkpoint.offset,
+          Sha3_224RopeDigest.copy(checkpoint.state),
+          valid
+        )
+      case None =>
+        Sha3_224RopeDigest(contents)
+    }
+  }
+}
+
+object Sha3_224RopeDigest {
+
+  /** The number of characters between two checkpoints. */
+  private[text] val CheckpointSize: Int = 16 * 1024
+
+  /** The state of the digest after absorbing the first `offset` characters.
+    *
+    * @param offset the number of absorbed characters
+    * @param state the digest state, never updated once stored
+    */
+  private case class Checkpoint(offset: Int, state: MessageDigest)
+
+  /** Computes the digest of a rope.
+    *
+    * @param contents the rope
+    * @return the digest of the rope contents
+    */
+  def apply(contents: Rope): Sha3_224RopeDigest =
+    compute(contents, 0, MessageDigest.getInstance("SHA3-224"), Vector.empty)
+
+  private def compute(
+    contents: Rope,
+    from: Int,
+    state: MessageDigest,
+    previous: Vector[Checkpoint]
+  ): Sha3_224RopeDigest = {
+    val checkpoints = Vector.newBuilder[Checkpoint] ++= previous
+    val chunk       = new java.lang.StringBuilder(CheckpointSize)
+    var offset      = from
+    contents.characters.drop(from).root.value.foreach { leaf =>
+      chunk.append(leaf)
+      // a surrogate pair must not be split between two chunks, as the lone
+      // surrogates would be encoded differently than the whole code point
+      if (
+        chunk.length >= CheckpointSize &&
+        !Character.isHighSurrogate(chunk.charAt(chunk.length - 1))
+      ) {
+        state.update(chunk.toString.getBytes(StandardCharsets.UTF_8))
+        offset += chunk.length
+        chunk.setLength(0)
+        checkpoints += Checkpoint(offset, copy(state))
+      }
+    }
+    state.update(chunk.toString.getBytes(StandardCharsets.UTF_8))
+    new Sha3_224RopeDigest(ContentVersion(state.digest()), checkpoints.result())
+  }
+
+  private def copy(state: MessageDigest): MessageDigest =
+    state.clone().asInstanceOf[MessageDigest]
+}
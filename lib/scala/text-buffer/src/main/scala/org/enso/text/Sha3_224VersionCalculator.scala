@@ -1,5 +1,7 @@
 package org.enso.text
 
+import org.enso.text.buffer.Rope
+
 import java.nio.charset.StandardCharsets
 
 import java.security.MessageDigest
@@ -14,4 +16,8 @@ object Sha3_224VersionCalculator extends ContentBasedVersioning {
       digestSHA3.digest(content.toString.getBytes(StandardCharsets.UTF_8))
     ContentVersion(digest)
   }
+
+  /** @inheritdoc */
+  override def evalIncrementalVersion(content: Rope): IncrementalVersion =
+    Sha3_224RopeDigest(content)
 }
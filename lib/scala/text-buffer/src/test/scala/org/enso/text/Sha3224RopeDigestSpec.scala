@@ -0,0 +1,69 @@
+package org.enso.text
+
+import org.enso.text.buffer.Rope
+import org.enso.text.editing.RopeTextEditor
+import org.enso.text.editing.model.{Position, Range, TextEdit}
+import org.scalatest.flatspec.AnyFlatSpec
+import org.scalatest.matchers.must.Matchers
+
+class Sha3224RopeDigestSpec extends AnyFlatSpec with Matchers {
+
+  private val text: String =
+    (0 until 4000)
+      .map(i => s"line_$i = Text.from $i + 'zażółć 🐈 gęślą'")
+      .mkString("\n")
+
+  private def edit(
+    rope: Rope,
+    line: Int,
+    character: Int,
+    replacement: String
+  ): Rope = {
+    val position = Position(line, character)
+    RopeTextEditor.edit(rope, TextEdit(Range(position, position), replacement))
+  }
+
+  private def unchangedPrefix(rope: Rope, line: Int): Int =
+    rope.lines.take(line).characters.length
+
+  "A Sha3RopeDigest" should "produce SHA3-224 digest" in {
+    val rope = Rope(text)
+    Sha3_224RopeDigest(rope).version mustBe
+    Sha3_224VersionCalculator.evalVersion(text)
+    Sha3_224RopeDigest(Rope("")).version mustBe
+    Sha3_224VersionCalculator.evalVersion("")
+  }
+
+  it should "produce SHA3-224 digest of the edited content" in {
+    var rope   = Rope(text)
+    var digest = Sha3_224RopeDigest(rope)
+    for (line <- Seq(3500, 10, 2000, 0, 3999, 1234)) {
+      val edited = edit(rope, line, 5, "🐈 edited\n")
+      digest = digest.update(edited, unchangedPrefix(rope, line))
+      rope   = edited
+      digest.version mustBe Sha3_224VersionCalculator.evalVersion(
+        rope.toString
+      )
+    }
+  }
+
+  it should "not split surrogate pairs between checkpoints" in {
+    val cats   = "🐈" * Sha3_224RopeDigest.CheckpointSize
+    var rope   = Rope(cats + "\n" + cats)
+    var digest = Sha3_224RopeDigest(rope)
+    digest.version mustBe Sha3_224VersionCalculator.evalVersion(rope.toString)
+
+    rope   = edit(rope, 1, 2, "x")
+    digest = digest.update(rope, unchangedPrefix(rope, 1))
+    digest.version mustBe Sha3_224VersionCalculator.evalVersion(rope.toString)
+  }
+
+  "A Sha3VersionCalculator" should "evaluate incremental versions" in {
+    val rope = Rope(text)
+    Sha3_224VersionCalculator
+      .evalIncrementalVersion(rope)
+      .update(rope, rope.characters.length)
+      .version mustBe Sha3_224VersionCalculator.evalVersion(text)
+  }
+
+}
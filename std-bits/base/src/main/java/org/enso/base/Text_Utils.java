@@ -315,16 +315,70 @@ public class Text_Utils {
 
   /** Returns a suffix of the string not exceeding the provided grapheme length. */
   public static String take_suffix(String str, long grapheme_length) {
+    return Core_Text_Utils.take_suffix(str, grapheme_length);
+  }
+
+  /**
+   * Returns the UTF-16 offset after the first {@code grapheme_count} grapheme clusters of the
+   * string, clamped to the bounds of the string.
+   *
+   * @param str the string to inspect
+   * @param grapheme_count the number of leading grapheme clusters
+   * @return the UTF-16 code unit index at which the rest of the string starts
+   */
+  public static long prefix_end_index(String str, long grapheme_count) {
+    return Core_Text_Utils.prefixEnd(str, grapheme_count);
+  }
+
+  /**
+   * Returns the UTF-16 offset at which the last {@code grapheme_count} grapheme clusters of the
+   * string start, clamped to the bounds of the string.
+   *
+   * @param str the string to inspect
+   * @param grapheme_count the number of trailing grapheme clusters
+   * @return the UTF-16 code unit index at which the suffix starts
+   */
+  public static long suffix_start_index(String str, long grapheme_count) {
+    return Core_Text_Utils.suffixStart(str, grapheme_count);
+  }
+
+  /**
+   * Returns the grapheme cluster at the given index.
+   *
+   * <p>Only the part of the string up to the requested grapheme is scanned.
+   *
+   * @param str the string to inspect
+   * @param grapheme_index the non-negative index of the grapheme cluster
+   * @return the grapheme cluster, or {@code null} if the index is out of bounds
+   */
+  public static String grapheme_at(String str, long grapheme_index) {
+    if (grapheme_index < 0 || grapheme_index >= str.length()) {
+      return null;
+    }
+    int ix = (int) grapheme_index;
+    if (isSimplePrefix(str, ix + 2)) {
+      // Every code unit before the requested one and the one following it is a grapheme on its own.
+      return str.substring(ix, ix + 1);
+    }
     BreakIterator iter = BreakIterator.getCharacterInstance();
     iter.setText(str);
-    iter.last();
-    if (grapheme_length <= 0) {
-      return "";
-    } else if (iter.next(Math.toIntExact(-grapheme_length)) == BreakIterator.DONE) {
-      return str;
-    } else {
-      return str.substring(iter.current());
+    int start = ix == 0 ? 0 : iter.next(ix);
+    if (start == BreakIterator.DONE || start == str.length()) {
+      return null;
+    }
+    return str.substring(start, iter.next());
+  }
+
+  /** Checks if the first {@code length} code units are ASCII characters other than CR. */
+  private static boolean isSimplePrefix(String str, int length) {
+    int end = Math.min(length, str.length());
+    for (int i = 0; i < end; i++) {
+      char c = str.charAt(i);
+      if (c >= 0x80 || c == '\r') {
+        return false;
+      }
     }
+    return true;
   }
 
   /**
@@ -445,13 +499,13 @@ public class Text_Utils {
    * @return an index of an extended grapheme cluster that contains the code unit from the input
    */
   public static long utf16_index_to_grapheme_index(String text, long codeunit_index) {
-    BreakIterator breakIterator = BreakIterator.getCharacterInstance();
-    breakIterator.setText(text);
     if (codeunit_index < 0 || codeunit_index > text.length()) {
       throw new IndexOutOfBoundsException(
           "Index " + codeunit_index + " is outside of the provided text.");
     }
 
+    BreakIterator breakIterator = BreakIterator.getCharacterInstance();
+    breakIterator.setText(text);
     int grapheme_end = breakIterator.next();
     long grapheme_index = 0;
 
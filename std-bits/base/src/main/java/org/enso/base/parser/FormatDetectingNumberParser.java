@@ -86,6 +86,17 @@ public class FormatDetectingNumberParser {
     return numberWithSeparators;
   }
 
+  /**
+   * Resets the detected format to one observed earlier, used to roll back a speculative parse.
+   *
+   * @param negativeSign the negative sign format to restore.
+   * @param numberWithSeparators the separators format to restore.
+   */
+  public void restoreFormat(NegativeSign negativeSign, NumberWithSeparators numberWithSeparators) {
+    this.negativeSign = negativeSign;
+    this.numberWithSeparators = numberWithSeparators;
+  }
+
   /**
    * Parse a string into a number.
    *
@@ -0,0 +1,154 @@
+package org.enso.base.statistics;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.graalvm.polyglot.Context;
+
+/**
+ * Computes the correlation statistics of every pair of a set of series.
+ *
+ * <p>The upper triangle of the matrix is split into tiles of {@link #BLOCK_SERIES} by {@link
+ * #BLOCK_SERIES} pairs, and every tile walks the rows in blocks of {@link #BLOCK_ROWS}, so that the
+ * parts of the series it reads stay in the cache. The tiles are independent, so large matrices are
+ * computed on several threads.
+ */
+final class CorrelationMatrix {
+  static final int BLOCK_SERIES = 16;
+  static final int BLOCK_ROWS = 1024;
+
+  /** The number of pair-rows below which the matrix is computed on the calling thread. */
+  static final long PARALLEL_THRESHOLD = 4_000_000;
+
+  private static final int PARALLELISM = Runtime.getRuntime().availableProcessors();
+
+  private static ExecutorService executor;
+
+  private final double[][] data;
+  private final BitSet[] missing;
+  private final int length;
+  private final CorrelationStatistics[][] output;
+
+  private CorrelationMatrix(double[][] data, BitSet[] missing) {
+    this.data = data;
+    this.missing = missing == null ? new BitSet[data.length] : missing;
+    if (this.missing.length != data.length) {
+      throw new IllegalArgumentException("The number of masks does not match the series.");
+    }
+
+    this.length = data.length == 0 ? 0 : data[0].length;
+    for (double[] series : data) {
+      if (series.length != length) {
+        throw new IllegalArgumentException("Data lengths are not consistent.");
+      }
+    }
+
+    this.output = new CorrelationStatistics[data.length][data.length];
+    for (int i = 0; i < data.length; i++) {
+      for (int j = i; j < data.length; j++) {
+        output[i][j] = new CorrelationStatistics();
+        output[j][i] = output[i][j];
+      }
+    }
+  }
+
+  /**
+   * Computes the statistics of every pair of series.
+   *
+   * @param data the series, all of the same length
+   * @param missing the masks of the missing values of the series, or {@code null} if none are
+   *     missing
+   * @return the symmetric matrix of the statistics, with the same object used for both halves
+   */
+  static CorrelationStatistics[][] compute(double[][] data, BitSet[] missing) {
+    var matrix = new CorrelationMatrix(data, missing);
+
+    var tiles = new ArrayList<Runnable>();
+    for (int rowBlock = 0; rowBlock < data.length; rowBlock += BLOCK_SERIES) {
+      for (int columnBlock = rowBlock; columnBlock < data.length; columnBlock += BLOCK_SERIES) {
+        int first = rowBlock;
+        int second = columnBlock;
+        tiles.add(() -> matrix.computeTile(first, second));
+      }
+    }
+
+    long pairs = (long) data.length * (data.length + 1) / 2;
+    if (PARALLELISM == 1 || tiles.size() == 1 || pairs * matrix.length < PARALLEL_THRESHOLD) {
+      Context context = Context.getCurrent();
+      for (var tile : tiles) {
+        tile.run();
+        context.safepoint();
+      }
+    } else {
+      runAll(tiles);
+    }
+
+    return matrix.output;
+  }
+
+  private void computeTile(int rowBlock, int columnBlock) {
+    int rowEnd = Math.min(rowBlock + BLOCK_SERIES, data.length);
+    int columnEnd = Math.min(columnBlock + BLOCK_SERIES, data.length);
+    for (int start = 0; start < length; start += BLOCK_ROWS) {
+      int end = Math.min(start + BLOCK_ROWS, length);
+      for (int i = rowBlock; i < rowEnd; i++) {
+        for (int j = Math.max(i, columnBlock); j < columnEnd; j++) {
+          output[i][j].appendRange(data[i], missing[i], data[j], missing[j], start, end);
+        }
+      }
+    }
+  }
+
+  private static synchronized ExecutorService getExecutor() {
+    if (executor == null) {
+      executor =
+          Executors.newFixedThreadPool(
+              PARALLELISM,
+              r -> {
+                var thread = new Thread(r, "Enso Statistics");
+                thread.setDaemon(true);
+                return thread;
+              });
+    }
+    return executor;
+  }
+
+  /** Runs the tiles on the pool, waiting for all of them while letting the caller be cancelled. */
+  private static void runAll(List<Runnable> tiles) {
+    var executor = getExecutor();
+    var futures = new ArrayList<Future<?>>(tiles.size());
+    for (var tile : tiles) {
+      futures.add(executor.submit(tile));
+    }
+
+    var context = Context.getCurrent();
+    try {
+      for (var future : futures) {
+        while (true) {
+          try {
+            future.get(100, TimeUnit.MILLISECONDS);
+            break;
+          } catch (TimeoutException e) {
+            context.safepoint();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Computing the correlation matrix was interrupted.", e);
+          } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+              throw re;
+            }
+            throw new IllegalStateException("Failed to compute the correlation matrix.", e);
+          }
+        }
+      }
+    } finally {
+      futures.forEach(f -> f.cancel(true));
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package org.enso.base.statistics;
 
+import java.util.BitSet;
 import org.graalvm.polyglot.Context;
 
 /** Class to compute covariance and correlations between series. */
@@ -16,6 +17,10 @@ public class CorrelationStatistics {
       return;
     }
 
+    accumulate(x, y);
+  }
+
+  private void accumulate(double x, double y) {
     count++;
     totalX += x;
     totalXX += x * x;
@@ -24,6 +29,16 @@ public class CorrelationStatistics {
     totalXY += x * y;
   }
 
+  /** Appends the pairs of values in the range, skipping those with a missing value. */
+  void appendRange(double[] x, BitSet xMissing, double[] y, BitSet yMissing, int start, int end) {
+    for (int i = start; i < end; i++) {
+      if (DoubleSeries.isMissing(x, xMissing, i) || DoubleSeries.isMissing(y, yMissing, i)) {
+        continue;
+      }
+      accumulate(x[i], y[i]);
+    }
+  }
+
   /*
    * Count of non-null pairs of values.
    */
@@ -117,27 +132,53 @@ public class CorrelationStatistics {
     return output;
   }
 
-  public static CorrelationStatistics[][] computeMatrix(Double[][] data) {
-    int len = data[0].length;
+  /**
+   * Create the CorrelationStats between two series
+   *
+   * @param x Array of X values
+   * @param xMissing Mask of the missing X values, or null if none are missing
+   * @param y Array of Y values
+   * @param yMissing Mask of the missing Y values, or null if none are missing
+   * @return CorrelationStats object for the 2 series.
+   */
+  public static CorrelationStatistics compute(
+      double[] x, BitSet xMissing, double[] y, BitSet yMissing) {
+    if (x.length != y.length) {
+      throw new IllegalArgumentException("Left and right lengths are not the same.");
+    }
 
-    Context context = Context.getCurrent();
-    CorrelationStatistics[][] output = new CorrelationStatistics[data.length][];
+    CorrelationStatistics output = new CorrelationStatistics();
+    output.appendRange(x, xMissing, y, yMissing, 0, x.length);
+    return output;
+  }
+
+  public static CorrelationStatistics[][] computeMatrix(Double[][] data) {
+    double[][] values = new double[data.length][];
+    BitSet[] missing = new BitSet[data.length];
     for (int i = 0; i < data.length; i++) {
-      if (data[i].length != len) {
-        throw new IllegalArgumentException("Data lengths are not consistent.");
-      }
-      output[i] = new CorrelationStatistics[data.length];
-      for (int j = 0; j < data.length; j++) {
-        if (j < i) {
-          output[i][j] = output[j][i];
+      values[i] = new double[data[i].length];
+      missing[i] = new BitSet(data[i].length);
+      for (int j = 0; j < data[i].length; j++) {
+        if (data[i][j] == null) {
+          missing[i].set(j);
         } else {
-          output[i][j] = compute(data[i], data[j]);
+          values[i][j] = data[i][j];
         }
-
-        context.safepoint();
       }
     }
-    return output;
+    return computeMatrix(values, missing);
+  }
+
+  /**
+   * Create the CorrelationStats between every pair of the series. Large matrices are computed in
+   * parallel.
+   *
+   * @param data Arrays of the values of each series
+   * @param missing Masks of the missing values of each series, or null if none are missing
+   * @return CorrelationStats objects for every pair of the series.
+   */
+  public static CorrelationStatistics[][] computeMatrix(double[][] data, BitSet[] missing) {
+    return CorrelationMatrix.compute(data, missing);
   }
 
   public static double spearmanRankCorrelation(Double[] x, Double[] y) {
@@ -151,4 +192,13 @@ public class CorrelationStatistics {
     }
     return computation.pearsonCorrelation();
   }
+
+  public static double spearmanRankCorrelation(
+      double[] x, BitSet xMissing, double[] y, BitSet yMissing) {
+    double[][] pairedRanks = Rank.pairedRanks(x, xMissing, y, yMissing, Rank.Method.AVERAGE);
+
+    CorrelationStatistics computation = new CorrelationStatistics();
+    computation.appendRange(pairedRanks[0], null, pairedRanks[1], null, 0, pairedRanks[0].length);
+    return computation.pearsonCorrelation();
+  }
 }
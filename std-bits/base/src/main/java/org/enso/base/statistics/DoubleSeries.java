@@ -0,0 +1,47 @@
+package org.enso.base.statistics;
+
+import java.util.BitSet;
+import org.enso.base.polyglot.NumericConverter;
+
+/**
+ * A series of numbers held in a primitive array, with a mask of the missing values.
+ *
+ * @param values the values, with an arbitrary value at the missing positions
+ * @param missing the positions of the missing values
+ */
+public record DoubleSeries(double[] values, BitSet missing) {
+  /** The number of values in the series, including the missing ones. */
+  public int length() {
+    return values.length;
+  }
+
+  /**
+   * Converts a series of boxed numbers, treating {@code null} as a missing value.
+   *
+   * @param values the values to convert
+   * @return the series
+   * @throws IllegalArgumentException if one of the values is not a number
+   */
+  public static DoubleSeries fromObjects(Object[] values) throws IllegalArgumentException {
+    double[] output = new double[values.length];
+    BitSet missing = new BitSet(values.length);
+    for (int i = 0; i < values.length; i++) {
+      if (values[i] == null) {
+        missing.set(i);
+        continue;
+      }
+
+      Double value = NumericConverter.tryConvertingToDouble(values[i]);
+      if (value == null) {
+        throw new IllegalArgumentException("Can only compute correlations on numerical data sets.");
+      }
+      output[i] = value;
+    }
+    return new DoubleSeries(output, missing);
+  }
+
+  /** Checks if the value at the given index is missing or not a number. */
+  static boolean isMissing(double[] values, BitSet missing, int index) {
+    return (missing != null && missing.get(index)) || Double.isNaN(values[index]);
+  }
+}
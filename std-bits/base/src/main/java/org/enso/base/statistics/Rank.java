@@ -1,14 +1,16 @@
 package org.enso.base.statistics;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Comparator;
 import java.util.List;
 import org.enso.base.ObjectComparator;
 import org.graalvm.polyglot.Context;
 
 public class Rank {
-  private static final Comparator<Object> DOUBLE_COMPARATOR =
-      (a, b) -> Double.compare((Double) a, (Double) b);
+  /** The largest magnitude up to which all integers can be represented exactly as doubles. */
+  private static final long MAX_EXACT_DOUBLE_INTEGER = 1L << 53;
 
   public enum Method {
     AVERAGE,
@@ -22,6 +24,11 @@ public class Rank {
 
   public static double[] rank(Object[] input, Method method)
       throws NullPointerException, ClassCastException {
+    double[] numbers = asDoublesIfExact(input);
+    if (numbers != null) {
+      return computeRank(numbers, method);
+    }
+
     List<ValueWithIndex> tuples = new ArrayList<>(input.length);
     for (int i = 0; i < input.length; i++) {
       if (input[i] == null) {
@@ -33,32 +40,166 @@ public class Rank {
     return computeRankFromTuples(tuples, new ObjectComparator(), method);
   }
 
+  /**
+   * Ranks the values of a series of numbers.
+   *
+   * @param input the values to rank
+   * @param missing the positions of the missing values, or null if none are missing
+   * @param method how to rank equal values
+   * @return the ranks, with 1 for the largest value
+   * @throws NullPointerException if one of the values is missing
+   */
+  public static double[] rank(double[] input, BitSet missing, Method method)
+      throws NullPointerException {
+    if (missing != null && !missing.isEmpty()) {
+      throw new NullPointerException("Value is Nothing at index " + missing.nextSetBit(0));
+    }
+    return computeRank(input, method);
+  }
+
   public static double[][] pairedRanks(Double[] x, Double[] y, Method method)
       throws IllegalArgumentException, NullPointerException, ClassCastException {
     if (x.length != y.length) {
       throw new IllegalArgumentException("Left and right lengths are not the same.");
     }
 
-    Context context = Context.getCurrent();
-    List<ValueWithIndex> x_tuples = new ArrayList<>(x.length);
-    List<ValueWithIndex> y_tuples = new ArrayList<>(y.length);
+    double[] xValues = new double[x.length];
+    double[] yValues = new double[y.length];
+    BitSet missing = new BitSet(x.length);
     for (int i = 0; i < x.length; i++) {
-      if (x[i] == null || Double.isNaN(x[i]) || y[i] == null || Double.isNaN(y[i])) {
-        continue;
+      if (x[i] == null || y[i] == null) {
+        missing.set(i);
+      } else {
+        xValues[i] = x[i];
+        yValues[i] = y[i];
       }
+    }
+    return pairedRanks(xValues, missing, yValues, missing, method);
+  }
 
-      x_tuples.add(new ValueWithIndex(x[i], x_tuples.size()));
-      y_tuples.add(new ValueWithIndex(y[i], y_tuples.size()));
+  /**
+   * Ranks the values of two series of numbers, keeping only the positions where both have a value.
+   *
+   * @param x the values of the first series
+   * @param xMissing the missing values of the first series, or null if none are missing
+   * @param y the values of the second series
+   * @param yMissing the missing values of the second series, or null if none are missing
+   * @param method how to rank equal values
+   * @return the ranks of the kept values of both series
+   */
+  public static double[][] pairedRanks(
+      double[] x, BitSet xMissing, double[] y, BitSet yMissing, Method method)
+      throws IllegalArgumentException {
+    if (x.length != y.length) {
+      throw new IllegalArgumentException("Left and right lengths are not the same.");
+    }
 
-      context.safepoint();
+    double[] xKept = new double[x.length];
+    double[] yKept = new double[y.length];
+    int kept = 0;
+    for (int i = 0; i < x.length; i++) {
+      if (DoubleSeries.isMissing(x, xMissing, i) || DoubleSeries.isMissing(y, yMissing, i)) {
+        continue;
+      }
+      xKept[kept] = x[i];
+      yKept[kept] = y[i];
+      kept++;
     }
 
     return new double[][] {
-      computeRankFromTuples(x_tuples, DOUBLE_COMPARATOR, method),
-      computeRankFromTuples(y_tuples, DOUBLE_COMPARATOR, method)
+      computeRank(Arrays.copyOf(xKept, kept), method),
+      computeRank(Arrays.copyOf(yKept, kept), method)
     };
   }
 
+  /**
+   * Converts the values to doubles if they are all numbers which compare the same way as doubles,
+   * or returns null otherwise.
+   *
+   * <p>The object comparator orders -0.0 before 0.0 when comparing two floats, but treats it as
+   * equal to the integer 0, so inputs with -0.0 are left to the object comparator.
+   */
+  private static double[] asDoublesIfExact(Object[] input) {
+    double[] output = new double[input.length];
+    for (int i = 0; i < input.length; i++) {
+      switch (input[i]) {
+        case Double d when !d.isNaN() && !isNegativeZero(d) -> output[i] = d;
+        case Long l when Math.abs(l) <= MAX_EXACT_DOUBLE_INTEGER -> output[i] = l;
+        case null, default -> {
+          return null;
+        }
+      }
+    }
+    return output;
+  }
+
+  private static boolean isNegativeZero(double d) {
+    return d == 0.0 && Double.doubleToRawLongBits(d) != 0L;
+  }
+
+  private static double[] computeRank(double[] values, Method method) {
+    int[] order = sortDescending(values);
+    double[] output = new double[values.length];
+
+    Context context = Context.getCurrent();
+    int index = 0;
+    int dense = 0;
+    while (index < order.length) {
+      dense++;
+      int start = index;
+
+      // Find End of Equal Values
+      while (index < order.length
+          && Double.compare(values[order[start]], values[order[index]]) == 0) {
+        index++;
+      }
+
+      // Build Rank
+      for (int i = start; i < index; i++) {
+        output[order[i]] = rankOf(method, start, index, dense, i);
+      }
+
+      context.safepoint();
+    }
+
+    return output;
+  }
+
+  /** Sorts the indices of the values from the largest value, keeping equal values in order. */
+  private static int[] sortDescending(double[] values) {
+    int n = values.length;
+    int[] order = new int[n];
+    for (int i = 0; i < n; i++) {
+      order[i] = i;
+    }
+
+    int[] buffer = new int[n];
+    for (int width = 1; width < n; width *= 2) {
+      for (int low = 0; low < n - width; low += 2 * width) {
+        int middle = low + width;
+        int high = Math.min(low + 2 * width, n);
+        int left = low;
+        int right = middle;
+        int target = low;
+        while (left < middle && right < high) {
+          if (Double.compare(values[order[right]], values[order[left]]) > 0) {
+            buffer[target++] = order[right++];
+          } else {
+            buffer[target++] = order[left++];
+          }
+        }
+        while (left < middle) {
+          buffer[target++] = order[left++];
+        }
+        while (right < high) {
+          buffer[target++] = order[right++];
+        }
+        System.arraycopy(buffer, low, order, low, high - low);
+      }
+    }
+    return order;
+  }
+
   private static double[] computeRankFromTuples(
       List<ValueWithIndex> tuples, Comparator<Object> comparator, Method method)
       throws NullPointerException, ClassCastException {
@@ -86,16 +227,7 @@ public class Rank {
 
       // Build Rank
       for (int i = start; i < index; i++) {
-        double rank =
-            switch (method) {
-              case MINIMUM -> start + 1;
-              case MAXIMUM -> index;
-              case DENSE -> dense;
-              case AVERAGE -> (start + 1 + index) / 2.0;
-              case ORDINAL -> i + 1;
-            };
-
-        output[tuples.get(i).index] = rank;
+        output[tuples.get(i).index] = rankOf(method, start, index, dense, i);
       }
 
       context.safepoint();
@@ -103,4 +235,15 @@ public class Rank {
 
     return output;
   }
+
+  /** The rank of the value at {@code position} of a run of equal values in {@code [start, end)}. */
+  private static double rankOf(Method method, int start, int end, int dense, int position) {
+    return switch (method) {
+      case MINIMUM -> start + 1;
+      case MAXIMUM -> end;
+      case DENSE -> dense;
+      case AVERAGE -> (start + 1 + end) / 2.0;
+      case ORDINAL -> position + 1;
+    };
+  }
 }
@@ -1,5 +1,7 @@
 package org.enso.base.statistics;
 
+import java.util.BitSet;
+
 public class Regression {
   /**
    * Performs a least squares fit of a line to the data.
@@ -12,8 +14,50 @@ public class Regression {
    */
   public static LinearModel fit_linear(Double[] known_xs, Double[] known_ys)
       throws IllegalArgumentException, FitError {
-    CorrelationStatistics stats = CorrelationStatistics.compute(known_xs, known_ys);
+    return fitLinear(CorrelationStatistics.compute(known_xs, known_ys));
+  }
+
+  /**
+   * Performs a least squares fit of a line to the data.
+   *
+   * @param known_xs Set of known X values.
+   * @param xs_missing Mask of the missing X values, or null if none are missing.
+   * @param known_ys Set of known Y values.
+   * @param ys_missing Mask of the missing Y values, or null if none are missing.
+   * @return A fitted linear model (y = Intercept + Slope x) and the r-squared value.
+   * @throws IllegalArgumentException if the number of elements in the arrays is different or a
+   *     singular X value is provided.
+   */
+  public static LinearModel fit_linear(
+      double[] known_xs, BitSet xs_missing, double[] known_ys, BitSet ys_missing)
+      throws IllegalArgumentException, FitError {
+    return fitLinear(CorrelationStatistics.compute(known_xs, xs_missing, known_ys, ys_missing));
+  }
+
+  /**
+   * Performs a least squares fit of a line to the data with a given intercept.
+   *
+   * @param known_xs Set of known X values.
+   * @param xs_missing Mask of the missing X values, or null if none are missing.
+   * @param known_ys Set of known Y values.
+   * @param ys_missing Mask of the missing Y values, or null if none are missing.
+   * @param intercept The intercept of the line.
+   * @return A fitted linear model (y = Intercept + Slope x) and the r-squared value.
+   * @throws IllegalArgumentException if the number of elements in the arrays is different.
+   */
+  public static LinearModel fit_linear(
+      double[] known_xs,
+      BitSet xs_missing,
+      double[] known_ys,
+      BitSet ys_missing,
+      double intercept)
+      throws IllegalArgumentException {
+    CorrelationStatistics stats =
+        CorrelationStatistics.compute(known_xs, xs_missing, known_ys, ys_missing);
+    return new LinearModel(slopeWithIntercept(stats, intercept), intercept, stats.rSquared());
+  }
 
+  private static LinearModel fitLinear(CorrelationStatistics stats) throws FitError {
     double denominator = denominator(stats);
     if (denominator == 0) {
       throw new FitError("Singular X value.");
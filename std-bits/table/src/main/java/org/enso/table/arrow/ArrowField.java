@@ -0,0 +1,74 @@
+package org.enso.table.arrow;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A field of an Arrow schema.
+ *
+ * @param name the name of the field
+ * @param nullable whether the field may contain missing values
+ * @param type the type of the field
+ * @param dictionaryEncoded whether the values are indices into a dictionary
+ * @param children the child fields of nested types
+ */
+public record ArrowField(
+    String name,
+    boolean nullable,
+    ArrowType type,
+    boolean dictionaryEncoded,
+    List<ArrowField> children) {
+  public static ArrowField of(String name, ArrowType type) {
+    return new ArrowField(name, true, type, false, List.of());
+  }
+
+  /** Decodes a {@code Field} table. */
+  public static ArrowField fromFlatBuffer(FlatBufferTable field) {
+    int typeId = Byte.toUnsignedInt(field.getByte(2, (byte) 0));
+    ArrowType type = ArrowType.fromFlatBuffer(typeId, field.getTable(3));
+    List<ArrowField> children = new ArrayList<>();
+    for (int i = 0; i < field.getVectorLength(5); i++) {
+      children.add(fromFlatBuffer(field.getTableInVector(5, i)));
+    }
+    String name = field.getString(0);
+    return new ArrowField(
+        name == null ? "" : name, field.getBoolean(1, false), type, field.has(4), children);
+  }
+
+  /** Writes the {@code Field} table and returns its offset. */
+  public int writeFlatBuffer(FlatBufferBuilder builder) {
+    int nameOffset = builder.createString(name);
+    int typeOffset = type.writeFlatBuffer(builder);
+    int[] childOffsets = new int[children.size()];
+    for (int i = 0; i < childOffsets.length; i++) {
+      childOffsets[i] = children.get(i).writeFlatBuffer(builder);
+    }
+    int childrenOffset = builder.createOffsetVector(childOffsets);
+
+    builder.startTable(7);
+    builder.addOffset(0, nameOffset);
+    builder.addBoolean(1, nullable);
+    builder.addByte(2, (byte) type.id());
+    builder.addOffset(3, typeOffset);
+    builder.addOffset(5, childrenOffset);
+    return builder.endTable();
+  }
+
+  /** Returns the number of field nodes of this field in a record batch, including its children. */
+  public int nodeCount() {
+    int count = 1;
+    for (ArrowField child : children) {
+      count += child.nodeCount();
+    }
+    return count;
+  }
+
+  /** Returns the number of buffers of this field in a record batch, including its children. */
+  public int bufferCount() {
+    int count = type.bufferCount();
+    for (ArrowField child : children) {
+      count += child.bufferCount();
+    }
+    return count;
+  }
+}
@@ -0,0 +1,110 @@
+package org.enso.table.arrow;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Constants and helpers of the Arrow IPC format.
+ *
+ * <p>A stream is a sequence of encapsulated messages: a continuation marker, the length of the
+ * metadata, the {@code Message} FlatBuffers table padded to 8 bytes, and the body holding the
+ * buffers. The schema comes first, followed by the record batches, and a message with empty
+ * metadata ends the stream. A file (also known as Feather V2) wraps a stream between magic strings
+ * and appends a footer with the schema and the locations of the record batches, allowing random
+ * access.
+ */
+public final class ArrowFormat {
+  private ArrowFormat() {}
+
+  /** The magic string starting and ending an Arrow file. */
+  public static final byte[] MAGIC = "ARROW1".getBytes(StandardCharsets.US_ASCII);
+
+  /** The magic string starting a Feather V1 file, which predates the Arrow IPC format. */
+  public static final byte[] FEATHER_V1_MAGIC = "FEA1".getBytes(StandardCharsets.US_ASCII);
+
+  /** The marker preceding the length of the metadata of a message. */
+  public static final int CONTINUATION = 0xFFFFFFFF;
+
+  /** The {@code MetadataVersion} written by this implementation. */
+  public static final short METADATA_VERSION = 4;
+
+  public static final int HEADER_SCHEMA = 1;
+  public static final int HEADER_DICTIONARY_BATCH = 2;
+  public static final int HEADER_RECORD_BATCH = 3;
+
+  // Slots of the Message table.
+  public static final int MESSAGE_VERSION = 0;
+  public static final int MESSAGE_HEADER_TYPE = 1;
+  public static final int MESSAGE_HEADER = 2;
+  public static final int MESSAGE_BODY_LENGTH = 3;
+
+  // Slots of the Schema table.
+  public static final int SCHEMA_ENDIANNESS = 0;
+  public static final int SCHEMA_FIELDS = 1;
+
+  // Slots of the RecordBatch table.
+  public static final int BATCH_LENGTH = 0;
+  public static final int BATCH_NODES = 1;
+  public static final int BATCH_BUFFERS = 2;
+  public static final int BATCH_COMPRESSION = 3;
+
+  // Slots of the Footer table.
+  public static final int FOOTER_VERSION = 0;
+  public static final int FOOTER_SCHEMA = 1;
+  public static final int FOOTER_DICTIONARIES = 2;
+  public static final int FOOTER_RECORD_BATCHES = 3;
+
+  /** The codec of a compressed record batch, in the slot 0 of the BodyCompression table. */
+  public static final byte CODEC_LZ4_FRAME = 0;
+
+  /** The sizes of the structs describing the contents of record batches and files. */
+  public static final int FIELD_NODE_SIZE = 16;
+
+  public static final int BUFFER_SIZE = 16;
+  public static final int BLOCK_SIZE = 24;
+
+  /** Decodes the fields of a {@code Schema} table. */
+  public static List<ArrowField> readSchema(FlatBufferTable schema) {
+    if (schema.getShort(SCHEMA_ENDIANNESS, (short) 0) != 0) {
+      throw new IllegalArgumentException("Big-endian Arrow files are not supported.");
+    }
+    List<ArrowField> fields = new ArrayList<>();
+    for (int i = 0; i < schema.getVectorLength(SCHEMA_FIELDS); i++) {
+      fields.add(ArrowField.fromFlatBuffer(schema.getTableInVector(SCHEMA_FIELDS, i)));
+    }
+    return fields;
+  }
+
+  /** Writes a little-endian {@code Schema} table and returns its offset. */
+  public static int writeSchema(FlatBufferBuilder builder, List<ArrowField> fields) {
+    int[] fieldOffsets = new int[fields.size()];
+    for (int i = 0; i < fieldOffsets.length; i++) {
+      fieldOffsets[i] = fields.get(i).writeFlatBuffer(builder);
+    }
+    int fieldsOffset = builder.createOffsetVector(fieldOffsets);
+    builder.startTable(4);
+    builder.addShort(SCHEMA_ENDIANNESS, (short) 0);
+    builder.addOffset(SCHEMA_FIELDS, fieldsOffset);
+    return builder.endTable();
+  }
+
+  /**
+   * Writes a {@code Message} table as the root of the builder.
+   *
+   * @param builder the builder, holding the header already
+   * @param headerType the type of the header, one of the {@code HEADER_} constants
+   * @param header the offset of the header
+   * @param bodyLength the length of the body following the metadata
+   * @return the encoded metadata
+   */
+  public static byte[] finishMessage(
+      FlatBufferBuilder builder, int headerType, int header, long bodyLength) {
+    builder.startTable(5);
+    builder.addShort(MESSAGE_VERSION, METADATA_VERSION);
+    builder.addByte(MESSAGE_HEADER_TYPE, (byte) headerType);
+    builder.addOffset(MESSAGE_HEADER, header);
+    builder.addLong(MESSAGE_BODY_LENGTH, bodyLength);
+    return builder.finish(builder.endTable());
+  }
+}
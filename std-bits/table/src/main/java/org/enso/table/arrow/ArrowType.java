@@ -0,0 +1,187 @@
+package org.enso.table.arrow;
+
+/**
+ * The type of a field of an Arrow schema, as far as it is needed to read and write tables.
+ *
+ * @param id the id of the type in the {@code Type} union of the schema, one of the constants
+ * @param bitWidth the width of integer and time types
+ * @param signed whether an integer type is signed
+ * @param unit the precision of floating point types, the unit of temporal types or the mode of
+ *     unions
+ * @param timezone the time zone of timestamps, or {@code null} for timestamps without a time zone
+ */
+public record ArrowType(int id, int bitWidth, boolean signed, short unit, String timezone) {
+  public static final int NULL = 1;
+  public static final int INT = 2;
+  public static final int FLOATING_POINT = 3;
+  public static final int BINARY = 4;
+  public static final int UTF8 = 5;
+  public static final int BOOL = 6;
+  public static final int DECIMAL = 7;
+  public static final int DATE = 8;
+  public static final int TIME = 9;
+  public static final int TIMESTAMP = 10;
+  public static final int INTERVAL = 11;
+  public static final int LIST = 12;
+  public static final int STRUCT = 13;
+  public static final int UNION = 14;
+  public static final int FIXED_SIZE_BINARY = 15;
+  public static final int FIXED_SIZE_LIST = 16;
+  public static final int MAP = 17;
+  public static final int DURATION = 18;
+  public static final int LARGE_BINARY = 19;
+  public static final int LARGE_UTF8 = 20;
+  public static final int LARGE_LIST = 21;
+  public static final int RUN_END_ENCODED = 22;
+
+  public static final short PRECISION_HALF = 0;
+  public static final short PRECISION_SINGLE = 1;
+  public static final short PRECISION_DOUBLE = 2;
+
+  public static final short DATE_DAY = 0;
+  public static final short DATE_MILLISECOND = 1;
+
+  public static final short TIME_SECOND = 0;
+  public static final short TIME_MILLISECOND = 1;
+  public static final short TIME_MICROSECOND = 2;
+  public static final short TIME_NANOSECOND = 3;
+
+  private static final short UNION_SPARSE = 0;
+
+  public static ArrowType integer(int bitWidth, boolean signed) {
+    return new ArrowType(INT, bitWidth, signed, (short) 0, null);
+  }
+
+  public static ArrowType floatingPoint(short precision) {
+    return new ArrowType(FLOATING_POINT, 0, true, precision, null);
+  }
+
+  public static ArrowType date(short unit) {
+    return new ArrowType(DATE, 0, true, unit, null);
+  }
+
+  public static ArrowType time(short unit) {
+    int bitWidth = unit == TIME_SECOND || unit == TIME_MILLISECOND ? 32 : 64;
+    return new ArrowType(TIME, bitWidth, true, unit, null);
+  }
+
+  public static ArrowType timestamp(short unit, String timezone) {
+    return new ArrowType(TIMESTAMP, 64, true, unit, timezone);
+  }
+
+  public static ArrowType simple(int id) {
+    return new ArrowType(id, 0, true, (short) 0, null);
+  }
+
+  /**
+   * Decodes the type of a field.
+   *
+   * @param typeId the id of the type, from the {@code type_type} field
+   * @param type the table describing the type, may be {@code null} for types without parameters
+   */
+  public static ArrowType fromFlatBuffer(int typeId, FlatBufferTable type) {
+    if (type == null) {
+      return simple(typeId);
+    }
+
+    return switch (typeId) {
+      case INT -> integer(type.getInt(0, 0), type.getBoolean(1, false));
+      case FLOATING_POINT -> floatingPoint(type.getShort(0, PRECISION_HALF));
+      case DATE -> date(type.getShort(0, DATE_MILLISECOND));
+      case TIME -> new ArrowType(
+          TIME, type.getInt(1, 32), true, type.getShort(0, TIME_MILLISECOND), null);
+      case TIMESTAMP -> timestamp(type.getShort(0, TIME_SECOND), type.getString(1));
+      case UNION -> new ArrowType(UNION, 0, true, type.getShort(0, UNION_SPARSE), null);
+      default -> simple(typeId);
+    };
+  }
+
+  /** Writes the table describing the type and returns its offset. */
+  public int writeFlatBuffer(FlatBufferBuilder builder) {
+    int timezoneOffset = timezone == null ? 0 : builder.createString(timezone);
+    switch (id) {
+      case INT -> {
+        builder.startTable(2);
+        builder.addInt(0, bitWidth);
+        builder.addBoolean(1, signed);
+      }
+      case FLOATING_POINT, DATE -> {
+        builder.startTable(1);
+        builder.addShort(0, unit);
+      }
+      case TIME -> {
+        builder.startTable(2);
+        builder.addShort(0, unit);
+        builder.addInt(1, bitWidth);
+      }
+      case TIMESTAMP -> {
+        builder.startTable(2);
+        builder.addShort(0, unit);
+        if (timezone != null) {
+          builder.addOffset(1, timezoneOffset);
+        }
+      }
+      default -> builder.startTable(0);
+    }
+    return builder.endTable();
+  }
+
+  /**
+   * Returns the number of buffers of an array of this type in a record batch, not counting the
+   * buffers of its children.
+   */
+  public int bufferCount() {
+    return switch (id) {
+      case NULL, RUN_END_ENCODED -> 0;
+      case STRUCT, FIXED_SIZE_LIST -> 1;
+      case BINARY, UTF8, LARGE_BINARY, LARGE_UTF8 -> 3;
+      case UNION -> unit == UNION_SPARSE ? 1 : 2;
+      case INT, FLOATING_POINT, BOOL, DECIMAL, DATE, TIME, TIMESTAMP, INTERVAL, LIST -> 2;
+      case FIXED_SIZE_BINARY, MAP, DURATION, LARGE_LIST -> 2;
+      default -> throw new IllegalArgumentException(
+          "The Arrow type " + this + " is not supported.");
+    };
+  }
+
+  /** Returns the size of a value in the data buffer, in bytes. */
+  public int byteWidth() {
+    return switch (id) {
+      case FLOATING_POINT -> switch (unit) {
+        case PRECISION_HALF -> 2;
+        case PRECISION_SINGLE -> 4;
+        default -> 8;
+      };
+      case DATE -> unit == DATE_DAY ? 4 : 8;
+      default -> bitWidth / 8;
+    };
+  }
+
+  @Override
+  public String toString() {
+    return switch (id) {
+      case NULL -> "Null";
+      case INT -> (signed ? "Int" : "UInt") + bitWidth;
+      case FLOATING_POINT -> "Float" + byteWidth() * 8;
+      case BINARY -> "Binary";
+      case UTF8 -> "Utf8";
+      case BOOL -> "Bool";
+      case DECIMAL -> "Decimal";
+      case DATE -> unit == DATE_DAY ? "Date32" : "Date64";
+      case TIME -> "Time" + bitWidth;
+      case TIMESTAMP -> "Timestamp";
+      case INTERVAL -> "Interval";
+      case LIST -> "List";
+      case STRUCT -> "Struct";
+      case UNION -> "Union";
+      case FIXED_SIZE_BINARY -> "FixedSizeBinary";
+      case FIXED_SIZE_LIST -> "FixedSizeList";
+      case MAP -> "Map";
+      case DURATION -> "Duration";
+      case LARGE_BINARY -> "LargeBinary";
+      case LARGE_UTF8 -> "LargeUtf8";
+      case LARGE_LIST -> "LargeList";
+      case RUN_END_ENCODED -> "RunEndEncoded";
+      default -> "Type " + id;
+    };
+  }
+}
@@ -0,0 +1,209 @@
+package org.enso.table.arrow;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Builds a FlatBuffers message, used to encode the metadata of Arrow IPC files.
+ *
+ * <p>As in the reference implementation, the message is built back to front: the objects
+ * referenced by a table must be created before the table itself. Objects are referred to by their
+ * offset from the end of the buffer, as returned by the methods creating them.
+ */
+public final class FlatBufferBuilder {
+  private ByteBuffer buffer;
+  private int space;
+  private int minAlign = 1;
+  private int[] vtable = null;
+  private int tableStart;
+
+  public FlatBufferBuilder(int initialSize) {
+    buffer = ByteBuffer.allocate(Math.max(initialSize, 64)).order(ByteOrder.LITTLE_ENDIAN);
+    space = buffer.capacity();
+  }
+
+  /** Returns the offset of the last written object, counted from the end of the buffer. */
+  public int offset() {
+    return buffer.capacity() - space;
+  }
+
+  /**
+   * Pads the buffer so that a value of the given size is aligned after writing the given number of
+   * additional bytes, growing the buffer if needed.
+   */
+  private void prep(int size, int additionalBytes) {
+    minAlign = Math.max(minAlign, size);
+    int padding = (-(offset() + additionalBytes)) & (size - 1);
+    while (space < padding + size + additionalBytes) {
+      int oldCapacity = buffer.capacity();
+      ByteBuffer grown = ByteBuffer.allocate(oldCapacity * 2).order(ByteOrder.LITTLE_ENDIAN);
+      grown.put(oldCapacity, buffer, 0, oldCapacity);
+      buffer = grown;
+      space += oldCapacity;
+    }
+    space -= padding;
+  }
+
+  private void putByte(byte value) {
+    buffer.put(--space, value);
+  }
+
+  private void putShort(short value) {
+    space -= 2;
+    buffer.putShort(space, value);
+  }
+
+  private void putInt(int value) {
+    space -= 4;
+    buffer.putInt(space, value);
+  }
+
+  private void putLong(long value) {
+    space -= 8;
+    buffer.putLong(space, value);
+  }
+
+  /** Writes a reference to an object, relative to the position of the reference. */
+  private void putOffset(int target) {
+    prep(4, 0);
+    putInt(offset() + 4 - target);
+  }
+
+  /** Creates a string and returns its offset. */
+  public int createString(String value) {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    prep(4, bytes.length + 1);
+    putByte((byte) 0);
+    space -= bytes.length;
+    buffer.put(space, bytes);
+    putInt(bytes.length);
+    return offset();
+  }
+
+  /** Creates a vector of references to objects and returns its offset. */
+  public int createOffsetVector(int[] offsets) {
+    prep(4, 4 * offsets.length);
+    for (int i = offsets.length - 1; i >= 0; i--) {
+      putOffset(offsets[i]);
+    }
+    putInt(offsets.length);
+    return offset();
+  }
+
+  /**
+   * Creates a vector of structs made only of 64-bit fields, like the Arrow {@code FieldNode} and
+   * {@code Buffer} structs.
+   *
+   * @param fieldsPerStruct the number of fields of a struct
+   * @param values the fields of all the structs, one struct after another
+   * @return the offset of the vector
+   */
+  public int createLongStructVector(int fieldsPerStruct, long[] values) {
+    prep(8, 8 * values.length);
+    prep(4, 8 * values.length);
+    for (int i = values.length - 1; i >= 0; i--) {
+      putLong(values[i]);
+    }
+    putInt(values.length / fieldsPerStruct);
+    return offset();
+  }
+
+  /**
+   * Creates a vector of the Arrow {@code Block} structs, describing the messages of an IPC file.
+   *
+   * @param blocks the blocks, each being the offset of the message, the length of its metadata and
+   *     the length of its body
+   * @return the offset of the vector
+   */
+  public int createBlockVector(long[][] blocks) {
+    int size = 24 * blocks.length;
+    prep(8, size);
+    prep(4, size);
+    for (int i = blocks.length - 1; i >= 0; i--) {
+      putLong(blocks[i][2]);
+      putInt(0);
+      putInt((int) blocks[i][1]);
+      putLong(blocks[i][0]);
+    }
+    putInt(blocks.length);
+    return offset();
+  }
+
+  /** Starts a table with the given number of slots. Fields are then added by the slot. */
+  public void startTable(int slots) {
+    if (vtable != null) {
+      throw new IllegalStateException("Tables cannot be nested, create the sub-tables first.");
+    }
+    vtable = new int[slots];
+    tableStart = offset();
+  }
+
+  public void addByte(int slot, byte value) {
+    prep(1, 0);
+    putByte(value);
+    vtable[slot] = offset();
+  }
+
+  public void addBoolean(int slot, boolean value) {
+    addByte(slot, (byte) (value ? 1 : 0));
+  }
+
+  public void addShort(int slot, short value) {
+    prep(2, 0);
+    putShort(value);
+    vtable[slot] = offset();
+  }
+
+  public void addInt(int slot, int value) {
+    prep(4, 0);
+    putInt(value);
+    vtable[slot] = offset();
+  }
+
+  public void addLong(int slot, long value) {
+    prep(8, 0);
+    putLong(value);
+    vtable[slot] = offset();
+  }
+
+  /** Adds a reference to an object created before the table. */
+  public void addOffset(int slot, int target) {
+    putOffset(target);
+    vtable[slot] = offset();
+  }
+
+  /** Finishes the table, writing its vtable, and returns its offset. */
+  public int endTable() {
+    prep(4, 0);
+    putInt(0);
+    int table = offset();
+    int slots = vtable.length;
+    while (slots > 0 && vtable[slots - 1] == 0) {
+      slots--;
+    }
+    prep(2, 2 * (slots + 2));
+    for (int i = slots - 1; i >= 0; i--) {
+      putShort((short) (vtable[i] == 0 ? 0 : table - vtable[i]));
+    }
+    putShort((short) (table - tableStart));
+    putShort((short) ((slots + 2) * 2));
+    buffer.putInt(buffer.capacity() - table, offset() - table);
+    vtable = null;
+    return table;
+  }
+
+  /**
+   * Finishes the message with the given root table.
+   *
+   * @return the bytes of the message, padded to a multiple of 8 bytes
+   */
+  public byte[] finish(int root) {
+    prep(Math.max(minAlign, 8), 4);
+    putOffset(root);
+    int length = offset();
+    byte[] result = new byte[(length + 7) & ~7];
+    buffer.get(space, result, 0, length);
+    return result;
+  }
+}
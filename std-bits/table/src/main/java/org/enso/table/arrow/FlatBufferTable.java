@@ -0,0 +1,108 @@
+package org.enso.table.arrow;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A read-only view of a table of a FlatBuffers message, used to decode the metadata of Arrow IPC
+ * files.
+ *
+ * <p>Fields are identified by their slot, the index of the field in the schema definition. Missing
+ * fields read as the provided default.
+ *
+ * @param buffer the little-endian buffer holding the message
+ * @param position the position of the table in the buffer
+ */
+public record FlatBufferTable(ByteBuffer buffer, int position) {
+  /**
+   * Reads the root table of a message.
+   *
+   * @param buffer the little-endian buffer holding the message
+   * @param start the position at which the message starts
+   * @return the root table
+   */
+  public static FlatBufferTable root(ByteBuffer buffer, int start) {
+    return new FlatBufferTable(buffer, start + buffer.getInt(start));
+  }
+
+  /** Returns the position of the field relative to the table, or 0 if it is missing. */
+  private int fieldOffset(int slot) {
+    int vtable = position - buffer.getInt(position);
+    int vtableSize = Short.toUnsignedInt(buffer.getShort(vtable));
+    int entry = 4 + 2 * slot;
+    return entry < vtableSize ? Short.toUnsignedInt(buffer.getShort(vtable + entry)) : 0;
+  }
+
+  /** Returns the absolute position of an offset field, following the offset. */
+  private int indirect(int slot) {
+    int field = position + fieldOffset(slot);
+    return field + buffer.getInt(field);
+  }
+
+  public boolean has(int slot) {
+    return fieldOffset(slot) != 0;
+  }
+
+  public byte getByte(int slot, byte defaultValue) {
+    int offset = fieldOffset(slot);
+    return offset == 0 ? defaultValue : buffer.get(position + offset);
+  }
+
+  public boolean getBoolean(int slot, boolean defaultValue) {
+    int offset = fieldOffset(slot);
+    return offset == 0 ? defaultValue : buffer.get(position + offset) != 0;
+  }
+
+  public short getShort(int slot, short defaultValue) {
+    int offset = fieldOffset(slot);
+    return offset == 0 ? defaultValue : buffer.getShort(position + offset);
+  }
+
+  public int getInt(int slot, int defaultValue) {
+    int offset = fieldOffset(slot);
+    return offset == 0 ? defaultValue : buffer.getInt(position + offset);
+  }
+
+  public long getLong(int slot, long defaultValue) {
+    int offset = fieldOffset(slot);
+    return offset == 0 ? defaultValue : buffer.getLong(position + offset);
+  }
+
+  /** Returns the sub-table in the given slot, or {@code null} if it is missing. */
+  public FlatBufferTable getTable(int slot) {
+    return has(slot) ? new FlatBufferTable(buffer, indirect(slot)) : null;
+  }
+
+  /** Returns the string in the given slot, or {@code null} if it is missing. */
+  public String getString(int slot) {
+    if (!has(slot)) {
+      return null;
+    }
+    int start = indirect(slot);
+    byte[] bytes = new byte[buffer.getInt(start)];
+    buffer.get(start + 4, bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /** Returns the number of elements of the vector in the given slot, 0 if it is missing. */
+  public int getVectorLength(int slot) {
+    return has(slot) ? buffer.getInt(indirect(slot)) : 0;
+  }
+
+  /**
+   * Returns the absolute position of an element of a vector of structs.
+   *
+   * @param slot the slot of the vector
+   * @param index the index of the element
+   * @param structSize the size of a struct, in bytes
+   */
+  public int getStructInVector(int slot, int index, int structSize) {
+    return indirect(slot) + 4 + index * structSize;
+  }
+
+  /** Returns an element of a vector of tables. */
+  public FlatBufferTable getTableInVector(int slot, int index) {
+    int element = indirect(slot) + 4 + index * 4;
+    return new FlatBufferTable(buffer, element + buffer.getInt(element));
+  }
+}
@@ -0,0 +1,115 @@
+package org.enso.table.arrow;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Decodes data compressed in the LZ4 frame format, the default compression of Feather files.
+ *
+ * <p>Checksums are skipped, not verified.
+ */
+public final class Lz4FrameDecoder {
+  private static final int MAGIC = 0x184D2204;
+  private static final int SKIPPABLE_MAGIC_MASK = 0xFFFFFFF0;
+  private static final int SKIPPABLE_MAGIC = 0x184D2A50;
+
+  private Lz4FrameDecoder() {}
+
+  /**
+   * Decompresses the frames held in the input.
+   *
+   * @param input the compressed data, between its position and limit of a little-endian buffer
+   * @param output the buffer to decompress into, with enough space for the whole data
+   * @return the number of decompressed bytes
+   */
+  public static int decode(ByteBuffer input, ByteBuffer output) {
+    int in = input.position();
+    int end = input.limit();
+    int out = 0;
+    while (in < end) {
+      int magic = input.getInt(in);
+      in += 4;
+      if ((magic & SKIPPABLE_MAGIC_MASK) == SKIPPABLE_MAGIC) {
+        in += 4 + input.getInt(in);
+        continue;
+      }
+      if (magic != MAGIC) {
+        throw new IllegalArgumentException("The data is not in the LZ4 frame format.");
+      }
+
+      int flags = input.get(in);
+      in += 2;
+      if ((flags & 0x08) != 0) {
+        in += 8;
+      }
+      if ((flags & 0x01) != 0) {
+        in += 4;
+      }
+      in++;
+
+      boolean hasBlockChecksum = (flags & 0x10) != 0;
+      while (true) {
+        int blockSize = input.getInt(in);
+        in += 4;
+        if (blockSize == 0) {
+          break;
+        }
+        int length = blockSize & 0x7FFFFFFF;
+        if (blockSize < 0) {
+          output.put(out, input, in, length);
+          out += length;
+        } else {
+          out = decodeBlock(input, in, in + length, output, out);
+        }
+        in += length + (hasBlockChecksum ? 4 : 0);
+      }
+
+      if ((flags & 0x04) != 0) {
+        in += 4;
+      }
+    }
+    return out;
+  }
+
+  private static int decodeBlock(ByteBuffer input, int in, int end, ByteBuffer output, int out) {
+    while (in < end) {
+      int token = Byte.toUnsignedInt(input.get(in++));
+
+      int literals = token >>> 4;
+      if (literals == 15) {
+        int extra;
+        do {
+          extra = Byte.toUnsignedInt(input.get(in++));
+          literals += extra;
+        } while (extra == 255);
+      }
+      output.put(out, input, in, literals);
+      in += literals;
+      out += literals;
+      if (in >= end) {
+        break;
+      }
+
+      int distance = Short.toUnsignedInt(input.getShort(in));
+      in += 2;
+      int matchLength = token & 0x0F;
+      if (matchLength == 15) {
+        int extra;
+        do {
+          extra = Byte.toUnsignedInt(input.get(in++));
+          matchLength += extra;
+        } while (extra == 255);
+      }
+      matchLength += 4;
+
+      int source = out - distance;
+      if (distance <= 0 || source < 0) {
+        throw new IllegalArgumentException("The LZ4 data is corrupted.");
+      }
+      for (int i = 0; i < matchLength; i++) {
+        output.put(out + i, output.get(source + i));
+      }
+      out += matchLength;
+    }
+    return out;
+  }
+}
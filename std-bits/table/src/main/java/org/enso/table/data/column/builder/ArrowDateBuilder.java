@@ -0,0 +1,34 @@
+package org.enso.table.data.column.builder;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import org.enso.table.data.column.storage.Storage;
+import org.enso.table.data.column.storage.arrow.ArrowDateStorage;
+import org.enso.table.data.column.storage.type.DateType;
+import org.enso.table.data.column.storage.type.StorageType;
+import org.enso.table.error.ValueTypeMismatchException;
+
+/** A builder for off-heap date columns, stored as 32-bit days since the epoch. */
+public class ArrowDateBuilder extends ArrowFixedWidthBuilder {
+  public ArrowDateBuilder(int initialCapacity) {
+    super(initialCapacity, ArrowDateStorage.Unit.DAYS.byteWidth());
+  }
+
+  @Override
+  public StorageType getType() {
+    return DateType.INSTANCE;
+  }
+
+  @Override
+  protected void writeValue(int idx, Object o) {
+    if (!(o instanceof LocalDate date)) {
+      throw new ValueTypeMismatchException(getType(), o);
+    }
+    data.putInt(idx << 2, Math.toIntExact(date.toEpochDay()));
+  }
+
+  @Override
+  protected Storage<?> makeStorage(ByteBuffer data, ByteBuffer validity, int size) {
+    return new ArrowDateStorage(data, validity, size, ArrowDateStorage.Unit.DAYS);
+  }
+}
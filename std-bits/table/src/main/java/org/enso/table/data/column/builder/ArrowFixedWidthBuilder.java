@@ -0,0 +1,111 @@
+package org.enso.table.data.column.builder;
+
+import java.nio.ByteBuffer;
+import org.enso.table.data.column.storage.Storage;
+import org.enso.table.data.column.storage.arrow.ArrowBuffers;
+import org.graalvm.polyglot.Context;
+
+/**
+ * A base for builders writing fixed-width values directly into off-heap buffers in the Arrow
+ * layout.
+ *
+ * <p>The buffers are handed over to the sealed storage without copying, so the builder must not be
+ * used after {@link #seal()} is called.
+ */
+public abstract class ArrowFixedWidthBuilder extends Builder {
+  private final int byteWidth;
+  protected ByteBuffer data;
+  private ByteBuffer validity;
+  protected int currentSize = 0;
+  private boolean hasNothing = false;
+
+  /**
+   * @param initialCapacity the number of values for which space is allocated up-front
+   * @param byteWidth the number of bytes taken by a value
+   */
+  protected ArrowFixedWidthBuilder(int initialCapacity, int byteWidth) {
+    this.byteWidth = byteWidth;
+    this.data = ArrowBuffers.allocate((long) initialCapacity * byteWidth);
+    this.validity = ArrowBuffers.allocate(ArrowBuffers.validityBytes(initialCapacity));
+  }
+
+  /**
+   * Writes a present value into the data buffer.
+   *
+   * @param idx the index of the value
+   * @param o the value, not {@code null}
+   */
+  protected abstract void writeValue(int idx, Object o);
+
+  /**
+   * Creates the storage from the buffers.
+   *
+   * @param data the data buffer
+   * @param validity the validity buffer, or {@code null} if no values are missing
+   * @param size the number of values
+   */
+  protected abstract Storage<?> makeStorage(ByteBuffer data, ByteBuffer validity, int size);
+
+  @Override
+  public void appendNoGrow(Object o) {
+    if (o == null) {
+      hasNothing = true;
+      currentSize++;
+    } else {
+      writeValue(currentSize, o);
+      markAppended();
+    }
+  }
+
+  /** Marks the value already written at the current position as present and moves past it. */
+  protected void markAppended() {
+    ArrowBuffers.setValid(validity, currentSize);
+    currentSize++;
+  }
+
+  @Override
+  public void append(Object o) {
+    ensureSpaceToAppend(1);
+    appendNoGrow(o);
+  }
+
+  @Override
+  public void appendNulls(int count) {
+    if (count > 0) {
+      ensureSpaceToAppend(count);
+      hasNothing = true;
+      currentSize += count;
+    }
+  }
+
+  @Override
+  public void appendBulkStorage(Storage<?> storage) {
+    ensureSpaceToAppend(storage.size());
+    Context context = Context.getCurrent();
+    for (int i = 0; i < storage.size(); i++) {
+      appendNoGrow(storage.getItemBoxed(i));
+      context.safepoint();
+    }
+  }
+
+  @Override
+  public int getCurrentSize() {
+    return currentSize;
+  }
+
+  @Override
+  public Storage<?> seal() {
+    return makeStorage(data, hasNothing ? validity : null, currentSize);
+  }
+
+  /** Grows the buffers, at least doubling them, if the values do not fit. */
+  protected void ensureSpaceToAppend(int count) {
+    long required = (long) currentSize + count;
+    long capacity = data.capacity() / byteWidth;
+    if (required > capacity) {
+      long newCapacity = Math.max(required, capacity * 2);
+      data = ArrowBuffers.grow(data, newCapacity * byteWidth);
+      validity = ArrowBuffers.grow(validity, ArrowBuffers.validityBytes(newCapacity));
+    }
+  }
+}
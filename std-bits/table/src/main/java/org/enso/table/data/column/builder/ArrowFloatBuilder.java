@@ -0,0 +1,42 @@
+package org.enso.table.data.column.builder;
+
+import java.nio.ByteBuffer;
+import org.enso.base.polyglot.NumericConverter;
+import org.enso.table.data.column.storage.Storage;
+import org.enso.table.data.column.storage.arrow.ArrowFloatStorage;
+import org.enso.table.data.column.storage.type.FloatType;
+import org.enso.table.data.column.storage.type.StorageType;
+import org.enso.table.error.ValueTypeMismatchException;
+
+/** A builder for off-heap 64-bit floating point columns. */
+public class ArrowFloatBuilder extends ArrowFixedWidthBuilder {
+  public ArrowFloatBuilder(int initialCapacity) {
+    super(initialCapacity, Double.BYTES);
+  }
+
+  @Override
+  public StorageType getType() {
+    return FloatType.FLOAT_64;
+  }
+
+  @Override
+  protected void writeValue(int idx, Object o) {
+    Double x = NumericConverter.tryConvertingToDouble(o);
+    if (x == null) {
+      throw new ValueTypeMismatchException(getType(), o);
+    }
+    data.putDouble(idx << 3, x);
+  }
+
+  /** Appends a value, avoiding boxing. */
+  public void appendDouble(double value) {
+    ensureSpaceToAppend(1);
+    data.putDouble(currentSize << 3, value);
+    markAppended();
+  }
+
+  @Override
+  protected Storage<?> makeStorage(ByteBuffer data, ByteBuffer validity, int size) {
+    return new ArrowFloatStorage(data, validity, size);
+  }
+}
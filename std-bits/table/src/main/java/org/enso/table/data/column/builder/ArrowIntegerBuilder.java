@@ -0,0 +1,54 @@
+package org.enso.table.data.column.builder;
+
+import java.nio.ByteBuffer;
+import org.enso.base.polyglot.NumericConverter;
+import org.enso.table.data.column.storage.Storage;
+import org.enso.table.data.column.storage.arrow.ArrowIntegerStorage;
+import org.enso.table.data.column.storage.type.IntegerType;
+import org.enso.table.data.column.storage.type.StorageType;
+import org.enso.table.error.ValueTypeMismatchException;
+
+/** A builder for off-heap integer columns of a given width. */
+public class ArrowIntegerBuilder extends ArrowFixedWidthBuilder {
+  private final IntegerType type;
+
+  public ArrowIntegerBuilder(int initialCapacity, IntegerType type) {
+    super(initialCapacity, ArrowIntegerStorage.byteWidth(type));
+    this.type = type;
+  }
+
+  @Override
+  public StorageType getType() {
+    return type;
+  }
+
+  @Override
+  protected void writeValue(int idx, Object o) {
+    Long x = NumericConverter.tryConvertingToLong(o);
+    if (x == null || !type.fits(x)) {
+      throw new ValueTypeMismatchException(type, o);
+    }
+    writeLong(idx, x);
+  }
+
+  /** Appends a value that is known to fit the type of the builder, avoiding boxing. */
+  public void appendLong(long value) {
+    ensureSpaceToAppend(1);
+    writeLong(currentSize, value);
+    markAppended();
+  }
+
+  private void writeLong(int idx, long value) {
+    switch (type.bits()) {
+      case BITS_8 -> data.put(idx, (byte) value);
+      case BITS_16 -> data.putShort(idx << 1, (short) value);
+      case BITS_32 -> data.putInt(idx << 2, (int) value);
+      case BITS_64 -> data.putLong(idx << 3, value);
+    }
+  }
+
+  @Override
+  protected Storage<?> makeStorage(ByteBuffer data, ByteBuffer validity, int size) {
+    return new ArrowIntegerStorage(data, validity, size, type);
+  }
+}
@@ -0,0 +1,109 @@
+package org.enso.table.data.column.builder;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.enso.table.data.column.storage.Storage;
+import org.enso.table.data.column.storage.arrow.ArrowBuffers;
+import org.enso.table.data.column.storage.arrow.ArrowStringStorage;
+import org.enso.table.data.column.storage.type.StorageType;
+import org.enso.table.data.column.storage.type.TextType;
+import org.enso.table.error.ValueTypeMismatchException;
+import org.graalvm.polyglot.Context;
+
+/**
+ * A builder for off-heap text columns, writing UTF-8 encoded values directly into Arrow buffers.
+ *
+ * <p>The buffers are handed over to the sealed storage without copying, so the builder must not be
+ * used after {@link #seal()} is called.
+ */
+public class ArrowStringBuilder extends Builder {
+  private ByteBuffer offsets;
+  private ByteBuffer data;
+  private ByteBuffer validity;
+  private int currentSize = 0;
+  private int dataSize = 0;
+  private boolean hasNothing = false;
+
+  /**
+   * @param initialCapacity the number of values for which space is allocated up-front
+   * @param initialDataCapacity the number of bytes of text for which space is allocated up-front
+   */
+  public ArrowStringBuilder(int initialCapacity, int initialDataCapacity) {
+    offsets = ArrowBuffers.allocate((long) (initialCapacity + 1) * Integer.BYTES);
+    data = ArrowBuffers.allocate(initialDataCapacity);
+    validity = ArrowBuffers.allocate(ArrowBuffers.validityBytes(initialCapacity));
+  }
+
+  @Override
+  public StorageType getType() {
+    return TextType.VARIABLE_LENGTH;
+  }
+
+  /**
+   * Appends a value, assuming that there is space for its offset.
+   *
+   * <p>The data buffer grows as needed, as the length of the text is not known up-front.
+   */
+  @Override
+  public void appendNoGrow(Object o) {
+    if (o == null) {
+      hasNothing = true;
+    } else if (o instanceof String s) {
+      byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+      if ((long) dataSize + bytes.length > data.capacity()) {
+        data = ArrowBuffers.grow(data, Math.max((long) dataSize + bytes.length, 2L * dataSize));
+      }
+      data.put(dataSize, bytes);
+      dataSize += bytes.length;
+      ArrowBuffers.setValid(validity, currentSize);
+    } else {
+      throw new ValueTypeMismatchException(getType(), o);
+    }
+    currentSize++;
+    offsets.putInt(currentSize << 2, dataSize);
+  }
+
+  @Override
+  public void append(Object o) {
+    ensureSpaceToAppend(1);
+    appendNoGrow(o);
+  }
+
+  @Override
+  public void appendNulls(int count) {
+    ensureSpaceToAppend(count);
+    for (int i = 0; i < count; i++) {
+      appendNoGrow(null);
+    }
+  }
+
+  @Override
+  public void appendBulkStorage(Storage<?> storage) {
+    ensureSpaceToAppend(storage.size());
+    Context context = Context.getCurrent();
+    for (int i = 0; i < storage.size(); i++) {
+      appendNoGrow(storage.getItemBoxed(i));
+      context.safepoint();
+    }
+  }
+
+  @Override
+  public int getCurrentSize() {
+    return currentSize;
+  }
+
+  @Override
+  public Storage<?> seal() {
+    return new ArrowStringStorage(offsets, data, hasNothing ? validity : null, currentSize);
+  }
+
+  private void ensureSpaceToAppend(int count) {
+    long required = (long) currentSize + count;
+    long capacity = offsets.capacity() / Integer.BYTES - 1;
+    if (required > capacity) {
+      long newCapacity = Math.max(required, capacity * 2);
+      offsets = ArrowBuffers.grow(offsets, (newCapacity + 1) * Integer.BYTES);
+      validity = ArrowBuffers.grow(validity, ArrowBuffers.validityBytes(newCapacity));
+    }
+  }
+}
@@ -52,6 +52,7 @@ public interface DoubleArrayAdapter {
       case AbstractLongStorage s -> fromStorage(s);
       case BigIntegerStorage s -> fromStorage(s);
       case BigDecimalStorage s -> fromStorage(s);
+      case DoubleArrayAdapter s -> s;
       default -> throw new IllegalStateException(
           "Unsupported storage: " + storage.getClass().getCanonicalName());
     };
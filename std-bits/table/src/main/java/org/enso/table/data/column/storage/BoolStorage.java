@@ -57,6 +57,11 @@ public final class BoolStorage extends Storage<Boolean>
     return size;
   }
 
+  @Override
+  public long estimateRetainedSize() {
+    return 16 + (values.size() + isNothing.size()) / 8;
+  }
+
   @Override
   public StorageType getType() {
     return BooleanType.INSTANCE;
@@ -36,6 +36,11 @@ public class MixedStorageFacade extends Storage<Object> {
     return underlyingStorage.inferPreciseType();
   }
 
+  @Override
+  public long estimateRetainedSize() {
+    return underlyingStorage.estimateRetainedSize();
+  }
+
   @Override
   public StorageType inferPreciseTypeShrunk() {
     return underlyingStorage.inferPreciseTypeShrunk();
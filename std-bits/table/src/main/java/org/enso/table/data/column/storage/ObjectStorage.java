@@ -29,6 +29,12 @@ public sealed class ObjectStorage extends SpecializedStorage<Object> permits Mix
     return AnyObjectType.INSTANCE;
   }
 
+  /** The stored objects may be arbitrarily large, so their size is unknown. */
+  @Override
+  public long estimateRetainedSize() {
+    return -1;
+  }
+
   public static <T, S extends SpecializedStorage<T>> MapOperationStorage<T, S> buildObjectOps() {
     MapOperationStorage<T, S> ops = new MapOperationStorage<>();
     return ops;
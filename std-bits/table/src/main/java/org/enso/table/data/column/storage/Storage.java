@@ -33,6 +33,20 @@ public abstract class Storage<T> implements ColumnStorage {
     return size();
   }
 
+  /**
+   * Estimates the memory retained by this storage, including any off-heap buffers it owns.
+   *
+   * <p>The estimate is used by the engine to decide which computed values are worth keeping in
+   * memory, so it only needs to be in the right order of magnitude. The default assumes every
+   * element is a separately boxed object; storages with a more compact representation override it.
+   * Storages holding arbitrary objects cannot bound their size and report it as unknown.
+   *
+   * @return the estimated size in bytes, or {@code -1} if the size is unknown
+   */
+  public long estimateRetainedSize() {
+    return 16 + 24L * size();
+  }
+
   @Override
   public abstract StorageType getType();
 
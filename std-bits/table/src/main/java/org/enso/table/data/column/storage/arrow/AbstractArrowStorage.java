@@ -0,0 +1,272 @@
+package org.enso.table.data.column.storage.arrow;
+
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+import java.util.List;
+import org.enso.table.data.column.builder.Builder;
+import org.enso.table.data.column.operation.map.MapOperationProblemAggregator;
+import org.enso.table.data.column.storage.BoolStorage;
+import org.enso.table.data.column.storage.ColumnStorageWithInferredStorage;
+import org.enso.table.data.column.storage.ColumnStorageWithNothingMap;
+import org.enso.table.data.column.storage.Storage;
+import org.enso.table.data.mask.OrderMask;
+import org.enso.table.data.mask.SliceRange;
+import org.enso.table.problems.BlackholeProblemAggregator;
+import org.graalvm.polyglot.Context;
+
+/**
+ * A base for columns kept off-heap in an Arrow layout, for which there are no operations working
+ * directly on the buffers.
+ *
+ * <p>Similarly to {@link org.enso.table.data.column.storage.MixedStorage}, the values are copied
+ * into a regular storage of the same type the first time a vectorized operation is needed, and all
+ * such operations are forwarded to it. Reading single values, slicing and computing the missing
+ * value mask work on the buffers directly.
+ */
+public abstract class AbstractArrowStorage<T> extends Storage<T>
+    implements ColumnStorageWithNothingMap, ColumnStorageWithInferredStorage {
+  protected final ByteBuffer validity;
+  protected final int size;
+  private BitSet isNothing = null;
+  private Storage<?> heapStorage = null;
+
+  /**
+   * @param validity the validity bitmap, or {@code null} if no values are missing
+   * @param size the number of values
+   */
+  protected AbstractArrowStorage(ByteBuffer validity, int size) {
+    if (validity != null && ArrowBuffers.validityBytes(size) > validity.capacity()) {
+      throw new IllegalArgumentException(
+          "The validity buffer is too small for " + size + " values.");
+    }
+    this.validity = validity;
+    this.size = size;
+  }
+
+  /**
+   * Reads a present value from the buffers.
+   *
+   * @param idx the index of the value, which must not be missing
+   * @return the value
+   */
+  protected abstract T readItem(int idx);
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Counts the off-heap buffers, which stay allocated as long as the storage is reachable, along
+   * with the cached missing value mask and the regular storage, if they were created.
+   */
+  @Override
+  public long estimateRetainedSize() {
+    long retained =
+        64
+            + ArrowBuffers.capacityOf(validity)
+            + dataCapacity()
+            + (isNothing == null ? 0 : isNothing.size() / 8);
+    if (heapStorage != null) {
+      long heapSize = heapStorage.estimateRetainedSize();
+      if (heapSize < 0) {
+        return -1;
+      }
+      retained += heapSize;
+    }
+    return retained;
+  }
+
+  /**
+   * @return the total capacity of the off-heap buffers other than the validity buffer, in bytes
+   */
+  protected abstract long dataCapacity();
+
+  @Override
+  public boolean isNothing(long idx) {
+    if (idx < 0 || idx >= size) {
+      throw new IndexOutOfBoundsException(
+          "Index " + idx + " is out of bounds for range of length " + size + ".");
+    }
+    return !ArrowBuffers.isValid(validity, (int) idx);
+  }
+
+  @Override
+  public T getItemBoxed(int idx) {
+    return isNothing(idx) ? null : readItem(idx);
+  }
+
+  @Override
+  public BitSet getIsNothingMap() {
+    if (isNothing == null) {
+      isNothing = ArrowBuffers.toIsNothing(validity, size);
+    }
+    return isNothing;
+  }
+
+  /** Returns a read-only view of the validity buffer, or {@code null} if no values are missing. */
+  public ByteBuffer getValidityBuffer() {
+    return ArrowBuffers.readOnly(validity);
+  }
+
+  /**
+   * Returns a regular storage with the same values, computed once and cached.
+   *
+   * <p>The storage keeps a copy of the whole column on the heap, so it is only created when an
+   * operation needs it.
+   */
+  @Override
+  public Storage<?> getInferredStorage() {
+    if (heapStorage == null) {
+      Builder builder = newHeapBuilder(size);
+      Context context = Context.getCurrent();
+      for (int i = 0; i < size; i++) {
+        builder.appendNoGrow(getItemBoxed(i));
+        context.safepoint();
+      }
+      heapStorage = builder.seal();
+    }
+    return heapStorage;
+  }
+
+  @Override
+  public Storage<?> tryGettingMoreSpecializedStorage() {
+    return getInferredStorage();
+  }
+
+  @Override
+  public boolean isBinaryOpVectorized(String name) {
+    return getInferredStorage().isBinaryOpVectorized(name);
+  }
+
+  @Override
+  public Storage<?> runVectorizedBinaryMap(
+      String name, Object argument, MapOperationProblemAggregator problemAggregator) {
+    return getInferredStorage().runVectorizedBinaryMap(name, argument, problemAggregator);
+  }
+
+  @Override
+  public boolean isTernaryOpVectorized(String name) {
+    return getInferredStorage().isTernaryOpVectorized(name);
+  }
+
+  @Override
+  public Storage<?> runVectorizedTernaryMap(
+      String name,
+      Object argument0,
+      Object argument1,
+      MapOperationProblemAggregator problemAggregator) {
+    return getInferredStorage()
+        .runVectorizedTernaryMap(name, argument0, argument1, problemAggregator);
+  }
+
+  @Override
+  public Storage<?> runVectorizedZip(
+      String name, Storage<?> argument, MapOperationProblemAggregator problemAggregator) {
+    return getInferredStorage().runVectorizedZip(name, argument, problemAggregator);
+  }
+
+  @Override
+  public Storage<?> fillMissingFromPrevious(BoolStorage missingIndicator) {
+    return getInferredStorage().fillMissingFromPrevious(missingIndicator);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public Storage<T> applyFilter(BitSet filterMask, int newLength) {
+    Builder builder = newHeapBuilder(newLength);
+    Context context = Context.getCurrent();
+    for (int i = 0; i < size; i++) {
+      if (filterMask.get(i)) {
+        builder.appendNoGrow(getItemBoxed(i));
+      }
+
+      context.safepoint();
+    }
+    return (Storage<T>) builder.seal();
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public Storage<T> applyMask(OrderMask mask) {
+    Builder builder = newHeapBuilder(mask.length());
+    Context context = Context.getCurrent();
+    for (int i = 0; i < mask.length(); i++) {
+      int position = mask.get(i);
+      builder.appendNoGrow(position == Storage.NOT_FOUND_INDEX ? null : getItemBoxed(position));
+      context.safepoint();
+    }
+    return (Storage<T>) builder.seal();
+  }
+
+  /**
+   * Slices the storage without copying when the validity bitmap of the slice starts at a byte
+   * boundary.
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public Storage<T> slice(int offset, int limit) {
+    int newSize = Math.min(size - offset, limit);
+    if (validity == null || offset % 8 == 0) {
+      ByteBuffer newValidity =
+          validity == null
+              ? null
+              : ArrowBuffers.slice(
+                  validity, offset / 8, (int) ArrowBuffers.validityBytes(newSize));
+      return slice(offset, newSize, newValidity);
+    }
+
+    Builder builder = newHeapBuilder(newSize);
+    Context context = Context.getCurrent();
+    for (int i = 0; i < newSize; i++) {
+      builder.appendNoGrow(getItemBoxed(offset + i));
+      context.safepoint();
+    }
+    return (Storage<T>) builder.seal();
+  }
+
+  /**
+   * Creates a view of a part of this storage, sharing its buffers.
+   *
+   * @param offset the index of the first value of the view
+   * @param newSize the number of values of the view
+   * @param newValidity the validity buffer of the view, already sliced
+   * @return the view
+   */
+  protected abstract Storage<T> slice(int offset, int newSize, ByteBuffer newValidity);
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public Storage<T> slice(List<SliceRange> ranges) {
+    Builder builder = newHeapBuilder(SliceRange.totalLength(ranges));
+    Context context = Context.getCurrent();
+    for (SliceRange range : ranges) {
+      for (int i = range.start(); i < range.end(); i++) {
+        builder.appendNoGrow(getItemBoxed(i));
+        context.safepoint();
+      }
+    }
+    return (Storage<T>) builder.seal();
+  }
+
+  @Override
+  public Storage<?> appendNulls(int count) {
+    Builder builder = newHeapBuilder(size + count);
+    Context context = Context.getCurrent();
+    for (int i = 0; i < size; i++) {
+      builder.appendNoGrow(getItemBoxed(i));
+      context.safepoint();
+    }
+    builder.appendNulls(count);
+    return builder.seal();
+  }
+
+  /**
+   * Creates a builder of a regular storage of the type of this storage.
+   *
+   * <p>The values of this storage already have the right type, so no problems may be reported.
+   */
+  private Builder newHeapBuilder(int capacity) {
+    return Builder.getForType(getType(), capacity, BlackholeProblemAggregator.INSTANCE);
+  }
+}
@@ -0,0 +1,144 @@
+package org.enso.table.data.column.storage.arrow;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.BitSet;
+import org.graalvm.polyglot.Context;
+
+/**
+ * Helpers for the buffers of the Arrow columnar format.
+ *
+ * <p>Buffers are allocated off-heap, in little-endian order and padded to a multiple of 64 bytes,
+ * as recommended by the format. A validity buffer holds one bit per value, in least significant
+ * bit order, set if the value is present. A missing validity buffer (represented as {@code null})
+ * means that all values are present.
+ *
+ * <p>Every buffer is a single {@link ByteBuffer}, so it holds at most {@link #MAX_BUFFER_SIZE}
+ * bytes, about 2GB. This limits an off-heap column to about 268 million 64-bit values, 536 million
+ * 32-bit values, or 2GB of UTF-8 text. Longer columns must be kept in regular storages.
+ */
+public final class ArrowBuffers {
+  /** The alignment of the buffers, in bytes. */
+  public static final int ALIGNMENT = 64;
+
+  /** The largest size of a buffer, in bytes. */
+  public static final int MAX_BUFFER_SIZE = Integer.MAX_VALUE / ALIGNMENT * ALIGNMENT;
+
+  private ArrowBuffers() {}
+
+  /**
+   * Allocates a zeroed off-heap buffer.
+   *
+   * @param bytes the minimal size of the buffer, rounded up to the alignment
+   * @return the buffer, limited to its whole padded capacity
+   */
+  public static ByteBuffer allocate(long bytes) {
+    if (!fits(bytes)) {
+      throw new IllegalArgumentException(
+          "Cannot allocate an Arrow buffer of " + bytes + " bytes, the limit is 2GB per buffer.");
+    }
+    long padded = (bytes + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+    return ByteBuffer.allocateDirect((int) Math.max(padded, ALIGNMENT))
+        .order(ByteOrder.LITTLE_ENDIAN);
+  }
+
+  /**
+   * @param bytes the size of a buffer, in bytes
+   * @return whether a buffer of that size can be allocated
+   */
+  public static boolean fits(long bytes) {
+    return bytes <= MAX_BUFFER_SIZE;
+  }
+
+  /**
+   * @param buffers the buffers of a storage, some of which may be {@code null}
+   * @return the total capacity of the buffers, in bytes
+   */
+  public static long capacityOf(ByteBuffer... buffers) {
+    long total = 0;
+    for (ByteBuffer buffer : buffers) {
+      if (buffer != null) {
+        total += buffer.capacity();
+      }
+    }
+    return total;
+  }
+
+  /**
+   * Copies the buffer into a new one with a larger capacity.
+   *
+   * @param buffer the buffer to copy
+   * @param bytes the minimal size of the new buffer
+   * @return the new buffer, containing the whole contents of the previous one
+   */
+  public static ByteBuffer grow(ByteBuffer buffer, long bytes) {
+    var grown = allocate(bytes);
+    grown.put(0, buffer, 0, buffer.capacity());
+    return grown;
+  }
+
+  /**
+   * @param size the number of values
+   * @return the number of bytes of a validity buffer for that many values
+   */
+  public static long validityBytes(long size) {
+    return (size + 7) / 8;
+  }
+
+  /** Checks if the value at the given index is present. */
+  public static boolean isValid(ByteBuffer validity, int index) {
+    return validity == null || (validity.get(index >> 3) & (1 << (index & 7))) != 0;
+  }
+
+  /** Marks the value at the given index as present. */
+  public static void setValid(ByteBuffer validity, int index) {
+    int position = index >> 3;
+    validity.put(position, (byte) (validity.get(position) | (1 << (index & 7))));
+  }
+
+  /**
+   * Converts a validity buffer into the missing value mask used by the storages.
+   *
+   * @param validity the validity buffer, or {@code null} if all values are present
+   * @param size the number of values
+   * @return a bit set with the bits of the missing values set
+   */
+  public static BitSet toIsNothing(ByteBuffer validity, int size) {
+    BitSet isNothing = new BitSet();
+    if (validity == null) {
+      return isNothing;
+    }
+
+    Context context = Context.getCurrent();
+    for (int i = 0; i < size; i++) {
+      if (!isValid(validity, i)) {
+        isNothing.set(i);
+      }
+
+      context.safepoint();
+    }
+    return isNothing;
+  }
+
+  /**
+   * Returns a view of a part of a buffer, keeping its byte order.
+   *
+   * @param buffer the buffer
+   * @param offset the offset of the view, in bytes
+   * @param length the length of the view, in bytes
+   * @return the view
+   */
+  public static ByteBuffer slice(ByteBuffer buffer, int offset, int length) {
+    return buffer.slice(offset, length).order(ByteOrder.LITTLE_ENDIAN);
+  }
+
+  /**
+   * Returns a read-only view of a buffer, keeping its byte order, to share it with other code.
+   *
+   * @param buffer the buffer, may be {@code null}
+   * @return the view, or {@code null} if there is no buffer
+   */
+  public static ByteBuffer readOnly(ByteBuffer buffer) {
+    return buffer == null ? null : buffer.asReadOnlyBuffer().order(ByteOrder.LITTLE_ENDIAN);
+  }
+}
@@ -0,0 +1,83 @@
+package org.enso.table.data.column.storage.arrow;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import org.enso.table.data.column.storage.Storage;
+import org.enso.table.data.column.storage.type.DateType;
+import org.enso.table.data.column.storage.type.StorageType;
+
+/**
+ * A column of dates kept off-heap, in the layout of the Arrow Date32 (days since the epoch) or
+ * Date64 (milliseconds since the epoch) type.
+ */
+public final class ArrowDateStorage extends AbstractArrowStorage<LocalDate> {
+  private static final long MILLIS_PER_DAY = 24L * 60 * 60 * 1000;
+
+  /** The supported encodings of dates. */
+  public enum Unit {
+    /** 32-bit number of days since the epoch. */
+    DAYS,
+    /** 64-bit number of milliseconds since the epoch. */
+    MILLISECONDS;
+
+    /** Returns the number of bytes taken by a value. */
+    public int byteWidth() {
+      return this == DAYS ? Integer.BYTES : Long.BYTES;
+    }
+  }
+
+  private final ByteBuffer data;
+  private final Unit unit;
+
+  /**
+   * @param data the little-endian values, with an arbitrary value at the missing positions
+   * @param validity the validity bitmap, or {@code null} if no values are missing
+   * @param size the number of values
+   * @param unit the encoding of the values
+   */
+  public ArrowDateStorage(ByteBuffer data, ByteBuffer validity, int size, Unit unit) {
+    super(validity, size);
+    if ((long) size * unit.byteWidth() > data.capacity()) {
+      throw new IllegalArgumentException("The data buffer is too small for " + size + " values.");
+    }
+    this.data = data;
+    this.unit = unit;
+  }
+
+  @Override
+  public StorageType getType() {
+    return DateType.INSTANCE;
+  }
+
+  @Override
+  protected long dataCapacity() {
+    return ArrowBuffers.capacityOf(data);
+  }
+
+  /** Returns the encoding of the values. */
+  public Unit getUnit() {
+    return unit;
+  }
+
+  @Override
+  protected LocalDate readItem(int idx) {
+    long epochDay =
+        switch (unit) {
+          case DAYS -> data.getInt(idx << 2);
+          case MILLISECONDS -> Math.floorDiv(data.getLong(idx << 3), MILLIS_PER_DAY);
+        };
+    return LocalDate.ofEpochDay(epochDay);
+  }
+
+  /** Returns a read-only view of the data buffer. */
+  public ByteBuffer getDataBuffer() {
+    return ArrowBuffers.readOnly(data);
+  }
+
+  @Override
+  protected Storage<LocalDate> slice(int offset, int newSize, ByteBuffer newValidity) {
+    int width = unit.byteWidth();
+    ByteBuffer newData = ArrowBuffers.slice(data, offset * width, newSize * width);
+    return new ArrowDateStorage(newData, newValidity, newSize, unit);
+  }
+}
@@ -0,0 +1,84 @@
+package org.enso.table.data.column.storage.arrow;
+
+import java.nio.ByteBuffer;
+import org.enso.table.data.column.operation.map.numeric.helpers.DoubleArrayAdapter;
+import org.enso.table.data.column.storage.ColumnDoubleStorage;
+import org.enso.table.data.column.storage.Storage;
+import org.enso.table.data.column.storage.ValueIsNothingException;
+import org.enso.table.data.column.storage.numeric.DoubleStorage;
+import org.enso.table.data.column.storage.type.FloatType;
+import org.enso.table.data.column.storage.type.StorageType;
+
+/** A column of floating point numbers kept off-heap, in the layout of the Arrow Float64 type. */
+public final class ArrowFloatStorage extends AbstractArrowStorage<Double>
+    implements DoubleArrayAdapter, ColumnDoubleStorage {
+  private final ByteBuffer data;
+
+  /**
+   * @param data the little-endian values, with an arbitrary value at the missing positions
+   * @param validity the validity bitmap, or {@code null} if no values are missing
+   * @param size the number of values
+   */
+  public ArrowFloatStorage(ByteBuffer data, ByteBuffer validity, int size) {
+    super(validity, size);
+    if ((long) size * Double.BYTES > data.capacity()) {
+      throw new IllegalArgumentException("The data buffer is too small for " + size + " values.");
+    }
+    this.data = data;
+  }
+
+  @Override
+  public StorageType getType() {
+    return FloatType.FLOAT_64;
+  }
+
+  @Override
+  protected long dataCapacity() {
+    return ArrowBuffers.capacityOf(data);
+  }
+
+  @Override
+  protected Double readItem(int idx) {
+    return getItemAsDouble(idx);
+  }
+
+  @Override
+  public double getItemAsDouble(int i) {
+    return data.getDouble(i << 3);
+  }
+
+  @Override
+  public double get(long index) throws ValueIsNothingException {
+    if (isNothing(index)) {
+      throw new ValueIsNothingException(index);
+    }
+    return getItemAsDouble((int) index);
+  }
+
+  @Override
+  public DoubleStorage intoStorage() {
+    return (DoubleStorage) getInferredStorage();
+  }
+
+  @Override
+  public StorageType inferPreciseType() {
+    return getInferredStorage().inferPreciseType();
+  }
+
+  @Override
+  public StorageType inferPreciseTypeShrunk() {
+    return getInferredStorage().inferPreciseTypeShrunk();
+  }
+
+  /** Returns a read-only view of the data buffer. */
+  public ByteBuffer getDataBuffer() {
+    return ArrowBuffers.readOnly(data);
+  }
+
+  @Override
+  protected Storage<Double> slice(int offset, int newSize, ByteBuffer newValidity) {
+    ByteBuffer newData =
+        ArrowBuffers.slice(data, offset * Double.BYTES, newSize * Double.BYTES);
+    return new ArrowFloatStorage(newData, newValidity, newSize);
+  }
+}
@@ -0,0 +1,244 @@
+package org.enso.table.data.column.storage.arrow;
+
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+import java.util.List;
+import org.enso.table.data.column.storage.Storage;
+import org.enso.table.data.column.storage.numeric.AbstractLongStorage;
+import org.enso.table.data.column.storage.numeric.LongStorage;
+import org.enso.table.data.column.storage.type.IntegerType;
+import org.enso.table.data.mask.OrderMask;
+import org.enso.table.data.mask.SliceRange;
+import org.graalvm.polyglot.Context;
+
+/**
+ * A column of integers kept off-heap, in the layout of the Arrow {@code Int8}-{@code Int64} types.
+ *
+ * <p>The values are read directly from the buffers, so all the integer operations work on it
+ * without copying. Operations creating new columns, like filtering or reordering, produce regular
+ * on-heap storages.
+ */
+public final class ArrowIntegerStorage extends AbstractLongStorage {
+  private final ByteBuffer data;
+  private final ByteBuffer validity;
+  private final int size;
+  private final IntegerType type;
+  private BitSet isNothing = null;
+
+  /**
+   * @param data the little-endian values, with an arbitrary value at the missing positions
+   * @param validity the validity bitmap, or {@code null} if no values are missing
+   * @param size the number of values
+   * @param type the type of the values, determining their width in the data buffer
+   */
+  public ArrowIntegerStorage(ByteBuffer data, ByteBuffer validity, int size, IntegerType type) {
+    if ((long) size * byteWidth(type) > data.capacity()) {
+      throw new IllegalArgumentException("The data buffer is too small for " + size + " values.");
+    }
+    if (validity != null && ArrowBuffers.validityBytes(size) > validity.capacity()) {
+      throw new IllegalArgumentException(
+          "The validity buffer is too small for " + size + " values.");
+    }
+    this.data = data;
+    this.validity = validity;
+    this.size = size;
+    this.type = type;
+  }
+
+  /**
+   * @param type an integer type
+   * @return the number of bytes taken by a value of that type
+   */
+  public static int byteWidth(IntegerType type) {
+    return type.bits().toInteger() / 8;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Counts the off-heap buffers, which stay allocated as long as the storage is reachable, along
+   * with the cached missing value mask.
+   */
+  @Override
+  public long estimateRetainedSize() {
+    return 64
+        + ArrowBuffers.capacityOf(data, validity)
+        + (isNothing == null ? 0 : isNothing.size() / 8);
+  }
+
+  @Override
+  public IntegerType getType() {
+    return type;
+  }
+
+  @Override
+  public long getItem(int idx) {
+    return switch (type.bits()) {
+      case BITS_8 -> data.get(idx);
+      case BITS_16 -> data.getShort(idx << 1);
+      case BITS_32 -> data.getInt(idx << 2);
+      case BITS_64 -> data.getLong(idx << 3);
+    };
+  }
+
+  @Override
+  public Long getItemBoxed(int idx) {
+    return isNothing(idx) ? null : getItem(idx);
+  }
+
+  @Override
+  public boolean isNothing(long idx) {
+    if (idx < 0 || idx >= size) {
+      throw new IndexOutOfBoundsException(
+          "Index " + idx + " is out of bounds for range of length " + size + ".");
+    }
+    return !ArrowBuffers.isValid(validity, (int) idx);
+  }
+
+  @Override
+  public BitSet getIsNothingMap() {
+    if (isNothing == null) {
+      isNothing = ArrowBuffers.toIsNothing(validity, size);
+    }
+    return isNothing;
+  }
+
+  /** Returns a read-only view of the data buffer. */
+  public ByteBuffer getDataBuffer() {
+    return ArrowBuffers.readOnly(data);
+  }
+
+  /** Returns a read-only view of the validity buffer, or {@code null} if no values are missing. */
+  public ByteBuffer getValidityBuffer() {
+    return ArrowBuffers.readOnly(validity);
+  }
+
+  @Override
+  public Storage<Long> applyFilter(BitSet filterMask, int newLength) {
+    long[] newData = new long[newLength];
+    BitSet newIsNothing = new BitSet();
+    int resIx = 0;
+    Context context = Context.getCurrent();
+    for (int i = 0; i < size; i++) {
+      if (filterMask.get(i)) {
+        if (isNothing(i)) {
+          newIsNothing.set(resIx++);
+        } else {
+          newData[resIx++] = getItem(i);
+        }
+      }
+
+      context.safepoint();
+    }
+    return new LongStorage(newData, newLength, newIsNothing, type);
+  }
+
+  @Override
+  public Storage<Long> applyMask(OrderMask mask) {
+    long[] newData = new long[mask.length()];
+    BitSet newIsNothing = new BitSet();
+    Context context = Context.getCurrent();
+    for (int i = 0; i < mask.length(); i++) {
+      int position = mask.get(i);
+      if (position == Storage.NOT_FOUND_INDEX || isNothing(position)) {
+        newIsNothing.set(i);
+      } else {
+        newData[i] = getItem(position);
+      }
+
+      context.safepoint();
+    }
+    return new LongStorage(newData, newData.length, newIsNothing, type);
+  }
+
+  /**
+   * Slices the storage without copying when the validity bitmap of the slice starts at a byte
+   * boundary.
+   */
+  @Override
+  public Storage<Long> slice(int offset, int limit) {
+    int newSize = Math.min(size - offset, limit);
+    int width = byteWidth(type);
+    if (validity == null || offset % 8 == 0) {
+      ByteBuffer newData = ArrowBuffers.slice(data, offset * width, newSize * width);
+      ByteBuffer newValidity =
+          validity == null
+              ? null
+              : ArrowBuffers.slice(
+                  validity, offset / 8, (int) ArrowBuffers.validityBytes(newSize));
+      return new ArrowIntegerStorage(newData, newValidity, newSize, type);
+    }
+
+    long[] newData = new long[newSize];
+    BitSet newIsNothing = new BitSet();
+    Context context = Context.getCurrent();
+    for (int i = 0; i < newSize; i++) {
+      if (isNothing(offset + i)) {
+        newIsNothing.set(i);
+      } else {
+        newData[i] = getItem(offset + i);
+      }
+
+      context.safepoint();
+    }
+    return new LongStorage(newData, newSize, newIsNothing, type);
+  }
+
+  @Override
+  public Storage<Long> slice(List<SliceRange> ranges) {
+    int newSize = SliceRange.totalLength(ranges);
+    long[] newData = new long[newSize];
+    BitSet newIsNothing = new BitSet(newSize);
+    int offset = 0;
+    Context context = Context.getCurrent();
+    for (SliceRange range : ranges) {
+      int rangeStart = range.start();
+      int length = range.end() - rangeStart;
+      for (int i = 0; i < length; i++) {
+        if (isNothing(rangeStart + i)) {
+          newIsNothing.set(offset + i);
+        } else {
+          newData[offset + i] = getItem(rangeStart + i);
+        }
+
+        context.safepoint();
+      }
+      offset += length;
+    }
+    return new LongStorage(newData, newSize, newIsNothing, type);
+  }
+
+  @Override
+  public Storage<Long> appendNulls(int count) {
+    return copyToHeap(size + count, type);
+  }
+
+  @Override
+  public AbstractLongStorage widen(IntegerType widerType) {
+    assert widerType.fits(type);
+    if (widerType.equals(type)) {
+      return this;
+    }
+    return copyToHeap(size, widerType);
+  }
+
+  private LongStorage copyToHeap(int newSize, IntegerType newType) {
+    long[] newData = new long[newSize];
+    BitSet newIsNothing = new BitSet(newSize);
+    Context context = Context.getCurrent();
+    for (int i = 0; i < size; i++) {
+      if (isNothing(i)) {
+        newIsNothing.set(i);
+      } else {
+        newData[i] = getItem(i);
+      }
+
+      context.safepoint();
+    }
+    newIsNothing.set(size, newSize);
+    return new LongStorage(newData, newSize, newIsNothing, newType);
+  }
+}
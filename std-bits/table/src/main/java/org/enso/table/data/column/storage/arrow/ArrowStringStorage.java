@@ -0,0 +1,71 @@
+package org.enso.table.data.column.storage.arrow;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.enso.table.data.column.storage.Storage;
+import org.enso.table.data.column.storage.type.StorageType;
+import org.enso.table.data.column.storage.type.TextType;
+
+/**
+ * A column of text kept off-heap, in the layout of the Arrow Utf8 type.
+ *
+ * <p>The offsets buffer holds {@code size + 1} 32-bit offsets into the data buffer, the value at
+ * index {@code i} being the UTF-8 bytes between offsets {@code i} and {@code i + 1}.
+ */
+public final class ArrowStringStorage extends AbstractArrowStorage<String> {
+  private final ByteBuffer offsets;
+  private final ByteBuffer data;
+
+  /**
+   * @param offsets the little-endian offsets of the values in the data buffer
+   * @param data the UTF-8 encoded values
+   * @param validity the validity bitmap, or {@code null} if no values are missing
+   * @param size the number of values
+   */
+  public ArrowStringStorage(ByteBuffer offsets, ByteBuffer data, ByteBuffer validity, int size) {
+    super(validity, size);
+    if ((long) (size + 1) * Integer.BYTES > offsets.capacity()) {
+      throw new IllegalArgumentException(
+          "The offsets buffer is too small for " + size + " values.");
+    }
+    this.offsets = offsets;
+    this.data = data;
+  }
+
+  @Override
+  public StorageType getType() {
+    return TextType.VARIABLE_LENGTH;
+  }
+
+  @Override
+  protected long dataCapacity() {
+    return ArrowBuffers.capacityOf(offsets, data);
+  }
+
+  @Override
+  protected String readItem(int idx) {
+    int start = offsets.getInt(idx << 2);
+    int end = offsets.getInt((idx + 1) << 2);
+    byte[] bytes = new byte[end - start];
+    data.get(start, bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /** Returns a read-only view of the offsets buffer. */
+  public ByteBuffer getOffsetsBuffer() {
+    return ArrowBuffers.readOnly(offsets);
+  }
+
+  /** Returns a read-only view of the data buffer. */
+  public ByteBuffer getDataBuffer() {
+    return ArrowBuffers.readOnly(data);
+  }
+
+  /** The slice shares the data buffer, as the offsets are absolute. */
+  @Override
+  protected Storage<String> slice(int offset, int newSize, ByteBuffer newValidity) {
+    ByteBuffer newOffsets =
+        ArrowBuffers.slice(offsets, offset * Integer.BYTES, (newSize + 1) * Integer.BYTES);
+    return new ArrowStringStorage(newOffsets, data, newValidity, newSize);
+  }
+}
@@ -69,6 +69,11 @@ public final class DoubleStorage extends NumericStorage<Double>
     return size;
   }
 
+  @Override
+  public long estimateRetainedSize() {
+    return 16 + 8L * data.length + isNothing.size() / 8;
+  }
+
   /**
    * @param idx an index
    * @return the data item contained at the given index.
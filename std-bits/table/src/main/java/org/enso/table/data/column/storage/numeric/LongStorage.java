@@ -63,6 +63,11 @@ public final class LongStorage extends AbstractLongStorage {
     return size;
   }
 
+  @Override
+  public long estimateRetainedSize() {
+    return 16 + 8L * data.length + isNothing.size() / 8;
+  }
+
   /**
    * @param idx an index
    * @return the data item contained at the given index.
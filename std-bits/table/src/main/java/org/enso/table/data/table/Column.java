@@ -81,6 +81,14 @@ public class Column {
     return getStorage().size();
   }
 
+  /**
+   * @return an estimate of the heap memory retained by this column, in bytes, or {@code -1} if
+   *     the size is unknown
+   */
+  public long estimateRetainedSize() {
+    return storage.estimateRetainedSize();
+  }
+
   /**
    * Return a new column, containing only the items marked true in the mask.
    *
@@ -0,0 +1,259 @@
+package org.enso.table.data.table;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.enso.table.data.column.storage.BoolStorage;
+import org.enso.table.data.column.storage.Storage;
+import org.enso.table.data.column.storage.numeric.AbstractLongStorage;
+import org.enso.table.data.column.storage.numeric.DoubleStorage;
+import org.enso.table.data.column.storage.type.TextType;
+import org.graalvm.polyglot.Context;
+
+/**
+ * Encodes a window of rows of a table into the binary columnar payload of the table visualization.
+ *
+ * <p>The payload is little-endian and every section starts at an offset aligned to 8 bytes, so the
+ * client can view the values as typed arrays without copying. It starts with a header:
+ *
+ * <pre>
+ *   int32 magic            'ETBL'
+ *   int32 version          1
+ *   int64 total row count  rows of the whole table
+ *   int64 row offset       index of the first row of the window
+ *   int32 row count        rows in the window
+ *   int32 column count
+ * </pre>
+ *
+ * followed by every column:
+ *
+ * <pre>
+ *   int64 fingerprint      of the column name, type and window values
+ *   int32 flags            {@link #UNCHANGED} if the data was omitted
+ *   int32 type             one of the TYPE_ constants
+ *   int32 name length      followed by the UTF-8 name, padded
+ *   int32 data length      in bytes, 0 for an unchanged column, followed by padding
+ *   data                   validity bitmap (bit set = value present), padded, followed by
+ *                            int64 / float64 values, a bitmap of booleans, or
+ *                            int32 offsets[rows + 1], padded, and the UTF-8 text, padded
+ * </pre>
+ *
+ * The client passes the fingerprints of the columns it holds from the previous payload. Columns
+ * whose window still has the same fingerprint are sent without the data, so refreshing a table
+ * after a recomputation only transfers the columns that changed.
+ */
+public final class ColumnarPayload {
+  /** The magic number starting every payload, {@code ETBL} in ASCII. */
+  public static final int MAGIC = 0x4c425445;
+
+  public static final int VERSION = 1;
+
+  /** The flag of a column that is known to the client and whose data was omitted. */
+  public static final int UNCHANGED = 1;
+
+  public static final int TYPE_INTEGER = 1;
+  public static final int TYPE_FLOAT = 2;
+  public static final int TYPE_BOOLEAN = 3;
+  public static final int TYPE_TEXT = 4;
+
+  /** Values of other types, sent as their text representation. */
+  public static final int TYPE_OTHER = 5;
+
+  private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private ColumnarPayload() {}
+
+  /**
+   * Encodes a window of rows of the given columns.
+   *
+   * @param columns the columns to encode
+   * @param totalRows the number of rows of the whole table, which may differ from the size of the
+   *     columns if they are only a materialized fragment of the table
+   * @param rowOffset the index of the first row of the window
+   * @param maxRows the maximum number of rows of the window
+   * @param knownFingerprints fingerprints of the columns the client already holds
+   * @return the payload
+   */
+  public static ByteBuffer encode(
+      Column[] columns, long totalRows, int rowOffset, int maxRows, long[] knownFingerprints) {
+    var size = columns.length == 0 ? 0 : columns[0].getSize();
+    var start = Math.max(0, Math.min(rowOffset, size));
+    var rows = Math.max(0, Math.min(maxRows, size - start));
+    var known = knownFingerprints.clone();
+    Arrays.sort(known);
+
+    var context = Context.getCurrent();
+    var encoded = new EncodedColumn[columns.length];
+    var payloadSize = 32;
+    for (int i = 0; i < columns.length; i++) {
+      var column = encode(columns[i], start, rows);
+      if (Arrays.binarySearch(known, column.fingerprint) >= 0) {
+        column = column.unchanged();
+      }
+      encoded[i] = column;
+      payloadSize += column.size();
+      context.safepoint();
+    }
+
+    var out = ByteBuffer.allocate(payloadSize).order(ByteOrder.LITTLE_ENDIAN);
+    out.putInt(MAGIC);
+    out.putInt(VERSION);
+    out.putLong(totalRows);
+    out.putLong(start);
+    out.putInt(rows);
+    out.putInt(columns.length);
+    for (var column : encoded) {
+      column.writeTo(out);
+    }
+    return out.flip();
+  }
+
+  private static EncodedColumn encode(Column column, int start, int rows) {
+    var storage = column.getStorage();
+    var data = new Section();
+    var validity = new byte[(rows + 7) / 8];
+    for (int i = 0; i < rows; i++) {
+      if (!storage.isNothing(start + i)) {
+        validity[i >> 3] |= (byte) (1 << (i & 7));
+      }
+    }
+    data.putBytes(validity);
+    data.pad();
+
+    int type;
+    switch (storage) {
+      case AbstractLongStorage longs -> {
+        type = TYPE_INTEGER;
+        for (int i = 0; i < rows; i++) {
+          data.putLong(longs.isNothing(start + i) ? 0 : longs.getItem(start + i));
+        }
+      }
+      case DoubleStorage doubles -> {
+        type = TYPE_FLOAT;
+        for (int i = 0; i < rows; i++) {
+          var value = doubles.isNothing(start + i) ? 0.0 : doubles.getItemAsDouble(start + i);
+          data.putLong(Double.doubleToRawLongBits(value));
+        }
+      }
+      case BoolStorage bools -> {
+        type = TYPE_BOOLEAN;
+        var values = new byte[(rows + 7) / 8];
+        for (int i = 0; i < rows; i++) {
+          if (!bools.isNothing(start + i) && bools.getItem(start + i)) {
+            values[i >> 3] |= (byte) (1 << (i & 7));
+          }
+        }
+        data.putBytes(values);
+        data.pad();
+      }
+      default -> {
+        type = storage.getType() instanceof TextType ? TYPE_TEXT : TYPE_OTHER;
+        putTexts(data, storage, start, rows);
+      }
+    }
+
+    var name = column.getName().getBytes(StandardCharsets.UTF_8);
+    var bytes = data.toByteArray();
+    var fingerprint = fingerprint(fingerprint(fingerprint(FNV_OFFSET, type), name), bytes);
+    return new EncodedColumn(fingerprint, 0, type, name, bytes);
+  }
+
+  private static void putTexts(Section data, Storage<?> storage, int start, int rows) {
+    var texts = new byte[rows][];
+    var offsets = new int[rows + 1];
+    for (int i = 0; i < rows; i++) {
+      var item = storage.getItemBoxed(start + i);
+      texts[i] = item == null ? new byte[0] : item.toString().getBytes(StandardCharsets.UTF_8);
+      offsets[i + 1] = offsets[i] + texts[i].length;
+    }
+    for (var offset : offsets) {
+      data.putInt(offset);
+    }
+    data.pad();
+    for (var text : texts) {
+      data.putBytes(text);
+    }
+    data.pad();
+  }
+
+  private static long fingerprint(long hash, int value) {
+    for (int i = 0; i < 4; i++) {
+      hash = (hash ^ ((value >>> (i * 8)) & 0xff)) * FNV_PRIME;
+    }
+    return hash;
+  }
+
+  private static long fingerprint(long hash, byte[] bytes) {
+    hash = fingerprint(hash, bytes.length);
+    for (var b : bytes) {
+      hash = (hash ^ (b & 0xff)) * FNV_PRIME;
+    }
+    return hash;
+  }
+
+  private static int padded(int length) {
+    return (length + 7) & ~7;
+  }
+
+  /** A column encoded for the payload. */
+  private record EncodedColumn(long fingerprint, int flags, int type, byte[] name, byte[] data) {
+    EncodedColumn unchanged() {
+      return new EncodedColumn(fingerprint, flags | UNCHANGED, type, name, new byte[0]);
+    }
+
+    int size() {
+      return 16 + padded(4 + name.length) + 8 + data.length;
+    }
+
+    void writeTo(ByteBuffer out) {
+      out.putLong(fingerprint);
+      out.putInt(flags);
+      out.putInt(type);
+      out.putInt(name.length);
+      out.put(name);
+      out.position(padded(out.position()));
+      out.putInt(data.length);
+      out.position(padded(out.position()));
+      out.put(data);
+    }
+  }
+
+  /** A growable little-endian section of the payload. */
+  private static final class Section {
+    private ByteBuffer buffer = ByteBuffer.allocate(256).order(ByteOrder.LITTLE_ENDIAN);
+
+    void putLong(long value) {
+      ensure(8).putLong(value);
+    }
+
+    void putInt(int value) {
+      ensure(4).putInt(value);
+    }
+
+    void putBytes(byte[] bytes) {
+      ensure(bytes.length).put(bytes);
+    }
+
+    void pad() {
+      var position = buffer.position();
+      ensure(padded(position) - position).position(padded(position));
+    }
+
+    byte[] toByteArray() {
+      return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+    private ByteBuffer ensure(int bytes) {
+      if (buffer.remaining() < bytes) {
+        var position = buffer.position();
+        var grown = Math.max(buffer.capacity() * 2, position + bytes);
+        buffer =
+            ByteBuffer.wrap(Arrays.copyOf(buffer.array(), grown)).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.position(position);
+      }
+      return buffer;
+    }
+  }
+}
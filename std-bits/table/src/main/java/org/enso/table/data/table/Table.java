@@ -83,6 +83,22 @@ public class Table {
     return columns;
   }
 
+  /**
+   * @return an estimate of the heap memory retained by this table, in bytes, or {@code -1} if the
+   *     size of any of its columns is unknown
+   */
+  public long estimateRetainedSize() {
+    long total = 0;
+    for (Column column : columns) {
+      long size = column.estimateRetainedSize();
+      if (size < 0) {
+        return -1;
+      }
+      total += size;
+    }
+    return total;
+  }
+
   /**
    * Returns a column with the given name, or null if it doesn't exist.
    *
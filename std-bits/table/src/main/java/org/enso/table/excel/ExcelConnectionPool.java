@@ -223,6 +223,7 @@ public class ExcelConnectionPool {
         record.close();
       }
       records.clear();
+      XSSFReaderWorkbook.clearSharedCache();
     }
   }
 
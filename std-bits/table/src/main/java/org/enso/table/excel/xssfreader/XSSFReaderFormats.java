@@ -1,25 +1,32 @@
 package org.enso.table.excel.xssfreader;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.poi.xssf.model.StylesTable;
 
-/** Provides the format strings for number formats in an XSSF workbook. */
+/**
+ * Provides the format strings for number formats in an XSSF workbook. The formats may be looked up
+ * concurrently, as the instance is shared by all the reads of the workbook.
+ */
 public class XSSFReaderFormats {
   private final StylesTable stylesTable;
-  private final Map<Short, String> numberFormats = new HashMap<>();
+  private final Map<Short, String> numberFormats = new ConcurrentHashMap<>();
 
   public XSSFReaderFormats(StylesTable stylesTable) {
     this.stylesTable = stylesTable;
   }
 
   public String getNumberFormatAt(short styleIdx) {
-    if (numberFormats.containsKey(styleIdx)) {
-      return numberFormats.get(styleIdx);
+    var cached = numberFormats.get(styleIdx);
+    if (cached != null) {
+      return cached;
     }
 
-    var style = stylesTable.getStyleAt(styleIdx);
-    var format = style == null ? "General" : style.getDataFormatString();
+    String format;
+    synchronized (stylesTable) {
+      var style = stylesTable.getStyleAt(styleIdx);
+      format = style == null ? "General" : style.getDataFormatString();
+    }
     if (format == null || format.equals("General")) {
       format = "";
     }
@@ -0,0 +1,111 @@
+package org.enso.table.excel.xssfreader;
+
+import java.lang.ref.SoftReference;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the shared strings and styles of the most recently read workbooks.
+ *
+ * <p>A workbook is reopened by the {@link org.enso.table.excel.ExcelConnectionPool} every time the
+ * last connection to it is closed, so without the cache reading several sheets of a file one after
+ * another would parse these parts every time. An entry is only reused while the size and the
+ * modification time of the file are unchanged. Modification times may be as coarse as {@link
+ * #MODIFICATION_TIME_GRANULARITY}, so a file changed again shortly after it was read could keep its
+ * time. The parts of a file modified that shortly before it was read are therefore not cached.
+ *
+ * <p>The entries outlive the workbooks they were read from, so they are only softly referenced and
+ * their total size on the heap is limited to {@link #MAX_HEAP_BYTES}. Tables larger than that are
+ * not cached at all.
+ */
+final class XSSFReaderSharedCache {
+  static final int MAX_ENTRIES = 4;
+  static final long MAX_HEAP_BYTES = 16L * 1024 * 1024;
+
+  /** The coarsest modification time resolution of common file systems (FAT), in milliseconds. */
+  static final long MODIFICATION_TIME_GRANULARITY = 2000;
+
+  private XSSFReaderSharedCache() {}
+
+  /** The parts of a workbook shared by all its sheets. */
+  record Entry(
+      long size, FileTime lastModified, XSSFReaderSharedStrings strings, XSSFReaderFormats styles) {
+    boolean isValidFor(BasicFileAttributes attributes) {
+      return size == attributes.size() && lastModified.equals(attributes.lastModifiedTime());
+    }
+
+    long heapSize() {
+      return strings.getHeapSizeInBytes();
+    }
+  }
+
+  private record Slot(SoftReference<Entry> entry, long heapSize) {}
+
+  private static final LinkedHashMap<String, Slot> slots =
+      new LinkedHashMap<>(MAX_ENTRIES, 0.75f, true);
+  private static long heapBytes = 0;
+
+  /**
+   * Gets the cached parts of the workbook at the given path.
+   *
+   * @param path the absolute path of the workbook
+   * @param attributes the current attributes of the file
+   * @return the entry, or {@code null} if none is cached, it has been collected or the file has
+   *     changed since
+   */
+  static synchronized Entry get(String path, BasicFileAttributes attributes) {
+    var slot = slots.get(path);
+    if (slot == null) {
+      return null;
+    }
+    var entry = slot.entry().get();
+    if (entry == null || !entry.isValidFor(attributes)) {
+      remove(path);
+      return null;
+    }
+    return entry;
+  }
+
+  /**
+   * Caches the parts of the workbook at the given path.
+   *
+   * @param path the absolute path of the workbook
+   * @param entry the parts, with the attributes of the file they were read from
+   * @param readStartedAt the time in milliseconds at which the attributes were read, before the
+   *     parts
+   */
+  static synchronized void put(String path, Entry entry, long readStartedAt) {
+    remove(path);
+    if (entry.lastModified().toMillis() + MODIFICATION_TIME_GRANULARITY >= readStartedAt) {
+      return;
+    }
+    var heapSize = entry.heapSize();
+    if (heapSize > MAX_HEAP_BYTES) {
+      return;
+    }
+    slots.put(path, new Slot(new SoftReference<>(entry), heapSize));
+    heapBytes += heapSize;
+
+    Iterator<Map.Entry<String, Slot>> eldest = slots.entrySet().iterator();
+    while (slots.size() > MAX_ENTRIES || heapBytes > MAX_HEAP_BYTES) {
+      heapBytes -= eldest.next().getValue().heapSize();
+      eldest.remove();
+    }
+  }
+
+  private static void remove(String path) {
+    var slot = slots.remove(path);
+    if (slot != null) {
+      heapBytes -= slot.heapSize();
+    }
+  }
+
+  /** Drops all the entries. */
+  static synchronized void clear() {
+    slots.clear();
+    heapBytes = 0;
+  }
+}
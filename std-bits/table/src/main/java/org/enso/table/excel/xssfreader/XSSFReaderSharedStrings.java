@@ -0,0 +1,220 @@
+package org.enso.table.excel.xssfreader;
+
+import static org.apache.poi.xssf.usermodel.XSSFRelation.NS_SPREADSHEETML;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import javax.xml.parsers.ParserConfigurationException;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.usermodel.XSSFRichTextString;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * The shared strings table of a workbook, stored as UTF-8 bytes in a single buffer with an index of
+ * offsets.
+ *
+ * <p>Unlike the table provided by POI, this does not keep an object per string, so the table of a
+ * large workbook can be cached between reads. Tables larger than {@link #FILE_BACKED_THRESHOLD}
+ * bytes are written to a temporary file and memory-mapped, keeping them off the heap.
+ */
+public final class XSSFReaderSharedStrings {
+  static final long FILE_BACKED_THRESHOLD = 64L * 1024 * 1024;
+
+  static final XSSFReaderSharedStrings EMPTY =
+      new XSSFReaderSharedStrings(ByteBuffer.allocate(0), new int[] {0});
+
+  private final ByteBuffer data;
+  private final int[] offsets;
+
+  private XSSFReaderSharedStrings(ByteBuffer data, int[] offsets) {
+    this.data = data;
+    this.offsets = offsets;
+  }
+
+  /** The number of strings in the table. */
+  public int getCount() {
+    return offsets.length - 1;
+  }
+
+  /** The number of bytes taken by the text of the strings. */
+  public long getSizeInBytes() {
+    return offsets[offsets.length - 1];
+  }
+
+  /** Checks if the text of the strings is kept in a memory-mapped file, off the heap. */
+  public boolean isMemoryMapped() {
+    return !data.hasArray();
+  }
+
+  /** The number of bytes the table takes on the heap, excluding a memory-mapped buffer. */
+  long getHeapSizeInBytes() {
+    return 4L * offsets.length + (data.hasArray() ? data.capacity() : 0);
+  }
+
+  /**
+   * Gets a string from the table.
+   *
+   * @param index the index of the string
+   * @return the string, or {@code null} if the index is out of range
+   */
+  public String getString(int index) {
+    if (index < 0 || index >= getCount()) {
+      return null;
+    }
+    var start = offsets[index];
+    var length = offsets[index + 1] - start;
+    if (data.hasArray()) {
+      return new String(data.array(), data.arrayOffset() + start, length, StandardCharsets.UTF_8);
+    }
+    var bytes = new byte[length];
+    data.get(start, bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Reads the shared strings part of a workbook.
+   *
+   * <p>The {@code _xHHHH_} escapes are decoded. The text of phonetic runs, the reading guides of
+   * East Asian text, is skipped, as it is not part of the value shown in the cell.
+   *
+   * @param stream the contents of the part
+   * @return the table
+   */
+  public static XSSFReaderSharedStrings read(InputStream stream) throws IOException {
+    try (var appender = new Appender()) {
+      var xmlReader = XMLHelper.newXMLReader();
+      xmlReader.setContentHandler(new Handler(appender));
+      xmlReader.parse(new InputSource(stream));
+      return appender.finish();
+    } catch (SAXException | ParserConfigurationException e) {
+      throw new IOException("Failed to read the shared strings of the workbook.", e);
+    }
+  }
+
+  /** Collects the text of every {@code si} element of the table. */
+  private static final class Handler extends DefaultHandler {
+    private final Appender appender;
+    private final StringBuilder text = new StringBuilder(64);
+    private boolean siIsOpen;
+    private boolean tIsOpen;
+    private boolean rPhIsOpen;
+
+    Handler(Appender appender) {
+      this.appender = appender;
+    }
+
+    @Override
+    public void startElement(String uri, String localName, String qName, Attributes attributes) {
+      if (uri != null && !NS_SPREADSHEETML.equals(uri)) {
+        return;
+      }
+      switch (localName) {
+        case "si" -> {
+          siIsOpen = true;
+          text.setLength(0);
+        }
+        case "t" -> tIsOpen = siIsOpen && !rPhIsOpen;
+        case "rPh" -> rPhIsOpen = true;
+      }
+    }
+
+    @Override
+    public void characters(char[] ch, int start, int length) {
+      if (tIsOpen) {
+        text.append(ch, start, length);
+      }
+    }
+
+    @Override
+    public void endElement(String uri, String localName, String qName) throws SAXException {
+      if (uri != null && !NS_SPREADSHEETML.equals(uri)) {
+        return;
+      }
+      switch (localName) {
+        case "t" -> tIsOpen = false;
+        case "rPh" -> rPhIsOpen = false;
+        case "si" -> {
+          siIsOpen = false;
+          try {
+            appender.add(new XSSFRichTextString(text.toString()).getString());
+          } catch (IOException e) {
+            throw new SAXException(e);
+          }
+        }
+      }
+    }
+  }
+
+  /** Accumulates the strings, moving them to a temporary file once they get large. */
+  private static final class Appender implements AutoCloseable {
+    private ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096);
+    private int[] offsets = new int[1024];
+    private int count = 0;
+    private long size = 0;
+    private Path file;
+    private FileChannel channel;
+
+    void add(String text) throws IOException {
+      var encoded = text.getBytes(StandardCharsets.UTF_8);
+      if (size + encoded.length > Integer.MAX_VALUE) {
+        throw new IOException("The shared strings of the workbook are too large.");
+      }
+      if (count + 1 >= offsets.length) {
+        offsets = Arrays.copyOf(offsets, offsets.length * 2);
+      }
+      if (channel == null && size + encoded.length > FILE_BACKED_THRESHOLD) {
+        file = Files.createTempFile("enso-shared-strings", ".bin");
+        file.toFile().deleteOnExit();
+        channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        write(ByteBuffer.wrap(bytes.toByteArray()));
+        bytes = null;
+      }
+      if (channel == null) {
+        bytes.write(encoded);
+      } else {
+        write(ByteBuffer.wrap(encoded));
+      }
+      size += encoded.length;
+      offsets[++count] = (int) size;
+    }
+
+    XSSFReaderSharedStrings finish() throws IOException {
+      var index = Arrays.copyOf(offsets, count + 1);
+      if (channel == null) {
+        return new XSSFReaderSharedStrings(ByteBuffer.wrap(bytes.toByteArray()), index);
+      }
+      var mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+      return new XSSFReaderSharedStrings(mapped, index);
+    }
+
+    private void write(ByteBuffer buffer) throws IOException {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (channel != null) {
+        channel.close();
+        try {
+          // The mapping stays valid after the file is removed, except on Windows.
+          Files.deleteIfExists(file);
+        } catch (IOException e) {
+          // Removed on exit instead.
+        }
+      }
+    }
+  }
+}
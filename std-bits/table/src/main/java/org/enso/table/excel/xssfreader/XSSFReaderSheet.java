@@ -34,7 +34,7 @@ public class XSSFReaderSheet implements ExcelSheet {
     this.parent = parent;
   }
 
-  private synchronized void ensureReadSheetData() throws InterruptedException {
+  synchronized void ensureReadSheetData() throws InterruptedException {
     if (hasReadSheetData) {
       return;
     }
@@ -4,8 +4,8 @@ import static org.apache.poi.xssf.usermodel.XSSFRelation.NS_SPREADSHEETML;
 
 import java.time.ZonedDateTime;
 import java.time.temporal.Temporal;
+import java.util.Arrays;
 import org.apache.poi.ss.usermodel.DateUtil;
-import org.apache.poi.xssf.model.SharedStrings;
 import org.apache.poi.xssf.usermodel.XSSFRichTextString;
 import org.enso.table.excel.ExcelUtils;
 import org.xml.sax.Attributes;
@@ -19,8 +19,14 @@ import org.xml.sax.helpers.DefaultHandler;
  * https://ecma-international.org/publications-and-standards/standards/ecma-376/
  */
 public class XSSFReaderSheetXMLHandler extends DefaultHandler {
+  private static final int STRING_CACHE_SIZE = 4096;
+
   private final XSSFReaderFormats styles;
-  private final SharedStrings sharedStrings;
+  private final XSSFReaderSharedStrings sharedStrings;
+
+  // Recently decoded shared strings, so that repeated values share a single String instance.
+  private final int[] cachedStringIndices = new int[STRING_CACHE_SIZE];
+  private final String[] cachedStrings = new String[STRING_CACHE_SIZE];
 
   public enum XSSDataType {
     BLANK,
@@ -65,9 +71,10 @@ public class XSSFReaderSheetXMLHandler extends DefaultHandler {
   private final StringBuilder value = new StringBuilder(64);
   private String numberFormat = null;
 
-  public XSSFReaderSheetXMLHandler(XSSFReaderFormats styles, SharedStrings strings) {
+  public XSSFReaderSheetXMLHandler(XSSFReaderFormats styles, XSSFReaderSharedStrings strings) {
     this.styles = styles;
     this.sharedStrings = strings;
+    Arrays.fill(cachedStringIndices, -1);
   }
 
   private boolean isTextTag(String name) {
@@ -215,8 +222,14 @@ public class XSSFReaderSheetXMLHandler extends DefaultHandler {
 
   private String getSharedString(String value) {
     int idx = Integer.parseInt(value);
-    var ss = sharedStrings.getItemAt(idx);
-    return ss == null ? null : ss.toString();
+    int slot = idx & (STRING_CACHE_SIZE - 1);
+    if (cachedStringIndices[slot] == idx) {
+      return cachedStrings[slot];
+    }
+    var string = sharedStrings.getString(idx);
+    cachedStringIndices[slot] = idx;
+    cachedStrings[slot] = string;
+    return string;
   }
 
   private void outputCellValue() {
@@ -2,6 +2,9 @@ package org.enso.table.excel.xssfreader;
 
 import java.io.IOException;
 import java.nio.channels.ClosedByInterruptException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -20,9 +23,7 @@ import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
 import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
 import org.apache.poi.openxml4j.opc.OPCPackage;
 import org.apache.poi.openxml4j.opc.PackageAccess;
-import org.apache.poi.ss.usermodel.RichTextString;
 import org.apache.poi.xssf.eventusermodel.XSSFReader;
-import org.apache.poi.xssf.model.SharedStrings;
 import org.apache.poi.xssf.usermodel.XSSFRelation;
 import org.enso.table.excel.ExcelSheet;
 import org.enso.table.excel.ExcelWorkbook;
@@ -88,9 +89,11 @@ public class XSSFReaderWorkbook implements ExcelWorkbook {
   private Map<String, NamedRange> namedRangeMap;
 
   private boolean hasReadShared = false;
-  private SharedStrings sharedStrings;
+  private XSSFReaderSharedStrings sharedStrings;
   private XSSFReaderFormats styles;
 
+  private final Map<Integer, XSSFReaderSheet> prefetchedSheets = new HashMap<>();
+
   public XSSFReaderWorkbook(String path) throws IOException, InterruptedException {
     this.path = path;
 
@@ -102,6 +105,11 @@ public class XSSFReaderWorkbook implements ExcelWorkbook {
     return path;
   }
 
+  /** Drops the cached shared strings and styles of all workbooks. */
+  public static void clearSharedCache() {
+    XSSFReaderSharedCache.clear();
+  }
+
   void withReader(ConsumerWithException<XSSFReader, InterruptedException> action)
       throws IOException, InterruptedException {
     try (var pkg = OPCPackage.open(path, PackageAccess.READ)) {
@@ -181,29 +189,24 @@ public class XSSFReaderWorkbook implements ExcelWorkbook {
     }
 
     try {
+      var readStartedAt = System.currentTimeMillis();
+      var attributes = Files.readAttributes(Path.of(path), BasicFileAttributes.class);
+      var cached = XSSFReaderSharedCache.get(path, attributes);
+      if (cached != null) {
+        sharedStrings = cached.strings();
+        styles = cached.styles();
+        hasReadShared = true;
+        return;
+      }
+
       withReader(
           reader -> {
             try {
-              reader.setUseReadOnlySharedStringsTable(true);
-              sharedStrings = reader.getSharedStringsTable();
-              if (sharedStrings == null) {
+              try (var stringsData = reader.getSharedStringsData()) {
                 sharedStrings =
-                    new SharedStrings() {
-                      @Override
-                      public RichTextString getItemAt(int idx) {
-                        return null;
-                      }
-
-                      @Override
-                      public int getCount() {
-                        return 0;
-                      }
-
-                      @Override
-                      public int getUniqueCount() {
-                        return 0;
-                      }
-                    };
+                    stringsData == null
+                        ? XSSFReaderSharedStrings.EMPTY
+                        : XSSFReaderSharedStrings.read(stringsData);
               }
 
               // Read the styles table and attach the format data
@@ -217,6 +220,11 @@ public class XSSFReaderWorkbook implements ExcelWorkbook {
               throw new RuntimeException(e);
             }
           });
+
+      var entry =
+          new XSSFReaderSharedCache.Entry(
+              attributes.size(), attributes.lastModifiedTime(), sharedStrings, styles);
+      XSSFReaderSharedCache.put(path, entry, readStartedAt);
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
@@ -264,7 +272,7 @@ public class XSSFReaderWorkbook implements ExcelWorkbook {
     return namedRange == null ? null : namedRange.formula;
   }
 
-  public SharedStrings getSharedStrings() throws InterruptedException {
+  public XSSFReaderSharedStrings getSharedStrings() throws InterruptedException {
     ensureReadShared();
     return sharedStrings;
   }
@@ -276,15 +284,48 @@ public class XSSFReaderWorkbook implements ExcelWorkbook {
 
   @Override
   public ExcelSheet getSheetAt(int sheetIndex) {
+    var sheetInfo = getSheetInfo(sheetIndex);
+    synchronized (prefetchedSheets) {
+      var prefetched = prefetchedSheets.remove(sheetIndex);
+      if (prefetched != null) {
+        return prefetched;
+      }
+    }
+    return new XSSFReaderSheet(sheetIndex, sheetInfo.name, sheetInfo.relID, this);
+  }
+
+  /**
+   * Parses the data of a sheet ahead of it being read, so that several sheets can be parsed at the
+   * same time. The parsed sheet is handed over to the next {@link #getSheetAt} call for the same
+   * index; a sheet that has already been prefetched is not parsed again.
+   *
+   * @param sheetIndex the index of the sheet (0 based)
+   */
+  public void prefetchSheet(int sheetIndex) throws InterruptedException {
+    var sheetInfo = getSheetInfo(sheetIndex);
+    synchronized (prefetchedSheets) {
+      if (prefetchedSheets.containsKey(sheetIndex)) {
+        return;
+      }
+    }
+    var sheet = new XSSFReaderSheet(sheetIndex, sheetInfo.name, sheetInfo.relID, this);
+    sheet.ensureReadSheetData();
+    synchronized (prefetchedSheets) {
+      prefetchedSheets.putIfAbsent(sheetIndex, sheet);
+    }
+  }
+
+  private SheetInfo getSheetInfo(int sheetIndex) {
     if (sheetIndex < 0 || sheetIndex >= sheetInfos.size()) {
       throw new IllegalArgumentException("Sheet index out of range: " + sheetIndex);
     }
-    var sheetInfo = sheetInfos.get(sheetIndex);
-    return new XSSFReaderSheet(sheetIndex, sheetInfo.name, sheetInfo.relID, this);
+    return sheetInfos.get(sheetIndex);
   }
 
   @Override
   public void close() throws IOException {
-    // Nothing to do
+    synchronized (prefetchedSheets) {
+      prefetchedSheets.clear();
+    }
   }
 }
@@ -0,0 +1,304 @@
+package org.enso.table.operations;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import org.enso.base.Text_Utils;
+import org.enso.base.polyglot.Polyglot_Utils;
+import org.enso.base.polyglot.WrappedDataflowError;
+import org.enso.table.data.column.builder.Builder;
+import org.enso.table.data.column.storage.Storage;
+import org.enso.table.data.mask.OrderMask;
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Value;
+
+/**
+ * Transforms every value of a column into multiple values, placed either in new columns or in new
+ * rows.
+ *
+ * <p>The values are produced by an {@link Expander}, which either calls back an Enso function or
+ * implements a common operation, like splitting a text by a delimiter, directly in Java. The output
+ * builders and the order mask duplicating the rows of the other columns are maintained here.
+ */
+public final class FanOut {
+  private FanOut() {}
+
+  /** Expands a single value of the input column into multiple values. */
+  @FunctionalInterface
+  public interface Expander {
+    /**
+     * @param value the input value, {@code null} for Nothing
+     * @return the output values
+     */
+    List<?> expand(Object value);
+  }
+
+  /**
+   * Creates an expander calling an Enso function that returns a {@code Vector}. A dataflow error
+   * returned by the function is rethrown as {@link WrappedDataflowError}.
+   *
+   * @param function the function
+   * @return the expander
+   */
+  public static Expander fromFunction(Function<Object, Value> function) {
+    return value -> asList(function.apply(value));
+  }
+
+  /**
+   * Creates an expander splitting texts by a delimiter, matching case-sensitively like {@code
+   * Text.split}. Nothing is expanded to no values.
+   *
+   * @param delimiter the delimiter, must not be empty
+   * @return the expander
+   */
+  public static Expander splitBy(String delimiter) {
+    return value -> {
+      if (value == null) {
+        return List.of();
+      }
+      var text = (String) value;
+      var spans = Text_Utils.span_of_all(text, delimiter);
+      var parts = new ArrayList<String>(spans.size() + 1);
+      var start = 0;
+      for (var span : spans) {
+        parts.add(text.substring(start, span.codeunit_start));
+        start = span.codeunit_end;
+      }
+      parts.add(text.substring(start));
+      return parts;
+    };
+  }
+
+  /**
+   * Expands every value into a row of new columns.
+   *
+   * @param input the input storage
+   * @param expander produces the values of the new columns
+   * @param columnCount the number of new columns, or {@code -1} to add as many columns as needed to
+   *     fit all the values
+   * @param builderFactory creates a builder for a new column of the given size
+   * @return the new columns
+   */
+  public static ColumnsResult toColumns(
+      Storage<?> input, Expander expander, int columnCount, IntFunction<Builder> builderFactory) {
+    var size = input.size();
+    var builders = new ArrayList<Builder>();
+    for (int i = 0; i < columnCount; i++) {
+      builders.add(builderFactory.apply(size));
+    }
+    var maxLength = 0;
+    var context = Context.getCurrent();
+    for (int row = 0; row < size; row++) {
+      var values = expander.expand(input.getItemBoxed(row));
+      maxLength = Math.max(maxLength, values.size());
+      if (columnCount < 0) {
+        while (builders.size() < values.size()) {
+          var builder = builderFactory.apply(size);
+          builder.appendNulls(row);
+          builders.add(builder);
+        }
+      }
+      for (int i = 0; i < builders.size(); i++) {
+        builders.get(i).appendNoGrow(i < values.size() ? values.get(i) : null);
+      }
+      context.safepoint();
+    }
+    var storages = builders.stream().map(Builder::seal).toArray(Storage<?>[]::new);
+    return new ColumnsResult(storages, maxLength);
+  }
+
+  /**
+   * Expands every value into multiple rows of new columns. The rows of the other columns are
+   * duplicated according to the returned order mask.
+   *
+   * <p>A value expanded into a non-list value is treated as a row with a single column. Rows with a
+   * different number of values than there are columns are padded with Nothing or truncated and
+   * reported as mismatches.
+   *
+   * @param input the input storage
+   * @param expander produces the rows for every value
+   * @param atLeastOneRow whether a value expanded into no rows should produce a row of Nothing
+   * @param columnNames the names of the new columns
+   * @param builderFactory creates a builder for a new column of the given size
+   * @return the new columns and the order mask for the other columns
+   */
+  public static RowsResult toRows(
+      Storage<?> input,
+      Expander expander,
+      boolean atLeastOneRow,
+      String[] columnNames,
+      IntFunction<Builder> builderFactory) {
+    var size = input.size();
+    var builders = new Builder[columnNames.length];
+    for (int i = 0; i < builders.length; i++) {
+      builders[i] = builderFactory.apply(size);
+    }
+    var mask = new MaskBuilder(size);
+    var mismatches = new ArrayList<Mismatch>();
+    var context = Context.getCurrent();
+    for (int row = 0; row < size; row++) {
+      var rows = expander.expand(input.getItemBoxed(row));
+      if (rows.isEmpty() && atLeastOneRow) {
+        for (var builder : builders) {
+          builder.append(null);
+        }
+        mask.repeat(row, 1);
+      } else {
+        for (var rowValues : rows) {
+          var values = asRow(rowValues);
+          appendRow(builders, values, mismatches);
+        }
+        mask.repeat(row, rows.size());
+      }
+      context.safepoint();
+    }
+    var storages = Arrays.stream(builders).map(Builder::seal).toArray(Storage<?>[]::new);
+    return new RowsResult(columnNames, storages, mask.build(), mismatches.toArray(Mismatch[]::new));
+  }
+
+  /**
+   * Expands every value into multiple rows of new columns whose names depend on the value. Columns
+   * are added as they are discovered; rows that don't provide a value for some column get Nothing
+   * there.
+   *
+   * @param input the input storage
+   * @param expander produces the rows for every value
+   * @param atLeastOneRow whether a value expanded into no rows should produce a row of Nothing
+   * @param columnNamesForValue returns the names of the columns of rows produced for a value
+   * @param builderFactory creates a builder for a new column of the given size
+   * @return the new columns and the order mask for the other columns
+   */
+  public static RowsResult toRowsWithDynamicColumns(
+      Storage<?> input,
+      Expander expander,
+      boolean atLeastOneRow,
+      Function<Object, Value> columnNamesForValue,
+      IntFunction<Builder> builderFactory) {
+    var size = input.size();
+    var columns = new LinkedHashMap<String, Builder>();
+    var mask = new MaskBuilder(size);
+    var mismatches = new ArrayList<Mismatch>();
+    var context = Context.getCurrent();
+    for (int row = 0; row < size; row++) {
+      var value = input.getItemBoxed(row);
+      var rows = expander.expand(value);
+      var names = asList(columnNamesForValue.apply(value));
+      var rowBuilders = new Builder[names.size()];
+      for (int i = 0; i < rowBuilders.length; i++) {
+        var outputLength = mask.length();
+        rowBuilders[i] =
+            columns.computeIfAbsent(
+                names.get(i).toString(),
+                n -> {
+                  var builder = builderFactory.apply(size);
+                  builder.appendNulls(outputLength);
+                  return builder;
+                });
+      }
+      var outputRows = rows.size();
+      if (rows.isEmpty() && atLeastOneRow) {
+        outputRows = 1;
+        for (var builder : rowBuilders) {
+          builder.append(null);
+        }
+      } else {
+        for (var rowValues : rows) {
+          appendRow(rowBuilders, asRow(rowValues), mismatches);
+        }
+      }
+      mask.repeat(row, outputRows);
+      var expectedLength = mask.length();
+      for (var builder : columns.values()) {
+        if (builder.getCurrentSize() < expectedLength) {
+          builder.appendNulls(expectedLength - builder.getCurrentSize());
+        }
+      }
+      context.safepoint();
+    }
+    var names = columns.keySet().toArray(String[]::new);
+    var storages = columns.values().stream().map(Builder::seal).toArray(Storage<?>[]::new);
+    return new RowsResult(names, storages, mask.build(), mismatches.toArray(Mismatch[]::new));
+  }
+
+  private static void appendRow(Builder[] builders, List<?> values, List<Mismatch> mismatches) {
+    if (values.size() != builders.length) {
+      mismatches.add(new Mismatch(builders.length, values.size()));
+    }
+    for (int i = 0; i < builders.length; i++) {
+      builders[i].append(i < values.size() ? values.get(i) : null);
+    }
+  }
+
+  private static List<?> asRow(Object value) {
+    return value instanceof List<?> list ? list : Collections.singletonList(value);
+  }
+
+  private static List<Object> asList(Value vector) {
+    if (vector.isException()) {
+      throw new WrappedDataflowError(vector);
+    }
+    var length = Math.toIntExact(vector.getArraySize());
+    var list = new ArrayList<>(length);
+    for (int i = 0; i < length; i++) {
+      list.add(Polyglot_Utils.convertPolyglotValue(vector.getArrayElement(i)));
+    }
+    return list;
+  }
+
+  /** Accumulates the positions of the order mask. */
+  private static final class MaskBuilder {
+    private int[] positions;
+    private int length;
+
+    MaskBuilder(int initialSize) {
+      positions = new int[Math.max(initialSize, 1)];
+    }
+
+    void repeat(int position, int count) {
+      if (length + count > positions.length) {
+        positions = Arrays.copyOf(positions, Math.max(positions.length * 2, length + count));
+      }
+      Arrays.fill(positions, length, length + count, position);
+      length += count;
+    }
+
+    int length() {
+      return length;
+    }
+
+    OrderMask build() {
+      return OrderMask.fromArray(positions, length);
+    }
+  }
+
+  /**
+   * The result of {@link #toColumns}.
+   *
+   * @param storages the new columns
+   * @param maxOutputLength the maximum number of values a single value was expanded to
+   */
+  public record ColumnsResult(Storage<?>[] storages, int maxOutputLength) {}
+
+  /**
+   * The result of the expansion to rows.
+   *
+   * @param columnNames the names of the new columns
+   * @param storages the new columns
+   * @param orderMask the mask duplicating the rows of the other columns
+   * @param mismatches rows whose number of values didn't match the number of columns
+   */
+  public record RowsResult(
+      String[] columnNames, Storage<?>[] storages, OrderMask orderMask, Mismatch[] mismatches) {}
+
+  /**
+   * A row with a different number of values than there were columns.
+   *
+   * @param expected the number of columns
+   * @param actual the number of values
+   */
+  public record Mismatch(int expected, int actual) {}
+}
@@ -0,0 +1,41 @@
+package org.enso.table.operations;
+
+import org.enso.table.data.column.builder.Builder;
+import org.enso.table.data.column.storage.Storage;
+import org.graalvm.polyglot.Context;
+
+/**
+ * Concatenates the columns of tables united by {@code Table.union}. The types of the resulting
+ * columns are unified in Enso beforehand, as they follow the same rules as the database backend.
+ */
+public final class Union {
+  private Union() {}
+
+  /**
+   * Concatenates the storages of a single column of the united tables.
+   *
+   * <p>The storages must already be of a type compatible with the builder, so they are appended in
+   * bulk without looking at individual values.
+   *
+   * @param storages the storages of the column in every table, {@code null} if the table does not
+   *     have the column
+   * @param rowCounts the numbers of rows of every table, used to fill a missing column with nulls
+   * @param builder the builder of the unified type of the column
+   * @return the concatenated storage
+   */
+  public static Storage<?> concatenate(Storage<?>[] storages, int[] rowCounts, Builder builder) {
+    if (storages.length != rowCounts.length) {
+      throw new IllegalArgumentException("Every table must have a row count.");
+    }
+    var context = Context.getCurrent();
+    for (int i = 0; i < storages.length; i++) {
+      if (storages[i] == null) {
+        builder.appendNulls(rowCounts[i]);
+      } else {
+        builder.appendBulkStorage(storages[i]);
+      }
+      context.safepoint();
+    }
+    return builder.seal();
+  }
+}
@@ -26,6 +26,20 @@ public abstract class IncrementalDatatypeParser extends DatatypeParser {
   protected abstract Builder makeBuilderWithCapacity(
       int capacity, ProblemAggregator problemAggregator);
 
+  /**
+   * Captures the state the parser accumulates while parsing, like a number format detected from the
+   * values seen so far.
+   *
+   * <p>Parsers whose result for a value does not depend on the values parsed before it return
+   * {@code null}, which is the default.
+   */
+  protected Object saveState() {
+    return null;
+  }
+
+  /** Restores a state captured by {@link #saveState}. */
+  protected void restoreState(Object state) {}
+
   /**
    * Parses a column of texts (represented as a {@code StringStorage}) and returns a new storage,
    * containing the parsed elements.
@@ -106,6 +106,39 @@ public class NumberParser extends IncrementalDatatypeParser {
         : NumericBuilder.createDoubleBuilder(capacity, problemAggregator);
   }
 
+  /** The number format detected so far. */
+  private record DetectedFormat(
+      NegativeSign negativeSign, NumberWithSeparators numberWithSeparators) {}
+
+  /**
+   * Every possible format, so that saving the state of the parser does not allocate. The state is
+   * saved after every cell when inferring the types of several columns at once.
+   */
+  private static final DetectedFormat[][] FORMATS =
+      new DetectedFormat[NegativeSign.values().length][];
+
+  static {
+    for (NegativeSign negativeSign : NegativeSign.values()) {
+      NumberWithSeparators[] separators = NumberWithSeparators.values();
+      FORMATS[negativeSign.ordinal()] = new DetectedFormat[separators.length];
+      for (NumberWithSeparators numberWithSeparators : separators) {
+        FORMATS[negativeSign.ordinal()][numberWithSeparators.ordinal()] =
+            new DetectedFormat(negativeSign, numberWithSeparators);
+      }
+    }
+  }
+
+  @Override
+  protected Object saveState() {
+    return FORMATS[parser.negativeSign().ordinal()][parser.numberWithSeparators().ordinal()];
+  }
+
+  @Override
+  protected void restoreState(Object state) {
+    var format = (DetectedFormat) state;
+    parser.restoreFormat(format.negativeSign(), format.numberWithSeparators());
+  }
+
   @Override
   public Storage<?> parseColumn(
       Storage<String> sourceStorage, CommonParseProblemAggregator problemAggregator) {
@@ -0,0 +1,381 @@
+package org.enso.table.parsing;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Objects;
+import org.enso.table.data.column.builder.Builder;
+import org.enso.table.data.column.builder.StringBuilder;
+import org.enso.table.data.column.storage.Storage;
+import org.enso.table.data.column.storage.type.FloatType;
+import org.enso.table.data.column.storage.type.TextType;
+import org.enso.table.parsing.problems.CommonParseProblemAggregator;
+import org.graalvm.polyglot.Context;
+
+/**
+ * Infers the types of columns whose cells arrive one row at a time, as a file is read, parsing
+ * every cell with the candidate parsers of a {@link TypeInferringParser} right away.
+ *
+ * <p>Only the leading candidate of a column - the first one that has not failed yet - builds its
+ * values. The following candidates just check that they can parse the cells, and build their values
+ * from the texts of the column if they take the lead.
+ *
+ * <p>The texts are not kept next to the values of the leading candidate. A text that is exactly the
+ * default representation of its parsed number or date is restored from the value when needed, so
+ * only the remaining texts are buffered. Once no candidate is left, the column keeps all its texts
+ * for the fallback parser.
+ *
+ * <p>Stateful parsers, like the number parsers detecting the format, carry their state from one
+ * column to the next, exactly as when the columns are parsed one after another by the type
+ * inferring parser. As all the columns are read at once, every column starts from the state the
+ * parsers had when the inference started. When the columns are finished, a column that the state
+ * left by the previous columns could parse differently is parsed again from its texts.
+ */
+public final class StreamingTypeInference {
+  private static final int INITIAL_ROW_CAPACITY = 100;
+
+  private final TypeInferringParser inferringParser;
+  private final IncrementalDatatypeParser[] parsers;
+  private final Object[] initialStates;
+  private final ColumnInference[] columns;
+  private long replayedCells = 0;
+
+  StreamingTypeInference(
+      TypeInferringParser inferringParser, CommonParseProblemAggregator[] columnAggregators) {
+    this.inferringParser = inferringParser;
+    this.parsers = inferringParser.getBaseParsers();
+    this.initialStates = new Object[parsers.length];
+    for (int i = 0; i < parsers.length; ++i) {
+      initialStates[i] = parsers[i].saveState();
+    }
+
+    this.columns = new ColumnInference[columnAggregators.length];
+    for (int i = 0; i < columns.length; ++i) {
+      columns[i] = new ColumnInference(columnAggregators[i]);
+    }
+  }
+
+  /** Appends the next cell of a column, {@code null} for a missing value. */
+  public void append(int column, String cell) {
+    columns[column].append(cell);
+  }
+
+  /**
+   * Finishes all the columns, parsing as text those that need it.
+   *
+   * @return the parsed columns
+   */
+  public Storage<?>[] finish() {
+    Storage<?>[] storages = new Storage<?>[columns.length];
+    Object[] carriedStates = initialStates.clone();
+    Context context = Context.getCurrent();
+    for (int i = 0; i < columns.length; ++i) {
+      storages[i] = columns[i].finish(carriedStates);
+      columns[i] = null;
+      context.safepoint();
+    }
+
+    // The parsers are shared with other users of the type inferring parser.
+    for (int i = 0; i < parsers.length; ++i) {
+      parsers[i].restoreState(initialStates[i]);
+    }
+    return storages;
+  }
+
+  /**
+   * @return the number of cells that had to be parsed again, because a candidate took the lead of a
+   *     column after some of its rows had been read or because the previous columns changed the
+   *     state of the parsers
+   */
+  public long getReplayedCellCount() {
+    return replayedCells;
+  }
+
+  /**
+   * Returns the text a value parsed from a cell is shown as by default, if the value can restore
+   * the text of the cell.
+   */
+  private static String defaultText(Object value) {
+    return switch (value) {
+      case Long l -> l.toString();
+      case Double d -> d.toString();
+      case LocalDate date -> date.toString();
+      case null, default -> null;
+    };
+  }
+
+  /** Checks if the default text of a value is the given text, avoiding allocation for integers. */
+  private static boolean isDefaultText(Object value, String text) {
+    if (value instanceof Long l) {
+      return isDefaultLongText(l, text);
+    }
+    String restored = defaultText(value);
+    return restored != null && restored.equals(text);
+  }
+
+  private static boolean isDefaultLongText(long value, String text) {
+    int position = text.length();
+    if (value == 0) {
+      return position == 1 && text.charAt(0) == '0';
+    }
+
+    for (long rest = value; rest != 0; rest /= 10) {
+      if (--position < 0 || text.charAt(position) != '0' + Math.abs((int) (rest % 10))) {
+        return false;
+      }
+    }
+    if (value < 0 && (--position < 0 || text.charAt(position) != '-')) {
+      return false;
+    }
+    return position == 0;
+  }
+
+  /** The candidates of a single column. */
+  private final class ColumnInference {
+    private final CommonParseProblemAggregator problemAggregator;
+
+    /** The state of every parser on this column, {@code null} for stateless parsers. */
+    private final Object[] states;
+
+    /** The problems of every candidate, {@code null} once the candidate has failed. */
+    private final CommonParseProblemAggregator[] aggregators;
+
+    private int leader = 0;
+    private Builder leaderBuilder;
+    private boolean leaderStoresDoubles;
+
+    /** The texts the values of the leader cannot restore, and the rows they belong to. */
+    private TextBuffer otherTexts = new TextBuffer();
+
+    private int[] otherTextRows = new int[16];
+
+    /** All the texts of the column, once no candidate is left. */
+    private TextBuffer texts;
+
+    private int size = 0;
+    private boolean hasValues = false;
+
+    ColumnInference(CommonParseProblemAggregator problemAggregator) {
+      this.problemAggregator = problemAggregator;
+      this.states = initialStates.clone();
+      this.aggregators = new CommonParseProblemAggregator[parsers.length];
+      for (int i = 0; i < parsers.length; ++i) {
+        aggregators[i] = problemAggregator.createContextAwareChild();
+      }
+      if (parsers.length > 0) {
+        startLeader(INITIAL_ROW_CAPACITY);
+      } else {
+        dropValues();
+      }
+    }
+
+    void append(String cell) {
+      if (texts != null) {
+        texts.append(cell);
+        size++;
+        return;
+      }
+
+      if (cell == null) {
+        leaderBuilder.append(null);
+        size++;
+        return;
+      }
+
+      hasValues = true;
+      for (int i = leader; i < parsers.length; ++i) {
+        if (aggregators[i] == null) {
+          continue;
+        }
+
+        Object parsed = parse(i, cell);
+        if (aggregators[i].hasProblems()) {
+          aggregators[i].detachFromParent();
+          aggregators[i] = null;
+          if (i == leader && !promoteNextCandidate()) {
+            texts.append(cell);
+            size++;
+            return;
+          }
+        } else if (i == leader) {
+          leaderBuilder.append(parsed);
+          keepTextIfNotRestorable(size, parsed, cell);
+        }
+      }
+      size++;
+    }
+
+    private Object parse(int index, String cell) {
+      IncrementalDatatypeParser parser = parsers[index];
+      if (states[index] == null) {
+        return parser.parseSingleValue(cell, aggregators[index]);
+      }
+
+      parser.restoreState(states[index]);
+      Object parsed = parser.parseSingleValue(cell, aggregators[index]);
+      states[index] = parser.saveState();
+      return parsed;
+    }
+
+    private void startLeader(int capacity) {
+      leaderBuilder = parsers[leader].makeBuilderWithCapacity(capacity, aggregators[leader]);
+      leaderStoresDoubles = leaderBuilder.getType() instanceof FloatType;
+    }
+
+    private void keepTextIfNotRestorable(int row, Object parsed, String cell) {
+      Object stored = parsed instanceof Long l && leaderStoresDoubles ? (Object) (double) l : parsed;
+      if (isDefaultText(stored, cell)) {
+        return;
+      }
+
+      int count = otherTexts.size();
+      if (count == otherTextRows.length) {
+        otherTextRows = Arrays.copyOf(otherTextRows, count * 2);
+      }
+      otherTextRows[count] = row;
+      otherTexts.append(cell);
+    }
+
+    /**
+     * Hands the lead to the next surviving candidate, which builds its values from the texts of the
+     * rows read so far.
+     *
+     * @return {@code false} if no candidate is left, and the column now keeps all its texts
+     */
+    private boolean promoteNextCandidate() {
+      Storage<?> values = leaderBuilder.seal();
+      TextBuffer previousTexts = otherTexts;
+      int[] previousRows = otherTextRows;
+
+      do {
+        leader++;
+      } while (leader < parsers.length && aggregators[leader] == null);
+
+      if (leader == parsers.length) {
+        dropValues();
+        RestoredTexts restored = new RestoredTexts(values, previousTexts, previousRows);
+        for (int row = 0; row < size; ++row) {
+          texts.append(restored.get(row));
+        }
+        return false;
+      }
+
+      // The candidate has already accepted every cell, starting from its initial state.
+      IncrementalDatatypeParser parser = parsers[leader];
+      parser.restoreState(initialStates[leader]);
+      startLeader(Math.max(size, INITIAL_ROW_CAPACITY));
+      otherTexts = new TextBuffer();
+      otherTextRows = new int[16];
+
+      RestoredTexts restored = new RestoredTexts(values, previousTexts, previousRows);
+      Context context = Context.getCurrent();
+      for (int row = 0; row < size; ++row) {
+        String cell = restored.get(row);
+        if (cell == null) {
+          leaderBuilder.append(null);
+        } else {
+          Object parsed = parser.parseSingleValue(cell, aggregators[leader]);
+          leaderBuilder.append(parsed);
+          keepTextIfNotRestorable(row, parsed, cell);
+        }
+        context.safepoint();
+      }
+      replayedCells += size;
+      return true;
+    }
+
+    private void dropValues() {
+      leaderBuilder = null;
+      otherTexts = null;
+      otherTextRows = null;
+      texts = new TextBuffer();
+    }
+
+    /**
+     * Finishes the column, as if its parsing started from the given states of the parsers.
+     *
+     * @param carriedStates the states left by the previous columns, updated with the states this
+     *     column leaves
+     */
+    Storage<?> finish(Object[] carriedStates) {
+      if (!hasValues) {
+        // There are no values to infer the type from, and no parser has seen this column.
+        discardCandidates(-1);
+        var nothing = new StringBuilder(size, TextType.VARIABLE_LENGTH);
+        nothing.appendNulls(size);
+        return inferringParser.parseColumn(nothing.seal(), problemAggregator);
+      }
+
+      // The result only depends on the candidates up to the chosen one.
+      int chosen = texts != null ? parsers.length - 1 : leader;
+      for (int i = 0; i <= chosen; ++i) {
+        if (!Objects.equals(initialStates[i], carriedStates[i])) {
+          return parseAgain(carriedStates);
+        }
+      }
+
+      // The candidates after the chosen one would not have seen this column.
+      System.arraycopy(states, 0, carriedStates, 0, chosen + 1);
+      if (texts != null) {
+        return inferringParser.getFallbackParser().parseColumn(texts.toStorage(), problemAggregator);
+      }
+      discardCandidates(leader);
+      return leaderBuilder.seal();
+    }
+
+    /** Parses the texts of the column with the type inferring parser, from the given states. */
+    private Storage<?> parseAgain(Object[] carriedStates) {
+      Storage<String> columnTexts;
+      if (texts != null) {
+        columnTexts = texts.toStorage();
+      } else {
+        RestoredTexts restored = new RestoredTexts(leaderBuilder.seal(), otherTexts, otherTextRows);
+        var builder = new StringBuilder(size, TextType.VARIABLE_LENGTH);
+        for (int row = 0; row < size; ++row) {
+          builder.appendNoGrow(restored.get(row));
+        }
+        columnTexts = builder.seal();
+      }
+      discardCandidates(-1);
+
+      for (int i = 0; i < parsers.length; ++i) {
+        parsers[i].restoreState(carriedStates[i]);
+      }
+      Storage<?> result = inferringParser.parseColumn(columnTexts, problemAggregator);
+      for (int i = 0; i < parsers.length; ++i) {
+        carriedStates[i] = parsers[i].saveState();
+      }
+      replayedCells += size;
+      return result;
+    }
+
+    private void discardCandidates(int except) {
+      for (int i = 0; i < parsers.length; ++i) {
+        if (i != except && aggregators[i] != null) {
+          aggregators[i].detachFromParent();
+          aggregators[i] = null;
+        }
+      }
+    }
+  }
+
+  /** Restores the texts of consecutive rows from the values of a leader and the kept texts. */
+  private static final class RestoredTexts {
+    private final Storage<?> values;
+    private final TextBuffer otherTexts;
+    private final int[] otherTextRows;
+    private int next = 0;
+
+    RestoredTexts(Storage<?> values, TextBuffer otherTexts, int[] otherTextRows) {
+      this.values = values;
+      this.otherTexts = otherTexts;
+      this.otherTextRows = otherTextRows;
+    }
+
+    String get(int row) {
+      if (next < otherTexts.size() && otherTextRows[next] == row) {
+        return otherTexts.get(next++);
+      }
+      return defaultText(values.getItemBoxed(row));
+    }
+  }
+}
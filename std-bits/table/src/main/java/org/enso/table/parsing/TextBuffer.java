@@ -0,0 +1,87 @@
+package org.enso.table.parsing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import org.enso.table.data.column.builder.StringBuilder;
+import org.enso.table.data.column.storage.Storage;
+import org.enso.table.data.column.storage.type.TextType;
+
+/**
+ * Keeps the texts of a column as characters of a few large arrays, instead of a {@code String}
+ * object per cell, until it is known whether they are needed.
+ */
+final class TextBuffer {
+  private static final int CHUNK_SIZE = 1 << 20;
+
+  private final List<char[]> chunks = new ArrayList<>();
+  private int[] chunkFirstCells = new int[8];
+  private int[] ends = new int[128];
+  private final BitSet nulls = new BitSet();
+  private int size = 0;
+  private int chunkLength = 0;
+
+  /** Appends a text, or {@code null} for a missing value. */
+  void append(String text) {
+    if (size == ends.length) {
+      ends = Arrays.copyOf(ends, ends.length * 2);
+    }
+
+    if (text == null) {
+      nulls.set(size);
+      ends[size] = chunkLength;
+      size++;
+      return;
+    }
+
+    if (chunks.isEmpty() || chunkLength + text.length() > currentChunk().length) {
+      startChunk(text.length());
+    }
+    text.getChars(0, text.length(), currentChunk(), chunkLength);
+    chunkLength += text.length();
+    ends[size] = chunkLength;
+    size++;
+  }
+
+  int size() {
+    return size;
+  }
+
+  String get(int index) {
+    if (nulls.get(index)) {
+      return null;
+    }
+
+    int chunk = chunkOf(index);
+    int start = index == chunkFirstCells[chunk] ? 0 : ends[index - 1];
+    return new String(chunks.get(chunk), start, ends[index] - start);
+  }
+
+  /** Creates a storage of all the texts. */
+  Storage<String> toStorage() {
+    var builder = new StringBuilder(size, TextType.VARIABLE_LENGTH);
+    for (int i = 0; i < size; i++) {
+      builder.appendNoGrow(get(i));
+    }
+    return builder.seal();
+  }
+
+  private char[] currentChunk() {
+    return chunks.get(chunks.size() - 1);
+  }
+
+  private void startChunk(int minimumLength) {
+    if (chunks.size() == chunkFirstCells.length) {
+      chunkFirstCells = Arrays.copyOf(chunkFirstCells, chunkFirstCells.length * 2);
+    }
+    chunkFirstCells[chunks.size()] = size;
+    chunks.add(new char[Math.max(CHUNK_SIZE, minimumLength)]);
+    chunkLength = 0;
+  }
+
+  private int chunkOf(int index) {
+    int found = Arrays.binarySearch(chunkFirstCells, 0, chunks.size(), index);
+    return found >= 0 ? found : -found - 2;
+  }
+}
@@ -1,5 +1,6 @@
 package org.enso.table.parsing;
 
+import java.util.Arrays;
 import org.enso.table.data.column.builder.Builder;
 import org.enso.table.data.column.operation.CountNothing;
 import org.enso.table.data.column.storage.Storage;
@@ -14,8 +15,16 @@ import org.graalvm.polyglot.Context;
  *
  * <p>If all parsers from the set reported problems, the fallback parser is used and its result is
  * returned regardless of any problems.
+ *
+ * <p>A column is parsed by all the parsers in a single pass, dropping each one at the first cell it
+ * fails on, so that a failure late in the column does not make the following parsers start over.
+ * Parsers failing on a sample of a long column do not take part in the pass at all.
  */
 public class TypeInferringParser extends DatatypeParser {
+  /** Columns shorter than this are parsed without the sampling pre-pass. */
+  static final int SAMPLING_THRESHOLD = 1000;
+
+  static final int SAMPLE_SIZE = 64;
 
   private final IncrementalDatatypeParser[] baseParsers;
   private final DatatypeParser fallbackParser;
@@ -26,6 +35,25 @@ public class TypeInferringParser extends DatatypeParser {
     this.fallbackParser = fallbackParser;
   }
 
+  IncrementalDatatypeParser[] getBaseParsers() {
+    return baseParsers;
+  }
+
+  DatatypeParser getFallbackParser() {
+    return fallbackParser;
+  }
+
+  /**
+   * Starts inferring the types of columns whose cells will be provided one by one, as they are
+   * read.
+   *
+   * @param columnAggregators the problem aggregators of the columns
+   * @return the inference, to be fed with the cells
+   */
+  public StreamingTypeInference startStreaming(CommonParseProblemAggregator[] columnAggregators) {
+    return new StreamingTypeInference(this, columnAggregators);
+  }
+
   @Override
   public Object parseSingleValue(String text, ParseProblemAggregator problemAggregator) {
     for (IncrementalDatatypeParser parser : baseParsers) {
@@ -49,33 +77,175 @@ public class TypeInferringParser extends DatatypeParser {
       return fallbackParser.parseColumn(sourceStorage, problemAggregator);
     }
 
+    Object[] initialStates = new Object[baseParsers.length];
+    for (int i = 0; i < baseParsers.length; ++i) {
+      initialStates[i] = baseParsers[i].saveState();
+    }
+
+    SampleResult[] sampleResults = sample(sourceStorage);
+
+    // All the candidates that accepted the sample parse the column in a single pass. A candidate is
+    // dropped, together with its builder and problems, at the first cell it fails to parse.
+    Candidate[] alive = new Candidate[baseParsers.length];
+    int aliveCount = 0;
+    for (int i = 0; i < baseParsers.length; ++i) {
+      if (sampleResults[i] == SampleResult.ACCEPTED) {
+        alive[aliveCount++] = new Candidate(i, sourceStorage.size(), problemAggregator);
+      }
+    }
+
     Context context = Context.getCurrent();
-    parsers:
-    for (IncrementalDatatypeParser parser : baseParsers) {
-      CommonParseProblemAggregator innerAggregator = problemAggregator.createContextAwareChild();
-      Builder builder = parser.makeBuilderWithCapacity(sourceStorage.size(), innerAggregator);
+    for (int row = 0; row < sourceStorage.size() && aliveCount > 0; ++row) {
+      String cell = sourceStorage.getItemBoxed(row);
+      int kept = 0;
+      for (int i = 0; i < aliveCount; ++i) {
+        if (alive[i].accept(cell)) {
+          alive[kept++] = alive[i];
+        } else {
+          alive[i].discard();
+        }
+      }
+      aliveCount = kept;
+
+      context.safepoint();
+    }
+
+    // The candidates are kept in order, so the first survivor is the one that would be chosen when
+    // trying them one by one - unless an earlier candidate was only deferred by the sample.
+    int winner = aliveCount > 0 ? alive[0].index : baseParsers.length;
+    Storage<?> result = aliveCount > 0 ? alive[0].builder.seal() : null;
+    for (int i = 0; i < winner; ++i) {
+      if (sampleResults[i] == SampleResult.DEFERRED) {
+        Storage<?> confirmed = tryParseColumn(baseParsers[i], sourceStorage, problemAggregator);
+        if (confirmed != null) {
+          winner = i;
+          result = confirmed;
+          break;
+        }
+      }
+    }
+
+    for (int i = 0; i < aliveCount; ++i) {
+      if (alive[i].index != winner) {
+        alive[i].discard();
+      }
+    }
+
+    // Parsers after the chosen one would not have seen this column, so any format they detected
+    // from it is rolled back.
+    for (int i = winner + 1; i < baseParsers.length; ++i) {
+      baseParsers[i].restoreState(initialStates[i]);
+    }
+
+    return result != null ? result : fallbackParser.parseColumn(sourceStorage, problemAggregator);
+  }
 
-      for (int i = 0; i < sourceStorage.size(); ++i) {
-        String cell = sourceStorage.getItemBoxed(i);
+  /**
+   * Tries every candidate on a sample of the column, to avoid building the column for candidates
+   * that are bound to fail. Short columns are not sampled.
+   */
+  private SampleResult[] sample(Storage<String> sourceStorage) {
+    SampleResult[] results = new SampleResult[baseParsers.length];
+    Arrays.fill(results, SampleResult.ACCEPTED);
+    int size = sourceStorage.size();
+    if (size < SAMPLING_THRESHOLD) {
+      return results;
+    }
+
+    for (int i = 0; i < baseParsers.length; ++i) {
+      IncrementalDatatypeParser parser = baseParsers[i];
+      Object state = parser.saveState();
+      var sampleAggregator = new ShortCircuitParseProblemAggregator();
+      for (int k = 0; k < SAMPLE_SIZE && !sampleAggregator.hasProblems(); ++k) {
+        // Evenly spread over the column, including the first and the last row.
+        String cell = sourceStorage.getItemBoxed((int) ((long) k * (size - 1) / (SAMPLE_SIZE - 1)));
         if (cell != null) {
-          Object parsed = parser.parseSingleValue(cell, innerAggregator);
-          if (innerAggregator.hasProblems()) {
-            // We continue parsing with the next parser, so we discard currently accumulated parse
-            // problems.
-            innerAggregator.detachFromParent();
-            continue parsers;
-          }
-          builder.appendNoGrow(parsed);
-        } else {
-          builder.appendNoGrow(null);
+          parser.parseSingleValue(cell, sampleAggregator);
+        }
+      }
+
+      if (sampleAggregator.hasProblems()) {
+        // A stateless parser fails on the same cell in the full pass too. A stateful one might
+        // only have failed because it saw the cells out of order.
+        results[i] = state == null ? SampleResult.REJECTED : SampleResult.DEFERRED;
+      }
+      parser.restoreState(state);
+    }
+
+    return results;
+  }
+
+  /** Parses the whole column with a single parser, returning null at the first failing cell. */
+  private static Storage<?> tryParseColumn(
+      IncrementalDatatypeParser parser,
+      Storage<String> sourceStorage,
+      CommonParseProblemAggregator problemAggregator) {
+    CommonParseProblemAggregator innerAggregator = problemAggregator.createContextAwareChild();
+    Builder builder = parser.makeBuilderWithCapacity(sourceStorage.size(), innerAggregator);
+
+    Context context = Context.getCurrent();
+    for (int i = 0; i < sourceStorage.size(); ++i) {
+      String cell = sourceStorage.getItemBoxed(i);
+      if (cell != null) {
+        Object parsed = parser.parseSingleValue(cell, innerAggregator);
+        if (innerAggregator.hasProblems()) {
+          innerAggregator.detachFromParent();
+          return null;
         }
+        builder.appendNoGrow(parsed);
+      } else {
+        builder.appendNoGrow(null);
+      }
+
+      context.safepoint();
+    }
+
+    return builder.seal();
+  }
 
-        context.safepoint();
+  /** What the sampling pre-pass found out about a candidate parser. */
+  private enum SampleResult {
+    /** The parser accepted all sampled cells. */
+    ACCEPTED,
+    /** The parser is stateless and failed to parse a sampled cell, so it fails on the column. */
+    REJECTED,
+    /** The parser failed on the sample, which must be confirmed if it would be chosen. */
+    DEFERRED
+  }
+
+  /** A candidate parser taking part in the single pass, with its own builder and problems. */
+  private final class Candidate {
+    private final int index;
+    private final IncrementalDatatypeParser parser;
+    private final CommonParseProblemAggregator aggregator;
+    private Builder builder;
+
+    Candidate(int index, int size, CommonParseProblemAggregator problemAggregator) {
+      this.index = index;
+      this.parser = baseParsers[index];
+      this.aggregator = problemAggregator.createContextAwareChild();
+      this.builder = parser.makeBuilderWithCapacity(size, aggregator);
+    }
+
+    /** Parses the next cell, returning false if the parser failed on it. */
+    boolean accept(String cell) {
+      if (cell == null) {
+        builder.appendNoGrow(null);
+        return true;
       }
 
-      return builder.seal();
+      Object parsed = parser.parseSingleValue(cell, aggregator);
+      if (aggregator.hasProblems()) {
+        return false;
+      }
+      builder.appendNoGrow(parsed);
+      return true;
     }
 
-    return fallbackParser.parseColumn(sourceStorage, problemAggregator);
+    /** Drops the partial column and the problems of a candidate that was not chosen. */
+    void discard() {
+      aggregator.detachFromParent();
+      builder = null;
+    }
   }
 }
@@ -25,4 +25,14 @@ public class WhitespaceStrippingParser extends IncrementalDatatypeParser {
   protected Builder makeBuilderWithCapacity(int capacity, ProblemAggregator problemAggregator) {
     return innerParser.makeBuilderWithCapacity(capacity, problemAggregator);
   }
+
+  @Override
+  protected Object saveState() {
+    return innerParser.saveState();
+  }
+
+  @Override
+  protected void restoreState(Object state) {
+    innerParser.restoreState(state);
+  }
 }
@@ -0,0 +1,695 @@
+package org.enso.table.read;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import org.enso.table.arrow.ArrowField;
+import org.enso.table.arrow.ArrowFormat;
+import org.enso.table.arrow.ArrowType;
+import org.enso.table.arrow.FlatBufferTable;
+import org.enso.table.arrow.Lz4FrameDecoder;
+import org.enso.table.data.column.builder.ArrowDateBuilder;
+import org.enso.table.data.column.builder.ArrowFloatBuilder;
+import org.enso.table.data.column.builder.ArrowIntegerBuilder;
+import org.enso.table.data.column.builder.ArrowStringBuilder;
+import org.enso.table.data.column.builder.Builder;
+import org.enso.table.data.column.storage.BoolStorage;
+import org.enso.table.data.column.storage.MixedStorage;
+import org.enso.table.data.column.storage.Storage;
+import org.enso.table.data.column.storage.StringStorage;
+import org.enso.table.data.column.storage.arrow.ArrowBuffers;
+import org.enso.table.data.column.storage.arrow.ArrowDateStorage;
+import org.enso.table.data.column.storage.arrow.ArrowFloatStorage;
+import org.enso.table.data.column.storage.arrow.ArrowIntegerStorage;
+import org.enso.table.data.column.storage.arrow.ArrowStringStorage;
+import org.enso.table.data.column.storage.datetime.DateTimeStorage;
+import org.enso.table.data.column.storage.datetime.TimeOfDayStorage;
+import org.enso.table.data.column.storage.numeric.DoubleStorage;
+import org.enso.table.data.column.storage.numeric.LongStorage;
+import org.enso.table.data.column.storage.type.AnyObjectType;
+import org.enso.table.data.column.storage.type.Bits;
+import org.enso.table.data.column.storage.type.BooleanType;
+import org.enso.table.data.column.storage.type.DateTimeType;
+import org.enso.table.data.column.storage.type.DateType;
+import org.enso.table.data.column.storage.type.FloatType;
+import org.enso.table.data.column.storage.type.IntegerType;
+import org.enso.table.data.column.storage.type.StorageType;
+import org.enso.table.data.column.storage.type.TextType;
+import org.enso.table.data.column.storage.type.TimeOfDayType;
+import org.enso.table.data.table.Column;
+import org.enso.table.data.table.Table;
+import org.enso.table.problems.BlackholeProblemAggregator;
+import org.graalvm.polyglot.Context;
+
+/**
+ * Reads tables from Arrow IPC files (including Feather V2 files) and streams.
+ *
+ * <p>Files are read one record batch at a time, each into an off-heap buffer owned by the columns
+ * read from it. Integer, 64-bit floating point, date and UTF-8 text columns of uncompressed batches
+ * are backed directly by that buffer, without converting the values. Other columns, and
+ * LZ4-compressed batches, are decoded into regular storages.
+ *
+ * <p>The file is not memory-mapped, so the columns stay valid after the reader is closed, and the
+ * file is not locked or affected by later changes to it.
+ *
+ * <p>Only the selected columns are decoded. Record batches may be read one by one with {@link
+ * #readBatch}, to process files which do not fit in memory.
+ */
+public final class ArrowReader implements AutoCloseable {
+  private final Source source;
+  private final List<ArrowField> fields;
+  private final List<Long> batchOffsets = new ArrayList<>();
+
+  private ArrowReader(Source source) throws IOException {
+    this.source = source;
+    try {
+      byte[] magic = new byte[ArrowFormat.MAGIC.length];
+      long size = source.size();
+      if (size >= magic.length) {
+        source.read(0, magic.length).get(0, magic);
+      }
+
+      if (Arrays.equals(magic, ArrowFormat.MAGIC)) {
+        fields = readFileFooter(size);
+      } else if (Arrays.equals(
+          Arrays.copyOf(magic, ArrowFormat.FEATHER_V1_MAGIC.length),
+          ArrowFormat.FEATHER_V1_MAGIC)) {
+        throw new IllegalArgumentException(
+            "Feather V1 files are not supported, the file must be re-saved as Feather V2.");
+      } else {
+        fields = scanStream();
+      }
+    } catch (IndexOutOfBoundsException | BufferUnderflowException e) {
+      throw new IllegalArgumentException("The data is not a valid Arrow file or stream.", e);
+    }
+  }
+
+  /** Opens an Arrow file or stream stored in a file. The data is read when requested. */
+  public static ArrowReader open(File file) throws IOException {
+    FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+    try {
+      return new ArrowReader(new FileSource(channel));
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  /** Reads an Arrow file or stream from an input stream, loading it into memory. */
+  public static ArrowReader fromStream(InputStream stream) throws IOException {
+    return new ArrowReader(new BytesSource(stream.readAllBytes()));
+  }
+
+  /** Returns the names of the columns, in the order of the schema. */
+  public String[] getColumnNames() {
+    String[] names = new String[fields.size()];
+    for (int i = 0; i < names.length; i++) {
+      names[i] = columnName(i);
+    }
+    return names;
+  }
+
+  /** Returns the number of record batches. */
+  public int getBatchCount() {
+    return batchOffsets.size();
+  }
+
+  /**
+   * Reads a single record batch.
+   *
+   * @param index the index of the batch
+   * @param columns the names of the columns to read, or {@code null} to read all of them
+   * @return a table holding the rows of the batch
+   */
+  public Table readBatch(int index, String[] columns) throws IOException {
+    int[] selected = resolveColumns(columns);
+    Batch batch = readBatchStorages(index, selected);
+    return makeTable(selected, batch.storages);
+  }
+
+  /**
+   * Reads the rows of all record batches into a single table.
+   *
+   * <p>If the data has a single record batch, the columns keep referring to the buffer it was read
+   * into. Otherwise the batches are copied into new columns, which are kept off-heap when possible.
+   *
+   * @param columns the names of the columns to read, or {@code null} to read all of them
+   * @param rowLimit the maximum number of rows to read, or -1 to read all of them
+   * @return the table
+   */
+  public Table read(String[] columns, long rowLimit) throws IOException {
+    int[] selected = resolveColumns(columns);
+    List<Storage<?>[]> parts = new ArrayList<>();
+    long rowCount = 0;
+    for (int i = 0; i < batchOffsets.size() && (rowLimit < 0 || rowCount < rowLimit); i++) {
+      Batch batch = readBatchStorages(i, selected);
+      int length = batch.length;
+      if (rowLimit >= 0 && rowCount + length > rowLimit) {
+        length = (int) (rowLimit - rowCount);
+        for (int j = 0; j < selected.length; j++) {
+          batch.storages[j] = batch.storages[j].slice(0, length);
+        }
+      }
+      parts.add(batch.storages);
+      rowCount += length;
+    }
+
+    if (rowCount > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException(
+          "The data has " + rowCount + " rows, more than the maximum supported by a table.");
+    }
+
+    Storage<?>[] storages = new Storage<?>[selected.length];
+    for (int j = 0; j < selected.length; j++) {
+      if (parts.size() == 1) {
+        storages[j] = parts.get(0)[j];
+      } else {
+        Builder builder = concatenationBuilder(selected[j], (int) rowCount, parts, j);
+        for (Storage<?>[] part : parts) {
+          builder.appendBulkStorage(part[j]);
+        }
+        storages[j] = builder.seal();
+      }
+    }
+    return makeTable(selected, storages);
+  }
+
+  @Override
+  public void close() throws IOException {
+    source.close();
+  }
+
+  private String columnName(int index) {
+    String name = fields.get(index).name();
+    return name.isEmpty() ? "Column " + (index + 1) : name;
+  }
+
+  private int[] resolveColumns(String[] columns) {
+    if (columns == null) {
+      int[] all = new int[fields.size()];
+      for (int i = 0; i < all.length; i++) {
+        all[i] = i;
+      }
+      return all;
+    }
+
+    List<String> names = Arrays.asList(getColumnNames());
+    int[] selected = new int[columns.length];
+    for (int i = 0; i < columns.length; i++) {
+      selected[i] = names.indexOf(columns[i]);
+      if (selected[i] < 0) {
+        throw new IllegalArgumentException("The column " + columns[i] + " does not exist.");
+      }
+    }
+    return selected;
+  }
+
+  private Table makeTable(int[] selected, Storage<?>[] storages) {
+    Column[] columns = new Column[selected.length];
+    for (int i = 0; i < selected.length; i++) {
+      columns[i] = new Column(columnName(selected[i]), storages[i]);
+    }
+    return new Table(columns);
+  }
+
+  /** Reads the footer of a file, finding the schema and the record batches. */
+  private List<ArrowField> readFileFooter(long size) throws IOException {
+    int trailerLength = 4 + ArrowFormat.MAGIC.length;
+    int footerLength = source.read(size - trailerLength, 4).getInt(0);
+    FlatBufferTable footer =
+        FlatBufferTable.root(source.read(size - trailerLength - footerLength, footerLength), 0);
+    for (int i = 0; i < footer.getVectorLength(ArrowFormat.FOOTER_RECORD_BATCHES); i++) {
+      int block =
+          footer.getStructInVector(
+              ArrowFormat.FOOTER_RECORD_BATCHES, i, ArrowFormat.BLOCK_SIZE);
+      batchOffsets.add(footer.buffer().getLong(block));
+    }
+    return ArrowFormat.readSchema(footer.getTable(ArrowFormat.FOOTER_SCHEMA));
+  }
+
+  /** Reads the messages of a stream, finding the schema and the record batches. */
+  private List<ArrowField> scanStream() throws IOException {
+    Message message = readMessage(0);
+    if (message == null || message.headerType != ArrowFormat.HEADER_SCHEMA) {
+      throw new IllegalArgumentException("The data is not a valid Arrow file or stream.");
+    }
+    List<ArrowField> schema = ArrowFormat.readSchema(message.header);
+
+    long offset = message.end();
+    while ((message = readMessage(offset)) != null) {
+      if (message.headerType == ArrowFormat.HEADER_RECORD_BATCH) {
+        batchOffsets.add(offset);
+      }
+      offset = message.end();
+    }
+    return schema;
+  }
+
+  private record Message(
+      int headerType, FlatBufferTable header, long bodyOffset, long bodyLength) {
+    long end() {
+      return bodyOffset + bodyLength;
+    }
+  }
+
+  /**
+   * Reads the metadata of an encapsulated message.
+   *
+   * @return the message, or {@code null} at the end of the stream
+   */
+  private Message readMessage(long offset) throws IOException {
+    if (offset + 4 > source.size()) {
+      return null;
+    }
+    int metadataLength = source.read(offset, 4).getInt(0);
+    long metadataStart = offset + 4;
+    if (metadataLength == ArrowFormat.CONTINUATION) {
+      if (offset + 8 > source.size()) {
+        return null;
+      }
+      metadataLength = source.read(offset + 4, 4).getInt(0);
+      metadataStart += 4;
+    }
+    if (metadataLength == 0) {
+      return null;
+    }
+
+    FlatBufferTable message = FlatBufferTable.root(source.read(metadataStart, metadataLength), 0);
+    return new Message(
+        Byte.toUnsignedInt(message.getByte(ArrowFormat.MESSAGE_HEADER_TYPE, (byte) 0)),
+        message.getTable(ArrowFormat.MESSAGE_HEADER),
+        metadataStart + metadataLength,
+        message.getLong(ArrowFormat.MESSAGE_BODY_LENGTH, 0));
+  }
+
+  private record Batch(int length, Storage<?>[] storages) {}
+
+  private Batch readBatchStorages(int index, int[] selected) throws IOException {
+    Message message = readMessage(batchOffsets.get(index));
+    FlatBufferTable batch = message.header;
+    long length = batch.getLong(ArrowFormat.BATCH_LENGTH, 0);
+    if (length > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException(
+          "Record batches of more than " + Integer.MAX_VALUE + " rows are not supported.");
+    }
+
+    FlatBufferTable compression = batch.getTable(ArrowFormat.BATCH_COMPRESSION);
+    boolean compressed = compression != null;
+    if (compressed && compression.getByte(0, (byte) 0) != ArrowFormat.CODEC_LZ4_FRAME) {
+      throw new IllegalArgumentException(
+          "Only LZ4 compressed Arrow files are supported, this file uses ZSTD compression.");
+    }
+
+    ByteBuffer body = source.readBody(message.bodyOffset, message.bodyLength);
+    Storage<?>[] storages = new Storage<?>[selected.length];
+    int nodeIndex = 0;
+    int bufferIndex = 0;
+    for (int i = 0; i < fields.size(); i++) {
+      ArrowField field = fields.get(i);
+      for (int j = 0; j < selected.length; j++) {
+        if (selected[j] == i) {
+          storages[j] = readColumn(i, batch, body, compressed, nodeIndex, bufferIndex);
+        }
+      }
+      nodeIndex += field.nodeCount();
+      bufferIndex += field.bufferCount();
+    }
+    return new Batch((int) length, storages);
+  }
+
+  private Storage<?> readColumn(
+      int index,
+      FlatBufferTable batch,
+      ByteBuffer body,
+      boolean compressed,
+      int nodeIndex,
+      int bufferIndex) {
+    ArrowField field = fields.get(index);
+    ByteBuffer metadata = batch.buffer();
+    int node =
+        batch.getStructInVector(ArrowFormat.BATCH_NODES, nodeIndex, ArrowFormat.FIELD_NODE_SIZE);
+    int length = (int) metadata.getLong(node);
+    long nullCount = metadata.getLong(node + 8);
+
+    ByteBuffer[] buffers = new ByteBuffer[field.type().bufferCount()];
+    for (int k = 0; k < buffers.length; k++) {
+      int buffer =
+          batch.getStructInVector(
+              ArrowFormat.BATCH_BUFFERS, bufferIndex + k, ArrowFormat.BUFFER_SIZE);
+      buffers[k] =
+          bodyBuffer(body, metadata.getLong(buffer), metadata.getLong(buffer + 8), compressed);
+    }
+
+    if (field.dictionaryEncoded()) {
+      throw unsupported(index);
+    }
+
+    ArrowType type = field.type();
+    ByteBuffer validity = nullCount == 0 || buffers.length == 0 ? null : buffers[0];
+    return switch (type.id()) {
+      case ArrowType.NULL -> new MixedStorage(new Object[length], length);
+      case ArrowType.INT -> type.signed()
+          ? new ArrowIntegerStorage(
+              buffers[1], validity, length, IntegerType.create(Bits.fromInteger(type.bitWidth())))
+          : readUnsigned(index, buffers[1], validity, length);
+      case ArrowType.FLOATING_POINT -> type.unit() == ArrowType.PRECISION_DOUBLE
+          ? new ArrowFloatStorage(buffers[1], validity, length)
+          : readSmallFloats(type, buffers[1], validity, length);
+      case ArrowType.BOOL -> readBooleans(buffers[1], validity, length);
+      case ArrowType.UTF8 -> new ArrowStringStorage(buffers[1], buffers[2], validity, length);
+      case ArrowType.LARGE_UTF8 -> readLargeStrings(buffers[1], buffers[2], validity, length);
+      case ArrowType.DATE -> new ArrowDateStorage(
+          buffers[1],
+          validity,
+          length,
+          type.unit() == ArrowType.DATE_DAY
+              ? ArrowDateStorage.Unit.DAYS
+              : ArrowDateStorage.Unit.MILLISECONDS);
+      case ArrowType.TIME -> readTimes(type, buffers[1], validity, length);
+      case ArrowType.TIMESTAMP -> readTimestamps(type, buffers[1], validity, length);
+      default -> throw unsupported(index);
+    };
+  }
+
+  private IllegalArgumentException unsupported(int index) {
+    ArrowField field = fields.get(index);
+    String type = field.dictionaryEncoded() ? "dictionary-encoded" : field.type().toString();
+    return new IllegalArgumentException(
+        "The column "
+            + columnName(index)
+            + " has the Arrow type "
+            + type
+            + ", which is not supported.");
+  }
+
+  /**
+   * Returns a buffer of a record batch, decompressing it if needed.
+   *
+   * <p>Each compressed buffer starts with its uncompressed length, or -1 if it was left
+   * uncompressed.
+   */
+  private static ByteBuffer bodyBuffer(
+      ByteBuffer body, long offset, long length, boolean compressed) {
+    if (!compressed || length == 0) {
+      return ArrowBuffers.slice(body, (int) offset, (int) length);
+    }
+
+    long uncompressedLength = body.getLong((int) offset);
+    ByteBuffer data = ArrowBuffers.slice(body, (int) offset + 8, (int) length - 8);
+    if (uncompressedLength == -1) {
+      return data;
+    }
+    ByteBuffer result = ArrowBuffers.allocate(uncompressedLength);
+    Lz4FrameDecoder.decode(data, result);
+    return result;
+  }
+
+  private Storage<?> readUnsigned(int index, ByteBuffer data, ByteBuffer validity, int length) {
+    int bitWidth = fields.get(index).type().bitWidth();
+    long[] values = new long[length];
+    BitSet isNothing = ArrowBuffers.toIsNothing(validity, length);
+    Context context = Context.getCurrent();
+    for (int i = 0; i < length; i++) {
+      if (!isNothing.get(i)) {
+        values[i] =
+            switch (bitWidth) {
+              case 8 -> Byte.toUnsignedLong(data.get(i));
+              case 16 -> Short.toUnsignedLong(data.getShort(i << 1));
+              case 32 -> Integer.toUnsignedLong(data.getInt(i << 2));
+              default -> data.getLong(i << 3);
+            };
+        if (values[i] < 0) {
+          throw new IllegalArgumentException(
+              "The column "
+                  + columnName(index)
+                  + " holds unsigned 64-bit integers which do not fit in a 64-bit Integer.");
+        }
+      }
+
+      context.safepoint();
+    }
+    return new LongStorage(values, length, isNothing, unsignedStorageType(bitWidth));
+  }
+
+  private static IntegerType unsignedStorageType(int bitWidth) {
+    return switch (bitWidth) {
+      case 8 -> IntegerType.INT_16;
+      case 16 -> IntegerType.INT_32;
+      default -> IntegerType.INT_64;
+    };
+  }
+
+  private static Storage<?> readSmallFloats(
+      ArrowType type, ByteBuffer data, ByteBuffer validity, int length) {
+    long[] values = new long[length];
+    BitSet isNothing = ArrowBuffers.toIsNothing(validity, length);
+    Context context = Context.getCurrent();
+    for (int i = 0; i < length; i++) {
+      double value =
+          type.unit() == ArrowType.PRECISION_SINGLE
+              ? data.getFloat(i << 2)
+              : Float.float16ToFloat(data.getShort(i << 1));
+      values[i] = Double.doubleToRawLongBits(value);
+      context.safepoint();
+    }
+    return new DoubleStorage(values, length, isNothing);
+  }
+
+  private static Storage<?> readBooleans(ByteBuffer data, ByteBuffer validity, int length) {
+    int bytes = (int) ArrowBuffers.validityBytes(length);
+    BitSet values = BitSet.valueOf(ArrowBuffers.slice(data, 0, Math.min(bytes, data.capacity())));
+    values.clear(length, Math.max(length, values.length()));
+    return new BoolStorage(values, ArrowBuffers.toIsNothing(validity, length), length, false);
+  }
+
+  private static Storage<?> readLargeStrings(
+      ByteBuffer offsets, ByteBuffer data, ByteBuffer validity, int length) {
+    String[] values = new String[length];
+    Context context = Context.getCurrent();
+    for (int i = 0; i < length; i++) {
+      if (ArrowBuffers.isValid(validity, i)) {
+        int start = (int) offsets.getLong(i << 3);
+        byte[] bytes = new byte[(int) offsets.getLong((i + 1) << 3) - start];
+        data.get(start, bytes);
+        values[i] = new String(bytes, StandardCharsets.UTF_8);
+      }
+
+      context.safepoint();
+    }
+    return new StringStorage(values, length, TextType.VARIABLE_LENGTH);
+  }
+
+  private static long nanosPerUnit(short unit) {
+    return switch (unit) {
+      case ArrowType.TIME_SECOND -> 1_000_000_000L;
+      case ArrowType.TIME_MILLISECOND -> 1_000_000L;
+      case ArrowType.TIME_MICROSECOND -> 1_000L;
+      default -> 1L;
+    };
+  }
+
+  private static Storage<?> readTimes(
+      ArrowType type, ByteBuffer data, ByteBuffer validity, int length) {
+    long nanosPerUnit = nanosPerUnit(type.unit());
+    LocalTime[] values = new LocalTime[length];
+    Context context = Context.getCurrent();
+    for (int i = 0; i < length; i++) {
+      if (ArrowBuffers.isValid(validity, i)) {
+        long value = type.bitWidth() == 32 ? data.getInt(i << 2) : data.getLong(i << 3);
+        values[i] = LocalTime.ofNanoOfDay(value * nanosPerUnit);
+      }
+
+      context.safepoint();
+    }
+    return new TimeOfDayStorage(values, length);
+  }
+
+  /**
+   * Reads timestamps. Timestamps without a time zone represent a local date and time, which is
+   * placed in the system time zone.
+   */
+  private static Storage<?> readTimestamps(
+      ArrowType type, ByteBuffer data, ByteBuffer validity, int length) {
+    long unitsPerSecond = 1_000_000_000L / nanosPerUnit(type.unit());
+    long nanosPerUnit = nanosPerUnit(type.unit());
+    ZoneId zone = type.timezone() == null ? null : ZoneId.of(type.timezone());
+    ZonedDateTime[] values = new ZonedDateTime[length];
+    Context context = Context.getCurrent();
+    for (int i = 0; i < length; i++) {
+      if (ArrowBuffers.isValid(validity, i)) {
+        long value = data.getLong(i << 3);
+        long seconds = Math.floorDiv(value, unitsPerSecond);
+        long nanos = Math.floorMod(value, unitsPerSecond) * nanosPerUnit;
+        values[i] =
+            zone == null
+                ? LocalDateTime.ofEpochSecond(seconds, (int) nanos, ZoneOffset.UTC)
+                    .atZone(ZoneId.systemDefault())
+                : Instant.ofEpochSecond(seconds, nanos).atZone(zone);
+      }
+
+      context.safepoint();
+    }
+    return new DateTimeStorage(values, length);
+  }
+
+  /** Returns the type of the storages holding the values of the field. */
+  private StorageType storageType(int index) {
+    ArrowType type = fields.get(index).type();
+    if (fields.get(index).dictionaryEncoded()) {
+      throw unsupported(index);
+    }
+    return switch (type.id()) {
+      case ArrowType.NULL -> AnyObjectType.INSTANCE;
+      case ArrowType.INT -> type.signed()
+          ? IntegerType.create(Bits.fromInteger(type.bitWidth()))
+          : unsignedStorageType(type.bitWidth());
+      case ArrowType.FLOATING_POINT -> FloatType.FLOAT_64;
+      case ArrowType.BOOL -> BooleanType.INSTANCE;
+      case ArrowType.UTF8, ArrowType.LARGE_UTF8 -> TextType.VARIABLE_LENGTH;
+      case ArrowType.DATE -> DateType.INSTANCE;
+      case ArrowType.TIME -> TimeOfDayType.INSTANCE;
+      case ArrowType.TIMESTAMP -> DateTimeType.INSTANCE;
+      default -> throw unsupported(index);
+    };
+  }
+
+  /**
+   * Creates a builder to concatenate the parts of a column read from several record batches,
+   * keeping the values off-heap for the types having an Arrow storage.
+   *
+   * <p>Columns whose buffers would exceed {@link ArrowBuffers#MAX_BUFFER_SIZE} are kept on the heap.
+   */
+  private Builder concatenationBuilder(
+      int index, int rowCount, List<Storage<?>[]> parts, int column) {
+    StorageType storageType = storageType(index);
+    ArrowType type = fields.get(index).type();
+    Builder offHeapBuilder =
+        switch (type.id()) {
+          case ArrowType.INT -> type.signed()
+                  && ArrowBuffers.fits(
+                      (long) rowCount * ArrowIntegerStorage.byteWidth((IntegerType) storageType))
+              ? new ArrowIntegerBuilder(rowCount, (IntegerType) storageType)
+              : null;
+          case ArrowType.FLOATING_POINT -> ArrowBuffers.fits((long) rowCount * Double.BYTES)
+              ? new ArrowFloatBuilder(rowCount)
+              : null;
+          case ArrowType.DATE -> ArrowBuffers.fits((long) rowCount * Integer.BYTES)
+              ? new ArrowDateBuilder(rowCount)
+              : null;
+          case ArrowType.UTF8 -> {
+            long dataBytes = 0;
+            for (Storage<?>[] part : parts) {
+              if (part[column] instanceof ArrowStringStorage strings) {
+                dataBytes += strings.getDataBuffer().capacity();
+              }
+            }
+            yield ArrowBuffers.fits(dataBytes)
+                    && ArrowBuffers.fits((rowCount + 1L) * Integer.BYTES)
+                ? new ArrowStringBuilder(rowCount, (int) dataBytes)
+                : null;
+          }
+          default -> null;
+        };
+    return offHeapBuilder != null
+        ? offHeapBuilder
+        : Builder.getForType(storageType, rowCount, BlackholeProblemAggregator.INSTANCE);
+  }
+
+  /** The bytes of an Arrow file or stream. */
+  private interface Source extends Closeable {
+    long size() throws IOException;
+
+    /** Reads a small part of the data, like the metadata of a message. */
+    ByteBuffer read(long offset, int length) throws IOException;
+
+    /**
+     * Returns a part of the data holding the body of a message. The buffer must stay valid after
+     * the source is closed, as the storages read from the body refer to it.
+     */
+    ByteBuffer readBody(long offset, long length) throws IOException;
+  }
+
+  private record FileSource(FileChannel channel) implements Source {
+    @Override
+    public long size() throws IOException {
+      return channel.size();
+    }
+
+    @Override
+    public ByteBuffer read(long offset, int length) throws IOException {
+      ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+      readFully(buffer, offset);
+      return buffer.flip();
+    }
+
+    /**
+     * Copies the body into a new off-heap buffer, instead of mapping the file. A mapping would
+     * outlive the reader, keeping the file locked on Windows and crashing the process if the file
+     * was truncated while the columns are still in use.
+     */
+    @Override
+    public ByteBuffer readBody(long offset, long length) throws IOException {
+      if (length > Integer.MAX_VALUE) {
+        throw new IllegalArgumentException("Record batches larger than 2GB are not supported.");
+      }
+      ByteBuffer body = ArrowBuffers.allocate(length);
+      readFully(ArrowBuffers.slice(body, 0, (int) length), offset);
+      return body;
+    }
+
+    private void readFully(ByteBuffer buffer, long offset) throws IOException {
+      while (buffer.hasRemaining()) {
+        if (channel.read(buffer, offset + buffer.position()) < 0) {
+          throw new EOFException("Unexpected end of the Arrow file.");
+        }
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      channel.close();
+    }
+  }
+
+  private record BytesSource(ByteBuffer bytes) implements Source {
+    BytesSource(byte[] bytes) {
+      this(ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN));
+    }
+
+    @Override
+    public long size() {
+      return bytes.capacity();
+    }
+
+    @Override
+    public ByteBuffer read(long offset, int length) {
+      return ArrowBuffers.slice(bytes, (int) offset, length);
+    }
+
+    @Override
+    public ByteBuffer readBody(long offset, long length) {
+      return ArrowBuffers.slice(bytes, (int) offset, (int) length);
+    }
+
+    @Override
+    public void close() {}
+  }
+}
@@ -17,6 +17,7 @@ import org.enso.table.data.table.Column;
 import org.enso.table.data.table.Table;
 import org.enso.table.error.EmptyFileException;
 import org.enso.table.parsing.DatatypeParser;
+import org.enso.table.parsing.StreamingTypeInference;
 import org.enso.table.parsing.TypeInferringParser;
 import org.enso.table.parsing.problems.CommonParseProblemAggregator;
 import org.enso.table.parsing.problems.NoOpParseProblemAggregator;
@@ -68,6 +69,14 @@ public class DelimitedReader {
   private long currentLine = 0;
 
   private StringBuilder[] builders = null;
+
+  /**
+   * Parses the cells as they are read, if the values are parsed with type inference. Otherwise the
+   * cells are collected in {@code builders} and parsed after the whole input is read.
+   */
+  private StreamingTypeInference streamingInference = null;
+
+  private CommonParseProblemAggregator[] columnProblemAggregators = null;
   private final DelimitedReaderProblemAggregator problemAggregator;
 
   /**
@@ -261,36 +270,45 @@ public class DelimitedReader {
   }
 
   private void appendRow(String[] row) {
-    assert builders != null;
+    assert columnProblemAggregators != null;
     assert canFitMoreRows();
 
-    if (row.length != builders.length) {
+    int columnCount = getColumnCount();
+    if (row.length != columnCount) {
       problemAggregator.reportInvalidRow(
-          currentLine, keepInvalidRows ? targetTableIndex : null, row, builders.length);
+          currentLine, keepInvalidRows ? targetTableIndex : null, row, columnCount);
 
       if (keepInvalidRows) {
-        for (int i = 0; i < builders.length && i < row.length; i++) {
-          builders[i].append(row[i]);
+        for (int i = 0; i < columnCount && i < row.length; i++) {
+          appendCell(i, row[i]);
         }
 
         // If the current row had fewer columns than expected, nulls are inserted for the missing
         // values.
         // If it had more columns, the excess columns are discarded.
-        for (int i = row.length; i < builders.length; i++) {
-          builders[i].append(null);
+        for (int i = row.length; i < columnCount; i++) {
+          appendCell(i, null);
         }
 
         targetTableIndex++;
       }
     } else {
-      for (int i = 0; i < builders.length; i++) {
-        builders[i].append(row[i]);
+      for (int i = 0; i < columnCount; i++) {
+        appendCell(i, row[i]);
       }
 
       targetTableIndex++;
     }
   }
 
+  private void appendCell(int column, String cell) {
+    if (streamingInference != null) {
+      streamingInference.append(column, cell);
+    } else {
+      builders[column].append(cell);
+    }
+  }
+
   private boolean canFitMoreRows() {
     return rowLimit < 0 || targetTableIndex < rowLimit;
   }
@@ -451,7 +469,7 @@ public class DelimitedReader {
         throw new EmptyFileException();
       }
 
-      initBuilders(columnCount);
+      initColumns(columnCount);
       while (canFitMoreRows()) {
         var currentRow = readNextRow();
         if (currentRow == null) break;
@@ -465,17 +483,19 @@ public class DelimitedReader {
       parser.stopParsing();
     }
 
-    Column[] columns = new Column[builders.length];
-    for (int i = 0; i < builders.length; i++) {
+    Column[] columns = new Column[getColumnCount()];
+    if (streamingInference != null) {
+      Storage<?>[] storages = streamingInference.finish();
+      for (int i = 0; i < columns.length; i++) {
+        columns[i] = new Column(effectiveColumnNames[i], storages[i]);
+      }
+      return new Table(columns);
+    }
+
+    for (int i = 0; i < columns.length; i++) {
       String columnName = effectiveColumnNames[i];
       Storage<String> col = builders[i].seal();
-
-      // We don't expect InvalidFormat to be propagated back to Enso, there is no particular type
-      // that we expect, so it can safely be null.
-      Value expectedEnsoValueType = Value.asValue(null);
-      CommonParseProblemAggregator parseProblemAggregator =
-          ParseProblemAggregator.make(problemAggregator, columnName, expectedEnsoValueType);
-      Storage<?> storage = valueParser.parseColumn(col, parseProblemAggregator);
+      Storage<?> storage = valueParser.parseColumn(col, columnProblemAggregators[i]);
       columns[i] = new Column(columnName, storage);
       context.safepoint();
     }
@@ -496,7 +516,22 @@ public class DelimitedReader {
 
   private static final int INITIAL_ROW_CAPACITY = 100;
 
-  private void initBuilders(int count) {
+  private void initColumns(int count) {
+    columnProblemAggregators = new CommonParseProblemAggregator[count];
+    for (int i = 0; i < count; i++) {
+      // We don't expect InvalidFormat to be propagated back to Enso, there is no particular type
+      // that we expect, so it can safely be null.
+      Value expectedEnsoValueType = Value.asValue(null);
+      columnProblemAggregators[i] =
+          ParseProblemAggregator.make(
+              problemAggregator, effectiveColumnNames[i], expectedEnsoValueType);
+    }
+
+    if (valueParser instanceof TypeInferringParser inferringParser) {
+      streamingInference = inferringParser.startStreaming(columnProblemAggregators);
+      return;
+    }
+
     builders = new StringBuilder[count];
     for (int i = 0; i < count; i++) {
       builders[i] = new StringBuilder(INITIAL_ROW_CAPACITY, TextType.VARIABLE_LENGTH);
@@ -0,0 +1,16 @@
+package org.enso.table.read;
+
+import org.enso.base.file_format.FileFormatSPI;
+
+@org.openide.util.lookup.ServiceProvider(service = FileFormatSPI.class)
+public final class JsonLinesFileFormatImpl extends FileFormatSPI {
+  @Override
+  protected String getModuleName() {
+    return "Standard.Table.JSON.JSON_Lines_Format";
+  }
+
+  @Override
+  protected String getTypeName() {
+    return "JSON_Lines_Format";
+  }
+}
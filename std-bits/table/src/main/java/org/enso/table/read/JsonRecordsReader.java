@@ -0,0 +1,236 @@
+package org.enso.table.read;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.enso.table.data.column.builder.Builder;
+import org.enso.table.data.column.builder.InferredBuilder;
+import org.enso.table.data.table.Column;
+import org.enso.table.data.table.Table;
+import org.enso.table.error.EmptyFileException;
+import org.enso.table.problems.ProblemAggregator;
+import org.enso.table.util.NameDeduplicator;
+import org.graalvm.polyglot.Context;
+
+/**
+ * Reads a JSON Lines file, or a JSON array, of records straight into the builders of the columns of
+ * a table, without building a tree of the whole document.
+ *
+ * <p>Every field of a record becomes a column. The fields of an object nested in a record are
+ * flattened one level, with dotted names like {@code address.city}. Values nested deeper, and
+ * arrays, are kept as their JSON text. A record which is not an object is put into a column named
+ * {@value #VALUE_COLUMN_NAME}.
+ *
+ * <p>The first records are collected before the builders are created, to find the initial columns
+ * and to estimate the number of rows from the size of the input. Fields first found in later
+ * records add new columns, which are missing in the rows before. Only the builders grow with the
+ * input, so files much larger than the resulting table do not need more memory.
+ */
+public class JsonRecordsReader {
+  public static final String VALUE_COLUMN_NAME = "Value";
+
+  private static final JsonFactory FACTORY = new JsonFactory();
+  private static final int DEFAULT_ROW_CAPACITY = 1000;
+
+  private final int inferenceRecords;
+  private final long rowLimit;
+  private final long inputSize;
+  private final ProblemAggregator problemAggregator;
+
+  private final Map<String, Integer> columnIndices = new HashMap<>();
+  private final List<String> columnNames = new ArrayList<>();
+  private final List<Builder> builders = new ArrayList<>();
+  private int rowCapacity = DEFAULT_ROW_CAPACITY;
+  private int rowCount = 0;
+
+  /**
+   * Creates a new reader.
+   *
+   * @param inferenceRecords the number of records to read before creating the columns
+   * @param rowLimit the maximum number of records to read, or -1 to read all of them
+   * @param inputSize the size of the input in bytes, or -1 if it is not known
+   * @param problemAggregator the problem aggregator to report problems to
+   */
+  public JsonRecordsReader(
+      int inferenceRecords, long rowLimit, long inputSize, ProblemAggregator problemAggregator) {
+    if (inferenceRecords < 1) {
+      throw new IllegalArgumentException("The number of records to infer from must be positive.");
+    }
+    this.inferenceRecords = inferenceRecords;
+    this.rowLimit = rowLimit;
+    this.inputSize = inputSize;
+    this.problemAggregator = problemAggregator;
+  }
+
+  /** Reads the records from a stream, detecting its Unicode encoding. */
+  public Table read(InputStream stream) throws IOException {
+    try (var parser = FACTORY.createParser(stream)) {
+      return read(parser);
+    }
+  }
+
+  /** Reads the records from a reader. */
+  public Table read(Reader reader) throws IOException {
+    try (var parser = FACTORY.createParser(reader)) {
+      return read(parser);
+    }
+  }
+
+  private Table read(JsonParser parser) throws IOException {
+    JsonToken token = parser.nextToken();
+    if (token == null) {
+      throw new EmptyFileException();
+    }
+
+    boolean isArray = token == JsonToken.START_ARRAY;
+    if (isArray) {
+      token = parser.nextToken();
+    }
+
+    Context context = Context.getCurrent();
+    List<Map<String, Object>> pending = new ArrayList<>(inferenceRecords);
+    while (token != null && token != JsonToken.END_ARRAY && canFitMoreRows(pending)) {
+      if (pending != null) {
+        Map<String, Object> record = new LinkedHashMap<>();
+        readRecord(parser, token, record::putIfAbsent);
+        pending.add(record);
+        if (pending.size() == inferenceRecords) {
+          createColumns(pending, parser);
+          pending = null;
+        }
+      } else {
+        readRecord(parser, token, this::appendField);
+        rowCount++;
+      }
+
+      token = parser.nextToken();
+      context.safepoint();
+    }
+
+    if (pending != null) {
+      createColumns(pending, parser);
+    }
+
+    return buildTable();
+  }
+
+  /** Checks if another record can be read, counting the records collected for inference. */
+  private boolean canFitMoreRows(List<Map<String, Object>> pending) {
+    long recordsRead = pending == null ? rowCount : pending.size();
+    return rowLimit < 0 || recordsRead < rowLimit;
+  }
+
+  /** Creates the columns of the collected records, and appends the records to them. */
+  private void createColumns(List<Map<String, Object>> records, JsonParser parser) {
+    long bytesRead = parser.currentLocation().getByteOffset();
+    if (inputSize > 0 && bytesRead > 0 && !records.isEmpty()) {
+      long estimate = inputSize * records.size() / bytesRead;
+      if (rowLimit >= 0) {
+        estimate = Math.min(estimate, rowLimit);
+      }
+      rowCapacity = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(estimate, records.size()));
+    }
+
+    for (var record : records) {
+      for (var entry : record.entrySet()) {
+        appendField(entry.getKey(), entry.getValue());
+      }
+      rowCount++;
+    }
+  }
+
+  private void appendField(String name, Object value) {
+    Integer index = columnIndices.get(name);
+    Builder builder;
+    if (index == null) {
+      builder = new InferredBuilder(rowCapacity, problemAggregator);
+      columnIndices.put(name, builders.size());
+      columnNames.add(name);
+      builders.add(builder);
+    } else {
+      builder = builders.get(index);
+    }
+
+    // If a flattened name clashes with a field of the record, the first value is kept.
+    if (builder.getCurrentSize() > rowCount) {
+      return;
+    }
+    builder.fillUpToSize(rowCount);
+    builder.append(value);
+  }
+
+  private Table buildTable() {
+    NameDeduplicator deduplicator = NameDeduplicator.createDefault(problemAggregator);
+    String[] names = deduplicator.makeUniqueArray(columnNames.toArray(new String[0]));
+
+    Column[] columns = new Column[builders.size()];
+    for (int i = 0; i < columns.length; i++) {
+      Builder builder = builders.get(i);
+      builder.fillUpToSize(rowCount);
+      columns[i] = new Column(names[i], builder.seal());
+    }
+    return new Table(columns);
+  }
+
+  @FunctionalInterface
+  private interface FieldConsumer {
+    void accept(String name, Object value);
+  }
+
+  /** Reads a record starting at the current token, passing its flattened fields to the consumer. */
+  private static void readRecord(JsonParser parser, JsonToken token, FieldConsumer consumer)
+      throws IOException {
+    if (token != JsonToken.START_OBJECT) {
+      consumer.accept(VALUE_COLUMN_NAME, readValue(parser, token));
+      return;
+    }
+
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String name = parser.currentName();
+      JsonToken valueToken = parser.nextToken();
+      if (valueToken == JsonToken.START_OBJECT) {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          String nestedName = name + "." + parser.currentName();
+          consumer.accept(nestedName, readValue(parser, parser.nextToken()));
+        }
+      } else {
+        consumer.accept(name, readValue(parser, valueToken));
+      }
+    }
+  }
+
+  private static Object readValue(JsonParser parser, JsonToken token) throws IOException {
+    return switch (token) {
+      case VALUE_NULL -> null;
+      case VALUE_TRUE -> true;
+      case VALUE_FALSE -> false;
+      case VALUE_STRING -> parser.getText();
+      case VALUE_NUMBER_INT ->
+          parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER
+              ? parser.getBigIntegerValue()
+              : parser.getLongValue();
+      case VALUE_NUMBER_FLOAT -> parser.getDoubleValue();
+      case START_OBJECT, START_ARRAY -> readJsonText(parser);
+      default -> throw new IllegalStateException("Unexpected JSON token: " + token);
+    };
+  }
+
+  /** Reads the structure starting at the current token back as compact JSON text. */
+  private static String readJsonText(JsonParser parser) throws IOException {
+    var writer = new StringWriter();
+    try (JsonGenerator generator = FACTORY.createGenerator(writer)) {
+      generator.copyCurrentStructure(parser);
+    }
+    return writer.toString();
+  }
+}
@@ -0,0 +1,192 @@
+package org.enso.table.read;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.enso.table.excel.ExcelConnectionPool;
+import org.enso.table.excel.ExcelFileFormat;
+import org.enso.table.excel.ExcelRange;
+import org.enso.table.excel.ExcelWorkbook;
+import org.enso.table.excel.ReadOnlyExcelConnection;
+import org.enso.table.excel.xssfreader.XSSFReaderWorkbook;
+import org.graalvm.polyglot.Context;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Parses several sheets of a workbook, or several workbooks, at the same time.
+ *
+ * <p>Only the SAX parsing of the XLSX sheets runs on the worker threads, each sheet into its own
+ * cell store. The tables are then built by the usual {@link ExcelReader} calls, which pick up the
+ * parsed sheets, on the calling thread and in the requested order, because header detection and
+ * type inference need the polyglot context. A sheet that fails to parse is skipped here, so that the
+ * following read reports the error exactly as it would without prefetching.
+ */
+public final class ParallelExcelReader {
+  static final int PARALLELISM =
+      Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ParallelExcelReader.class);
+
+  private static ExecutorService executor;
+
+  private ParallelExcelReader() {}
+
+  /**
+   * Parses the sheets behind the given sheet names, range names or addresses of a workbook in
+   * parallel. Names which do not resolve to a sheet are ignored. Nothing is done for XLS workbooks,
+   * which are loaded into memory as a whole when opened.
+   *
+   * @param workbook the workbook to read from
+   * @param rangeNamesOrAddresses the sheet names, range names or addresses that will be read next
+   */
+  public static void prefetchSheets(ExcelWorkbook workbook, String[] rangeNamesOrAddresses)
+      throws InterruptedException {
+    if (!(workbook instanceof XSSFReaderWorkbook xssfWorkbook)) {
+      return;
+    }
+
+    var sheetIndices = new LinkedHashSet<Integer>();
+    for (var name : rangeNamesOrAddresses) {
+      int sheetIndex = findSheetIndex(workbook, name);
+      if (sheetIndex != -1) {
+        sheetIndices.add(sheetIndex);
+      }
+    }
+
+    // A single sheet is parsed just as fast by the read itself.
+    if (sheetIndices.size() < 2) {
+      return;
+    }
+
+    var tasks = new ArrayList<Callable<Void>>();
+    for (int sheetIndex : sheetIndices) {
+      tasks.add(prefetchTask(xssfWorkbook, sheetIndex));
+    }
+    runAll(tasks);
+  }
+
+  /**
+   * Parses all the sheets of several XLSX workbooks in parallel.
+   *
+   * <p>The parsed sheets are kept by the pooled workbook, so the caller must keep its own
+   * connections to the files open until the sheets are read, otherwise they are discarded. Files
+   * that cannot be opened are ignored.
+   *
+   * @param files the workbooks that will be read next
+   */
+  public static void prefetchWorkbooks(File[] files) throws InterruptedException {
+    var connections = new ArrayList<ReadOnlyExcelConnection>();
+    try {
+      var tasks = new ArrayList<Callable<Void>>();
+      for (var file : files) {
+        ExcelWorkbook workbook;
+        try {
+          var connection =
+              ExcelConnectionPool.INSTANCE.openReadOnlyConnection(file, ExcelFileFormat.XLSX);
+          connections.add(connection);
+          workbook = connection.withWorkbook(w -> w);
+        } catch (IOException | RuntimeException e) {
+          LOGGER.debug("Not prefetching {}: {}", file, e.getMessage());
+          continue;
+        }
+
+        if (workbook instanceof XSSFReaderWorkbook xssfWorkbook) {
+          for (int i = 0; i < xssfWorkbook.getNumberOfSheets(); i++) {
+            tasks.add(prefetchTask(xssfWorkbook, i));
+          }
+        }
+      }
+      runAll(tasks);
+    } finally {
+      for (var connection : connections) {
+        try {
+          connection.close();
+        } catch (IOException e) {
+          LOGGER.debug("Failed to close the connection: {}", e.getMessage());
+        }
+      }
+    }
+  }
+
+  private static int findSheetIndex(ExcelWorkbook workbook, String rangeNameOrAddress) {
+    int sheetIndex = workbook.getSheetIndex(rangeNameOrAddress);
+    if (sheetIndex != -1) {
+      return sheetIndex;
+    }
+
+    try {
+      var formula = workbook.getNameFormula(rangeNameOrAddress);
+      var excelRange = new ExcelRange(formula == null ? rangeNameOrAddress : formula);
+      return workbook.getSheetIndex(excelRange.getSheetName());
+    } catch (IllegalArgumentException e) {
+      return -1;
+    }
+  }
+
+  private static Callable<Void> prefetchTask(XSSFReaderWorkbook workbook, int sheetIndex) {
+    return () -> {
+      try {
+        workbook.prefetchSheet(sheetIndex);
+      } catch (RuntimeException e) {
+        LOGGER.debug(
+            "Failed to prefetch sheet {} of {}: {}", sheetIndex, workbook.getPath(), e.getMessage());
+      }
+      return null;
+    };
+  }
+
+  private static synchronized ExecutorService getExecutor() {
+    if (executor == null) {
+      executor =
+          Executors.newFixedThreadPool(
+              PARALLELISM,
+              r -> {
+                var thread = new Thread(r, "Enso Excel Reader");
+                thread.setDaemon(true);
+                return thread;
+              });
+    }
+    return executor;
+  }
+
+  /** Runs the tasks on the pool, waiting for all of them while letting the caller be cancelled. */
+  private static void runAll(List<Callable<Void>> tasks) throws InterruptedException {
+    var executor = getExecutor();
+    var futures = new ArrayList<Future<Void>>(tasks.size());
+    for (var task : tasks) {
+      futures.add(executor.submit(task));
+    }
+
+    var context = Context.getCurrent();
+    try {
+      for (var future : futures) {
+        while (true) {
+          try {
+            future.get(100, TimeUnit.MILLISECONDS);
+            break;
+          } catch (TimeoutException e) {
+            context.safepoint();
+          } catch (ExecutionException e) {
+            if (e.getCause() instanceof InterruptedException) {
+              throw new InterruptedException(e.getCause().getMessage());
+            }
+            LOGGER.debug("Prefetching a sheet failed: {}", e.getCause().getMessage());
+            break;
+          }
+        }
+      }
+    } finally {
+      futures.forEach(f -> f.cancel(true));
+    }
+  }
+}
@@ -0,0 +1,321 @@
+package org.enso.table.write;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.enso.table.arrow.ArrowField;
+import org.enso.table.arrow.ArrowFormat;
+import org.enso.table.arrow.ArrowType;
+import org.enso.table.arrow.FlatBufferBuilder;
+import org.enso.table.data.column.storage.Storage;
+import org.enso.table.data.column.storage.arrow.ArrowBuffers;
+import org.enso.table.data.column.storage.numeric.AbstractLongStorage;
+import org.enso.table.data.column.storage.type.AnyObjectType;
+import org.enso.table.data.column.storage.type.BooleanType;
+import org.enso.table.data.column.storage.type.DateTimeType;
+import org.enso.table.data.column.storage.type.DateType;
+import org.enso.table.data.column.storage.type.FloatType;
+import org.enso.table.data.column.storage.type.IntegerType;
+import org.enso.table.data.column.storage.type.TextType;
+import org.enso.table.data.column.storage.type.TimeOfDayType;
+import org.enso.table.data.table.Column;
+import org.enso.table.data.table.Table;
+import org.graalvm.polyglot.Context;
+
+/**
+ * Writes tables as Arrow IPC files, which can also be read as Feather V2 files.
+ *
+ * <p>The rows are written in record batches of a fixed size, so only a single batch needs to be
+ * encoded in memory at a time. Date-times are written as microsecond timestamps, in the time zone
+ * of the values if they all share one, or in UTC otherwise.
+ */
+public final class ArrowWriter {
+  /** The default number of rows of a record batch. */
+  public static final int DEFAULT_BATCH_SIZE = 65536;
+
+  private final WritableByteChannel output;
+  private final List<ArrowField> fields = new ArrayList<>();
+  private final List<Storage<?>> storages = new ArrayList<>();
+  private final List<long[]> blocks = new ArrayList<>();
+  private long position = 0;
+
+  private ArrowWriter(OutputStream output, Table table) {
+    this.output = Channels.newChannel(output);
+    for (Column column : table.getColumns()) {
+      Storage<?> storage = column.getStorage();
+      if (storage.getType() instanceof AnyObjectType) {
+        storage = storage.tryGettingMoreSpecializedStorage();
+      }
+      storages.add(storage);
+      fields.add(ArrowField.of(column.getName(), arrowType(column.getName(), storage)));
+    }
+  }
+
+  /**
+   * Writes a table in the Arrow file format.
+   *
+   * @param table the table to write
+   * @param output the stream to write to, which is not closed
+   * @param batchSize the number of rows of every record batch
+   */
+  public static void write(Table table, OutputStream output, int batchSize) throws IOException {
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("The batch size must be positive.");
+    }
+    new ArrowWriter(output, table).write(table.rowCount(), batchSize);
+    output.flush();
+  }
+
+  private static ArrowType arrowType(String columnName, Storage<?> storage) {
+    return switch (storage.getType()) {
+      case IntegerType type -> ArrowType.integer(type.bits().toInteger(), true);
+      case FloatType type -> ArrowType.floatingPoint(ArrowType.PRECISION_DOUBLE);
+      case BooleanType type -> ArrowType.simple(ArrowType.BOOL);
+      case TextType type -> ArrowType.simple(ArrowType.UTF8);
+      case DateType type -> ArrowType.date(ArrowType.DATE_DAY);
+      case TimeOfDayType type -> ArrowType.time(ArrowType.TIME_NANOSECOND);
+      case DateTimeType type -> ArrowType.timestamp(
+          ArrowType.TIME_MICROSECOND, timezoneName(commonZone(storage)));
+      case AnyObjectType type when countNothing(storage) == storage.size() -> ArrowType.simple(
+          ArrowType.NULL);
+      default -> throw new IllegalArgumentException(
+          "The column "
+              + columnName
+              + " has the type "
+              + storage.getType()
+              + ", which cannot be written to an Arrow file.");
+    };
+  }
+
+  /** Returns the time zone shared by all date-times, or UTC if they have different ones. */
+  private static ZoneId commonZone(Storage<?> storage) {
+    ZoneId zone = null;
+    for (int i = 0; i < storage.size(); i++) {
+      if (storage.getItemBoxed(i) instanceof ZonedDateTime dateTime) {
+        if (zone == null) {
+          zone = dateTime.getZone();
+        } else if (!zone.equals(dateTime.getZone())) {
+          return ZoneOffset.UTC;
+        }
+      }
+    }
+    return zone == null ? ZoneOffset.UTC : zone;
+  }
+
+  /** Names the zone as expected by other Arrow implementations, which do not accept {@code Z}. */
+  private static String timezoneName(ZoneId zone) {
+    return zone.equals(ZoneOffset.UTC) ? "UTC" : zone.getId();
+  }
+
+  private static int countNothing(Storage<?> storage) {
+    int count = 0;
+    for (int i = 0; i < storage.size(); i++) {
+      if (storage.isNothing(i)) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private void write(int rowCount, int batchSize) throws IOException {
+    writeBytes(ArrowFormat.MAGIC);
+    writeBytes(new byte[8 - ArrowFormat.MAGIC.length]);
+
+    FlatBufferBuilder schemaBuilder = new FlatBufferBuilder(1024);
+    int schema = ArrowFormat.writeSchema(schemaBuilder, fields);
+    writeMessage(
+        ArrowFormat.finishMessage(schemaBuilder, ArrowFormat.HEADER_SCHEMA, schema, 0), List.of());
+
+    for (int start = 0; start < rowCount; start += batchSize) {
+      writeBatch(start, Math.min(batchSize, rowCount - start));
+    }
+
+    ByteBuffer endOfStream = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+    endOfStream.putInt(ArrowFormat.CONTINUATION).putInt(0);
+    writeBuffer(endOfStream.flip());
+
+    FlatBufferBuilder footerBuilder = new FlatBufferBuilder(1024);
+    int footerSchema = ArrowFormat.writeSchema(footerBuilder, fields);
+    int recordBatches = footerBuilder.createBlockVector(blocks.toArray(new long[0][]));
+    int dictionaries = footerBuilder.createBlockVector(new long[0][]);
+    footerBuilder.startTable(5);
+    footerBuilder.addShort(ArrowFormat.FOOTER_VERSION, ArrowFormat.METADATA_VERSION);
+    footerBuilder.addOffset(ArrowFormat.FOOTER_SCHEMA, footerSchema);
+    footerBuilder.addOffset(ArrowFormat.FOOTER_DICTIONARIES, dictionaries);
+    footerBuilder.addOffset(ArrowFormat.FOOTER_RECORD_BATCHES, recordBatches);
+    byte[] footer = footerBuilder.finish(footerBuilder.endTable());
+    writeBytes(footer);
+
+    ByteBuffer footerLength = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+    writeBuffer(footerLength.putInt(footer.length).flip());
+    writeBytes(ArrowFormat.MAGIC);
+  }
+
+  private void writeBatch(int start, int length) throws IOException {
+    List<ByteBuffer> buffers = new ArrayList<>();
+    long[] nodes = new long[2 * fields.size()];
+    Context context = Context.getCurrent();
+    for (int i = 0; i < fields.size(); i++) {
+      Storage<?> storage = storages.get(i);
+      ByteBuffer validity = ArrowBuffers.allocate(ArrowBuffers.validityBytes(length));
+      int nullCount = 0;
+      for (int j = 0; j < length; j++) {
+        if (storage.isNothing(start + j)) {
+          nullCount++;
+        } else {
+          ArrowBuffers.setValid(validity, j);
+        }
+
+        context.safepoint();
+      }
+      nodes[2 * i] = length;
+      nodes[2 * i + 1] = nullCount;
+
+      ArrowType type = fields.get(i).type();
+      if (type.id() != ArrowType.NULL) {
+        buffers.add(validity.limit(nullCount == 0 ? 0 : (int) ArrowBuffers.validityBytes(length)));
+        encodeValues(type, storage, start, length, buffers);
+      }
+    }
+
+    long[] bufferLocations = new long[2 * buffers.size()];
+    long bodyLength = 0;
+    for (int k = 0; k < buffers.size(); k++) {
+      long size = buffers.get(k).limit();
+      bufferLocations[2 * k] = bodyLength;
+      bufferLocations[2 * k + 1] = size;
+      bodyLength += padding(size);
+    }
+
+    FlatBufferBuilder builder = new FlatBufferBuilder(256 + 16 * (nodes.length + buffers.size()));
+    int nodesOffset = builder.createLongStructVector(2, nodes);
+    int buffersOffset = builder.createLongStructVector(2, bufferLocations);
+    builder.startTable(5);
+    builder.addLong(ArrowFormat.BATCH_LENGTH, length);
+    builder.addOffset(ArrowFormat.BATCH_NODES, nodesOffset);
+    builder.addOffset(ArrowFormat.BATCH_BUFFERS, buffersOffset);
+    int batch = builder.endTable();
+    byte[] metadata =
+        ArrowFormat.finishMessage(builder, ArrowFormat.HEADER_RECORD_BATCH, batch, bodyLength);
+
+    blocks.add(new long[] {position, 8 + metadata.length, bodyLength});
+    writeMessage(metadata, buffers);
+  }
+
+  /** Encodes the values of a batch of a column, adding their buffers after the validity. */
+  private static void encodeValues(
+      ArrowType type, Storage<?> storage, int start, int length, List<ByteBuffer> buffers) {
+    if (type.id() == ArrowType.UTF8) {
+      encodeStrings(storage, start, length, buffers);
+      return;
+    }
+
+    int width = type.id() == ArrowType.BOOL ? 0 : type.byteWidth();
+    long size = width == 0 ? ArrowBuffers.validityBytes(length) : (long) length * width;
+    ByteBuffer data = ArrowBuffers.allocate(size);
+    Context context = Context.getCurrent();
+    for (int j = 0; j < length; j++) {
+      int row = start + j;
+      if (!storage.isNothing(row)) {
+        switch (type.id()) {
+          case ArrowType.INT -> {
+            long value =
+                storage instanceof AbstractLongStorage longs
+                    ? longs.getItem(row)
+                    : ((Number) storage.getItemBoxed(row)).longValue();
+            switch (width) {
+              case 1 -> data.put(j, (byte) value);
+              case 2 -> data.putShort(j << 1, (short) value);
+              case 4 -> data.putInt(j << 2, (int) value);
+              default -> data.putLong(j << 3, value);
+            }
+          }
+          case ArrowType.FLOATING_POINT -> data.putDouble(
+              j << 3, ((Number) storage.getItemBoxed(row)).doubleValue());
+          case ArrowType.BOOL -> {
+            if ((Boolean) storage.getItemBoxed(row)) {
+              ArrowBuffers.setValid(data, j);
+            }
+          }
+          case ArrowType.DATE -> data.putInt(
+              j << 2, Math.toIntExact(((LocalDate) storage.getItemBoxed(row)).toEpochDay()));
+          case ArrowType.TIME -> data.putLong(
+              j << 3, ((LocalTime) storage.getItemBoxed(row)).toNanoOfDay());
+          case ArrowType.TIMESTAMP -> {
+            Instant instant = ((ZonedDateTime) storage.getItemBoxed(row)).toInstant();
+            long micros =
+                Math.addExact(
+                    Math.multiplyExact(instant.getEpochSecond(), 1_000_000L),
+                    instant.getNano() / 1000);
+            data.putLong(j << 3, micros);
+          }
+          default -> throw new IllegalStateException("Unexpected Arrow type: " + type);
+        }
+      }
+
+      context.safepoint();
+    }
+    buffers.add(data.limit((int) size));
+  }
+
+  private static void encodeStrings(
+      Storage<?> storage, int start, int length, List<ByteBuffer> buffers) {
+    ByteBuffer offsets = ArrowBuffers.allocate((long) (length + 1) * Integer.BYTES);
+    ByteArrayOutputStream data = new ByteArrayOutputStream();
+    Context context = Context.getCurrent();
+    for (int j = 0; j < length; j++) {
+      if (storage.getItemBoxed(start + j) instanceof String value) {
+        data.writeBytes(value.getBytes(StandardCharsets.UTF_8));
+      }
+      if (data.size() < 0) {
+        throw new IllegalArgumentException(
+            "The text of a record batch exceeds 2GB, use a smaller batch size.");
+      }
+      offsets.putInt((j + 1) << 2, data.size());
+
+      context.safepoint();
+    }
+    buffers.add(offsets.limit((length + 1) * Integer.BYTES));
+    buffers.add(ByteBuffer.wrap(data.toByteArray()));
+  }
+
+  /** Writes an encapsulated message: its metadata followed by the padded buffers of its body. */
+  private void writeMessage(byte[] metadata, List<ByteBuffer> body) throws IOException {
+    ByteBuffer prefix = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+    writeBuffer(prefix.putInt(ArrowFormat.CONTINUATION).putInt(metadata.length).flip());
+    writeBytes(metadata);
+    for (ByteBuffer buffer : body) {
+      int size = buffer.limit();
+      writeBuffer(buffer.position(0));
+      writeBytes(new byte[(int) (padding(size) - size)]);
+    }
+  }
+
+  /** Rounds a buffer size up to the 8-byte alignment required between buffers. */
+  private static long padding(long size) {
+    return (size + 7) & ~7L;
+  }
+
+  private void writeBytes(byte[] bytes) throws IOException {
+    writeBuffer(ByteBuffer.wrap(bytes));
+  }
+
+  private void writeBuffer(ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      position += output.write(buffer);
+    }
+  }
+}
@@ -0,0 +1,157 @@
+package org.enso.tableau;
+
+import com.tableau.hyperapi.Connection;
+import com.tableau.hyperapi.HyperProcess;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Keeps the connections to Hyper databases open between reads, so that listing the tables, reading
+ * the structure and reading the data of a file do not connect to it again every time.
+ *
+ * <p>Every connection is used by a single reader at a time. Connections idle for longer than {@link
+ * #IDLE_TIMEOUT_MILLIS} are closed, so that a file is not kept attached by the Hyper process once
+ * it is no longer being read.
+ */
+final class HyperConnectionPool {
+  static final long IDLE_TIMEOUT_MILLIS = 30_000;
+
+  private static final Logger LOGGER = Logger.getLogger("enso-hyper-reader");
+
+  /** Opens a new connection to the database at the given path. */
+  @FunctionalInterface
+  interface Opener {
+    Connection open(HyperProcess process, String path) throws IOException;
+  }
+
+  private final Opener opener;
+  private final Map<String, Deque<Idle>> idle = new HashMap<>();
+  private ScheduledExecutorService evictor;
+
+  HyperConnectionPool(Opener opener) {
+    this.opener = opener;
+  }
+
+  /**
+   * Acquires a connection to the database at the given path, reusing an idle one if possible.
+   *
+   * @param process the running Hyper process, connections of other processes are discarded
+   * @param path the path of the database
+   * @return the connection, to be closed once the caller is done with it
+   * @throws IOException if a new connection cannot be opened
+   */
+  Lease acquire(HyperProcess process, String path) throws IOException {
+    while (true) {
+      Idle candidate;
+      synchronized (this) {
+        var connections = idle.get(path);
+        candidate = connections == null ? null : connections.pollLast();
+        if (connections != null && connections.isEmpty()) {
+          idle.remove(path);
+        }
+      }
+      if (candidate == null) {
+        return new Lease(path, process, opener.open(process, path));
+      }
+      if (candidate.process == process && candidate.connection.isOpen()) {
+        return new Lease(path, process, candidate.connection);
+      }
+      closeQuietly(candidate.connection);
+    }
+  }
+
+  /** Closes all the idle connections. */
+  void clear() {
+    var toClose = new ArrayList<Idle>();
+    synchronized (this) {
+      idle.values().forEach(toClose::addAll);
+      idle.clear();
+    }
+    toClose.forEach(i -> closeQuietly(i.connection));
+  }
+
+  private void release(Lease lease) {
+    if (!lease.connection.isOpen()) {
+      return;
+    }
+    synchronized (this) {
+      idle.computeIfAbsent(lease.path, p -> new ArrayDeque<>())
+          .addLast(new Idle(lease.process, lease.connection, System.currentTimeMillis()));
+      if (evictor == null) {
+        evictor =
+            Executors.newSingleThreadScheduledExecutor(
+                r -> {
+                  var thread = new Thread(r, "Enso Hyper Connection Evictor");
+                  thread.setDaemon(true);
+                  return thread;
+                });
+        evictor.scheduleWithFixedDelay(
+            this::evictIdle, IDLE_TIMEOUT_MILLIS, IDLE_TIMEOUT_MILLIS / 2, TimeUnit.MILLISECONDS);
+      }
+    }
+  }
+
+  private void evictIdle() {
+    var deadline = System.currentTimeMillis() - IDLE_TIMEOUT_MILLIS;
+    var toClose = new ArrayList<Idle>();
+    synchronized (this) {
+      var paths = idle.entrySet().iterator();
+      while (paths.hasNext()) {
+        var connections = paths.next().getValue();
+        while (!connections.isEmpty() && connections.peekFirst().since < deadline) {
+          toClose.add(connections.pollFirst());
+        }
+        if (connections.isEmpty()) {
+          paths.remove();
+        }
+      }
+    }
+    toClose.forEach(i -> closeQuietly(i.connection));
+  }
+
+  private static void closeQuietly(Connection connection) {
+    try {
+      connection.close();
+    } catch (RuntimeException e) {
+      LOGGER.log(Level.FINE, "Failed to close Hyper connection.", e);
+    }
+  }
+
+  /** An idle connection, with the time it was released. */
+  private record Idle(HyperProcess process, Connection connection, long since) {}
+
+  /** A connection acquired from the pool. Closing it returns the connection to the pool. */
+  final class Lease implements AutoCloseable {
+    private final String path;
+    private final HyperProcess process;
+    private final Connection connection;
+    private boolean released;
+
+    private Lease(String path, HyperProcess process, Connection connection) {
+      this.path = path;
+      this.process = process;
+      this.connection = connection;
+    }
+
+    Connection connection() {
+      return connection;
+    }
+
+    @Override
+    public void close() {
+      if (!released) {
+        released = true;
+        release(this);
+      }
+    }
+  }
+}
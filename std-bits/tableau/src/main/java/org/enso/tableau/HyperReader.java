@@ -10,20 +10,37 @@ import java.nio.channels.Channels;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
+import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.IntStream;
+import org.enso.table.data.column.storage.Storage;
 import org.enso.table.data.table.Column;
 import org.enso.table.problems.ProblemAggregator;
+import org.graalvm.polyglot.Context;
 
 /** Class responsible for reading from Tableau Hyper files. */
 public class HyperReader {
   public static final Path HYPER_PATH = Path.of(getHyperPath());
   private static HyperProcess process;
 
+  /** The number of ranges a table is split into when it is read in parallel. */
+  public static final int READ_PARALLELISM =
+      Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+  private static final HyperConnectionPool CONNECTIONS =
+      new HyperConnectionPool(HyperReader::openConnection);
+  private static ExecutorService readExecutor;
+
   private static final Logger LOGGER = Logger.getLogger("enso-hyper-reader");
 
   private static String getHyperPath() {
@@ -42,7 +59,7 @@ public class HyperReader {
     }
   }
 
-  private static HyperProcess getProcess() throws IOException {
+  private static synchronized HyperProcess getProcess() throws IOException {
     // Check if the hyper directory exists, if not create it.
     if (!Files.exists(HYPER_PATH)) {
       try {
@@ -123,8 +140,11 @@ public class HyperReader {
     }
   }
 
-  private static Connection getConnection(String path) throws IOException {
-    var process = getProcess();
+  private static HyperConnectionPool.Lease getConnection(String path) throws IOException {
+    return CONNECTIONS.acquire(getProcess(), path);
+  }
+
+  private static Connection openConnection(HyperProcess process, String path) throws IOException {
     try {
       return new Connection(process.getEndpoint(), path, CreateMode.NONE);
     } catch (HyperException e) {
@@ -136,9 +156,14 @@ public class HyperReader {
     }
   }
 
+  /** Closes the connections kept open for reuse. */
+  public static void closeConnections() {
+    CONNECTIONS.clear();
+  }
+
   public static String[] readSchemas(String path) throws IOException {
-    try (var connection = getConnection(path)) {
-      var catalog = connection.getCatalog();
+    try (var lease = getConnection(path)) {
+      var catalog = lease.connection().getCatalog();
       return catalog.getSchemaNames().stream()
           .map(s -> s.getName().getUnescaped())
           .toArray(String[]::new);
@@ -146,16 +171,16 @@ public class HyperReader {
   }
 
   public static HyperTable[] listTablesAllSchemas(String path) throws IOException {
-    try (var connection = getConnection(path)) {
-      var catalog = connection.getCatalog();
+    try (var lease = getConnection(path)) {
+      var catalog = lease.connection().getCatalog();
       return listTablesImpl(catalog, catalog.getSchemaNames());
     }
   }
 
   public static HyperTable[] listTables(String path, String schemaName) throws IOException {
     var schemaNames = List.of(new SchemaName(schemaName));
-    try (var connection = getConnection(path)) {
-      var catalog = connection.getCatalog();
+    try (var lease = getConnection(path)) {
+      var catalog = lease.connection().getCatalog();
       return listTablesImpl(catalog, schemaNames);
     }
   }
@@ -175,8 +200,8 @@ public class HyperReader {
   public static HyperTableColumn[] readStructure(String path, String schemaName, String tableName)
       throws IOException {
     var tableNameObject = new TableName(new SchemaName(schemaName), tableName);
-    try (var connection = getConnection(path)) {
-      return readStructureInternal(connection, tableNameObject);
+    try (var lease = getConnection(path)) {
+      return readStructureInternal(lease.connection(), tableNameObject);
     }
   }
 
@@ -201,34 +226,51 @@ public class HyperReader {
     }
   }
 
+  /**
+   * Reads the table.
+   *
+   * <p>By default, the table is read by a single query, keeping the order in which Hyper returns
+   * the rows. If more than one range is requested, a table with an integer column is instead split
+   * into ranges of that column, which are read over several connections in parallel. The rows are
+   * then grouped by the ranges, in increasing order, with the rows where the column is missing last.
+   * Hyper has no row position to restore the order of the file, so the order differs from the
+   * single query one, and the parallel read has to be requested explicitly.
+   *
+   * @param rowLimit the maximum number of rows to read, or {@code null} to read all of them; a
+   *     limited read always uses a single query
+   * @param parallelism the number of ranges to read in parallel, 1 to read the table by a single
+   *     query
+   */
   public static Column[] readTable(
       String path,
       String schemaName,
       String tableName,
       Integer rowLimit,
+      int parallelism,
       ProblemAggregator problemAggregator)
       throws IOException {
     var tableNameObject = new TableName(new SchemaName(schemaName), tableName);
     var query = "SELECT * FROM " + tableNameObject + (rowLimit == null ? "" : " LIMIT " + rowLimit);
-    try (var connection = getConnection(path)) {
+    try (var lease = getConnection(path)) {
+      var connection = lease.connection();
       var columns = readStructureInternal(connection, tableNameObject);
 
-      var builders =
-          Arrays.stream(columns)
-              .map(
-                  c ->
-                      TableColumnBuilder.create(
-                          c, rowLimit == null ? 1000 : rowLimit, problemAggregator))
-              .toList();
-
-      var result = connection.executeQuery(query);
-      while (result.nextRow()) {
-        builders.forEach(b -> b.append(result));
+      Storage<?>[] storages = null;
+      if (rowLimit == null && parallelism > 1) {
+        var chunks = planChunks(connection, tableNameObject, columns, parallelism);
+        if (chunks != null) {
+          storages = readChunks(path, query, columns, chunks, problemAggregator);
+        }
+      }
+      if (storages == null) {
+        var initialRowCount = rowLimit == null ? 1000 : rowLimit;
+        var builders = readRows(connection, query, columns, initialRowCount, problemAggregator);
+        storages = builders.stream().map(TableColumnBuilder::seal).toArray(Storage<?>[]::new);
       }
 
-      var storages = builders.stream().map(TableColumnBuilder::seal).toList();
+      var result = storages;
       return IntStream.range(0, columns.length)
-          .mapToObj(i -> new Column(columns[i].name(), storages.get(i)))
+          .mapToObj(i -> new Column(columns[i].name(), result[i]))
           .toArray(Column[]::new);
     } catch (HyperException e) {
       if (e.getMessage().contains(" does not exist: ")) {
@@ -238,4 +280,177 @@ public class HyperReader {
       }
     }
   }
+
+  private static List<TableColumnBuilder> readRows(
+      Connection connection,
+      String query,
+      HyperTableColumn[] columns,
+      int initialRowCount,
+      ProblemAggregator problemAggregator) {
+    var builders =
+        Arrays.stream(columns)
+            .map(c -> TableColumnBuilder.create(c, initialRowCount, problemAggregator))
+            .toList();
+    try (var result = connection.executeQuery(query)) {
+      while (result.nextRow()) {
+        builders.forEach(b -> b.append(result));
+      }
+    }
+    return builders;
+  }
+
+  /**
+   * A part of a table read by a single query.
+   *
+   * @param condition the condition selecting the rows of the chunk
+   * @param estimatedRows the expected number of rows, used to size the builders
+   */
+  private record Chunk(String condition, int estimatedRows) {}
+
+  /**
+   * Splits a table into ranges of its first integer column.
+   *
+   * @return the chunks, or {@code null} if the table should be read by a single query
+   */
+  private static List<Chunk> planChunks(
+      Connection connection, TableName tableName, HyperTableColumn[] columns, int ranges) {
+    var key =
+        Arrays.stream(columns)
+            .filter(
+                c ->
+                    c.typeID() == Types.BIGINT
+                        || c.typeID() == Types.INTEGER
+                        || c.typeID() == Types.SMALLINT)
+            .findFirst();
+    if (key.isEmpty()) {
+      return null;
+    }
+
+    var keyName = new Name(key.get().name()).toString();
+    var statsQuery =
+        "SELECT COUNT(*), CAST(MIN("
+            + keyName
+            + ") AS BIGINT), CAST(MAX("
+            + keyName
+            + ") AS BIGINT) FROM "
+            + tableName;
+    long count;
+    long min;
+    long max;
+    try (var stats = connection.executeQuery(statsQuery)) {
+      if (!stats.nextRow() || stats.isNull(1)) {
+        return null;
+      }
+      count = stats.getLong(0);
+      min = stats.getLong(1);
+      max = stats.getLong(2);
+    }
+    if (min == max) {
+      return null;
+    }
+
+    // Split into equal ranges of keys, computed so that extreme values cannot overflow.
+    var width = (max / ranges - min / ranges) + 1;
+    var estimatedRows = (int) Math.min(Integer.MAX_VALUE, count / ranges + 1);
+    var chunks = new ArrayList<Chunk>();
+    var lower = min;
+    for (int i = 0; i < ranges && lower <= max; i++) {
+      var last = i == ranges - 1 || max - lower < width;
+      var condition =
+          last
+              ? keyName + " >= " + lower
+              : keyName + " >= " + lower + " AND " + keyName + " < " + (lower + width);
+      chunks.add(new Chunk(condition, estimatedRows));
+      if (last) {
+        break;
+      }
+      lower += width;
+    }
+    chunks.add(new Chunk(keyName + " IS NULL", 1000));
+    return chunks;
+  }
+
+  private static synchronized ExecutorService getReadExecutor() {
+    if (readExecutor == null) {
+      readExecutor =
+          Executors.newCachedThreadPool(
+              r -> {
+                var thread = new Thread(r, "Enso Hyper Reader");
+                thread.setDaemon(true);
+                return thread;
+              });
+    }
+    return readExecutor;
+  }
+
+  /** Reads the chunks over separate connections in parallel and concatenates the columns. */
+  private static Storage<?>[] readChunks(
+      String path,
+      String query,
+      HyperTableColumn[] columns,
+      List<Chunk> chunks,
+      ProblemAggregator problemAggregator)
+      throws IOException {
+    var executor = getReadExecutor();
+    var tasks = new ArrayList<Future<List<TableColumnBuilder>>>();
+    for (var chunk : chunks) {
+      // Aggregators are not thread-safe, so every chunk reports to its own child.
+      var chunkAggregator = problemAggregator.createSimpleChild();
+      var chunkQuery = query + " WHERE " + chunk.condition();
+      tasks.add(
+          executor.submit(
+              () -> {
+                try (var lease = getConnection(path)) {
+                  return readRows(
+                      lease.connection(),
+                      chunkQuery,
+                      columns,
+                      chunk.estimatedRows(),
+                      chunkAggregator);
+                }
+              }));
+    }
+
+    var chunkBuilders = new ArrayList<List<TableColumnBuilder>>();
+    try {
+      for (var task : tasks) {
+        chunkBuilders.add(await(task));
+      }
+    } finally {
+      tasks.forEach(t -> t.cancel(true));
+    }
+
+    var storages = new Storage<?>[columns.length];
+    var totalRows = chunkBuilders.stream().mapToInt(b -> b.get(0).builder().getCurrentSize()).sum();
+    for (int i = 0; i < columns.length; i++) {
+      var builder = TableColumnBuilder.create(columns[i], totalRows, problemAggregator).builder();
+      for (var chunk : chunkBuilders) {
+        builder.appendBulkStorage(chunk.get(i).seal());
+      }
+      storages[i] = builder.seal();
+    }
+    return storages;
+  }
+
+  private static <T> T await(Future<T> task) throws IOException {
+    var context = Context.getCurrent();
+    while (true) {
+      try {
+        return task.get(100, TimeUnit.MILLISECONDS);
+      } catch (TimeoutException e) {
+        context.safepoint();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IOException("Reading the Hyper table was interrupted.", e);
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof IOException io) {
+          throw io;
+        } else if (e.getCause() instanceof RuntimeException re) {
+          throw re;
+        } else {
+          throw new IOException("Failed to read the Hyper table.", e.getCause());
+        }
+      }
+    }
+  }
 }
@@ -0,0 +1,66 @@
+package org.enso.table_test_helpers;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+import org.enso.table.excel.xssfreader.XSSFReaderSharedStrings;
+
+/** Helpers used in Excel_Spec to read shared strings tables without a workbook. */
+public class SharedStringsHelpers {
+  private static final String NS_SPREADSHEETML =
+      "http://schemas.openxmlformats.org/spreadsheetml/2006/main";
+
+  /**
+   * Reads a shared strings table from the given {@code si} elements.
+   *
+   * @param items the XML of the {@code si} elements of the table
+   * @return the table
+   */
+  public static XSSFReaderSharedStrings read(String items) throws IOException {
+    var xml = "<sst xmlns=\"" + NS_SPREADSHEETML + "\">" + items + "</sst>";
+    return XSSFReaderSharedStrings.read(
+        new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  /**
+   * Reads a generated shared strings table, without keeping its XML in memory.
+   *
+   * @param count the number of strings
+   * @param padding the number of characters added to every string
+   * @return the table, containing {@link #generatedString} for every index
+   */
+  public static XSSFReaderSharedStrings readGenerated(int count, int padding) throws IOException {
+    var parts =
+        new Enumeration<InputStream>() {
+          private int next = -1;
+
+          @Override
+          public boolean hasMoreElements() {
+            return next <= count;
+          }
+
+          @Override
+          public InputStream nextElement() {
+            var index = next++;
+            String xml;
+            if (index < 0) {
+              xml = "<sst xmlns=\"" + NS_SPREADSHEETML + "\">";
+            } else if (index == count) {
+              xml = "</sst>";
+            } else {
+              xml = "<si><t>" + generatedString(index, padding) + "</t></si>";
+            }
+            return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+          }
+        };
+    return XSSFReaderSharedStrings.read(new SequenceInputStream(parts));
+  }
+
+  /** The string at the given index of a table read by {@link #readGenerated}. */
+  public static String generatedString(int index, int padding) {
+    return "String " + index + " " + "#".repeat(padding);
+  }
+}
@@ -0,0 +1,34 @@
+package org.enso.table_test_helpers;
+
+import java.util.List;
+import org.enso.table.parsing.StreamingTypeInference;
+import org.enso.table.parsing.TypeInferringParser;
+import org.enso.table.parsing.problems.CommonParseProblemAggregator;
+import org.enso.table.parsing.problems.ParseProblemAggregator;
+import org.enso.table.problems.ProblemAggregator;
+
+/** A helper used in Delimited_Read_Spec to check how much work the streaming type inference did. */
+public class StreamingInferenceHelpers {
+  /**
+   * Infers the types of the columns, feeding their cells row by row like the delimited reader.
+   *
+   * @return the number of cells that had to be parsed again
+   */
+  public static long countReplayedCells(TypeInferringParser parser, List<List<String>> columns) {
+    var problemAggregator = ProblemAggregator.makeTopLevelAggregator();
+    var aggregators = new CommonParseProblemAggregator[columns.size()];
+    for (int i = 0; i < aggregators.length; i++) {
+      aggregators[i] = ParseProblemAggregator.make(problemAggregator, "Column " + i, null);
+    }
+
+    StreamingTypeInference inference = parser.startStreaming(aggregators);
+    int rowCount = columns.isEmpty() ? 0 : columns.get(0).size();
+    for (int row = 0; row < rowCount; row++) {
+      for (int column = 0; column < aggregators.length; column++) {
+        inference.append(column, columns.get(column).get(row));
+      }
+    }
+    inference.finish();
+    return inference.getReplayedCellCount();
+  }
+}
@@ -0,0 +1,324 @@
+"""Generates the Arrow fixtures used by Arrow_Spec.
+
+The files are encoded independently of the Enso Arrow writer, following the
+layout produced by Arrow C++ (and so pyarrow): encapsulated messages with
+continuation markers, metadata padded to 8 bytes, buffers aligned to 8 bytes,
+default FlatBuffers values omitted, an end-of-stream marker, and LZ4 frames
+prefixed with the uncompressed length. Compression uses the reference LZ4
+library through ctypes.
+
+The equivalent pyarrow calls are:
+
+    pa.ipc.new_file(path, schema)                                  # plain.arrow
+    pa.ipc.new_file(path, schema, options=pa.ipc.IpcWriteOptions(
+        compression="lz4"))                                        # lz4.arrow
+    pa.ipc.new_stream(path, schema)                                # stream.arrows
+
+Run with `python3 generate_fixtures.py` in this directory.
+"""
+
+import ctypes
+import ctypes.util
+import datetime
+import struct
+
+# Type ids of the `Type` union and other enums of Schema.fbs and Message.fbs.
+INT, FLOATING_POINT, UTF8, BOOL, DATE = 2, 3, 5, 6, 8
+DOUBLE = 2
+DAY = 0
+SCHEMA, RECORD_BATCH = 1, 3
+V5 = 4
+LZ4_FRAME = 0
+
+
+class Builder:
+    """A minimal FlatBuffers builder, writing back to front like the official ones."""
+
+    def __init__(self):
+        self.buf = bytearray()
+        self.minalign = 1
+        self.vtable = None
+        self.object_start = 0
+
+    def offset(self):
+        return len(self.buf)
+
+    def prep(self, size, additional):
+        self.minalign = max(self.minalign, size)
+        self.buf[0:0] = bytes((-(len(self.buf) + additional)) % size)
+
+    def prepend(self, fmt, value):
+        self.prep(struct.calcsize(fmt), 0)
+        self.buf[0:0] = struct.pack("<" + fmt, value)
+
+    def prepend_uoffset(self, target):
+        self.prep(4, 0)
+        self.buf[0:0] = struct.pack("<I", self.offset() - target + 4)
+
+    def start(self, slots):
+        self.vtable = [0] * slots
+        self.object_start = self.offset()
+
+    def add(self, slot, fmt, value, default):
+        if value != default:
+            self.prepend(fmt, value)
+            self.vtable[slot] = self.offset()
+
+    def add_offset(self, slot, target):
+        self.prepend_uoffset(target)
+        self.vtable[slot] = self.offset()
+
+    def end(self):
+        self.prepend("i", 0)
+        table = self.offset()
+        while self.vtable and self.vtable[-1] == 0:
+            self.vtable.pop()
+        entries = [table - field if field else 0 for field in self.vtable]
+        vtable = struct.pack("<HH", 4 + 2 * len(entries), table - self.object_start)
+        vtable += b"".join(struct.pack("<H", entry) for entry in entries)
+        self.buf[0:0] = vtable
+        position = len(self.buf) - table
+        self.buf[position : position + 4] = struct.pack("<i", self.offset() - table)
+        self.vtable = None
+        return table
+
+    def string(self, text):
+        data = text.encode("utf-8")
+        self.prep(4, len(data) + 1)
+        self.buf[0:0] = data + b"\0"
+        self.buf[0:0] = struct.pack("<I", len(data))
+        return self.offset()
+
+    def offset_vector(self, targets):
+        self.prep(4, 4 * len(targets))
+        for target in reversed(targets):
+            self.prepend_uoffset(target)
+        self.buf[0:0] = struct.pack("<I", len(targets))
+        return self.offset()
+
+    def struct_vector(self, structs):
+        size = sum(len(s) for s in structs)
+        self.prep(4, size)
+        self.prep(8, size)
+        for s in reversed(structs):
+            self.buf[0:0] = s
+        self.buf[0:0] = struct.pack("<I", len(structs))
+        return self.offset()
+
+    def finish(self, root):
+        self.prep(self.minalign, 4)
+        self.prepend_uoffset(root)
+        return bytes(self.buf)
+
+
+class Column:
+    def __init__(self, name, type_id, values, bit_width=0):
+        self.name = name
+        self.type_id = type_id
+        self.values = values
+        self.bit_width = bit_width
+
+    def write_type(self, b):
+        b.start(2)
+        if self.type_id == INT:
+            b.add(0, "i", self.bit_width, 0)
+            b.add(1, "?", True, False)
+        elif self.type_id == FLOATING_POINT:
+            b.add(0, "h", DOUBLE, 0)
+        elif self.type_id == DATE:
+            b.add(0, "h", DAY, 1)
+        return b.end()
+
+    def write_field(self, b):
+        name = b.string(self.name)
+        type_table = self.write_type(b)
+        children = b.offset_vector([])
+        b.start(7)
+        b.add_offset(0, name)
+        b.add(1, "?", True, False)
+        b.add(2, "B", self.type_id, 0)
+        b.add_offset(3, type_table)
+        b.add_offset(5, children)
+        return b.end()
+
+    def buffers(self, start, end):
+        """Returns the null count and the buffers of a slice of the column."""
+        values = self.values[start:end]
+        null_count = values.count(None)
+        validity = bitmap([v is not None for v in values]) if null_count else b""
+        if self.type_id == INT:
+            fmt = "<q" if self.bit_width == 64 else "<i"
+            data = b"".join(struct.pack(fmt, 0 if v is None else v) for v in values)
+        elif self.type_id == FLOATING_POINT:
+            data = b"".join(struct.pack("<d", 0.0 if v is None else v) for v in values)
+        elif self.type_id == BOOL:
+            data = bitmap([bool(v) for v in values])
+        elif self.type_id == DATE:
+            epoch = datetime.date(1970, 1, 1).toordinal()
+            data = b"".join(struct.pack("<i", v.toordinal() - epoch if v else 0) for v in values)
+        else:
+            encoded = [(v or "").encode("utf-8") for v in values]
+            offsets = [0]
+            for e in encoded:
+                offsets.append(offsets[-1] + len(e))
+            return null_count, [
+                validity,
+                b"".join(struct.pack("<i", o) for o in offsets),
+                b"".join(encoded),
+            ]
+        return null_count, [validity, data]
+
+
+def bitmap(bits):
+    result = bytearray((len(bits) + 7) // 8)
+    for i, bit in enumerate(bits):
+        if bit:
+            result[i // 8] |= 1 << (i % 8)
+    return bytes(result)
+
+
+def pad8(data):
+    return data + bytes(-len(data) % 8)
+
+
+LZ4 = ctypes.CDLL(ctypes.util.find_library("lz4") or "liblz4.so.1")
+
+
+def lz4_frame(data):
+    bound = LZ4.LZ4F_compressFrameBound(ctypes.c_size_t(len(data)), None)
+    output = ctypes.create_string_buffer(bound)
+    size = LZ4.LZ4F_compressFrame(output, ctypes.c_size_t(bound), data, ctypes.c_size_t(len(data)), None)
+    assert size > 0
+    return output.raw[:size]
+
+
+def message(header_type, write_header, body=b""):
+    b = Builder()
+    header = write_header(b)
+    b.start(5)
+    b.add(0, "h", V5, 0)
+    b.add(1, "B", header_type, 0)
+    b.add_offset(2, header)
+    b.add(3, "q", len(body), 0)
+    metadata = pad8(b.finish(b.end()))
+    return struct.pack("<Ii", 0xFFFFFFFF, len(metadata)) + metadata, body
+
+
+def write_schema(b, columns):
+    fields = [c.write_field(b) for c in columns]
+    key = b.string("origin")
+    value = b.string("fixture")
+    b.start(2)
+    b.add_offset(0, key)
+    b.add_offset(1, value)
+    metadata = b.offset_vector([b.end()])
+    fields = b.offset_vector(fields)
+    b.start(4)
+    b.add_offset(1, fields)
+    b.add_offset(2, metadata)
+    return b.end()
+
+
+def record_batch(columns, start, end, compressed):
+    nodes, buffers, body = [], [], bytearray()
+    for column in columns:
+        null_count, data = column.buffers(start, end)
+        nodes.append(struct.pack("<qq", end - start, null_count))
+        for d in data:
+            if compressed and d:
+                d = struct.pack("<q", len(d)) + lz4_frame(d)
+            buffers.append(struct.pack("<qq", len(body), len(d)))
+            body += pad8(d)
+
+    def write_header(b):
+        compression = None
+        if compressed:
+            b.start(2)
+            b.add(0, "b", LZ4_FRAME, -1)
+            compression = b.end()
+        buffer_vector = b.struct_vector(buffers)
+        node_vector = b.struct_vector(nodes)
+        b.start(5)
+        b.add(0, "q", end - start, 0)
+        b.add_offset(1, node_vector)
+        b.add_offset(2, buffer_vector)
+        if compression is not None:
+            b.add_offset(3, compression)
+        return b.end()
+
+    return message(RECORD_BATCH, write_header, bytes(body))
+
+
+END_OF_STREAM = struct.pack("<Ii", 0xFFFFFFFF, 0)
+
+
+def write_stream(path, columns, batches, compressed=False):
+    with open(path, "wb") as out:
+        metadata, _ = message(SCHEMA, lambda b: write_schema(b, columns))
+        out.write(metadata)
+        for start, end in batches:
+            metadata, body = record_batch(columns, start, end, compressed)
+            out.write(metadata + body)
+        out.write(END_OF_STREAM)
+
+
+def write_file(path, columns, batches, compressed=False):
+    data = bytearray(b"ARROW1\0\0")
+    metadata, _ = message(SCHEMA, lambda b: write_schema(b, columns))
+    data += metadata
+    blocks = []
+    for start, end in batches:
+        metadata, body = record_batch(columns, start, end, compressed)
+        blocks.append(struct.pack("<qi4xq", len(data), len(metadata), len(body)))
+        data += metadata + body
+    data += END_OF_STREAM
+
+    b = Builder()
+    schema = write_schema(b, columns)
+    batch_vector = b.struct_vector(blocks)
+    dictionaries = b.struct_vector([])
+    b.start(5)
+    b.add(0, "h", V5, 0)
+    b.add_offset(1, schema)
+    b.add_offset(2, dictionaries)
+    b.add_offset(3, batch_vector)
+    footer = b.finish(b.end())
+    data += footer + struct.pack("<i", len(footer)) + b"ARROW1"
+    with open(path, "wb") as out:
+        out.write(data)
+
+
+def small_table():
+    return [
+        Column("ints", INT, [1, None, 3, -4, 9223372036854775807], 64),
+        Column("small_ints", INT, [10, 20, None, -40, 2147483647], 32),
+        Column("floats", FLOATING_POINT, [1.5, 2.25, None, -0.0, 100.0]),
+        Column("bools", BOOL, [True, False, None, True, False]),
+        Column("texts", UTF8, ["a", "", None, "zażółć", "ee"]),
+        Column(
+            "dates",
+            DATE,
+            [
+                datetime.date(2020, 1, 1),
+                None,
+                datetime.date(1960, 2, 29),
+                datetime.date(1, 1, 1),
+                datetime.date(9999, 12, 31),
+            ],
+        ),
+    ]
+
+
+def large_table():
+    n = 1000
+    return [
+        Column("X", INT, [None if i % 7 == 3 else i for i in range(n)], 64),
+        Column("Y", UTF8, ["row " + str(i) for i in range(n)]),
+        Column("Z", FLOATING_POINT, [i * 0.5 for i in range(n)]),
+    ]
+
+
+if __name__ == "__main__":
+    write_file("plain.arrow", small_table(), [(0, 5)])
+    write_file("lz4.arrow", large_table(), [(0, 600), (600, 1000)], compressed=True)
+    write_stream("stream.arrows", small_table(), [(0, 3), (3, 5)])